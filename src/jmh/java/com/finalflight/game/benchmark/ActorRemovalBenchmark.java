@@ -0,0 +1,154 @@
+package com.finalflight.game.benchmark;
+
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.LevelWorld;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ActorRemovalBenchmark} class measures removing destroyed actors from a {@link LevelWorld}.
+ * Before each invocation, the world is refilled to its configured size and a tenth of the enemy planes
+ * are destroyed, so only their removal is measured. With {@code scene=group} the actors are also children of a
+ * scene {@link Group}, as they are in a level in node render mode; with {@code scene=none} the world
+ * has no scene, as in a headless level or in canvas render mode.
+ *
+ * <p>{@link #compactingRemoval()} uses the world's single-pass compaction with one batched removal
+ * from the group. {@link #listRemoveAll()} repeats the previous approach, collecting the destroyed
+ * actors into a new list and passing it to {@code removeAll} on the group and the actor list, which
+ * scales with the product of the two sizes. Without a scene, doubling the actors from 10,000 to 20,000
+ * roughly doubles the time of the first and quadruples the time of the second. With a scene, both are
+ * dominated by the bookkeeping of the group itself, which still grows faster than linearly inside
+ * JavaFX even for a single batched removal.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/jmh/java/com/finalflight/game/benchmark/ActorRemovalBenchmark.java</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActorRemovalBenchmark {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+    private static final int REMOVAL_STRIDE = 10;
+    private static final int USER_HEALTH = 5;
+
+    @Param({"1000", "10000", "20000"})
+    private int actorCount;
+
+    @Param({"none", "group"})
+    private String scene;
+
+    private Group root;
+    private LevelWorld world;
+    private int spawnIndex;
+
+    /**
+     * Mutes sound effects and creates the pools of the actors without sprites.
+     */
+    @Setup(Level.Trial)
+    public void createPools() {
+        LevelWorldBenchmark.createSpritelessPools();
+    }
+
+    /**
+     * Populates a new world and group with the configured number of enemy planes.
+     */
+    @Setup(Level.Iteration)
+    public void populateWorld() {
+        GameObjectPools.getInstance().clear();
+        root = new Group();
+        world = "group".equals(scene)
+                ? new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, new UserPlane(USER_HEALTH, true),
+                        root.getChildren()::add, root.getChildren()::removeAll)
+                : new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, new UserPlane(USER_HEALTH, true));
+        spawnIndex = 0;
+    }
+
+    /**
+     * Refills the world to its configured size and destroys a tenth of the enemy planes, outside the
+     * measured time, since spawning thousands of planes costs far more than removing them.
+     */
+    @Setup(Level.Invocation)
+    public void destroySomeEnemies() {
+        respawnEnemies();
+        destroyEnemies();
+    }
+
+    /**
+     * Clears the world and group so the actors of the previous iteration can be collected.
+     */
+    @TearDown(Level.Iteration)
+    public void clearWorld() {
+        world.clear();
+        root.getChildren().clear();
+    }
+
+    /**
+     * Measures removing a tenth of the enemy planes with the world's compaction.
+     */
+    @Benchmark
+    public void compactingRemoval() {
+        world.removeAllDestroyedActors();
+    }
+
+    /**
+     * Measures removing a tenth of the enemy planes by collecting them into a new list and calling
+     * {@code removeAll} with it on the actor list, and on the group if there is a scene.
+     */
+    @Benchmark
+    public void listRemoveAll() {
+        List<DestructibleGameObject> enemies = world.getEnemyUnits();
+        List<DestructibleGameObject> destroyed = enemies.stream().filter(DestructibleGameObject::isDestroyed).toList();
+        if ("group".equals(scene)) {
+            root.getChildren().removeAll(destroyed);
+        }
+        enemies.removeAll(destroyed);
+        GameObjectPools pools = GameObjectPools.getInstance();
+        for (DestructibleGameObject actor : destroyed) {
+            pools.release(actor);
+        }
+    }
+
+    /**
+     * Destroys every tenth enemy plane, starting from a position that moves on each invocation.
+     */
+    private void destroyEnemies() {
+        List<DestructibleGameObject> enemies = world.getEnemyUnits();
+        for (int i = spawnIndex % REMOVAL_STRIDE; i < enemies.size(); i += REMOVAL_STRIDE) {
+            enemies.get(i).destroy();
+        }
+    }
+
+    /**
+     * Spawns enemy planes until the world holds its configured number again.
+     */
+    private void respawnEnemies() {
+        while (world.getEnemyUnits().size() < actorCount) {
+            world.addEnemyUnit(EnemyPlane.obtain((spawnIndex * 37.0) % SCREEN_WIDTH,
+                    (spawnIndex * 53.0) % SCREEN_HEIGHT));
+            spawnIndex++;
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.finalflight.game.benchmark;
+
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.AdvancedEnemyPlane;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.EnemyProjectile;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SingleShotProjectile;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.LevelWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code LevelWorldBenchmark} class measures the stages of the per-tick update pipeline run by
+ * {@link com.finalflight.game.level.BaseLevel#updateScene()} on a {@link LevelWorld} holding a
+ * parameterised number of actors, half of them enemy planes and half user projectiles.
+ *
+ * <p>The actors are the ones the levels spawn: {@link EnemyPlane}s and {@link AdvancedEnemyPlane}s in
+ * turn, {@link SingleShotProjectile}s fired by the user and the {@link EnemyProjectile}s the enemies
+ * fire. Their pools are created with the {@code skipImageLoading} constructors before anything else
+ * obtains them, so no sprites are decoded, and sound effects are muted. The actors take damage, die and
+ * fly off the screen as they do in a level, so the stages that destroy actors also remove them and
+ * respawn them from their pools, keeping the number of actors steady between invocations. Run with
+ * {@code -prof gc} to report the allocation rate of each stage alongside its throughput.</p>
+ *
+ * <p>The user plane has enough health to survive every enemy that gets past it, so it stays in the
+ * world for the whole run. As a result the benchmark needs neither a display nor an audio device.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/jmh/java/com/finalflight/game/benchmark/LevelWorldBenchmark.java</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelWorldBenchmark {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+    private static final double SPAWN_AREA_HEIGHT = SCREEN_HEIGHT - 100;
+    private static final double REMOVED_FRACTION = 0.1;
+    private static final int USER_HEALTH = Integer.MAX_VALUE;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int actorCount;
+
+    private LevelWorld world;
+    private int spawnIndex;
+
+    /**
+     * Mutes sound effects and creates the pools of the actors without sprites.
+     */
+    @Setup(Level.Trial)
+    public void createPools() {
+        createSpritelessPools();
+    }
+
+    /**
+     * Populates a new world with the configured number of actors, spread evenly over the screen.
+     */
+    @Setup(Level.Iteration)
+    public void populateWorld() {
+        GameObjectPools.getInstance().clear();
+        UserPlane.resetHealth(0);
+        world = new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, new UserPlane(USER_HEALTH, true));
+        spawnIndex = 0;
+        respawnActors();
+    }
+
+    /**
+     * Clears the world so the actors of the previous iteration can be collected.
+     */
+    @TearDown(Level.Iteration)
+    public void clearWorld() {
+        world.clear();
+    }
+
+    /**
+     * Measures moving every actor by one step.
+     */
+    @Benchmark
+    public void updateActors() {
+        world.updateActors();
+    }
+
+    /**
+     * Measures resolving the collisions between the user projectiles and the enemy planes, including
+     * removing the actors they destroyed and respawning them from their pools.
+     */
+    @Benchmark
+    public void handleCollisions() {
+        world.handleCollisions(world.getUserProjectiles(), world.getEnemyUnits());
+        world.removeAllDestroyedActors();
+        respawnActors();
+    }
+
+    /**
+     * Measures letting every enemy plane fire, including returning the fired projectiles to their pool.
+     */
+    @Benchmark
+    public void generateEnemyFire() {
+        world.generateEnemyFire();
+        List<DestructibleGameObject> enemyProjectiles = world.getEnemyProjectiles();
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            enemyProjectiles.get(i).destroy();
+        }
+        world.removeDestroyedActors(enemyProjectiles);
+    }
+
+    /**
+     * Measures removing a tenth of the enemy planes, returning them to their pool and respawning them.
+     */
+    @Benchmark
+    public void removeDestroyedActors() {
+        destroyEnemies();
+        world.removeDestroyedActors(world.getEnemyUnits());
+        respawnActors();
+    }
+
+    /**
+     * Measures a complete tick, running every stage in the order used by the level.
+     */
+    @Benchmark
+    public void tick() {
+        world.updateActors();
+        world.generateEnemyFire();
+        world.handleEnemyPenetration();
+        world.cullProjectiles();
+        world.handleUserProjectileCollisions();
+        world.handleEnemyProjectileCollisions();
+        world.handlePlaneCollisions();
+        world.removeAllDestroyedActors();
+        respawnActors();
+    }
+
+    /**
+     * Destroys a fixed fraction of the enemy planes, spread over the list.
+     */
+    private void destroyEnemies() {
+        List<DestructibleGameObject> enemies = world.getEnemyUnits();
+        int stride = (int) Math.max(1, Math.round(1 / REMOVED_FRACTION));
+        for (int i = spawnIndex % stride; i < enemies.size(); i += stride) {
+            enemies.get(i).destroy();
+        }
+    }
+
+    /**
+     * Spawns enemy planes and user projectiles from their pools until the world holds its configured
+     * number of actors again.
+     */
+    private void respawnActors() {
+        int enemyCount = Math.max(1, actorCount / 2);
+        while (world.getEnemyUnits().size() < enemyCount) {
+            world.addEnemyUnit(spawnEnemy());
+        }
+        List<DestructibleGameObject> userProjectiles = world.getUserProjectiles();
+        while (userProjectiles.size() < actorCount - enemyCount) {
+            userProjectiles.add(SingleShotProjectile.obtain(spawnX(), spawnY()));
+            spawnIndex++;
+        }
+    }
+
+    /**
+     * Obtains an enemy plane at the next spawn position, alternating between basic and advanced planes.
+     *
+     * @return the spawned enemy plane.
+     */
+    private DestructibleGameObject spawnEnemy() {
+        DestructibleGameObject enemy = spawnIndex % 2 == 0
+                ? EnemyPlane.obtain(spawnX(), spawnY())
+                : AdvancedEnemyPlane.obtain(spawnX(), spawnY());
+        spawnIndex++;
+        return enemy;
+    }
+
+    /**
+     * Calculates the X position of the next spawned actor, spreading actors across the screen.
+     *
+     * @return the X position.
+     */
+    private double spawnX() {
+        return (spawnIndex * 37.0) % SCREEN_WIDTH;
+    }
+
+    /**
+     * Calculates the Y position of the next spawned actor, spreading actors down the screen.
+     *
+     * @return the Y position.
+     */
+    private double spawnY() {
+        return (spawnIndex * 53.0) % SPAWN_AREA_HEIGHT;
+    }
+
+    /**
+     * Mutes sound effects and creates the pools of the enemy planes and projectiles with constructors
+     * that skip image loading, so every actor obtained from them during the run, including those fired
+     * by the enemies, has no sprite. Must be called before anything else obtains these actors, as a
+     * pool keeps the constructor it was created with.
+     */
+    static void createSpritelessPools() {
+        SoundEffectPlayer.setMuted(true);
+        GameObjectPools pools = GameObjectPools.getInstance();
+        pools.getPool(EnemyPlane.class, () -> new EnemyPlane(0, 0, true));
+        pools.getPool(AdvancedEnemyPlane.class, () -> new AdvancedEnemyPlane(0, 0, true));
+        pools.getPool(SingleShotProjectile.class, () -> new SingleShotProjectile(0, 0, true));
+        pools.getPool(EnemyProjectile.class, () -> new EnemyProjectile(0, 0, true));
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.finalflight.game.benchmark;
+
+import com.finalflight.game.gameobjects.AdvancedEnemyPlane;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.EnemyProjectile;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SingleShotProjectile;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.level.ProjectileCuller;
+import com.finalflight.game.level.ProjectileStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ProjectileStoreBenchmark} class measures the per-tick work on a {@link ProjectileStore}
+ * holding a parameterised number of projectiles, half fired by the user and half by enemies, against
+ * a handful of enemy planes. At 60 ticks per second a complete tick has to finish well within
+ * 16.7 ms, so the average time of {@link #tick()} shows how many projectiles the store can sustain.
+ *
+ * <p>The projectiles are the game's own types, copied into the store from one template per type with
+ * the {@link SpriteCache} in headless mode, so no sprites are decoded. Projectiles destroyed by the
+ * tick are respawned from the templates to keep the store at its configured size. The enemy planes are
+ * the game's {@link EnemyPlane}s and {@link AdvancedEnemyPlane}s, obtained from pools without sprites,
+ * and planes destroyed by the tick are replaced in place from their pools.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/jmh/java/com/finalflight/game/benchmark/ProjectileStoreBenchmark.java</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectileStoreBenchmark {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+    private static final double SPAWN_AREA_HEIGHT = SCREEN_HEIGHT - 100;
+    private static final int ENEMY_COUNT = 10;
+
+    @Param({"10000", "50000", "100000"})
+    private int projectileCount;
+
+    private ProjectileStore store;
+    private ProjectileCuller culler;
+    private final List<DestructibleGameObject> enemies = new ArrayList<>();
+    private SingleShotProjectile userTemplate;
+    private EnemyProjectile enemyTemplate;
+    private int spawnIndex;
+
+    /**
+     * Mutes sound effects and creates the pools of the enemy planes without sprites.
+     */
+    @Setup(Level.Trial)
+    public void createPools() {
+        LevelWorldBenchmark.createSpritelessPools();
+    }
+
+    /**
+     * Fills a new store with the configured number of projectiles, spread evenly over the screen.
+     */
+    @Setup(Level.Iteration)
+    public void populateStore() {
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+        store = new ProjectileStore(projectileCount);
+        culler = new ProjectileCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+        userTemplate = new SingleShotProjectile(0, 0);
+        enemyTemplate = new EnemyProjectile(0, 0);
+        enemies.clear();
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            enemies.add(obtainEnemy(i));
+        }
+        spawnIndex = 0;
+        respawnProjectiles();
+    }
+
+    /**
+     * Restores the sprite cache so later benchmarks in the same JVM load sprites again.
+     */
+    @TearDown(Level.Iteration)
+    public void restoreSpriteCache() {
+        SpriteCache.getInstance().setHeadless(false);
+    }
+
+    /**
+     * Measures advancing every projectile by one step.
+     */
+    @Benchmark
+    public void step() {
+        store.step();
+    }
+
+    /**
+     * Measures colliding every projectile with the enemy planes, respawning the projectiles and planes destroyed.
+     */
+    @Benchmark
+    public int collide() {
+        int hits = store.collide(enemies);
+        store.compact();
+        respawnProjectiles();
+        respawnEnemies();
+        return hits;
+    }
+
+    /**
+     * Measures a complete tick: stepping, culling, colliding and compacting the store, then respawning
+     * the projectiles and planes destroyed.
+     */
+    @Benchmark
+    public void tick() {
+        store.step();
+        culler.cull(store);
+        store.collide(enemies);
+        store.compact();
+        respawnProjectiles();
+        respawnEnemies();
+    }
+
+    /**
+     * Adds projectiles until the store holds its configured number again, alternating between user
+     * projectiles on the left of the screen and enemy projectiles on the right.
+     */
+    private void respawnProjectiles() {
+        while (store.size() < projectileCount) {
+            double y = (spawnIndex * 53.0) % SPAWN_AREA_HEIGHT;
+            if ((spawnIndex & 1) == 0) {
+                userTemplate.getEntity().reset((spawnIndex * 37.0) % (SCREEN_WIDTH / 2), y);
+                store.add(userTemplate);
+            } else {
+                enemyTemplate.getEntity().reset(SCREEN_WIDTH / 2 + (spawnIndex * 37.0) % (SCREEN_WIDTH / 2), y);
+                store.add(enemyTemplate);
+            }
+            spawnIndex++;
+        }
+    }
+
+    /**
+     * Replaces every destroyed enemy plane with a new one from its pool at the same slot.
+     */
+    private void respawnEnemies() {
+        GameObjectPools pools = GameObjectPools.getInstance();
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.get(i).isDestroyed()) {
+                pools.release(enemies.get(i));
+                enemies.set(i, obtainEnemy(i));
+            }
+        }
+    }
+
+    /**
+     * Obtains the enemy plane of a slot, alternating between basic and advanced planes down the
+     * middle of the screen.
+     *
+     * @param slot the slot of the plane.
+     * @return the enemy plane.
+     */
+    private DestructibleGameObject obtainEnemy(int slot) {
+        double x = SCREEN_WIDTH / 2 + slot * 60;
+        double y = slot * SPAWN_AREA_HEIGHT / ENEMY_COUNT;
+        return (slot & 1) == 0 ? EnemyPlane.obtain(x, y) : AdvancedEnemyPlane.obtain(x, y);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.finalflight.game.audio;
+
+/**
+ * The {@code ClipDurations} class reads the playing time of a sound file from its headers, since
+ * {@link javafx.scene.media.AudioClip} does not report how long a clip plays. WAV files are measured
+ * exactly from their format and data chunks. MP3 files are measured from the frame count of their
+ * Xing or Info header when they have one, and otherwise estimated from the bit rate of their first frame.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/audio/ClipDurations.java</p>
+ */
+final class ClipDurations {
+
+    private static final int[] MPEG1_LAYER3_KBPS = {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320};
+    private static final int[] MPEG2_LAYER3_KBPS = {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160};
+    private static final int[] MPEG1_SAMPLE_RATES = {44100, 48000, 32000};
+    private static final int MPEG1 = 3;
+    private static final int MPEG2 = 2;
+    private static final int MONO = 3;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ClipDurations() {
+    }
+
+    /**
+     * Reads the playing time of a sound file.
+     *
+     * @param data the contents of the sound file.
+     * @return the duration in nanoseconds, or -1 if the format is not recognised.
+     */
+    static long readNanos(byte[] data) {
+        if (data.length >= 12 && matches(data, 0, "RIFF") && matches(data, 8, "WAVE")) {
+            return readWavNanos(data);
+        }
+        return readMp3Nanos(data);
+    }
+
+    /**
+     * Reads the playing time of a WAV file from its byte rate and the size of its data chunk.
+     *
+     * @param data the contents of the file.
+     * @return the duration in nanoseconds, or -1 if the chunks are missing.
+     */
+    private static long readWavNanos(byte[] data) {
+        long byteRate = 0;
+        int offset = 12;
+        while (offset + 8 <= data.length) {
+            long chunkSize = littleEndianInt(data, offset + 4);
+            if (matches(data, offset, "fmt ") && offset + 20 <= data.length) {
+                byteRate = littleEndianInt(data, offset + 16);
+            } else if (matches(data, offset, "data")) {
+                long dataSize = Math.min(chunkSize, data.length - offset - 8);
+                return byteRate > 0 ? dataSize * NANOS_PER_SECOND / byteRate : -1;
+            }
+            offset += 8 + (int) chunkSize + (int) (chunkSize & 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the playing time of an MPEG layer III file.
+     *
+     * @param data the contents of the file.
+     * @return the duration in nanoseconds, or -1 if no frame is found.
+     */
+    private static long readMp3Nanos(byte[] data) {
+        int offset = 0;
+        if (data.length >= 10 && matches(data, 0, "ID3")) {
+            // The tag size is a 28-bit integer stored in the low 7 bits of four bytes
+            offset = 10 + ((data[6] & 0x7F) << 21 | (data[7] & 0x7F) << 14 | (data[8] & 0x7F) << 7 | (data[9] & 0x7F));
+        }
+        while (offset + 4 <= data.length && !((data[offset] & 0xFF) == 0xFF && (data[offset + 1] & 0xE0) == 0xE0)) {
+            offset++;
+        }
+        if (offset + 4 > data.length) {
+            return -1;
+        }
+        int version = (data[offset + 1] >> 3) & 3;
+        int bitRateIndex = (data[offset + 2] >> 4) & 0xF;
+        int sampleRateIndex = (data[offset + 2] >> 2) & 3;
+        int channelMode = (data[offset + 3] >> 6) & 3;
+        if (version == 1 || bitRateIndex == 0 || bitRateIndex == 15 || sampleRateIndex == 3) {
+            return -1;
+        }
+        int sampleRate = MPEG1_SAMPLE_RATES[sampleRateIndex] >> (version == MPEG1 ? 0 : version == MPEG2 ? 1 : 2);
+        int samplesPerFrame = version == MPEG1 ? 1152 : 576;
+
+        // A Xing or Info header after the side information of the first frame holds the frame count
+        int sideInformation = version == MPEG1 ? (channelMode == MONO ? 17 : 32) : (channelMode == MONO ? 9 : 17);
+        int xing = offset + 4 + sideInformation;
+        if (xing + 12 <= data.length && (matches(data, xing, "Xing") || matches(data, xing, "Info"))
+                && (bigEndianInt(data, xing + 4) & 1) != 0) {
+            long frames = bigEndianInt(data, xing + 8);
+            return frames * samplesPerFrame * NANOS_PER_SECOND / sampleRate;
+        }
+        int kilobitsPerSecond = (version == MPEG1 ? MPEG1_LAYER3_KBPS : MPEG2_LAYER3_KBPS)[bitRateIndex];
+        return (long) (data.length - offset) * 8 * NANOS_PER_SECOND / (kilobitsPerSecond * 1000L);
+    }
+
+    /**
+     * Checks whether the bytes at an offset spell an ASCII tag.
+     *
+     * @param data   the bytes.
+     * @param offset the offset of the tag.
+     * @param tag    the tag.
+     * @return {@code true} if the bytes match the tag.
+     */
+    private static boolean matches(byte[] data, int offset, String tag) {
+        if (offset + tag.length() > data.length) {
+            return false;
+        }
+        for (int i = 0; i < tag.length(); i++) {
+            if (data[offset + i] != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads an unsigned little-endian 32-bit integer.
+     *
+     * @param data   the bytes.
+     * @param offset the offset of the integer.
+     * @return the integer.
+     */
+    private static long littleEndianInt(byte[] data, int offset) {
+        return (data[offset] & 0xFFL) | (data[offset + 1] & 0xFFL) << 8 | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24;
+    }
+
+    /**
+     * Reads an unsigned big-endian 32-bit integer.
+     *
+     * @param data   the bytes.
+     * @param offset the offset of the integer.
+     * @return the integer.
+     */
+    private static long bigEndianInt(byte[] data, int offset) {
+        return (data[offset] & 0xFFL) << 24 | (data[offset + 1] & 0xFFL) << 16 | (data[offset + 2] & 0xFFL) << 8
+                | (data[offset + 3] & 0xFFL);
+    }
+
+}
@@ -9,17 +9,29 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * MusicPlayer is a singleton class responsible for managing music playback
  * in the game. It handles playing, pausing, resuming, and fading music in
  * and out. This class ensures that only one instance of the MusicPlayer is
  * created at a time.
  *
+ * <p>The {@link Media} of a music file can be created ahead of time with {@link #preload(String)},
+ * from any thread, so switching to that music does not have to open the file.</p>
+ *
+ * <p>Music can be muted with {@link #setMuted(boolean)}, as sound effects can, for tests that show a
+ * level without an audio backend. Players created while muted do not open their music at all.</p>
+ *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/audio/MusicPlayer.java</p>
  */
 public class MusicPlayer {
 
+    private static final Map<String, Media> preloadedMedia = new ConcurrentHashMap<>();
     private static MusicPlayer instance;
+    private static volatile boolean muted;
     private final MediaPlayer mediaPlayer;
     private final DoubleProperty volumeProperty = new SimpleDoubleProperty(0.2);
 
@@ -29,7 +41,15 @@ public class MusicPlayer {
      * @param musicFile the path to the music file to be played.
      */
     private MusicPlayer(String musicFile) {
-        Media media = new Media(getClass().getResource(musicFile).toExternalForm());
+        if (muted) {
+            mediaPlayer = null;
+            return;
+        }
+        String source = getClass().getResource(musicFile).toExternalForm();
+        Media media = preloadedMedia.get(source);
+        if (media == null) {
+            media = new Media(source);
+        }
         mediaPlayer = new MediaPlayer(media);
         mediaPlayer.volumeProperty().bind(volumeProperty);
     }
@@ -51,6 +71,42 @@ public class MusicPlayer {
         return instance;
     }
 
+    /**
+     * Creates the {@link Media} of a music file ahead of time, so a player created for it later does
+     * not have to open it. Does nothing if the media has already been created.
+     *
+     * @param musicFile the path to the music file, accessible as a resource.
+     * @throws IllegalArgumentException if the music file does not exist.
+     */
+    public static void preload(String musicFile) {
+        URL resource = MusicPlayer.class.getResource(musicFile);
+        if (resource == null) {
+            throw new IllegalArgumentException("Music not found: " + musicFile);
+        }
+        String source = resource.toExternalForm();
+        if (!preloadedMedia.containsKey(source)) {
+            preloadedMedia.putIfAbsent(source, new Media(source));
+        }
+    }
+
+    /**
+     * Mutes or unmutes the music played from now on.
+     *
+     * @param muted {@code true} to create players without any music, {@code false} to play music.
+     */
+    public static void setMuted(boolean muted) {
+        MusicPlayer.muted = muted;
+    }
+
+    /**
+     * Checks whether music is muted.
+     *
+     * @return {@code true} if music is muted, {@code false} otherwise.
+     */
+    public static boolean isMuted() {
+        return muted;
+    }
+
     /**
      * Checks if the current music file matches the provided music file.
      *
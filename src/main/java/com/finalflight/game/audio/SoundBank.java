@@ -0,0 +1,241 @@
+package com.finalflight.game.audio;
+
+import javafx.scene.media.AudioClip;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The {@code SoundBank} class is the process-wide store of loaded sound effect clips. Each sound file
+ * is loaded into an {@link AudioClip} once, the first time it is requested, and the same clip is
+ * handed to every {@link SoundEffectPlayer} created for that file afterwards, so creating a player is
+ * a map lookup rather than a decode.
+ *
+ * <p>Clips can be requested from several threads at once, such as the workers preloading a level's
+ * assets. A clip requested while another thread is loading it waits for that load instead of
+ * starting a second one.</p>
+ *
+ * <p>The time taken to load each clip and the size of its sound file are recorded. The decoded
+ * samples of a clip are held in native memory that the JVM does not report, so the size of the
+ * sound file is kept as the memory metric: it matches the decoded size for the uncompressed WAV
+ * effects and is a lower bound for the MP3 ones. The playing time of each clip is read from the
+ * headers of its sound file, as {@link AudioClip} does not report it, so that the
+ * {@link VoiceManager} can tell when a voice has finished.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/audio/SoundBank.java</p>
+ */
+public final class SoundBank {
+
+    private static SoundBank instance;
+    private final ConcurrentMap<String, FutureTask<LoadedClip>> clips = new ConcurrentHashMap<>();
+
+    /**
+     * The load metrics of a clip.
+     *
+     * @param soundFilePath the path of the sound file.
+     * @param loadNanos     the time taken to load the clip, in nanoseconds.
+     * @param fileBytes     the size of the sound file in bytes, or 0 if it is unknown.
+     * @param durationNanos the playing time of the clip in nanoseconds, or -1 if it is unknown.
+     */
+    public record ClipStats(String soundFilePath, long loadNanos, long fileBytes, long durationNanos) {
+    }
+
+    /**
+     * A loaded clip and its load metrics.
+     *
+     * @param clip  the clip.
+     * @param stats the load metrics of the clip.
+     */
+    private record LoadedClip(AudioClip clip, ClipStats stats) {
+    }
+
+    /**
+     * Constructs an empty {@code SoundBank}.
+     */
+    SoundBank() {
+    }
+
+    /**
+     * Retrieves the shared instance of {@code SoundBank}, creating it if necessary.
+     *
+     * @return the shared sound bank.
+     */
+    public static synchronized SoundBank getInstance() {
+        if (instance == null) {
+            instance = new SoundBank();
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the clip of a sound file, loading it if this is the first request for the file.
+     *
+     * @param soundFilePath the path to the sound file, accessible as a resource.
+     * @return the shared clip.
+     * @throws IllegalArgumentException if the sound file does not exist.
+     */
+    public AudioClip getClip(String soundFilePath) {
+        FutureTask<LoadedClip> load = clips.get(soundFilePath);
+        if (load == null) {
+            FutureTask<LoadedClip> newLoad = new FutureTask<>(() -> load(soundFilePath));
+            load = clips.putIfAbsent(soundFilePath, newLoad);
+            if (load == null) {
+                load = newLoad;
+                newLoad.run();
+            }
+        }
+        try {
+            return load.get().clip();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + soundFilePath, e);
+        } catch (ExecutionException e) {
+            clips.remove(soundFilePath, load); // Let a later request try again
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not load " + soundFilePath, e.getCause());
+        }
+    }
+
+    /**
+     * Loads the clip of a sound file and measures the load.
+     *
+     * @param soundFilePath the path to the sound file, accessible as a resource.
+     * @return the loaded clip and its metrics.
+     * @throws IllegalArgumentException if the sound file does not exist.
+     */
+    private static LoadedClip load(String soundFilePath) {
+        URL resource = SoundBank.class.getResource(soundFilePath);
+        if (resource == null) {
+            throw new IllegalArgumentException("Sound not found: " + soundFilePath);
+        }
+        long start = System.nanoTime();
+        AudioClip clip = new AudioClip(resource.toExternalForm());
+        long loadNanos = System.nanoTime() - start;
+        byte[] data = readFile(resource);
+        long durationNanos = data.length > 0 ? ClipDurations.readNanos(data) : -1;
+        return new LoadedClip(clip, new ClipStats(soundFilePath, loadNanos, data.length, durationNanos));
+    }
+
+    /**
+     * Reads the contents of a resource.
+     *
+     * @param resource the resource.
+     * @return the contents, or an empty array if the resource cannot be read.
+     */
+    private static byte[] readFile(URL resource) {
+        try (InputStream input = resource.openStream()) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Retrieves the playing time of a clip, loading the clip if necessary.
+     *
+     * @param soundFilePath the path to the sound file, accessible as a resource.
+     * @return the playing time in nanoseconds, or -1 if it is unknown.
+     * @throws IllegalArgumentException if the sound file does not exist.
+     */
+    public long getDurationNanos(String soundFilePath) {
+        getClip(soundFilePath);
+        ClipStats stats = completedStats(soundFilePath);
+        return stats != null ? stats.durationNanos() : -1;
+    }
+
+    /**
+     * Checks whether the clip of a sound file has been loaded.
+     *
+     * @param soundFilePath the path to the sound file.
+     * @return {@code true} if the clip is loaded.
+     */
+    public boolean contains(String soundFilePath) {
+        return completedStats(soundFilePath) != null;
+    }
+
+    /**
+     * Retrieves the load metrics of every clip loaded so far.
+     *
+     * @return the metrics, one entry per clip.
+     */
+    public List<ClipStats> getStats() {
+        List<ClipStats> stats = new ArrayList<>();
+        for (String soundFilePath : clips.keySet()) {
+            ClipStats clipStats = completedStats(soundFilePath);
+            if (clipStats != null) {
+                stats.add(clipStats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Retrieves the number of clips loaded so far.
+     *
+     * @return the number of loaded clips.
+     */
+    public int size() {
+        return getStats().size();
+    }
+
+    /**
+     * Retrieves the total time spent loading clips.
+     *
+     * @return the sum of the load times, in nanoseconds.
+     */
+    public long getTotalLoadNanos() {
+        long total = 0;
+        for (ClipStats stats : getStats()) {
+            total += stats.loadNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the total size of the sound files of the loaded clips.
+     *
+     * @return the sum of the file sizes, in bytes.
+     */
+    public long getTotalFileBytes() {
+        long total = 0;
+        for (ClipStats stats : getStats()) {
+            total += stats.fileBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the metrics of a clip if it has finished loading successfully.
+     *
+     * @param soundFilePath the path to the sound file.
+     * @return the metrics, or {@code null} if the clip is not loaded.
+     */
+    private ClipStats completedStats(String soundFilePath) {
+        FutureTask<LoadedClip> load = clips.get(soundFilePath);
+        if (load == null || !load.isDone() || load.isCancelled()) {
+            return null;
+        }
+        try {
+            return load.get().stats();
+        } catch (InterruptedException | ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Removes every clip from the bank. Players already holding a clip keep playing it.
+     */
+    public void clear() {
+        clips.clear();
+    }
+
+}
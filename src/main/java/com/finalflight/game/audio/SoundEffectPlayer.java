@@ -10,45 +10,105 @@ import javafx.scene.media.AudioClip;
  * <p>This class is designed to manage individual sound effects and provides
  * straightforward control over their behavior.</p>
  *
+ * <p>All sound effects can be muted with {@link #setMuted(boolean)} for headless runs. Players
+ * created while muted do not load their clip at all.</p>
+ *
+ * <p>A player is a lightweight handle on a clip of the {@link SoundBank}: every player of the same
+ * sound file shares one clip, loaded once for the whole process. The volume and looping of a player
+ * are its own and are applied to the shared clip each time the player plays it. Clips can be loaded
+ * ahead of time with {@link #preload(String)}, from any thread.</p>
+ *
+ * <p>Playing a sound is a request to the {@link VoiceManager}, which may merge it with other requests
+ * for the same sound file in the same frame or drop it when too many voices are playing. The
+ * {@link VoiceManager.Priority priority} and polyphony of a player decide how its requests fare.</p>
+ *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/audio/SoundEffectPlayer.java</p>
  */
 public class SoundEffectPlayer {
 
+    private static final int DEFAULT_POLYPHONY = 4;
+    private static volatile boolean muted;
     private final AudioClip audioClip;
+    private final long durationNanos;
+    private double volume = 1.0;
+    private int cycleCount = 1;
+    private VoiceManager.Priority priority = VoiceManager.Priority.PLAYER;
+    private int polyphony = DEFAULT_POLYPHONY;
 
     /**
-     * Creates a new instance of {@code SoundEffectPlayer} for the specified sound file.
+     * Creates a new instance of {@code SoundEffectPlayer} for the specified sound file, sharing its
+     * clip from the {@link SoundBank}. The clip is not loaded if sound effects are muted.
      *
      * @param soundFilePath the path to the sound file to be played.
      *                      The file should be accessible as a resource.
      */
     public SoundEffectPlayer(String soundFilePath) {
-        this.audioClip = new AudioClip(getClass().getResource(soundFilePath).toExternalForm());
+        this.audioClip = muted ? null : SoundBank.getInstance().getClip(soundFilePath);
+        this.durationNanos = muted ? -1 : SoundBank.getInstance().getDurationNanos(soundFilePath);
+    }
+
+    /**
+     * Loads the clip of a sound file into the {@link SoundBank} ahead of time, so players created
+     * for it later do not wait for it. Does nothing if sound effects are muted.
+     *
+     * @param soundFilePath the path to the sound file, accessible as a resource.
+     * @throws IllegalArgumentException if the sound file does not exist.
+     */
+    public static void preload(String soundFilePath) {
+        if (!muted) {
+            SoundBank.getInstance().getClip(soundFilePath);
+        }
+    }
+
+    /**
+     * Mutes or unmutes every sound effect in the game.
+     *
+     * @param muted {@code true} to silence all sound effects, {@code false} to play them.
+     */
+    public static void setMuted(boolean muted) {
+        SoundEffectPlayer.muted = muted;
+    }
+
+    /**
+     * Checks whether sound effects are muted.
+     *
+     * @return {@code true} if sound effects are muted, {@code false} otherwise.
+     */
+    public static boolean isMuted() {
+        return muted;
     }
 
     /**
-     * Plays the sound effect. If the sound effect is already playing,
-     * it will play from the beginning.
+     * Plays the sound effect, through the {@link VoiceManager}. If the sound effect is already playing,
+     * another voice of it is started alongside, as far as the polyphony of the player allows.
      */
     public void playSound() {
-        audioClip.play();
+        if (audioClip != null && !muted) {
+            VoiceManager.getInstance().request(audioClip, durationNanos, volume, cycleCount, priority, polyphony);
+        }
     }
 
     /**
-     * Sets the volume of the sound effect.
+     * Sets the volume this player plays the sound effect at. The volume also becomes the default
+     * volume of the shared clip, which players always override when they play it.
      *
      * @param volume the volume level as a double between 0.0 (mute) and 1.0 (maximum).
      */
     public void setVolume(double volume) {
-        audioClip.setVolume(volume);
+        this.volume = volume;
+        if (audioClip != null) {
+            audioClip.setVolume(volume);
+        }
     }
 
     /**
      * Stops the currently playing sound effect. If the sound is not playing,
-     * this method has no effect.
+     * this method has no effect. The clip is shared, so this stops every player of the same sound file.
      */
     public void stopSound() {
-        audioClip.stop();
+        if (audioClip != null && !muted) {
+            VoiceManager.getInstance().stop(audioClip);
+        }
     }
 
     /**
@@ -58,7 +118,33 @@ public class SoundEffectPlayer {
      *                  {@code false} to play it only once.
      */
     public void setLooping(boolean isLooping) {
-        audioClip.setCycleCount(isLooping ? AudioClip.INDEFINITE : 1);
+        this.cycleCount = isLooping ? AudioClip.INDEFINITE : 1;
+        if (audioClip != null) {
+            audioClip.setCycleCount(cycleCount);
+        }
+    }
+
+    /**
+     * Sets the priority of the sound effect when voices are scarce. The default is
+     * {@link VoiceManager.Priority#PLAYER}.
+     *
+     * @param priority the priority.
+     */
+    public void setPriority(VoiceManager.Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Sets the maximum number of voices of the sound effect played at once. The default is 4.
+     *
+     * @param polyphony the maximum number of voices, at least 1.
+     * @throws IllegalArgumentException if {@code polyphony} is less than 1.
+     */
+    public void setPolyphony(int polyphony) {
+        if (polyphony < 1) {
+            throw new IllegalArgumentException("Polyphony must be at least 1: " + polyphony);
+        }
+        this.polyphony = polyphony;
     }
 
 }
@@ -0,0 +1,472 @@
+package com.finalflight.game.audio;
+
+import javafx.scene.media.AudioClip;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code VoiceManager} class decides which sound effects are actually played. Every
+ * {@link SoundEffectPlayer} hands its requests to the manager, which starts a voice for a request
+ * only if the limits allow it:
+ * <ul>
+ *     <li>No more than a maximum number of voices play at once across the game. When the limit is
+ *     reached, a request takes the place of a voice of lower {@link Priority}, or is dropped if there
+ *     is none.</li>
+ *     <li>No more than the polyphony of a player plays the same sound file at once; further
+ *     requests for it are dropped.</li>
+ *     <li>Requests for the same sound file made during one frame are merged into a single voice,
+ *     played at the combined volume of the requests, so a wave of enemies firing together is heard
+ *     once, louder, instead of as a stack of identical voices.</li>
+ * </ul>
+ *
+ * <p>A level brackets each frame with {@link #beginFrame()} and {@link #endFrame()}, and the requests
+ * made in between are mixed at the end of the frame. Requests made outside a frame, such as from a
+ * menu, are mixed straight away.</p>
+ *
+ * <p>An {@link AudioClip} does not report its voices, so a voice is counted as playing for the
+ * duration of its sound file, read by the {@link SoundBank}, and a looping voice until it is
+ * stopped. A clip can only stop all of its voices at once, so taking the place of a voice stops every
+ * voice of that sound file.</p>
+ *
+ * <p>The manager is used from the JavaFX application thread only. It plays sounds every frame, so it
+ * keeps its requests and voices in lists it reuses and recycles them once they are mixed or finished,
+ * and mixing a frame allocates nothing.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/audio/VoiceManager.java</p>
+ */
+public final class VoiceManager {
+
+    /**
+     * The system property holding the maximum number of voices played at once.
+     */
+    public static final String MAX_VOICES_PROPERTY = "finalflight.maxVoices";
+    private static final int DEFAULT_MAX_VOICES = 12;
+    private static final long UNKNOWN_DURATION_NANOS = 1_000_000_000L;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static VoiceManager instance;
+    private final int maxVoices;
+    private final Output output;
+    private final LongSupplier clock;
+    private final List<Request> requests = new ArrayList<>(); // In the order of their first request
+    private final List<Voice> voices = new ArrayList<>();
+    private final List<Request> freeRequests = new ArrayList<>();
+    private final List<Voice> freeVoices = new ArrayList<>();
+    private boolean inFrame;
+    private long startedCount;
+    private long mergedCount;
+    private long droppedCount;
+    private long stolenCount;
+
+    /**
+     * The importance of a sound effect, from least to most important. A request can take the place of a
+     * voice of lower priority when every voice is in use.
+     */
+    public enum Priority {
+        ENEMY, PLAYER, BOSS, PLAYER_DAMAGE
+    }
+
+    /**
+     * Starts and stops the voices of clips.
+     */
+    interface Output {
+
+        /**
+         * Starts a voice of a clip.
+         *
+         * @param clip       the clip.
+         * @param volume     the volume of the voice, from 0.0 to 1.0.
+         * @param cycleCount the number of times the clip is played, or {@link AudioClip#INDEFINITE}.
+         * @param priority   the priority of the voice.
+         */
+        void start(AudioClip clip, double volume, int cycleCount, Priority priority);
+
+        /**
+         * Stops every voice of a clip.
+         *
+         * @param clip the clip.
+         */
+        void stop(AudioClip clip);
+    }
+
+    /**
+     * The requests for one clip made during the current frame. Requests are recycled once mixed.
+     */
+    private static final class Request {
+        private AudioClip clip;
+        private long durationNanos;
+        private double volumeSquares;
+        private int cycleCount;
+        private Priority priority;
+        private int polyphony;
+    }
+
+    /**
+     * A voice that is playing. Voices are recycled once finished or stopped.
+     */
+    private static final class Voice {
+        private AudioClip clip;
+        private Priority priority;
+        private long endNanos; // Long.MAX_VALUE while a looping voice plays
+    }
+
+    /**
+     * Constructs a {@code VoiceManager} that plays clips through a custom output.
+     *
+     * @param maxVoices the maximum number of voices played at once.
+     * @param output    the output starting and stopping voices.
+     * @param clock     the source of the current time in nanoseconds.
+     * @throws IllegalArgumentException if {@code maxVoices} is less than 1.
+     */
+    VoiceManager(int maxVoices, Output output, LongSupplier clock) {
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("At least one voice is required: " + maxVoices);
+        }
+        this.maxVoices = maxVoices;
+        this.output = output;
+        this.clock = clock;
+    }
+
+    /**
+     * Retrieves the shared instance of {@code VoiceManager}, creating it if necessary with the maximum
+     * number of voices from the {@value #MAX_VOICES_PROPERTY} system property.
+     *
+     * @return the shared voice manager.
+     */
+    public static synchronized VoiceManager getInstance() {
+        if (instance == null) {
+            int maxVoices = Integer.getInteger(MAX_VOICES_PROPERTY, DEFAULT_MAX_VOICES);
+            instance = new VoiceManager(Math.max(1, maxVoices), new ClipOutput(), System::nanoTime);
+        }
+        return instance;
+    }
+
+    /**
+     * Requests a voice of a clip. Within a frame, the request is mixed at the end of the frame together
+     * with the other requests of the frame; otherwise it is mixed straight away.
+     *
+     * @param clip          the clip.
+     * @param durationNanos the playing time of the clip in nanoseconds, or -1 if it is unknown.
+     * @param volume        the volume of the voice, from 0.0 to 1.0.
+     * @param cycleCount    the number of times the clip is played, or {@link AudioClip#INDEFINITE}.
+     * @param priority      the priority of the voice.
+     * @param polyphony     the maximum number of voices of the clip played at once.
+     */
+    public void request(AudioClip clip, long durationNanos, double volume, int cycleCount, Priority priority,
+                        int polyphony) {
+        Request request = findRequest(clip);
+        if (request == null) {
+            request = freeRequests.isEmpty() ? new Request() : freeRequests.remove(freeRequests.size() - 1);
+            request.clip = clip;
+            request.durationNanos = durationNanos;
+            request.volumeSquares = 0;
+            request.cycleCount = cycleCount;
+            request.priority = priority;
+            request.polyphony = polyphony;
+            requests.add(request);
+        } else {
+            mergedCount++;
+            request.cycleCount = cycleCount == AudioClip.INDEFINITE || request.cycleCount == AudioClip.INDEFINITE
+                    ? AudioClip.INDEFINITE : Math.max(request.cycleCount, cycleCount);
+            if (priority.compareTo(request.priority) > 0) {
+                request.priority = priority;
+            }
+            request.polyphony = Math.max(request.polyphony, polyphony);
+        }
+        request.volumeSquares += volume * volume;
+        if (!inFrame) {
+            mix();
+        }
+    }
+
+    /**
+     * Finds the request for a clip made during the current frame. A frame only has requests for a
+     * handful of clips, so they are searched one by one.
+     *
+     * @param clip the clip.
+     * @return the request, or {@code null} if the clip has not been requested during the frame.
+     */
+    private Request findRequest(AudioClip clip) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).clip == clip) {
+                return requests.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops every voice of a clip and discards the requests for it made during the current frame.
+     *
+     * @param clip the clip.
+     */
+    public void stop(AudioClip clip) {
+        Request request = findRequest(clip);
+        if (request != null) {
+            requests.remove(request);
+            recycle(request);
+        }
+        removeVoicesOf(clip);
+        output.stop(clip);
+    }
+
+    /**
+     * Starts a frame. Requests made until {@link #endFrame()} is called are mixed together.
+     */
+    public void beginFrame() {
+        inFrame = true;
+    }
+
+    /**
+     * Ends a frame, mixing the requests made during it.
+     */
+    public void endFrame() {
+        inFrame = false;
+        mix();
+    }
+
+    /**
+     * Starts the voices for the pending requests, most important first, as far as the limits allow.
+     * Requests of the same priority are mixed in the order they were first made.
+     */
+    private void mix() {
+        long now = clock.getAsLong();
+        removeFinishedVoices(now);
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        for (int p = PRIORITIES.length - 1; p >= 0; p--) {
+            for (int i = 0; i < requests.size(); i++) {
+                Request request = requests.get(i);
+                if (request.priority == PRIORITIES[p]) {
+                    mix(request, now);
+                }
+            }
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            recycle(requests.get(i));
+        }
+        requests.clear();
+    }
+
+    /**
+     * Starts the voice for a request, unless the polyphony of its clip or the maximum number of voices
+     * does not allow it.
+     *
+     * @param request the request.
+     * @param now     the current time in nanoseconds.
+     */
+    private void mix(Request request, long now) {
+        if (countVoices(request.clip) >= request.polyphony) {
+            droppedCount++;
+            return;
+        }
+        if (voices.size() >= maxVoices && !stealVoiceFor(request.priority)) {
+            droppedCount++;
+            return;
+        }
+        double volume = Math.min(1.0, Math.sqrt(request.volumeSquares));
+        output.start(request.clip, volume, request.cycleCount, request.priority);
+        long durationNanos = request.durationNanos > 0 ? request.durationNanos : UNKNOWN_DURATION_NANOS;
+        Voice voice = freeVoices.isEmpty() ? new Voice() : freeVoices.remove(freeVoices.size() - 1);
+        voice.clip = request.clip;
+        voice.priority = request.priority;
+        voice.endNanos = request.cycleCount == AudioClip.INDEFINITE ? Long.MAX_VALUE
+                : now + durationNanos * request.cycleCount;
+        voices.add(voice);
+        startedCount++;
+    }
+
+    /**
+     * Returns a mixed or discarded request to the free requests, letting go of its clip.
+     *
+     * @param request the request.
+     */
+    private void recycle(Request request) {
+        request.clip = null;
+        freeRequests.add(request);
+    }
+
+    /**
+     * Removes the voices that have finished playing, returning them to the free voices.
+     *
+     * @param now the current time in nanoseconds.
+     */
+    private void removeFinishedVoices(long now) {
+        int kept = 0;
+        for (int i = 0; i < voices.size(); i++) {
+            Voice voice = voices.get(i);
+            if (voice.endNanos <= now) {
+                voice.clip = null;
+                freeVoices.add(voice);
+            } else {
+                voices.set(kept++, voice);
+            }
+        }
+        truncateVoices(kept);
+    }
+
+    /**
+     * Removes every voice of a clip, returning them to the free voices.
+     *
+     * @param clip the clip.
+     * @return the number of voices removed.
+     */
+    private int removeVoicesOf(AudioClip clip) {
+        int kept = 0;
+        int removed = 0;
+        for (int i = 0; i < voices.size(); i++) {
+            Voice voice = voices.get(i);
+            if (voice.clip == clip) {
+                voice.clip = null;
+                freeVoices.add(voice);
+                removed++;
+            } else {
+                voices.set(kept++, voice);
+            }
+        }
+        truncateVoices(kept);
+        return removed;
+    }
+
+    /**
+     * Shortens the list of voices to the voices kept at its start.
+     *
+     * @param kept the number of voices kept.
+     */
+    private void truncateVoices(int kept) {
+        for (int i = voices.size() - 1; i >= kept; i--) {
+            voices.remove(i);
+        }
+    }
+
+    /**
+     * Stops the clip of the least important voice below a priority, preferring the voice that would
+     * finish soonest, to free a voice for a more important request.
+     *
+     * @param priority the priority of the request.
+     * @return {@code true} if a voice was freed, {@code false} if every voice is at least as important.
+     */
+    private boolean stealVoiceFor(Priority priority) {
+        Voice victim = null;
+        for (int i = 0; i < voices.size(); i++) {
+            Voice voice = voices.get(i);
+            if (voice.priority.compareTo(priority) < 0 && (victim == null
+                    || voice.priority.compareTo(victim.priority) < 0
+                    || voice.priority == victim.priority && voice.endNanos < victim.endNanos)) {
+                victim = voice;
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        AudioClip clip = victim.clip;
+        stolenCount += removeVoicesOf(clip);
+        output.stop(clip);
+        return true;
+    }
+
+    /**
+     * Counts the voices of a clip that are playing.
+     *
+     * @param clip the clip.
+     * @return the number of voices of the clip.
+     */
+    private int countVoices(AudioClip clip) {
+        int count = 0;
+        for (int i = 0; i < voices.size(); i++) {
+            if (voices.get(i).clip == clip) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of voices playing as of the last mix.
+     *
+     * @return the number of voices.
+     */
+    public int getActiveVoiceCount() {
+        return voices.size();
+    }
+
+    /**
+     * Retrieves the maximum number of voices played at once.
+     *
+     * @return the maximum number of voices.
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * Retrieves the number of voices started.
+     *
+     * @return the number of started voices.
+     */
+    public long getStartedCount() {
+        return startedCount;
+    }
+
+    /**
+     * Retrieves the number of requests merged into another request for the same clip in the same frame.
+     *
+     * @return the number of merged requests.
+     */
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * Retrieves the number of requests dropped because of the polyphony of their clip or the maximum
+     * number of voices.
+     *
+     * @return the number of dropped requests.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Retrieves the number of voices stopped to make room for more important requests.
+     *
+     * @return the number of stolen voices.
+     */
+    public long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * The output playing voices on the clips themselves.
+     */
+    private static final class ClipOutput implements Output {
+
+        /**
+         * Plays the clip, passing the priority on to the audio engine as well.
+         *
+         * @param clip       the clip.
+         * @param volume     the volume of the voice, from 0.0 to 1.0.
+         * @param cycleCount the number of times the clip is played, or {@link AudioClip#INDEFINITE}.
+         * @param priority   the priority of the voice.
+         */
+        @Override
+        public void start(AudioClip clip, double volume, int cycleCount, Priority priority) {
+            clip.setCycleCount(cycleCount); // The clip is shared, so apply the looping of this voice
+            clip.play(volume, clip.getBalance(), clip.getRate(), clip.getPan(), priority.ordinal());
+        }
+
+        /**
+         * Stops every voice of the clip.
+         *
+         * @param clip the clip.
+         */
+        @Override
+        public void stop(AudioClip clip) {
+            clip.stop();
+        }
+    }
+
+}
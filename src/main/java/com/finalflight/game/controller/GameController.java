@@ -1,32 +1,61 @@
 package com.finalflight.game.controller;
 
+import com.finalflight.game.level.AssetManifest;
+import com.finalflight.game.level.AssetPreloader;
 import com.finalflight.game.level.BaseLevel;
+import com.finalflight.game.level.LevelFactory;
+import com.finalflight.game.level.LevelRandom;
+import com.finalflight.game.level.LevelSession;
+import com.finalflight.game.simulation.InputRecorder;
+import com.finalflight.game.visual.LoadingScreen;
+import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 
 /**
  * The {@code GameController} class is responsible for managing the game's flow and handling transitions
- * between different levels. It observes changes in the game state and updates the current level accordingly.
+ * between different levels. It subscribes to the end of each level on the level's
+ * {@link com.finalflight.game.event.GameEventBus} and moves on to the level that follows.
  *
- * <p>This class uses reflection to dynamically load and transition between levels in the game.</p>
+ * <p>Levels are created by name through the {@link LevelFactory}, either from their level class or,
+ * for levels that only exist as a {@link com.finalflight.game.level.LevelDefinition}, as a
+ * {@link com.finalflight.game.level.DefinedLevel}.
+ * Before a level is created, the assets listed in its {@link AssetManifest} are preloaded in the
+ * background while a {@link LoadingScreen} shows the progress, and the level is only created and
+ * started once they are loaded.</p>
+ *
+ * <p>When the game is started with {@code -Dfinalflight.session=true}, the levels are played in one
+ * {@link LevelSession}, so the scene, the HUD and the player's plane are created once and kept from
+ * one level to the next.</p>
+ *
+ * <p>When the game is started with {@code -Dfinalflight.record=<file>}, the input of the session is
+ * recorded to that file, level by level, so it can be replayed with
+ * {@link com.finalflight.game.simulation.InputReplay}.</p>
  *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/controller/GameController.java</p>
  */
 
-public class GameController implements Observer {
+public class GameController {
+
+    /**
+     * The system property naming the file the input of the session is recorded to.
+     */
+    public static final String RECORD_PROPERTY = "finalflight.record";
 
     private static final String LEVEL_ONE_CLASS_NAME = "com.finalflight.game.level.LevelOne";
     private static final double SCENE_WIDTH = 1540.0;
     private static final double SCENE_HEIGHT = 870.0;
     private final Stage stage;
+    private final AssetPreloader assetPreloader = new AssetPreloader();
+    private InputRecorder inputRecorder;
+    private LevelSession session;
 
     /**
      * Constructs a {@code GameController} instance with the specified primary stage.
@@ -37,65 +66,142 @@ public class GameController implements Observer {
         this.stage = stage;
     }
 
+    /**
+     * Starts preloading the assets of the first level in the background, so the images and sound
+     * effects it needs are already loaded when the game is launched from the main menu.
+     */
+    public void warmUp() {
+        assetPreloader.start(assetPreloader.createTask(AssetManifest.forLevel(LEVEL_ONE_CLASS_NAME)));
+    }
+
     /**
      * Launches the game by showing the primary stage and navigating to the first level.
      *
-     * @throws ClassNotFoundException    if the class for the first level cannot be found.
-     * @throws NoSuchMethodException     if the constructor of the level class cannot be found.
-     * @throws SecurityException         if access to the constructor is denied.
-     * @throws InstantiationException    if the level class cannot be instantiated.
-     * @throws IllegalAccessException    if the constructor of the level class is inaccessible.
-     * @throws IllegalArgumentException  if invalid arguments are passed to the constructor.
-     * @throws InvocationTargetException if the constructor throws an exception.
+     * @throws IOException if the input recording cannot be created.
      */
-    public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+    public void launchGame() throws IOException {
 
+        startRecording();
+        if (session == null && LevelSession.isEnabled()) {
+            session = new LevelSession(SCENE_WIDTH, SCENE_HEIGHT);
+        }
         stage.show();
         goToLevel(LEVEL_ONE_CLASS_NAME);
     }
 
     /**
-     * Transitions the game to the specified level by dynamically loading and initializing the level class.
+     * Transitions the game to the specified level. The loading screen is shown while the assets of
+     * the level are preloaded, then the level is created and started. In a session, the loading screen
+     * is laid over the previous level in the scene of the session instead of replacing the scene.
      *
-     * @param className the fully qualified name of the level class to transition to.
-     * @throws ClassNotFoundException    if the class for the specified level cannot be found.
-     * @throws NoSuchMethodException     if the constructor of the level class cannot be found.
-     * @throws SecurityException         if access to the constructor is denied.
-     * @throws InstantiationException    if the level class cannot be instantiated.
-     * @throws IllegalAccessException    if the constructor of the level class is inaccessible.
-     * @throws IllegalArgumentException  if invalid arguments are passed to the constructor.
-     * @throws InvocationTargetException if the constructor throws an exception.
+     * @param levelName the fully qualified name of the level class, or the name of a level definition.
      */
-    private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-        Class<?> myClass = Class.forName(className);
-        Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-        BaseLevel myLevel = (BaseLevel) constructor.newInstance(SCENE_HEIGHT, SCENE_WIDTH);
-        myLevel.addObserver(this);
-        Scene scene = myLevel.initializeScene();
-        stage.setScene(scene);
-        myLevel.startGame();
+    private void goToLevel(String levelName) {
+        LoadingScreen loadingScreen = new LoadingScreen(SCENE_WIDTH, SCENE_HEIGHT);
+        Task<AssetPreloader.Result> preload = assetPreloader.createTask(AssetManifest.forLevel(levelName));
+        loadingScreen.progressProperty().bind(preload.progressProperty());
+        // Assets that failed to preload are loaded when the level first uses them
+        preload.setOnSucceeded(event -> finishLoading(loadingScreen, levelName));
+        preload.setOnFailed(event -> finishLoading(loadingScreen, levelName));
+        if (session != null) {
+            session.getRoot().getChildren().add(loadingScreen.getView());
+            showScene(session.getScene());
+        } else {
+            stage.setScene(loadingScreen.getScene());
+        }
+        assetPreloader.start(preload);
+    }
 
+    /**
+     * Removes the loading screen from the scene of the session, if it was laid over it, and starts the
+     * level whose assets were loaded.
+     *
+     * @param loadingScreen the loading screen shown while the assets were loaded.
+     * @param levelName     the fully qualified name of the level class, or the name of a level definition.
+     */
+    private void finishLoading(LoadingScreen loadingScreen, String levelName) {
+        if (session != null) {
+            session.getRoot().getChildren().remove(loadingScreen.getView());
+        }
+        startLevel(levelName);
     }
 
     /**
-     * Updates the game controller when notified of a change in the game state.
-     * This method handles transitions between levels.
+     * Shows the specified scene on the stage, unless the stage already shows it.
      *
-     * @param arg0 the observable object (not used).
-     * @param arg1 the new level's class name as a {@code String}.
+     * @param scene the scene to show.
      */
-    @Override
-    public void update(Observable arg0, Object arg1) {
+    private void showScene(Scene scene) {
+        if (stage.getScene() != scene) {
+            stage.setScene(scene);
+        }
+    }
+
+    /**
+     * Creates and starts a level once its assets are loaded, showing an error if it cannot be created.
+     *
+     * @param levelName the fully qualified name of the level class, or the name of a level definition.
+     */
+    private void startLevel(String levelName) {
         try {
-            goToLevel((String) arg1);
-        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-                 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            Alert alert = new Alert(AlertType.ERROR);
-            alert.setContentText(e.getClass().toString());
-            alert.show();
+            BaseLevel myLevel = session != null
+                    ? LevelFactory.create(levelName, session, LevelRandom.defaultSeed())
+                    : LevelFactory.create(levelName, SCENE_HEIGHT, SCENE_WIDTH, false, LevelRandom.defaultSeed());
+            myLevel.getEvents().onLevelComplete(nextLevel -> levelCompleted(myLevel, nextLevel));
+            if (inputRecorder != null) {
+                inputRecorder.beginLevel(levelName, myLevel);
+            }
+            showScene(myLevel.initializeScene());
+            myLevel.startGame();
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            showError(e);
+        }
+    }
+
+    /**
+     * Moves on to the next level when a level ends.
+     *
+     * @param level     the level that ended.
+     * @param nextLevel the name of the level to go to.
+     */
+    private void levelCompleted(BaseLevel level, String nextLevel) {
+        if (inputRecorder != null) {
+            inputRecorder.endLevel(level);
+        }
+        goToLevel(nextLevel);
+    }
+
+    /**
+     * Shows an error alert for a level that could not be loaded.
+     *
+     * @param e the exception raised while loading the level.
+     */
+    private void showError(Exception e) {
+        Alert alert = new Alert(AlertType.ERROR);
+        alert.setContentText(e.getClass().toString());
+        alert.show();
+    }
+
+    /**
+     * Starts recording the input of the session if {@link #RECORD_PROPERTY} is set. The recording is
+     * completed when the application exits.
+     *
+     * @throws IOException if the recording file cannot be created.
+     */
+    private void startRecording() throws IOException {
+        String recordingFile = System.getProperty(RECORD_PROPERTY);
+        if (recordingFile == null || inputRecorder != null) {
+            return;
         }
+        InputRecorder recorder = InputRecorder.open(Paths.get(recordingFile));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        inputRecorder = recorder;
     }
 
 }
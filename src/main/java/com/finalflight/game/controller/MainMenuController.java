@@ -22,12 +22,14 @@ public class MainMenuController {
 
     /**
      * Sets the {@link Stage} for the game and initializes the {@link GameController}.
-     * This method also starts playing the main menu background music in a loop.
+     * This method also starts playing the main menu background music in a loop and starts
+     * loading the assets of the first level in the background.
      *
      * @param stage the primary stage of the application.
      */
     public void setStage(Stage stage) {
         this.gameController = new GameController(stage);
+        gameController.warmUp();
 
         MusicPlayer musicPlayer = MusicPlayer.getInstance(MAIN_MENU_MUSIC);
         musicPlayer.playMusic(true);
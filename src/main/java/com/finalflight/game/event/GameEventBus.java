@@ -0,0 +1,254 @@
+package com.finalflight.game.event;
+
+import com.finalflight.game.gameobjects.BossPlane;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+
+import java.util.Arrays;
+
+/**
+ * The {@code GameEventBus} class delivers the gameplay events of a level to the parts of the game
+ * that react to them, such as the HUD, audio, statistics or achievements, so they do not have to poll
+ * the level on every step. Each event has its own listener type, so listeners receive typed values
+ * rather than an untyped {@code Object}:
+ * <ul>
+ *     <li>level complete, when the level ends and the game moves on to another level;</li>
+ *     <li>enemy killed, with the number of kills of the player so far;</li>
+ *     <li>player damaged, with the health the player has left;</li>
+ *     <li>boss shield up, with the boss that raised it;</li>
+ *     <li>projectile fired, with the projectile and whether the player fired it.</li>
+ * </ul>
+ *
+ * <p>Listeners are kept in one array per event. Subscribing replaces the array with a copy holding
+ * the new listener, so publishing only walks the current array: it takes no lock, never blocks and
+ * allocates nothing. Events are delivered synchronously, on the thread that publishes them, in the
+ * order the listeners subscribed.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/event/GameEventBus.java</p>
+ */
+public final class GameEventBus {
+
+    /**
+     * Listens for the end of a level.
+     */
+    @FunctionalInterface
+    public interface LevelCompleteListener {
+
+        /**
+         * Called when the level ends and the game moves on to another level.
+         *
+         * @param nextLevel the name of the level to go to.
+         */
+        void onLevelComplete(String nextLevel);
+    }
+
+    /**
+     * Listens for enemies killed by the player.
+     */
+    @FunctionalInterface
+    public interface EnemyKilledListener {
+
+        /**
+         * Called for each enemy the player kills.
+         *
+         * @param kills the number of kills of the player in the level so far.
+         */
+        void onEnemyKilled(int kills);
+    }
+
+    /**
+     * Listens for damage to the player.
+     */
+    @FunctionalInterface
+    public interface PlayerDamagedListener {
+
+        /**
+         * Called each time the player takes damage.
+         *
+         * @param health the health the player has left.
+         */
+        void onPlayerDamaged(int health);
+    }
+
+    /**
+     * Listens for bosses raising their shield.
+     */
+    @FunctionalInterface
+    public interface BossShieldListener {
+
+        /**
+         * Called when a boss raises its shield.
+         *
+         * @param boss the boss.
+         */
+        void onBossShieldUp(BossPlane boss);
+    }
+
+    /**
+     * Listens for fired projectiles.
+     */
+    @FunctionalInterface
+    public interface ProjectileFiredListener {
+
+        /**
+         * Called for each projectile fired. The projectile may be returned to its pool once the
+         * listeners have been called, so it must not be kept.
+         *
+         * @param projectile  the projectile.
+         * @param firedByUser {@code true} if the player fired it, {@code false} if an enemy did.
+         */
+        void onProjectileFired(DestructibleGameObject projectile, boolean firedByUser);
+    }
+
+    private volatile LevelCompleteListener[] levelCompleteListeners = new LevelCompleteListener[0];
+    private volatile EnemyKilledListener[] enemyKilledListeners = new EnemyKilledListener[0];
+    private volatile PlayerDamagedListener[] playerDamagedListeners = new PlayerDamagedListener[0];
+    private volatile BossShieldListener[] bossShieldListeners = new BossShieldListener[0];
+    private volatile ProjectileFiredListener[] projectileFiredListeners = new ProjectileFiredListener[0];
+
+    /**
+     * Subscribes a listener to the end of the level.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void onLevelComplete(LevelCompleteListener listener) {
+        levelCompleteListeners = append(levelCompleteListeners, listener);
+    }
+
+    /**
+     * Subscribes a listener to enemies killed by the player.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void onEnemyKilled(EnemyKilledListener listener) {
+        enemyKilledListeners = append(enemyKilledListeners, listener);
+    }
+
+    /**
+     * Subscribes a listener to damage to the player.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void onPlayerDamaged(PlayerDamagedListener listener) {
+        playerDamagedListeners = append(playerDamagedListeners, listener);
+    }
+
+    /**
+     * Subscribes a listener to bosses raising their shield.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void onBossShieldUp(BossShieldListener listener) {
+        bossShieldListeners = append(bossShieldListeners, listener);
+    }
+
+    /**
+     * Subscribes a listener to fired projectiles.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void onProjectileFired(ProjectileFiredListener listener) {
+        projectileFiredListeners = append(projectileFiredListeners, listener);
+    }
+
+    /**
+     * Unsubscribes a listener from every event it is subscribed to.
+     *
+     * @param listener the listener.
+     */
+    public synchronized void unsubscribe(Object listener) {
+        levelCompleteListeners = remove(levelCompleteListeners, listener);
+        enemyKilledListeners = remove(enemyKilledListeners, listener);
+        playerDamagedListeners = remove(playerDamagedListeners, listener);
+        bossShieldListeners = remove(bossShieldListeners, listener);
+        projectileFiredListeners = remove(projectileFiredListeners, listener);
+    }
+
+    /**
+     * Publishes the end of the level.
+     *
+     * @param nextLevel the name of the level to go to.
+     */
+    public void publishLevelComplete(String nextLevel) {
+        for (LevelCompleteListener listener : levelCompleteListeners) {
+            listener.onLevelComplete(nextLevel);
+        }
+    }
+
+    /**
+     * Publishes an enemy killed by the player.
+     *
+     * @param kills the number of kills of the player in the level so far.
+     */
+    public void publishEnemyKilled(int kills) {
+        for (EnemyKilledListener listener : enemyKilledListeners) {
+            listener.onEnemyKilled(kills);
+        }
+    }
+
+    /**
+     * Publishes damage to the player.
+     *
+     * @param health the health the player has left.
+     */
+    public void publishPlayerDamaged(int health) {
+        for (PlayerDamagedListener listener : playerDamagedListeners) {
+            listener.onPlayerDamaged(health);
+        }
+    }
+
+    /**
+     * Publishes a boss raising its shield.
+     *
+     * @param boss the boss.
+     */
+    public void publishBossShieldUp(BossPlane boss) {
+        for (BossShieldListener listener : bossShieldListeners) {
+            listener.onBossShieldUp(boss);
+        }
+    }
+
+    /**
+     * Publishes a fired projectile.
+     *
+     * @param projectile  the projectile.
+     * @param firedByUser {@code true} if the player fired it, {@code false} if an enemy did.
+     */
+    public void publishProjectileFired(DestructibleGameObject projectile, boolean firedByUser) {
+        for (ProjectileFiredListener listener : projectileFiredListeners) {
+            listener.onProjectileFired(projectile, firedByUser);
+        }
+    }
+
+    /**
+     * Copies a listener array with a listener added at the end.
+     *
+     * @param listeners the current listeners.
+     * @param listener  the listener to add.
+     * @param <L>       the type of listener.
+     * @return the new listener array.
+     */
+    private static <L> L[] append(L[] listeners, L listener) {
+        L[] appended = Arrays.copyOf(listeners, listeners.length + 1);
+        appended[listeners.length] = listener;
+        return appended;
+    }
+
+    /**
+     * Copies a listener array without a listener, or returns it unchanged if the listener is not in it.
+     *
+     * @param listeners the current listeners.
+     * @param listener  the listener to remove.
+     * @param <L>       the type of listener.
+     * @return the new listener array.
+     */
+    private static <L> L[] remove(L[] listeners, Object listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                L[] removed = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, removed, i, listeners.length - i - 1);
+                return removed;
+            }
+        }
+        return listeners;
+    }
+}
@@ -12,8 +12,10 @@ package com.finalflight.game.gameobjects;
  */
 public abstract class AbstractProjectile extends DestructibleGameObject {
 
+    private static final double DEFAULT_MAX_LIFETIME_SECONDS = 15;
     private final String imageName;
     private final int imageHeight;
+    private int framesAlive;
 
     /**
      * Constructs an {@code AbstractProjectile} with the specified image and initial position.
@@ -52,6 +54,18 @@ public abstract class AbstractProjectile extends DestructibleGameObject {
         this.destroy();
     }
 
+    /**
+     * Reinitialises the projectile at the specified position and restarts its lifetime.
+     *
+     * @param initialXPos the new initial X-coordinate of the projectile.
+     * @param initialYPos the new initial Y-coordinate of the projectile.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        framesAlive = 0;
+    }
+
     /**
      * Updates the position of the projectile. Specific movement behavior
      * should be implemented by subclasses.
@@ -59,6 +73,55 @@ public abstract class AbstractProjectile extends DestructibleGameObject {
     @Override
     public abstract void updatePosition();
 
+    /**
+     * Advances the lifetime of the projectile by one frame.
+     *
+     * @return {@code true} if the projectile has now outlived its maximum lifetime, {@code false} otherwise.
+     */
+    public boolean incrementLifetime() {
+        framesAlive++;
+        return framesAlive > getMaxLifetimeFrames();
+    }
+
+    /**
+     * Retrieves the number of frames the projectile has been alive for.
+     *
+     * @return the number of frames since the projectile was fired.
+     */
+    public int getFramesAlive() {
+        return framesAlive;
+    }
+
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     * Subclasses override this to match how long the projectile takes to cross the screen.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(DEFAULT_MAX_LIFETIME_SECONDS);
+    }
+
+    /**
+     * Retrieves the number of hits the projectile can take before it is destroyed. Most projectiles
+     * are destroyed by their first hit; subclasses that survive several hits override this.
+     *
+     * @return the current health of the projectile.
+     */
+    public int getHealth() {
+        return isDestroyed() ? 0 : 1;
+    }
+
+    /**
+     * Retrieves the distance the projectile may travel before it is destroyed. Projectiles without
+     * a range are only limited by their lifetime and the screen.
+     *
+     * @return the range in pixels, or {@link Double#POSITIVE_INFINITY} if the projectile has no range.
+     */
+    public double getRange() {
+        return Double.POSITIVE_INFINITY;
+    }
+
     /**
      * Retrieves the name of the image representing the projectile.
      *
@@ -1,6 +1,7 @@
 package com.finalflight.game.gameobjects;
 
 import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.audio.VoiceManager;
 
 /**
  * The {@code AdvancedEnemyPlane} class represents a more challenging enemy plane in the game.
@@ -13,16 +14,22 @@ public class AdvancedEnemyPlane extends FighterPlane {
 
     private static final String IMAGE_NAME = "advancedenemyplane.png";
     private static final int IMAGE_HEIGHT = 50;
-    private static final int HORIZONTAL_VELOCITY = -8;
+    private static final double HITBOX_INSET_LEFT = 12;
+    private static final double HITBOX_INSET_TOP = 9;
+    private static final double HITBOX_INSET_RIGHT = 10;
+    private static final double HITBOX_INSET_BOTTOM = 2;
+    private static final int HORIZONTAL_VELOCITY = -160; // Pixels per second
     private static final double PROJECTILE_X_POSITION_OFFSET = -50;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 20;
     private static final int INITIAL_HEALTH = 6;
-    private static final double FIRE_RATE = 0.02;
+    private static final double FIRE_RATE = 0.4; // Average shots per second
     private static final String FIRE_SOUND = "/com/finalflight/game/audio/advancedenemyfire.wav";
     private static final SoundEffectPlayer fireSound = new SoundEffectPlayer(FIRE_SOUND);
 
     static {
         fireSound.setVolume(0.1);
+        fireSound.setPriority(VoiceManager.Priority.ENEMY);
+        fireSound.setPolyphony(3);
     }
 
     /**
@@ -33,6 +40,33 @@ public class AdvancedEnemyPlane extends FighterPlane {
      */
     public AdvancedEnemyPlane(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+    }
+
+    /**
+     * Overloaded constructor for testing and benchmarking purposes (skips image loading).
+     *
+     * @param initialXPos      the initial X position of the plane.
+     * @param initialYPos      the initial Y position of the plane.
+     * @param skipImageLoading {@code true} to skip image loading, {@code false} otherwise.
+     */
+    public AdvancedEnemyPlane(double initialXPos, double initialYPos, boolean skipImageLoading) {
+        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH, skipImageLoading);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+    }
+
+    /**
+     * Obtains an {@code AdvancedEnemyPlane} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialXPos the initial X position of the plane.
+     * @param initialYPos the initial Y position of the plane.
+     * @return an {@code AdvancedEnemyPlane} ready to be added to the scene.
+     */
+    public static AdvancedEnemyPlane obtain(double initialXPos, double initialYPos) {
+        AdvancedEnemyPlane enemyPlane = GameObjectPools.getInstance()
+                .getPool(AdvancedEnemyPlane.class, () -> new AdvancedEnemyPlane(0, 0)).acquire();
+        enemyPlane.reset(initialXPos, initialYPos);
+        return enemyPlane;
     }
 
     /**
@@ -40,7 +74,7 @@ public class AdvancedEnemyPlane extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY); // Faster movement
+        moveHorizontally(SimulationRate.perStep(HORIZONTAL_VELOCITY)); // Faster movement
     }
 
     /**
@@ -50,11 +84,11 @@ public class AdvancedEnemyPlane extends FighterPlane {
      */
     @Override
     public DestructibleGameObject fireProjectile() {
-        if (randomSupplier.get() < FIRE_RATE) {
+        if (randomSupplier.getAsDouble() < SimulationRate.perStep(FIRE_RATE)) {
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
             fireSound.playSound();
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return EnemyProjectile.obtain(projectileXPosition, projectileYPosition);
         }
         return null;
     }
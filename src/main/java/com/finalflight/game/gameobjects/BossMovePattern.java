@@ -0,0 +1,120 @@
+package com.finalflight.game.gameobjects;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * The {@code BossMovePattern} class is the sequence of vertical moves a {@link BossPlane} cycles through:
+ * moving up, moving down and holding still, each repeated a number of times, in a shuffled order. Each
+ * move is held for a number of frames, after which the pattern is shuffled again and the next move is
+ * taken.
+ *
+ * <p>The moves are kept in an {@code int} array that is filled and shuffled in place, so moving,
+ * reshuffling and changing speed do not allocate. The shuffle draws from a source passed in by the
+ * plane, so a plane using a seeded source repeats the same moves.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/BossMovePattern.java</p>
+ */
+public final class BossMovePattern {
+
+    private final int[] moves;
+    private final int framesPerMove;
+    private int indexOfCurrentMove;
+    private int framesOnCurrentMove;
+
+    /**
+     * Constructs a {@code BossMovePattern} holding each of the three moves the specified number of times.
+     * The pattern is unordered until it is first given a velocity.
+     *
+     * @param movesPerDirection the number of times each move appears in the pattern.
+     * @param framesPerMove     the number of frames each move is held for.
+     */
+    public BossMovePattern(int movesPerDirection, int framesPerMove) {
+        this.moves = new int[movesPerDirection * 3];
+        this.framesPerMove = framesPerMove;
+    }
+
+    /**
+     * Sets the speed of the moves, then shuffles the pattern. The pattern is filled in the same order
+     * for every speed before it is shuffled, so the shuffled order only depends on the random source.
+     *
+     * @param velocity the speed when moving up or down, in pixels per second.
+     * @param random   the source of random values, between 0 (inclusive) and 1 (exclusive).
+     */
+    public void setVelocity(int velocity, DoubleSupplier random) {
+        for (int i = 0; i < moves.length; i += 3) {
+            moves[i] = velocity;
+            moves[i + 1] = -velocity;
+            moves[i + 2] = 0;
+        }
+        shuffle(random);
+    }
+
+    /**
+     * Retrieves the move for the current frame, as a vertical speed in pixels per second. Once a move
+     * has been held for its frames, the pattern is shuffled and the next move is taken.
+     *
+     * @param random the source of random values, between 0 (inclusive) and 1 (exclusive).
+     * @return the vertical move of the frame.
+     */
+    public int nextMove(DoubleSupplier random) {
+        int currentMove = moves[indexOfCurrentMove];
+        framesOnCurrentMove++;
+        if (framesOnCurrentMove == framesPerMove) {
+            shuffle(random);
+            framesOnCurrentMove = 0;
+            indexOfCurrentMove++;
+        }
+        if (indexOfCurrentMove == moves.length) {
+            indexOfCurrentMove = 0;
+        }
+        return currentMove;
+    }
+
+    /**
+     * Shuffles the moves in place with the Fisher-Yates algorithm.
+     *
+     * @param random the source of random values, between 0 (inclusive) and 1 (exclusive).
+     */
+    private void shuffle(DoubleSupplier random) {
+        for (int i = moves.length - 1; i > 0; i--) {
+            int j = (int) (random.getAsDouble() * (i + 1));
+            int move = moves[i];
+            moves[i] = moves[j];
+            moves[j] = move;
+        }
+    }
+
+    /**
+     * Checks whether the pattern contains a move.
+     *
+     * @param move the vertical move.
+     * @return {@code true} if the move is part of the pattern.
+     */
+    public boolean contains(int move) {
+        for (int candidate : moves) {
+            if (candidate == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves a move of the pattern.
+     *
+     * @param index the position of the move in the pattern.
+     * @return the vertical move.
+     */
+    public int get(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Retrieves the number of moves in the pattern.
+     *
+     * @return the length of the pattern.
+     */
+    public int size() {
+        return moves.length;
+    }
+}
@@ -0,0 +1,104 @@
+package com.finalflight.game.gameobjects;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The {@code BossPhaseScript} class describes how a {@link BossPlane} changes as it loses health. A script
+ * is a list of phases, each starting once the health of the boss falls to a fraction of its maximum,
+ * and each raising the shield, enraging the boss, or both. The boss walks through the phases as a small
+ * state machine: the state is the index of the next phase and the number of shields still owed, and
+ * it advances when the health of the boss falls to the start of the next phase.
+ *
+ * <p>A shield owed by a phase is raised once any earlier shield is down, so a boss raises the shield
+ * of each phase in turn. Enraging takes effect as soon as its phase starts and makes the boss move
+ * faster and fire more often for the rest of the fight.</p>
+ *
+ * <p>A script is immutable, with its phases kept in arrays ordered from the highest health down, so
+ * any number of bosses can share one.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/BossPhaseScript.java</p>
+ */
+public final class BossPhaseScript {
+
+    /**
+     * The script of the original boss: shields at 50% and 20% health, and enraged from 20% health.
+     */
+    public static final BossPhaseScript STANDARD = new BossPhaseScript(List.of(
+            new Phase(0.5, true, false),
+            new Phase(0.2, true, true)));
+
+    private final double[] healthFractions;
+    private final boolean[] shields;
+    private final boolean[] enrages;
+
+    /**
+     * A phase of a script.
+     *
+     * @param healthFraction the fraction of its maximum health the boss is at or below when the phase starts.
+     * @param shield         {@code true} if the boss raises its shield when the phase starts.
+     * @param enrage         {@code true} if the boss is enraged from the start of the phase.
+     */
+    public record Phase(double healthFraction, boolean shield, boolean enrage) {
+    }
+
+    /**
+     * Constructs a {@code BossPhaseScript} from its phases.
+     *
+     * @param phases the phases, in any order.
+     */
+    public BossPhaseScript(List<Phase> phases) {
+        List<Phase> sortedPhases = new ArrayList<>(phases);
+        sortedPhases.sort(Comparator.comparingDouble(Phase::healthFraction).reversed());
+        this.healthFractions = new double[sortedPhases.size()];
+        this.shields = new boolean[sortedPhases.size()];
+        this.enrages = new boolean[sortedPhases.size()];
+        for (int i = 0; i < sortedPhases.size(); i++) {
+            healthFractions[i] = sortedPhases.get(i).healthFraction();
+            shields[i] = sortedPhases.get(i).shield();
+            enrages[i] = sortedPhases.get(i).enrage();
+        }
+    }
+
+    /**
+     * Retrieves the number of phases of the script.
+     *
+     * @return the number of phases.
+     */
+    public int getPhaseCount() {
+        return healthFractions.length;
+    }
+
+    /**
+     * Checks whether a phase has started.
+     *
+     * @param phase     the index of the phase, from the highest health down.
+     * @param health    the current health of the boss.
+     * @param maxHealth the maximum health of the boss.
+     * @return {@code true} if the health of the boss has fallen to the start of the phase.
+     */
+    public boolean isReached(int phase, int health, int maxHealth) {
+        return health <= maxHealth * healthFractions[phase];
+    }
+
+    /**
+     * Checks whether a phase raises the shield of the boss.
+     *
+     * @param phase the index of the phase, from the highest health down.
+     * @return {@code true} if the boss raises its shield when the phase starts.
+     */
+    public boolean raisesShield(int phase) {
+        return shields[phase];
+    }
+
+    /**
+     * Checks whether a phase enrages the boss.
+     *
+     * @param phase the index of the phase, from the highest health down.
+     * @return {@code true} if the boss is enraged from the start of the phase.
+     */
+    public boolean enrages(int phase) {
+        return enrages[phase];
+    }
+}
@@ -1,16 +1,20 @@
 package com.finalflight.game.gameobjects;
 
 import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.audio.VoiceManager;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.DoubleSupplier;
 
 /**
  * The {@code BossPlane} class represents the final and most powerful enemy plane in the game.
  * It extends {@link FighterPlane} and features advanced behaviors such as shields, move patterns,
  * and the ability to boost its fire rate and movement speed when health is low.
  *
+ * <p>Its moves come from a {@link BossMovePattern} and when it raises its shield or is enraged from
+ * a {@link BossPhaseScript}, {@link BossPhaseScript#STANDARD} unless another script is given. Both
+ * draw from the plane's random source, so a boss given a seeded source behaves the same on every
+ * run, and neither allocates while the boss flies.</p>
+ *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/BossPlane.java</p>
  */
 public class BossPlane extends FighterPlane {
@@ -21,27 +25,29 @@ public class BossPlane extends FighterPlane {
     private static final double INITIAL_X_POSITION = 1150.0;
     private static final double INITIAL_Y_POSITION = 400;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 45;
-    private static final double BOSS_FIRE_RATE = 0.04;
-    private static final double INCREASED_FIRE_RATE = 0.08;
+    private static final double BOSS_FIRE_RATE = 0.8; // Average shots per second
+    private static final double INCREASED_FIRE_RATE = 1.6;
     private static final int IMAGE_HEIGHT = 130;
-    private static final int VERTICAL_VELOCITY = 8;
-    private static final int INCREASED_VERTICAL_VELOCITY = 12;
+    private static final double HITBOX_INSET_LEFT = 46;
+    private static final double HITBOX_INSET_TOP = 42;
+    private static final double HITBOX_INSET_RIGHT = 20;
+    private static final double HITBOX_INSET_BOTTOM = 6;
+    private static final int VERTICAL_VELOCITY = 160; // Pixels per second
+    private static final int INCREASED_VERTICAL_VELOCITY = 240;
     private static final int HEALTH = 100;
     private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-    private static final int ZERO = 0;
-    private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
+    private static final double MAX_SECONDS_WITH_SAME_MOVE = 0.5;
     private static final int Y_POSITION_UPPER_BOUND = -50;
     private static final int Y_POSITION_LOWER_BOUND = 700;
-    private static final int MAX_FRAMES_WITH_SHIELD = 250;
-    private final List<Integer> movePattern;
+    private static final double MAX_SECONDS_WITH_SHIELD = 12.5;
+    private final BossMovePattern movePattern;
+    private final BossPhaseScript phaseScript;
     private final SoundEffectPlayer fireSound;
     private final SoundEffectPlayer shieldActivateSound;
     private boolean isShielded;
-    private boolean shieldActivatedAt50;
-    private boolean shieldActivatedAt20;
     private boolean fireRateAndSpeedBoosted;
-    private int consecutiveMovesInSameDirection;
-    private int indexOfCurrentMove;
+    private int nextPhase;
+    private int pendingShields;
     private int framesWithShieldActivated;
 
     /**
@@ -49,22 +55,48 @@ public class BossPlane extends FighterPlane {
      * and firing sound.
      */
     public BossPlane() {
+        this(null);
+    }
+
+    /**
+     * Constructs a {@code BossPlane} that draws the random numbers for shuffling its moves and firing
+     * from the specified source.
+     *
+     * @param randomSupplier the source of random values, or {@code null} to use the default source.
+     */
+    public BossPlane(DoubleSupplier randomSupplier) {
+        this(randomSupplier, BossPhaseScript.STANDARD);
+    }
+
+    /**
+     * Constructs a {@code BossPlane} that draws its random numbers from the specified source and goes
+     * through the phases of the specified script.
+     *
+     * @param randomSupplier the source of random values, or {@code null} to use the default source.
+     * @param phaseScript    the phases the boss goes through as it loses health.
+     */
+    public BossPlane(DoubleSupplier randomSupplier, BossPhaseScript phaseScript) {
         super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-        movePattern = new ArrayList<>();
-        consecutiveMovesInSameDirection = 0;
-        indexOfCurrentMove = 0;
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+        if (randomSupplier != null) {
+            setRandomSupplier(randomSupplier);
+        }
+        this.phaseScript = phaseScript;
+        movePattern = new BossMovePattern(MOVE_FREQUENCY_PER_CYCLE, SimulationRate.steps(MAX_SECONDS_WITH_SAME_MOVE));
+        nextPhase = 0;
+        pendingShields = 0;
         framesWithShieldActivated = 0;
         isShielded = false;
-        shieldActivatedAt50 = false;
-        shieldActivatedAt20 = false;
         fireRateAndSpeedBoosted = false;
-        initializeMovePattern();
+        movePattern.setVelocity(VERTICAL_VELOCITY, this.randomSupplier);
 
         shieldActivateSound = new SoundEffectPlayer(SHIELD_ACTIVATE_SOUND);
         shieldActivateSound.setVolume(0.6);
+        shieldActivateSound.setPriority(VoiceManager.Priority.BOSS);
 
         fireSound = new SoundEffectPlayer(BOSS_FIRE_SOUND);
         fireSound.setVolume(0.1);
+        fireSound.setPriority(VoiceManager.Priority.BOSS);
     }
 
     /**
@@ -73,22 +105,22 @@ public class BossPlane extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        double initialTranslateY = getTranslateY();
-        moveVertically(getNextMove());
-        double currentPosition = getLayoutY() + getTranslateY();
+        double initialOffsetY = getEntity().getOffsetY();
+        moveVertically(SimulationRate.perStep(movePattern.nextMove(randomSupplier)));
+        double currentPosition = getEntity().getY();
         if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-            setTranslateY(initialTranslateY);
+            getEntity().setOffsetY(initialOffsetY);
         }
     }
 
     /**
-     * Handles the boss plane's updates, including position, shield status, and boosted attributes.
+     * Handles the boss plane's updates, including position, the phases of its script, and shield status.
      */
     @Override
     public void updateActor() {
         updatePosition();
+        startReachedPhases();
         updateShield();
-        checkAndApplyBoosts();
     }
 
     /**
@@ -100,7 +132,7 @@ public class BossPlane extends FighterPlane {
     public DestructibleGameObject fireProjectile() {
         if (bossFiresInCurrentFrame()) {
             fireSound.playSound();
-            return new BossProjectile(getProjectileInitialPosition());
+            return BossProjectile.obtain(getProjectileInitialPosition());
         }
         return null;
     }
@@ -116,60 +148,32 @@ public class BossPlane extends FighterPlane {
     }
 
     /**
-     * Initializes the movement pattern for the boss plane with a sequence of vertical movements
-     * (up, down, and stationary). The pattern is shuffled to introduce randomness.
-     */
-    private void initializeMovePattern() {
-        for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-            movePattern.add(VERTICAL_VELOCITY);
-            movePattern.add(-VERTICAL_VELOCITY);
-            movePattern.add(ZERO);
-        }
-        Collections.shuffle(movePattern);
-    }
-
-    /**
-     * Updates the shield status of the boss plane. Activates the shield if necessary,
-     * increments the duration while the shield is active, and deactivates the shield
-     * if its duration has expired.
+     * Updates the shield status of the boss plane. Increments the duration while the shield is active,
+     * otherwise raises a shield owed by a phase of the script, and deactivates the shield if its
+     * duration has expired.
      */
     private void updateShield() {
         if (isShielded) framesWithShieldActivated++;
-        else if (shieldShouldBeActivated()) activateShield();
+        else if (pendingShields > 0) activateShield();
         if (shieldExhausted()) deactivateShield();
     }
 
     /**
-     * Checks the boss plane's health and applies boosts to its fire rate and movement speed
-     * if the health falls below a critical threshold (20% of the maximum health).
-     */
-    private void checkAndApplyBoosts() {
-        // Apply fire rate and speed boost if health is 20% or below
-        if (!fireRateAndSpeedBoosted && getHealth() <= HEALTH * 0.2) {
-            fireRateAndSpeedBoosted = true;
-            increaseFireRateAndMovementSpeed();
-        }
-    }
-
-    /**
-     * Determines the next vertical movement for the boss plane based on its current movement pattern.
-     * Ensures the plane does not repeatedly move in the same direction for too long and reshuffles
-     * the pattern as needed.
-     *
-     * @return the next vertical movement value from the movement pattern.
+     * Starts the phases of the script whose health the boss has fallen to, in order. Enraging takes
+     * effect at once, while the shield of each phase is owed until the shield is down, so each
+     * phase's shield is raised in turn.
      */
-    private int getNextMove() {
-        int currentMove = movePattern.get(indexOfCurrentMove);
-        consecutiveMovesInSameDirection++;
-        if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
-            consecutiveMovesInSameDirection = 0;
-            indexOfCurrentMove++;
-        }
-        if (indexOfCurrentMove == movePattern.size()) {
-            indexOfCurrentMove = 0;
+    private void startReachedPhases() {
+        while (nextPhase < phaseScript.getPhaseCount() && phaseScript.isReached(nextPhase, getHealth(), getMaxHealth())) {
+            if (phaseScript.raisesShield(nextPhase)) {
+                pendingShields++;
+            }
+            if (phaseScript.enrages(nextPhase) && !fireRateAndSpeedBoosted) {
+                fireRateAndSpeedBoosted = true;
+                increaseFireRateAndMovementSpeed();
+            }
+            nextPhase++;
         }
-        return currentMove;
     }
 
     /**
@@ -180,7 +184,7 @@ public class BossPlane extends FighterPlane {
      */
     private boolean bossFiresInCurrentFrame() {
         double currentFireRate = fireRateAndSpeedBoosted ? INCREASED_FIRE_RATE : BOSS_FIRE_RATE;
-        return Math.random() < currentFireRate;
+        return randomSupplier.getAsDouble() < SimulationRate.perStep(currentFireRate);
     }
 
     /**
@@ -189,41 +193,16 @@ public class BossPlane extends FighterPlane {
      * @return the Y-coordinate for the projectile's starting position.
      */
     private double getProjectileInitialPosition() {
-        return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+        return getEntity().getY() + PROJECTILE_Y_POSITION_OFFSET;
     }
 
     /**
-     * Boosts the boss plane's fire rate and movement speed by reinitializing its movement pattern
-     * with increased velocity values. This boost is applied when the boss plane's health
-     * drops below a critical threshold.
+     * Boosts the boss plane's fire rate and movement speed by refilling its movement pattern, in
+     * place, with increased velocity values. This boost is applied when the boss is enraged by
+     * a phase of its script.
      */
     private void increaseFireRateAndMovementSpeed() {
-        movePattern.clear(); // Reinitialize move pattern with increased speed
-        for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-            movePattern.add(INCREASED_VERTICAL_VELOCITY);
-            movePattern.add(-INCREASED_VERTICAL_VELOCITY);
-            movePattern.add(ZERO);
-        }
-        Collections.shuffle(movePattern);
-    }
-
-    /**
-     * Checks if the boss plane's shield should be activated based on its current health.
-     * The shield is activated at 50% and 20% health thresholds, and each threshold is triggered only once.
-     *
-     * @return {@code true} if the shield should be activated; {@code false} otherwise.
-     */
-    private boolean shieldShouldBeActivated() {
-        int currentHealth = getHealth();
-        if (!shieldActivatedAt50 && currentHealth <= HEALTH * 0.5) {
-            shieldActivatedAt50 = true;
-            return true;
-        }
-        if (!shieldActivatedAt20 && currentHealth <= HEALTH * 0.2) {
-            shieldActivatedAt20 = true;
-            return true;
-        }
-        return false;
+        movePattern.setVelocity(INCREASED_VERTICAL_VELOCITY, randomSupplier);
     }
 
     /**
@@ -232,7 +211,7 @@ public class BossPlane extends FighterPlane {
      * @return {@code true} if the shield has been active for the maximum duration; {@code false} otherwise.
      */
     private boolean shieldExhausted() {
-        return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+        return framesWithShieldActivated >= SimulationRate.steps(MAX_SECONDS_WITH_SHIELD);
     }
 
     /**
@@ -240,8 +219,12 @@ public class BossPlane extends FighterPlane {
      * Plays a sound effect to indicate shield activation.
      */
     private void activateShield() {
+        pendingShields--;
         isShielded = true;
         shieldActivateSound.playSound();
+        if (getEventBus() != null) {
+            getEventBus().publishBossShieldUp(this);
+        }
     }
 
     /**
@@ -262,13 +245,23 @@ public class BossPlane extends FighterPlane {
         return isShielded;
     }
 
+    /**
+     * Checks whether the boss plane has been enraged by a phase of its script, moving faster and
+     * firing more often.
+     *
+     * @return {@code true} if the boss is enraged.
+     */
+    public boolean isEnraged() {
+        return fireRateAndSpeedBoosted;
+    }
+
     /**
      * Retrieves the current movement pattern of the boss plane. The pattern defines the sequence
      * of vertical movements (up, down, and stationary) for the plane.
      *
-     * @return a {@link List} of integers representing the movement pattern.
+     * @return the {@link BossMovePattern} of the plane.
      */
-    public List<Integer> getMovePattern() {
+    public BossMovePattern getMovePattern() {
         return movePattern;
     }
 }
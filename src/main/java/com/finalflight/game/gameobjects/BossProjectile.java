@@ -12,7 +12,13 @@ public class BossProjectile extends AbstractProjectile {
 
     private static final String IMAGE_NAME = "bossfire2.png";
     private static final int IMAGE_HEIGHT = 65;
-    private static final int HORIZONTAL_VELOCITY = -15;
+    // The shot reaches the left and top edges of its sprite, so only the right and bottom are trimmed
+    private static final double HITBOX_INSET_LEFT = 0;
+    private static final double HITBOX_INSET_TOP = 0;
+    private static final double HITBOX_INSET_RIGHT = 7;
+    private static final double HITBOX_INSET_BOTTOM = 1;
+    private static final double MAX_LIFETIME_SECONDS = 7.5;
+    private static final int HORIZONTAL_VELOCITY = -300; // Pixels per second
     private static final int INITIAL_X_POSITION = 1020;
 
     /**
@@ -22,6 +28,21 @@ public class BossProjectile extends AbstractProjectile {
      */
     public BossProjectile(double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+    }
+
+    /**
+     * Obtains a {@code BossProjectile} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialYPos the initial Y-coordinate of the projectile.
+     * @return a {@code BossProjectile} ready to be added to the scene.
+     */
+    public static BossProjectile obtain(double initialYPos) {
+        BossProjectile projectile = GameObjectPools.getInstance()
+                .getPool(BossProjectile.class, () -> new BossProjectile(0)).acquire();
+        projectile.reset(INITIAL_X_POSITION, initialYPos);
+        return projectile;
     }
 
     /**
@@ -29,7 +50,7 @@ public class BossProjectile extends AbstractProjectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        getEntity().step();
     }
 
     /**
@@ -41,4 +62,14 @@ public class BossProjectile extends AbstractProjectile {
         updatePosition();
     }
 
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    @Override
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(MAX_LIFETIME_SECONDS);
+    }
+
 }
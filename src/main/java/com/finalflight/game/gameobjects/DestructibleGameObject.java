@@ -10,6 +10,8 @@ package com.finalflight.game.gameobjects;
 public abstract class DestructibleGameObject extends GameObject implements Destructible {
 
     private boolean isDestroyed;
+    private boolean isPooled;
+    private GameObjectPool<?> owningPool;
 
     /**
      * Constructs a destructible game object with the specified properties.
@@ -38,6 +40,18 @@ public abstract class DestructibleGameObject extends GameObject implements Destr
         isDestroyed = false;
     }
 
+    /**
+     * Reinitialises the game object at the specified position and marks it as no longer destroyed.
+     *
+     * @param initialXPos  the new initial X position of the game object.
+     * @param initialYPos  the new initial Y position of the game object.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        isDestroyed = false;
+    }
+
     /**
      * Updates the position of the destructible game object. Must be implemented by subclasses.
      */
@@ -49,6 +63,13 @@ public abstract class DestructibleGameObject extends GameObject implements Destr
      */
     public abstract void updateActor();
 
+    /**
+     * Advances the timed effects of the game object, such as the flash of a hit, by one step of the
+     * game loop. Does nothing by default.
+     */
+    public void tickEffects() {
+    }
+
     /**
      * Applies damage to the game object. Implementation determines how damage affects the object.
      */
@@ -79,4 +100,40 @@ public abstract class DestructibleGameObject extends GameObject implements Destr
         return isDestroyed;
     }
 
+    /**
+     * Checks if the object is currently waiting in a {@link GameObjectPool}.
+     *
+     * @return {@code true} if the object is pooled, {@code false} otherwise.
+     */
+    boolean isPooled() {
+        return isPooled;
+    }
+
+    /**
+     * Sets whether the object is currently waiting in a {@link GameObjectPool}.
+     *
+     * @param isPooled {@code true} if the object has been returned to a pool, {@code false} otherwise.
+     */
+    void setPooled(boolean isPooled) {
+        this.isPooled = isPooled;
+    }
+
+    /**
+     * Retrieves the pool that created the object, which is the only pool that accepts it back.
+     *
+     * @return the owning pool, or {@code null} if the object was constructed directly.
+     */
+    GameObjectPool<?> getOwningPool() {
+        return owningPool;
+    }
+
+    /**
+     * Sets the pool that created the object.
+     *
+     * @param owningPool the pool that created the object.
+     */
+    void setOwningPool(GameObjectPool<?> owningPool) {
+        this.owningPool = owningPool;
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.finalflight.game.gameobjects;
 
 import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.audio.VoiceManager;
 
 /**
  * The {@code EnemyPlane} class represents a basic enemy fighter plane in the game.
@@ -13,15 +14,21 @@ public class EnemyPlane extends FighterPlane {
     private static final String ENEMY_FIRE_SOUND = "/com/finalflight/game/audio/enemyfire.wav";
     private static final String IMAGE_NAME = "enemyplane.png";
     private static final int IMAGE_HEIGHT = 40;
-    private static final int HORIZONTAL_VELOCITY = -6;
+    private static final double HITBOX_INSET_LEFT = 8;
+    private static final double HITBOX_INSET_TOP = 14;
+    private static final double HITBOX_INSET_RIGHT = 9;
+    private static final double HITBOX_INSET_BOTTOM = 2;
+    private static final int HORIZONTAL_VELOCITY = -120; // Pixels per second
     private static final double PROJECTILE_X_POSITION_OFFSET = -40;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 18;
     private static final int INITIAL_HEALTH = 3;
-    private static final double FIRE_RATE = .01;
+    private static final double FIRE_RATE = 0.2; // Average shots per second
     private static final SoundEffectPlayer fireSound = new SoundEffectPlayer(ENEMY_FIRE_SOUND);
 
     static {
         fireSound.setVolume(0.07);
+        fireSound.setPriority(VoiceManager.Priority.ENEMY);
+        fireSound.setPolyphony(3);
     }
 
     /**
@@ -32,6 +39,33 @@ public class EnemyPlane extends FighterPlane {
      */
     public EnemyPlane(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+    }
+
+    /**
+     * Overloaded constructor for testing and benchmarking purposes (skips image loading).
+     *
+     * @param initialXPos      the initial X position.
+     * @param initialYPos      the initial Y position.
+     * @param skipImageLoading {@code true} to skip image loading, {@code false} otherwise.
+     */
+    public EnemyPlane(double initialXPos, double initialYPos, boolean skipImageLoading) {
+        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH, skipImageLoading);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+    }
+
+    /**
+     * Obtains an {@code EnemyPlane} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialXPos the initial X position.
+     * @param initialYPos the initial Y position.
+     * @return an {@code EnemyPlane} ready to be added to the scene.
+     */
+    public static EnemyPlane obtain(double initialXPos, double initialYPos) {
+        EnemyPlane enemyPlane = GameObjectPools.getInstance()
+                .getPool(EnemyPlane.class, () -> new EnemyPlane(0, 0)).acquire();
+        enemyPlane.reset(initialXPos, initialYPos);
+        return enemyPlane;
     }
 
     /**
@@ -39,7 +73,7 @@ public class EnemyPlane extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        moveHorizontally(SimulationRate.perStep(HORIZONTAL_VELOCITY));
     }
 
     /**
@@ -49,11 +83,11 @@ public class EnemyPlane extends FighterPlane {
      */
     @Override
     public DestructibleGameObject fireProjectile() {
-        if (randomSupplier.get() < FIRE_RATE) {
+        if (randomSupplier.getAsDouble() < SimulationRate.perStep(FIRE_RATE)) {
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
             fireSound.playSound();
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return EnemyProjectile.obtain(projectileXPosition, projectileYPosition);
         }
         return null;
     }
@@ -14,7 +14,8 @@ public class EnemyProjectile extends AbstractProjectile {
 
     private static final String IMAGE_NAME = "enemyfire.png";
     private static final int IMAGE_HEIGHT = 16;
-    private static final int HORIZONTAL_VELOCITY = -10;
+    private static final double MAX_LIFETIME_SECONDS = 10;
+    private static final int HORIZONTAL_VELOCITY = -200; // Pixels per second
 
     /**
      * Constructs an {@code EnemyProjectile} with a predefined image and velocity,
@@ -25,6 +26,33 @@ public class EnemyProjectile extends AbstractProjectile {
      */
     public EnemyProjectile(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+    }
+
+    /**
+     * Overloaded constructor for testing and benchmarking purposes (skips image loading).
+     *
+     * @param initialXPos      the initial X-coordinate of the projectile.
+     * @param initialYPos      the initial Y-coordinate of the projectile.
+     * @param skipImageLoading {@code true} to skip image loading, {@code false} otherwise.
+     */
+    public EnemyProjectile(double initialXPos, double initialYPos, boolean skipImageLoading) {
+        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, skipImageLoading);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+    }
+
+    /**
+     * Obtains an {@code EnemyProjectile} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialXPos the initial X-coordinate of the projectile.
+     * @param initialYPos the initial Y-coordinate of the projectile.
+     * @return an {@code EnemyProjectile} ready to be added to the scene.
+     */
+    public static EnemyProjectile obtain(double initialXPos, double initialYPos) {
+        EnemyProjectile projectile = GameObjectPools.getInstance()
+                .getPool(EnemyProjectile.class, () -> new EnemyProjectile(0, 0)).acquire();
+        projectile.reset(initialXPos, initialYPos);
+        return projectile;
     }
 
     /**
@@ -33,7 +61,7 @@ public class EnemyProjectile extends AbstractProjectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        getEntity().step();
     }
 
     /**
@@ -45,4 +73,14 @@ public class EnemyProjectile extends AbstractProjectile {
         updatePosition();
     }
 
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    @Override
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(MAX_LIFETIME_SECONDS);
+    }
+
 }
@@ -0,0 +1,372 @@
+package com.finalflight.game.gameobjects;
+
+/**
+ * The {@code Entity} class is the plain-Java simulation state of a {@link GameObject}. It holds the
+ * position, velocity and hitbox of the game object in primitive fields, so the game can be advanced
+ * without touching any JavaFX properties and without the JavaFX toolkit running.
+ *
+ * <p>The position is stored as an origin, where the game object was spawned, plus an offset moved
+ * since then. This mirrors the layout and translate properties of the {@link javafx.scene.image.ImageView}
+ * that displays the entity, which is synchronised from the entity once per frame by
+ * {@link GameObject#syncView()}.</p>
+ *
+ * <p>The velocity is stored in pixels per second, and each {@link #step()} moves the entity by the
+ * share of it that falls in one simulation step, so the entity covers the same distance per second at
+ * any tick rate.</p>
+ *
+ * <p>The offset at the start of the current simulation step is kept as well, so the view can be
+ * drawn at an interpolated position between the last two simulation states.</p>
+ *
+ * <p>The hitbox is the size the sprite is displayed at, shrunk by per-type insets that trim the
+ * transparent margins around the sprite. Its edges are cached and only recomputed when the entity
+ * moves, so collision checks read four fields instead of recomputing the bounds of the view.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/Entity.java</p>
+ */
+public final class Entity {
+
+    private double originX;
+    private double originY;
+    private double offsetX;
+    private double offsetY;
+    private double previousOffsetX;
+    private double previousOffsetY;
+    private double velocityX;
+    private double velocityY;
+    private final double width;
+    private final double height;
+    private double insetLeft;
+    private double insetTop;
+    private double insetRight;
+    private double insetBottom;
+
+    // Hitbox edges, recomputed by updateHitbox() whenever the position or insets change
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+
+    /**
+     * Constructs an {@code Entity} at the specified origin with a sprite of the specified size.
+     * The hitbox covers the whole sprite until insets are set.
+     *
+     * @param originX the X-coordinate the entity is spawned at.
+     * @param originY the Y-coordinate the entity is spawned at.
+     * @param width   the width the sprite is displayed at, in pixels.
+     * @param height  the height the sprite is displayed at, in pixels.
+     */
+    public Entity(double originX, double originY, double width, double height) {
+        this.originX = originX;
+        this.originY = originY;
+        this.width = width;
+        this.height = height;
+        updateHitbox();
+    }
+
+    /**
+     * Shrinks the hitbox inside the sprite by the specified margins, so transparent edges of the
+     * sprite do not count as hits. Negative insets grow the hitbox beyond the sprite.
+     *
+     * <p>Game objects set their insets once, from the {@code HITBOX_INSET_*} constants of their class.
+     * The insets are the transparent margins of the sprite, in pixels at the size the sprite is
+     * displayed at: the rows and columns at each edge that are less than 15% opaque. The thin shots of
+     * the user and enemies set no insets and keep the whole sprite as their hitbox.</p>
+     *
+     * @param left   the margin trimmed from the left edge, in pixels.
+     * @param top    the margin trimmed from the top edge, in pixels.
+     * @param right  the margin trimmed from the right edge, in pixels.
+     * @param bottom the margin trimmed from the bottom edge, in pixels.
+     * @throws IllegalArgumentException if the insets leave a hitbox of negative size.
+     */
+    public void setHitboxInsets(double left, double top, double right, double bottom) {
+        if (left + right > width || top + bottom > height) {
+            throw new IllegalArgumentException("Hitbox insets are larger than the sprite");
+        }
+        this.insetLeft = left;
+        this.insetTop = top;
+        this.insetRight = right;
+        this.insetBottom = bottom;
+        updateHitbox();
+    }
+
+    /**
+     * Recomputes the cached edges of the hitbox from the position and insets of the entity.
+     */
+    private void updateHitbox() {
+        minX = originX + offsetX + insetLeft;
+        minY = originY + offsetY + insetTop;
+        maxX = originX + offsetX + width - insetRight;
+        maxY = originY + offsetY + height - insetBottom;
+    }
+
+    /**
+     * Moves the entity back to a new origin and clears its offset, keeping its velocity.
+     *
+     * @param originX the X-coordinate the entity is respawned at.
+     * @param originY the Y-coordinate the entity is respawned at.
+     */
+    public void reset(double originX, double originY) {
+        this.originX = originX;
+        this.originY = originY;
+        this.offsetX = 0;
+        this.offsetY = 0;
+        this.previousOffsetX = 0;
+        this.previousOffsetY = 0;
+        updateHitbox();
+    }
+
+    /**
+     * Records the current offset as the state at the start of the next simulation step.
+     */
+    public void savePreviousPosition() {
+        previousOffsetX = offsetX;
+        previousOffsetY = offsetY;
+    }
+
+    /**
+     * Retrieves the horizontal offset interpolated between the start and end of the last simulation step.
+     *
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     * @return the interpolated horizontal offset.
+     */
+    public double getInterpolatedOffsetX(double alpha) {
+        return previousOffsetX + (offsetX - previousOffsetX) * alpha;
+    }
+
+    /**
+     * Retrieves the vertical offset interpolated between the start and end of the last simulation step.
+     *
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     * @return the interpolated vertical offset.
+     */
+    public double getInterpolatedOffsetY(double alpha) {
+        return previousOffsetY + (offsetY - previousOffsetY) * alpha;
+    }
+
+    /**
+     * Moves the entity by the specified amount.
+     *
+     * @param deltaX the horizontal displacement.
+     * @param deltaY the vertical displacement.
+     */
+    public void moveBy(double deltaX, double deltaY) {
+        offsetX += deltaX;
+        offsetY += deltaY;
+        updateHitbox();
+    }
+
+    /**
+     * Moves the entity by its velocity for one simulation step, the velocity scaled by the step length
+     * of the {@link SimulationRate}.
+     */
+    public void step() {
+        offsetX += SimulationRate.perStep(velocityX);
+        offsetY += SimulationRate.perStep(velocityY);
+        updateHitbox();
+    }
+
+    /**
+     * Sets the horizontal offset of the entity from its origin.
+     *
+     * @param offsetX the new horizontal offset.
+     */
+    public void setOffsetX(double offsetX) {
+        this.offsetX = offsetX;
+        updateHitbox();
+    }
+
+    /**
+     * Sets the vertical offset of the entity from its origin.
+     *
+     * @param offsetY the new vertical offset.
+     */
+    public void setOffsetY(double offsetY) {
+        this.offsetY = offsetY;
+        updateHitbox();
+    }
+
+    /**
+     * Sets the velocity the entity moves by on each {@link #step()}.
+     *
+     * @param velocityX the horizontal velocity in pixels per second.
+     * @param velocityY the vertical velocity in pixels per second.
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    /**
+     * Checks whether the hitbox of this entity intersects the hitbox of another entity.
+     * Touching edges count as an intersection.
+     *
+     * @param other the other entity.
+     * @return {@code true} if the hitboxes intersect, {@code false} otherwise.
+     */
+    public boolean intersects(Entity other) {
+        return other.maxX >= minX && other.minX <= maxX && other.maxY >= minY && other.minY <= maxY;
+    }
+
+    /**
+     * Retrieves the X-coordinate of the entity.
+     *
+     * @return the origin plus the horizontal offset.
+     */
+    public double getX() {
+        return originX + offsetX;
+    }
+
+    /**
+     * Retrieves the Y-coordinate of the entity.
+     *
+     * @return the origin plus the vertical offset.
+     */
+    public double getY() {
+        return originY + offsetY;
+    }
+
+    /**
+     * Retrieves the X-coordinate the entity was spawned at.
+     *
+     * @return the horizontal origin.
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Retrieves the Y-coordinate the entity was spawned at.
+     *
+     * @return the vertical origin.
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Retrieves the horizontal distance the entity has moved since it was spawned.
+     *
+     * @return the horizontal offset.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Retrieves the vertical distance the entity has moved since it was spawned.
+     *
+     * @return the vertical offset.
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Retrieves the horizontal velocity of the entity.
+     *
+     * @return the horizontal velocity in pixels per second.
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Retrieves the vertical velocity of the entity.
+     *
+     * @return the vertical velocity in pixels per second.
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Retrieves the left edge of the hitbox.
+     *
+     * @return the minimum X-coordinate of the hitbox.
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * Retrieves the top edge of the hitbox.
+     *
+     * @return the minimum Y-coordinate of the hitbox.
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * Retrieves the right edge of the hitbox.
+     *
+     * @return the maximum X-coordinate of the hitbox.
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Retrieves the bottom edge of the hitbox.
+     *
+     * @return the maximum Y-coordinate of the hitbox.
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Retrieves the width of the hitbox.
+     *
+     * @return the hitbox width in pixels.
+     */
+    public double getHitboxWidth() {
+        return width - insetLeft - insetRight;
+    }
+
+    /**
+     * Retrieves the height of the hitbox.
+     *
+     * @return the hitbox height in pixels.
+     */
+    public double getHitboxHeight() {
+        return height - insetTop - insetBottom;
+    }
+
+    /**
+     * Retrieves the margin between the left edge of the sprite and the left edge of the hitbox.
+     *
+     * @return the left inset in pixels.
+     */
+    public double getHitboxInsetLeft() {
+        return insetLeft;
+    }
+
+    /**
+     * Retrieves the margin between the top edge of the sprite and the top edge of the hitbox.
+     *
+     * @return the top inset in pixels.
+     */
+    public double getHitboxInsetTop() {
+        return insetTop;
+    }
+
+    /**
+     * Retrieves the width the sprite of the entity is displayed at.
+     *
+     * @return the sprite width in pixels.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height the sprite of the entity is displayed at.
+     *
+     * @return the sprite height in pixels.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+}
@@ -1,11 +1,10 @@
 package com.finalflight.game.gameobjects;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.finalflight.game.event.GameEventBus;
 import javafx.scene.effect.ColorAdjust;
-import javafx.util.Duration;
 
-import java.util.function.Supplier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
 
 /**
  * The {@code FighterPlane} class represents a general fighter plane in the game.
@@ -14,13 +13,26 @@ import java.util.function.Supplier;
  *
  * <p>Subclasses must implement specific behaviors for updating position and firing projectiles.</p>
  *
+ * <p>A hit makes the plane flash for {@value #HIT_FLASH_SECONDS} seconds, counted in steps of the game
+ * loop by {@link #getHitFlashSteps()}. Every plane shares the same flash effect, and the flash is ended
+ * by counting down the steps in
+ * {@link #tickEffects()}, so a hit allocates nothing and starts no animation of its own.</p>
+ *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/FighterPlane.java</p>
  */
 public abstract class FighterPlane extends DestructibleGameObject {
 
+    /**
+     * The time a hit flash lasts, in seconds.
+     */
+    public static final double HIT_FLASH_SECONDS = 0.2;
+
+    private static final ColorAdjust HIT_FLASH = createHitFlash();
     private int health;
+    private int hitFlashStepsRemaining;
+    private GameEventBus eventBus;
     private final int maxHealth; // Store max health
-    protected Supplier<Double> randomSupplier = Math::random; // Default to Math.random()
+    protected DoubleSupplier randomSupplier = () -> ThreadLocalRandom.current().nextDouble(); // Replaced by the level's seeded stream
 
     /**
      * Constructs a {@code FighterPlane} with the specified attributes.
@@ -61,6 +73,19 @@ public abstract class FighterPlane extends DestructibleGameObject {
      */
     public abstract DestructibleGameObject fireProjectile();
 
+    /**
+     * Reinitialises the fighter plane at the specified position with its maximum health.
+     *
+     * @param initialXPos the new initial X position.
+     * @param initialYPos the new initial Y position.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        health = maxHealth;
+        hitFlashStepsRemaining = 0;
+    }
+
     /**
      * Reduces the health of the fighter plane by 1. If health reaches zero, the plane is destroyed.
      */
@@ -79,32 +104,84 @@ public abstract class FighterPlane extends DestructibleGameObject {
     }
 
     /**
-     * Creates a flash effect on the plane when it takes damage.
+     * Retrieves the number of steps a hit flash lasts at the current tick rate.
+     *
+     * @return the hit flash duration in steps.
      */
-    private void flashOnDamage() {
-        // Create a ColorAdjust effect to create a flash effect
+    public static int getHitFlashSteps() {
+        return SimulationRate.steps(HIT_FLASH_SECONDS);
+    }
+
+    /**
+     * Creates the flash effect shared by every plane that has been hit.
+     *
+     * @return the flash effect.
+     */
+    private static ColorAdjust createHitFlash() {
         ColorAdjust flashEffect = new ColorAdjust();
         flashEffect.setBrightness(0.5);
-        setEffect(flashEffect);
+        return flashEffect;
+    }
 
-        // Timeline to reset the flash after a short duration
-        Timeline flashTimeline = new Timeline(
-                new KeyFrame(Duration.millis(200), event -> setEffect(null)) // Reset effect
-        );
+    /**
+     * Creates a flash effect on the plane when it takes damage. A hit while the plane is already
+     * flashing restarts the flash.
+     */
+    private void flashOnDamage() {
+        hitFlashStepsRemaining = getHitFlashSteps();
+        if (getEffect() != HIT_FLASH) {
+            setEffect(HIT_FLASH);
+        }
+    }
 
-        flashTimeline.setCycleCount(1); // Only flash once
-        flashTimeline.play();
+    /**
+     * Counts down the flash of a hit, removing the flash once it has lasted {@link #getHitFlashSteps()} steps.
+     */
+    @Override
+    public void tickEffects() {
+        if (hitFlashStepsRemaining > 0 && --hitFlashStepsRemaining == 0) {
+            setEffect(null);
+        }
+    }
+
+    /**
+     * Checks whether the plane is flashing from a hit.
+     *
+     * @return {@code true} if the flash of a hit is showing.
+     */
+    public boolean isFlashing() {
+        return hitFlashStepsRemaining > 0;
     }
 
     /**
-     * Allows subclasses to customize the random supplier.
+     * Sets the source of the random numbers, between 0 (inclusive) and 1 (exclusive), the plane uses
+     * to decide its behaviour. Levels pass one of their seeded streams so runs are reproducible.
      *
-     * @param randomSupplier a {@code Supplier<Double>} providing random values.
+     * @param randomSupplier a {@code DoubleSupplier} providing random values.
      */
-    public void setRandomSupplier(Supplier<Double> randomSupplier) {
+    public void setRandomSupplier(DoubleSupplier randomSupplier) {
         this.randomSupplier = randomSupplier;
     }
 
+    /**
+     * Sets the event bus the plane publishes its gameplay events to. The world a plane is added to
+     * sets its own bus.
+     *
+     * @param eventBus the event bus, or {@code null} to publish nothing.
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Retrieves the event bus the plane publishes its gameplay events to.
+     *
+     * @return the event bus, or {@code null} if the plane is not in a world.
+     */
+    protected GameEventBus getEventBus() {
+        return eventBus;
+    }
+
     /**
      * Calculates the X position for a projectile based on the specified offset.
      *
@@ -112,7 +189,7 @@ public abstract class FighterPlane extends DestructibleGameObject {
      * @return the calculated X position.
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset;
+        return getEntity().getX() + xPositionOffset;
     }
 
     /**
@@ -122,7 +199,7 @@ public abstract class FighterPlane extends DestructibleGameObject {
      * @return the calculated Y position.
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset;
+        return getEntity().getY() + yPositionOffset;
     }
 
     /**
@@ -143,6 +220,15 @@ public abstract class FighterPlane extends DestructibleGameObject {
         return health;
     }
 
+    /**
+     * Sets the current health of the fighter plane, up to its maximum health.
+     *
+     * @param health the new health.
+     */
+    protected void setHealth(int health) {
+        this.health = Math.max(0, Math.min(health, maxHealth));
+    }
+
     /**
      * Returns the maximum health of the fighter plane.
      *
@@ -1,11 +1,13 @@
 package com.finalflight.game.gameobjects;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
  * The {@code GameObject} class represents a generic game object in the game world.
  * It extends {@link ImageView} and provides basic properties such as image, position, and size.
+ * Images are shared between game objects through the {@link SpriteCache}.
+ * The position and hitbox of the game object are simulated on its {@link Entity}, and the
+ * {@link ImageView} is only a view of that entity, updated once per frame by {@link #syncView()}.
  * This class is designed to be subclassed for specific game object behavior.
  *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/GameObject.java</p>
@@ -13,6 +15,7 @@ import javafx.scene.image.ImageView;
 public abstract class GameObject extends ImageView {
 
     private static final String IMAGE_LOCATION = "/com/finalflight/game/images/";
+    private final Entity entity;
 
     /**
      * Constructs a {@code GameObject} with the specified image, size, and position.
@@ -23,11 +26,11 @@ public abstract class GameObject extends ImageView {
      * @param initialYPos  the initial Y position of the game object.
      */
     public GameObject(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-        this.setLayoutX(initialXPos);
-        this.setLayoutY(initialYPos);
+        this.setImage(SpriteCache.getInstance().getImage(IMAGE_LOCATION + imageName, imageHeight));
+        this.entity = createEntity(imageName, imageHeight, initialXPos, initialYPos);
         this.setFitHeight(imageHeight);
         this.setPreserveRatio(true);
+        syncView();
     }
 
     /**
@@ -41,12 +44,73 @@ public abstract class GameObject extends ImageView {
      */
     public GameObject(String imageName, int imageHeight, double initialXPos, double initialYPos, boolean skipImageLoading) {
         if (!skipImageLoading) {
-            this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+            this.setImage(SpriteCache.getInstance().getImage(IMAGE_LOCATION + imageName, imageHeight));
         }
-        this.setLayoutX(initialXPos);
-        this.setLayoutY(initialYPos);
+        this.entity = createEntity(imageName, imageHeight, initialXPos, initialYPos);
         this.setFitHeight(imageHeight);
         this.setPreserveRatio(true);
+        syncView();
+    }
+
+    /**
+     * Creates the entity of the game object, sized to match the image as it is displayed.
+     *
+     * @param imageName    the name of the image file for the game object.
+     * @param imageHeight  the height of the image in pixels.
+     * @param initialXPos  the initial X position of the game object.
+     * @param initialYPos  the initial Y position of the game object.
+     * @return the new {@link Entity}.
+     */
+    private static Entity createEntity(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+        double aspectRatio = SpriteCache.getInstance().getAspectRatio(IMAGE_LOCATION + imageName);
+        return new Entity(initialXPos, initialYPos, imageHeight * aspectRatio, imageHeight);
+    }
+
+    /**
+     * Reinitialises the game object at the specified position so it can be reused, clearing any
+     * movement, effect and transforms applied since it was created.
+     *
+     * @param initialXPos  the new initial X position of the game object.
+     * @param initialYPos  the new initial Y position of the game object.
+     */
+    protected void reset(double initialXPos, double initialYPos) {
+        entity.reset(initialXPos, initialYPos);
+        this.setEffect(null);
+        this.getTransforms().clear();
+        syncView();
+    }
+
+    /**
+     * Copies the position of the entity to the layout and translate properties of the view.
+     * Properties whose value has not changed do not fire invalidation events.
+     */
+    public void syncView() {
+        this.setLayoutX(entity.getOriginX());
+        this.setLayoutY(entity.getOriginY());
+        this.setTranslateX(entity.getOffsetX());
+        this.setTranslateY(entity.getOffsetY());
+    }
+
+    /**
+     * Copies the position of the entity, interpolated between the last two simulation steps,
+     * to the layout and translate properties of the view.
+     *
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     */
+    public void syncView(double alpha) {
+        this.setLayoutX(entity.getOriginX());
+        this.setLayoutY(entity.getOriginY());
+        this.setTranslateX(entity.getInterpolatedOffsetX(alpha));
+        this.setTranslateY(entity.getInterpolatedOffsetY(alpha));
+    }
+
+    /**
+     * Retrieves the entity holding the simulated position, velocity and hitbox of the game object.
+     *
+     * @return the {@link Entity} of the game object.
+     */
+    public Entity getEntity() {
+        return entity;
     }
 
     /**
@@ -60,7 +124,7 @@ public abstract class GameObject extends ImageView {
      * @param horizontalMove the horizontal displacement.
      */
     protected void moveHorizontally(double horizontalMove) {
-        this.setTranslateX(getTranslateX() + horizontalMove);
+        entity.moveBy(horizontalMove, 0);
     }
 
     /**
@@ -69,7 +133,7 @@ public abstract class GameObject extends ImageView {
      * @param verticalMove the vertical displacement.
      */
     protected void moveVertically(double verticalMove) {
-        this.setTranslateY(getTranslateY() + verticalMove);
+        entity.moveBy(0, verticalMove);
     }
 
 }
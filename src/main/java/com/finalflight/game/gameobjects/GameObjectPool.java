@@ -0,0 +1,160 @@
+package com.finalflight.game.gameobjects;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * The {@code GameObjectPool} class keeps destroyed game objects of a single concrete type so they
+ * can be reinitialised and reused instead of allocating a new {@link javafx.scene.image.ImageView}
+ * for every projectile or enemy plane.
+ *
+ * <p>Objects handed out by {@link #acquire()} must be reinitialised by the caller before use, and are
+ * returned to the pool with {@link #release(DestructibleGameObject)} once they have been removed from
+ * the scene. A pool only takes back the objects its factory created, so a directly constructed object,
+ * which may have been built without its sprite, is never handed out by {@link #acquire()}. Hit, miss
+ * and high-water statistics are kept so the pool sizes can be tuned.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/GameObjectPool.java</p>
+ *
+ * @param <T> the type of game object held by the pool.
+ */
+public final class GameObjectPool<T extends DestructibleGameObject> {
+
+    private final Supplier<T> factory;
+    private final int maxSize;
+    private final ArrayDeque<T> availableObjects;
+    private long hitCount;
+    private long missCount;
+    private long releaseCount;
+    private int inUseCount;
+    private int highWaterMark;
+
+    /**
+     * Constructs a {@code GameObjectPool} that creates new objects with the specified factory when empty.
+     *
+     * @param factory the factory used to create objects when no pooled object is available.
+     * @param maxSize the maximum number of released objects kept for reuse.
+     */
+    public GameObjectPool(Supplier<T> factory, int maxSize) {
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.availableObjects = new ArrayDeque<>(maxSize);
+    }
+
+    /**
+     * Retrieves an object from the pool, creating a new one if the pool is empty.
+     * The returned object still holds the state it was released with and must be reinitialised.
+     *
+     * @return a pooled or newly created object.
+     */
+    public T acquire() {
+        T object = availableObjects.pollLast();
+        if (object != null) {
+            object.setPooled(false);
+            hitCount++;
+        } else {
+            object = factory.get();
+            object.setOwningPool(this);
+            missCount++;
+        }
+        inUseCount++;
+        highWaterMark = Math.max(highWaterMark, inUseCount);
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool so it can be reused. Objects the pool did not create and objects
+     * already in the pool are ignored, and objects released while the pool is full are left to the
+     * garbage collector.
+     *
+     * @param object the object to return to the pool.
+     */
+    public void release(T object) {
+        if (object.getOwningPool() != this || object.isPooled()) {
+            return;
+        }
+        releaseCount++;
+        inUseCount = Math.max(0, inUseCount - 1);
+        if (availableObjects.size() < maxSize) {
+            object.setPooled(true);
+            availableObjects.addLast(object);
+        }
+    }
+
+    /**
+     * Retrieves the number of acquisitions served by a pooled object.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retrieves the number of acquisitions that had to create a new object.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retrieves the number of objects returned to the pool.
+     *
+     * @return the release count.
+     */
+    public long getReleaseCount() {
+        return releaseCount;
+    }
+
+    /**
+     * Retrieves the number of acquired objects that have not been released yet.
+     *
+     * @return the number of objects in use.
+     */
+    public int getInUseCount() {
+        return inUseCount;
+    }
+
+    /**
+     * Retrieves the largest number of objects that were in use at the same time.
+     *
+     * @return the high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Retrieves the number of objects currently waiting in the pool.
+     *
+     * @return the number of available objects.
+     */
+    public int getAvailableCount() {
+        return availableObjects.size();
+    }
+
+    /**
+     * Retrieves the maximum number of released objects kept for reuse.
+     *
+     * @return the maximum pool size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes every pooled object and resets the statistics.
+     */
+    public void clear() {
+        availableObjects.forEach(object -> object.setPooled(false));
+        availableObjects.clear();
+        hitCount = 0;
+        missCount = 0;
+        releaseCount = 0;
+        inUseCount = 0;
+        highWaterMark = 0;
+    }
+
+}
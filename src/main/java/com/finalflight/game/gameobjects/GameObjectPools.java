@@ -0,0 +1,102 @@
+package com.finalflight.game.gameobjects;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The {@code GameObjectPools} class is the shared registry of {@link GameObjectPool} instances,
+ * holding one pool per concrete projectile and enemy plane type. Pooled types obtain their instances
+ * through a static {@code obtain} factory, and the level returns every destroyed actor through
+ * {@link #release(DestructibleGameObject)}, which ignores types that are not pooled.
+ *
+ * <p>Each thread has its own registry. The game only spawns and removes actors on the JavaFX
+ * application thread, while headless simulations running in parallel each keep their actors
+ * confined to one worker thread, so the pools need no locking.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/GameObjectPools.java</p>
+ */
+public final class GameObjectPools {
+
+    private static final int DEFAULT_MAX_POOL_SIZE = 256;
+    private static final ThreadLocal<GameObjectPools> INSTANCES = ThreadLocal.withInitial(GameObjectPools::new);
+    private final Map<Class<? extends DestructibleGameObject>, GameObjectPool<? extends DestructibleGameObject>> pools =
+            new LinkedHashMap<>();
+
+    /**
+     * Constructs an empty {@code GameObjectPools} registry.
+     */
+    GameObjectPools() {
+    }
+
+    /**
+     * Retrieves the instance of {@code GameObjectPools} for the current thread, creating it if necessary.
+     *
+     * @return the pool registry of the current thread.
+     */
+    public static GameObjectPools getInstance() {
+        return INSTANCES.get();
+    }
+
+    /**
+     * Retrieves the pool for the specified type, creating it with the given factory if necessary.
+     *
+     * @param type    the concrete type held by the pool.
+     * @param factory the factory used to create new objects when the pool is empty.
+     * @param <T>     the type of game object held by the pool.
+     * @return the pool for the specified type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DestructibleGameObject> GameObjectPool<T> getPool(Class<T> type, Supplier<T> factory) {
+        GameObjectPool<T> pool = (GameObjectPool<T>) pools.get(type);
+        if (pool == null) {
+            pool = new GameObjectPool<>(factory, DEFAULT_MAX_POOL_SIZE);
+            pools.put(type, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns a game object to the pool of its concrete type. Objects whose type has no pool, and objects
+     * that were not obtained from that pool, are ignored.
+     *
+     * @param object the game object to return.
+     */
+    @SuppressWarnings("unchecked")
+    public void release(DestructibleGameObject object) {
+        GameObjectPool<DestructibleGameObject> pool = (GameObjectPool<DestructibleGameObject>) pools.get(object.getClass());
+        if (pool != null) {
+            pool.release(object);
+        }
+    }
+
+    /**
+     * Retrieves the pool for the specified type, if one has been created.
+     *
+     * @param type the concrete type held by the pool.
+     * @param <T>  the type of game object held by the pool.
+     * @return the pool for the specified type, or {@code null} if no object of this type has been obtained yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DestructibleGameObject> GameObjectPool<T> findPool(Class<T> type) {
+        return (GameObjectPool<T>) pools.get(type);
+    }
+
+    /**
+     * Retrieves every pool in the registry, keyed by the type it holds, for reporting statistics.
+     *
+     * @return an unmodifiable view of the pools.
+     */
+    public Map<Class<? extends DestructibleGameObject>, GameObjectPool<? extends DestructibleGameObject>> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Empties every pool and resets its statistics.
+     */
+    public void clear() {
+        pools.values().forEach(GameObjectPool::clear);
+    }
+
+}
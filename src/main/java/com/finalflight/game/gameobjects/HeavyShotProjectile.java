@@ -13,8 +13,13 @@ public class HeavyShotProjectile extends AbstractProjectile {
 
     private static final String IMAGE_NAME = "heavyfire.png";
     private static final int IMAGE_HEIGHT = 50;
-    private static final double HORIZONTAL_VELOCITY = 8;
-    private static final double VERTICAL_VELOCITY = 10;
+    private static final double HITBOX_INSET_LEFT = 4;
+    private static final double HITBOX_INSET_TOP = 5;
+    private static final double HITBOX_INSET_RIGHT = 3;
+    private static final double HITBOX_INSET_BOTTOM = 3;
+    private static final double MAX_LIFETIME_SECONDS = 6;
+    private static final double HORIZONTAL_VELOCITY = 160; // Pixels per second
+    private static final double VERTICAL_VELOCITY = 200;
     private static final int PROJECTILE_HEALTH = 6;
     private int health;
 
@@ -27,6 +32,34 @@ public class HeavyShotProjectile extends AbstractProjectile {
      */
     public HeavyShotProjectile(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+        this.health = PROJECTILE_HEALTH;
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, VERTICAL_VELOCITY);
+    }
+
+    /**
+     * Obtains a {@code HeavyShotProjectile} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialXPos the initial X-coordinate of the projectile.
+     * @param initialYPos the initial Y-coordinate of the projectile.
+     * @return a {@code HeavyShotProjectile} ready to be added to the scene.
+     */
+    public static HeavyShotProjectile obtain(double initialXPos, double initialYPos) {
+        HeavyShotProjectile projectile = GameObjectPools.getInstance()
+                .getPool(HeavyShotProjectile.class, () -> new HeavyShotProjectile(0, 0)).acquire();
+        projectile.reset(initialXPos, initialYPos);
+        return projectile;
+    }
+
+    /**
+     * Reinitialises the projectile at the specified position with its full health.
+     *
+     * @param initialXPos the new initial X-coordinate of the projectile.
+     * @param initialYPos the new initial Y-coordinate of the projectile.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
         this.health = PROJECTILE_HEALTH;
     }
 
@@ -36,8 +69,7 @@ public class HeavyShotProjectile extends AbstractProjectile {
      */
     @Override
     public void updatePosition() {
-        setTranslateX(getTranslateX() + HORIZONTAL_VELOCITY);
-        setTranslateY(getTranslateY() + VERTICAL_VELOCITY);
+        getEntity().step();
     }
 
     /**
@@ -67,7 +99,18 @@ public class HeavyShotProjectile extends AbstractProjectile {
      *
      * @return the current health as an {@code int}.
      */
+    @Override
     public int getHealth() {
         return health;
     }
+
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    @Override
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(MAX_LIFETIME_SECONDS);
+    }
 }
@@ -0,0 +1,107 @@
+package com.finalflight.game.gameobjects;
+
+/**
+ * The {@code SimulationRate} class holds the number of simulation steps the game runs per second and
+ * converts the timings of the game objects into steps. Speeds, fire chances, lifetimes and effects are
+ * expressed per second, and the amount that applies to a single step is derived from the step length,
+ * so an actor covers the same distance per second at any rate.
+ *
+ * <p>The rate is read once from the {@value #TICK_RATE_PROPERTY} system property, defaulting to
+ * {@value #DEFAULT_TICK_RATE} steps per second. Levels read it when their game loop is created.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/SimulationRate.java</p>
+ */
+public final class SimulationRate {
+
+    /**
+     * The system property setting the number of simulation steps per second.
+     */
+    public static final String TICK_RATE_PROPERTY = "finalflight.tickRate";
+
+    /**
+     * The number of simulation steps per second if no rate is configured.
+     */
+    public static final int DEFAULT_TICK_RATE = 20;
+
+    private static volatile int tickRate = readTickRate();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SimulationRate() {
+    }
+
+    /**
+     * Reads the rate from the {@value #TICK_RATE_PROPERTY} system property.
+     *
+     * @return the configured number of steps per second.
+     * @throws IllegalArgumentException if the configured rate is below one step per second.
+     */
+    private static int readTickRate() {
+        int configured = Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE);
+        checkTickRate(configured);
+        return configured;
+    }
+
+    /**
+     * Checks that a rate runs at least one step per second.
+     *
+     * @param tickRate the number of steps per second.
+     * @throws IllegalArgumentException if the rate is below one step per second.
+     */
+    private static void checkTickRate(int tickRate) {
+        if (tickRate < 1) {
+            throw new IllegalArgumentException("Tick rate must be at least 1 step per second: " + tickRate);
+        }
+    }
+
+    /**
+     * Retrieves the number of simulation steps per second.
+     *
+     * @return the tick rate.
+     */
+    public static int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Sets the number of simulation steps per second. Intended for tests and tools; a level reads the
+     * rate once when it is created, so the rate should not be changed while a level is running.
+     *
+     * @param tickRate the number of steps per second.
+     * @throws IllegalArgumentException if the rate is below one step per second.
+     */
+    public static void setTickRate(int tickRate) {
+        checkTickRate(tickRate);
+        SimulationRate.tickRate = tickRate;
+    }
+
+    /**
+     * Retrieves the length of one simulation step.
+     *
+     * @return the step length in seconds.
+     */
+    public static double getStepSeconds() {
+        return 1.0 / tickRate;
+    }
+
+    /**
+     * Converts an amount per second into the amount that applies to one simulation step.
+     *
+     * @param perSecond the amount per second, such as a speed in pixels per second.
+     * @return the amount per step.
+     */
+    public static double perStep(double perSecond) {
+        return perSecond / tickRate;
+    }
+
+    /**
+     * Converts a duration into a number of simulation steps. Every duration lasts at least one step.
+     *
+     * @param seconds the duration in seconds.
+     * @return the number of steps the duration is rounded to.
+     */
+    public static int steps(double seconds) {
+        return Math.max(1, (int) Math.round(seconds * tickRate));
+    }
+}
@@ -12,7 +12,8 @@ public class SingleShotProjectile extends AbstractProjectile {
 
     private static final String IMAGE_NAME = "userfire.png";
     private static final int IMAGE_HEIGHT = 8;
-    private static final int HORIZONTAL_VELOCITY = 15;
+    private static final double MAX_LIFETIME_SECONDS = 7.5;
+    private static final int HORIZONTAL_VELOCITY = 300; // Pixels per second
 
     /**
      * Constructs a {@code SingleShotProjectile} with a predefined image and velocity, setting its initial position.
@@ -22,6 +23,33 @@ public class SingleShotProjectile extends AbstractProjectile {
      */
     public SingleShotProjectile(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+    }
+
+    /**
+     * Overloaded constructor for testing and benchmarking purposes (skips image loading).
+     *
+     * @param initialXPos      the initial X-coordinate of the projectile.
+     * @param initialYPos      the initial Y-coordinate of the projectile.
+     * @param skipImageLoading {@code true} to skip image loading, {@code false} otherwise.
+     */
+    public SingleShotProjectile(double initialXPos, double initialYPos, boolean skipImageLoading) {
+        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, skipImageLoading);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+    }
+
+    /**
+     * Obtains a {@code SingleShotProjectile} at the specified position, reusing a pooled instance when one is available.
+     *
+     * @param initialXPos the initial X-coordinate of the projectile.
+     * @param initialYPos the initial Y-coordinate of the projectile.
+     * @return a {@code SingleShotProjectile} ready to be added to the scene.
+     */
+    public static SingleShotProjectile obtain(double initialXPos, double initialYPos) {
+        SingleShotProjectile projectile = GameObjectPools.getInstance()
+                .getPool(SingleShotProjectile.class, () -> new SingleShotProjectile(0, 0)).acquire();
+        projectile.reset(initialXPos, initialYPos);
+        return projectile;
     }
 
     /**
@@ -29,7 +57,7 @@ public class SingleShotProjectile extends AbstractProjectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        getEntity().step();
     }
 
     /**
@@ -41,4 +69,14 @@ public class SingleShotProjectile extends AbstractProjectile {
         updatePosition();
     }
 
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    @Override
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(MAX_LIFETIME_SECONDS);
+    }
+
 }
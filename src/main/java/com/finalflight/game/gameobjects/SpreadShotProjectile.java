@@ -14,8 +14,7 @@ public class SpreadShotProjectile extends AbstractProjectile {
     private static final double RANGE = 300.0;
     private static final String IMAGE_NAME = "userfire.png";
     private static final int IMAGE_HEIGHT = 6;
-    private final double velocityX;
-    private final double velocityY;
+    private static final double MAX_LIFETIME_SECONDS = 3;
     private double traveledDistance = 0.0;
 
     /**
@@ -23,13 +22,42 @@ public class SpreadShotProjectile extends AbstractProjectile {
      *
      * @param x         the initial X-coordinate of the projectile.
      * @param y         the initial Y-coordinate of the projectile.
-     * @param velocityX the horizontal velocity of the projectile.
-     * @param velocityY the vertical velocity of the projectile.
+     * @param velocityX the horizontal velocity of the projectile, in pixels per second.
+     * @param velocityY the vertical velocity of the projectile, in pixels per second.
      */
     public SpreadShotProjectile(double x, double y, double velocityX, double velocityY) {
         super(IMAGE_NAME, IMAGE_HEIGHT, x, y);
-        this.velocityX = velocityX;
-        this.velocityY = velocityY;
+        getEntity().setVelocity(velocityX, velocityY);
+    }
+
+    /**
+     * Obtains a {@code SpreadShotProjectile} with the specified position and velocity, reusing a pooled
+     * instance when one is available.
+     *
+     * @param x         the initial X-coordinate of the projectile.
+     * @param y         the initial Y-coordinate of the projectile.
+     * @param velocityX the horizontal velocity of the projectile, in pixels per second.
+     * @param velocityY the vertical velocity of the projectile, in pixels per second.
+     * @return a {@code SpreadShotProjectile} ready to be added to the scene.
+     */
+    public static SpreadShotProjectile obtain(double x, double y, double velocityX, double velocityY) {
+        SpreadShotProjectile projectile = GameObjectPools.getInstance()
+                .getPool(SpreadShotProjectile.class, () -> new SpreadShotProjectile(0, 0, 0, 0)).acquire();
+        projectile.reset(x, y);
+        projectile.getEntity().setVelocity(velocityX, velocityY);
+        return projectile;
+    }
+
+    /**
+     * Reinitialises the projectile at the specified position and clears the distance it has traveled.
+     *
+     * @param x the new initial X-coordinate of the projectile.
+     * @param y the new initial Y-coordinate of the projectile.
+     */
+    @Override
+    protected void reset(double x, double y) {
+        super.reset(x, y);
+        traveledDistance = 0.0;
     }
 
     /**
@@ -37,13 +65,13 @@ public class SpreadShotProjectile extends AbstractProjectile {
      */
     @Override
     public void updatePosition() {
-        double newX = getTranslateX() + velocityX;
-        double newY = getTranslateY() + velocityY;
-        setTranslateX(newX);
-        setTranslateY(newY);
+        Entity entity = getEntity();
+        entity.step();
 
-        // Update traveled distance
-        traveledDistance += Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        // Update traveled distance by the distance covered in one step
+        double velocityX = entity.getVelocityX();
+        double velocityY = entity.getVelocityY();
+        traveledDistance += SimulationRate.perStep(Math.sqrt(velocityX * velocityX + velocityY * velocityY));
 
         // Destroy the projectile if it exceeds its range
         if (traveledDistance >= RANGE) {
@@ -60,4 +88,24 @@ public class SpreadShotProjectile extends AbstractProjectile {
         updatePosition();
     }
 
+    /**
+     * Retrieves the distance the projectile may travel before it is destroyed.
+     *
+     * @return the range in pixels.
+     */
+    @Override
+    public double getRange() {
+        return RANGE;
+    }
+
+    /**
+     * Retrieves the maximum number of frames the projectile may stay alive for before it is culled.
+     *
+     * @return the maximum lifetime in frames, derived from the lifetime in seconds at the current tick rate.
+     */
+    @Override
+    public int getMaxLifetimeFrames() {
+        return SimulationRate.steps(MAX_LIFETIME_SECONDS);
+    }
+
 }
@@ -0,0 +1,291 @@
+package com.finalflight.game.gameobjects;
+
+import javafx.scene.image.Image;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code SpriteCache} class is a shared cache of decoded sprite images used by all game objects
+ * and visual elements. Each image is decoded once per requested fit height and pre-scaled to that
+ * height, so spawning a game object only has to look up an existing {@link Image} instead of reading
+ * and decoding the resource again.
+ *
+ * <p>Entries are kept in least-recently-used order and the eldest entry is evicted once the cache
+ * holds more than its maximum number of entries. The number of decodes performed for each entry is
+ * tracked so that the cache behaviour can be verified.</p>
+ *
+ * <p>Images can be decoded ahead of time with {@link #preload(String, int)}, which may be called
+ * from several worker threads at once while a level's assets are loaded.</p>
+ *
+ * <p>In headless mode no images are decoded at all and {@link #getImage(String, int)} returns
+ * {@code null}, so game objects can be created without the JavaFX toolkit. Aspect ratios are still
+ * read from the image headers, so hitboxes keep their normal size.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/gameobjects/SpriteCache.java</p>
+ */
+public final class SpriteCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 64;
+    private static final int NATIVE_HEIGHT = 0;
+    private static final int PNG_WIDTH_OFFSET = 16;
+    private static final int GIF_WIDTH_OFFSET = 6;
+    private static final double DEFAULT_ASPECT_RATIO = 1.0;
+    private static SpriteCache instance;
+    private final Map<SpriteKey, Image> images;
+    private final Map<SpriteKey, Integer> decodeCounts = new HashMap<>();
+    private final Map<String, Double> aspectRatios = new HashMap<>();
+    private int evictionCount;
+    private boolean headless;
+
+    /**
+     * Identifies a cached sprite variant by its resource path and requested fit height.
+     *
+     * @param resourcePath    the absolute resource path of the image.
+     * @param requestedHeight the height the image is pre-scaled to, or 0 for the native size.
+     */
+    private record SpriteKey(String resourcePath, int requestedHeight) {
+    }
+
+    /**
+     * Constructs a {@code SpriteCache} that holds at most the specified number of entries.
+     *
+     * @param maxEntries the maximum number of sprite variants kept before the least recently used is evicted.
+     */
+    SpriteCache(int maxEntries) {
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SpriteKey, Image> eldest) {
+                if (size() > maxEntries) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the shared instance of {@code SpriteCache}, creating it if necessary.
+     *
+     * @return the shared sprite cache.
+     */
+    public static synchronized SpriteCache getInstance() {
+        if (instance == null) {
+            instance = new SpriteCache(DEFAULT_MAX_ENTRIES);
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the image at the specified resource path, pre-scaled to the requested height while
+     * preserving its aspect ratio. The image is decoded only the first time this variant is requested.
+     *
+     * @param resourcePath    the absolute resource path of the image.
+     * @param requestedHeight the height in pixels to pre-scale the image to.
+     * @return the cached {@link Image}, or {@code null} in headless mode.
+     */
+    public synchronized Image getImage(String resourcePath, int requestedHeight) {
+        if (headless) {
+            return null;
+        }
+        SpriteKey key = new SpriteKey(resourcePath, Math.max(requestedHeight, NATIVE_HEIGHT));
+        Image image = images.get(key);
+        if (image == null) {
+            image = decode(key);
+            images.put(key, image);
+            decodeCounts.merge(key, 1, Integer::sum);
+        }
+        return image;
+    }
+
+    /**
+     * Decodes the image at the specified resource path into the cache, pre-scaled to the requested
+     * height, unless it is already cached. The image is decoded outside the lock of the cache, so
+     * several threads can preload different images in parallel while the game keeps reading the cache.
+     *
+     * @param resourcePath    the absolute resource path of the image.
+     * @param requestedHeight the height in pixels to pre-scale the image to, or 0 for its native size.
+     * @throws IllegalArgumentException if the image does not exist.
+     * @throws IllegalStateException    if the image cannot be decoded.
+     */
+    public void preload(String resourcePath, int requestedHeight) {
+        SpriteKey key = new SpriteKey(resourcePath, Math.max(requestedHeight, NATIVE_HEIGHT));
+        synchronized (this) {
+            if (headless || images.containsKey(key)) {
+                return;
+            }
+        }
+        Image image = decode(key);
+        if (image.isError()) {
+            throw new IllegalStateException("Could not decode " + resourcePath, image.getException());
+        }
+        synchronized (this) {
+            if (!images.containsKey(key)) {
+                images.put(key, image);
+                decodeCounts.merge(key, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the image at the specified resource path is cached at the requested height.
+     *
+     * @param resourcePath    the absolute resource path of the image.
+     * @param requestedHeight the height the image is pre-scaled to, or 0 for its native size.
+     * @return {@code true} if the variant is cached.
+     */
+    public synchronized boolean contains(String resourcePath, int requestedHeight) {
+        return images.containsKey(new SpriteKey(resourcePath, Math.max(requestedHeight, NATIVE_HEIGHT)));
+    }
+
+    /**
+     * Retrieves the image at the specified resource path at its native size. Used for images
+     * such as animated GIFs that should not be pre-scaled.
+     *
+     * @param resourcePath the absolute resource path of the image.
+     * @return the cached {@link Image}.
+     */
+    public Image getImage(String resourcePath) {
+        return getImage(resourcePath, NATIVE_HEIGHT);
+    }
+
+    /**
+     * Decodes the image identified by the specified key.
+     *
+     * @param key the sprite variant to decode.
+     * @return the decoded {@link Image}.
+     * @throws IllegalArgumentException if the image does not exist.
+     */
+    private Image decode(SpriteKey key) {
+        URL resource = getClass().getResource(key.resourcePath());
+        if (resource == null) {
+            throw new IllegalArgumentException("Image not found: " + key.resourcePath());
+        }
+        String url = resource.toExternalForm();
+        if (key.requestedHeight() == NATIVE_HEIGHT) {
+            return new Image(url);
+        }
+        return new Image(url, 0, key.requestedHeight(), true, true);
+    }
+
+    /**
+     * Retrieves the width-to-height ratio of the image at the specified resource path. The ratio is
+     * read from the PNG or GIF header without decoding the image, so it is available without the
+     * JavaFX toolkit and is used to size the hitbox of game objects that skip image loading.
+     *
+     * @param resourcePath the absolute resource path of the image.
+     * @return the aspect ratio of the image, or 1 if it cannot be read.
+     */
+    public synchronized double getAspectRatio(String resourcePath) {
+        Double aspectRatio = aspectRatios.get(resourcePath);
+        if (aspectRatio == null) {
+            aspectRatio = readAspectRatio(resourcePath);
+            aspectRatios.put(resourcePath, aspectRatio);
+        }
+        return aspectRatio;
+    }
+
+    /**
+     * Reads the width and height of a PNG or GIF image from its header.
+     *
+     * @param resourcePath the absolute resource path of the image.
+     * @return the aspect ratio of the image, or 1 if the header cannot be read.
+     */
+    private double readAspectRatio(String resourcePath) {
+        try (InputStream stream = getClass().getResourceAsStream(resourcePath)) {
+            if (stream == null) {
+                return DEFAULT_ASPECT_RATIO;
+            }
+            byte[] header = stream.readNBytes(PNG_WIDTH_OFFSET + 8);
+            if (resourcePath.endsWith(".png") && header.length == PNG_WIDTH_OFFSET + 8) {
+                DataInputStream dimensions = new DataInputStream(new ByteArrayInputStream(header, PNG_WIDTH_OFFSET, 8));
+                return (double) dimensions.readInt() / dimensions.readInt();
+            }
+            if (resourcePath.endsWith(".gif") && header.length >= GIF_WIDTH_OFFSET + 4) {
+                int width = (header[GIF_WIDTH_OFFSET] & 0xFF) | (header[GIF_WIDTH_OFFSET + 1] & 0xFF) << 8;
+                int height = (header[GIF_WIDTH_OFFSET + 2] & 0xFF) | (header[GIF_WIDTH_OFFSET + 3] & 0xFF) << 8;
+                return (double) width / height;
+            }
+        } catch (IOException e) {
+            return DEFAULT_ASPECT_RATIO;
+        }
+        return DEFAULT_ASPECT_RATIO;
+    }
+
+    /**
+     * Returns how many times the specified sprite variant has been decoded.
+     *
+     * @param resourcePath    the absolute resource path of the image.
+     * @param requestedHeight the requested fit height of the variant.
+     * @return the number of decodes performed for the variant.
+     */
+    public synchronized int getDecodeCount(String resourcePath, int requestedHeight) {
+        return decodeCounts.getOrDefault(new SpriteKey(resourcePath, requestedHeight), 0);
+    }
+
+    /**
+     * Returns the total number of decodes performed by this cache.
+     *
+     * @return the total decode count.
+     */
+    public synchronized int getTotalDecodeCount() {
+        int total = 0;
+        for (int count : decodeCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of sprite variants evicted from this cache.
+     *
+     * @return the eviction count.
+     */
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of sprite variants currently held in this cache.
+     *
+     * @return the number of cached images.
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Enables or disables headless mode, in which no images are decoded.
+     *
+     * @param headless {@code true} to stop decoding images, {@code false} to decode them as usual.
+     */
+    public synchronized void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Checks whether the cache is in headless mode.
+     *
+     * @return {@code true} if no images are decoded, {@code false} otherwise.
+     */
+    public synchronized boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Removes all cached images and resets the decode and eviction counters.
+     */
+    public synchronized void clear() {
+        images.clear();
+        decodeCounts.clear();
+        evictionCount = 0;
+    }
+
+}
@@ -1,10 +1,12 @@
 package com.finalflight.game.gameobjects;
 
 import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.audio.VoiceManager;
 import javafx.scene.transform.Rotate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * Represents the player's plane with specific abilities, firing modes, and movement mechanics.
@@ -32,12 +34,17 @@ public class UserPlane extends FighterPlane {
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 400.0;
     private static final int IMAGE_HEIGHT = 60;
-    private static final int HORIZONTAL_VELOCITY = 8;
-    private static final int VERTICAL_VELOCITY = 8;
+    private static final double HITBOX_INSET_LEFT = 2;
+    private static final double HITBOX_INSET_TOP = 10;
+    private static final double HITBOX_INSET_RIGHT = 11;
+    private static final double HITBOX_INSET_BOTTOM = 4;
+    private static final int HORIZONTAL_VELOCITY = 160; // Pixels per second
+    private static final int VERTICAL_VELOCITY = 160;
     private static final long FIRE_RATE = 100; // Fire rate in milliseconds
     private static final long SPREAD_FIRE_RATE = 200;
     private static final long HEAVY_FIRE_RATE = 1000;
     private long lastFiredTime = 0; // Stores the last time the player fired a projectile
+    private LongSupplier clock = System::currentTimeMillis; // Source of the time used for cooldowns
     private int velocityMultiplierY = 0;
     private double horizontalVelocity = 0;
     private int numberOfKills;
@@ -47,8 +54,8 @@ public class UserPlane extends FighterPlane {
     }
 
     private static final double SPEED_BOOST_MULTIPLIER = 1.5;
-    private static final double BOOST_DRAIN_RATE = 1.5; // Energy drained per frame while boosting
-    private static final double BOOST_RECHARGE_RATE = 0.5; // Energy recharged per frame
+    private static final double BOOST_DRAIN_RATE = 30; // Energy drained per second while boosting
+    private static final double BOOST_RECHARGE_RATE = 10; // Energy recharged per second
     private static final double MAX_BOOST_ENERGY = 100;
     private static final int BOOST_COOLDOWN_TIME = 1500; // Cooldown time in milliseconds
 
@@ -56,9 +63,10 @@ public class UserPlane extends FighterPlane {
     private boolean isSpeedBoostActive = false;
     private long lastDepletedTime = 0; // Track the last time boost was depleted
     private final Rotate rotateEffect = new Rotate();
+    private final List<DestructibleGameObject> firedProjectiles = new ArrayList<>(3); // Reused for every shot
 
     private FiringMode currentFiringMode = FiringMode.SINGLE;
-    private static int persistentHealth;
+    private static final ThreadLocal<Integer> PERSISTENT_HEALTH = ThreadLocal.withInitial(() -> 0); // Carried between levels on the thread running the game
 
     private final SoundEffectPlayer damagedImpactSound;
     private final SoundEffectPlayer damagedBeepingSound;
@@ -76,8 +84,20 @@ public class UserPlane extends FighterPlane {
      * @param initialHealth The starting health of the UserPlane.
      */
     public UserPlane(int initialHealth) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, persistentHealth > 0 ? persistentHealth : initialHealth);
-        persistentHealth = getHealth();
+        this(initialHealth, false);
+    }
+
+    /**
+     * Overloaded constructor for testing and benchmarking purposes (skips image loading).
+     *
+     * @param initialHealth     The starting health of the UserPlane.
+     * @param skipImageLoading  {@code true} to skip image loading, {@code false} otherwise.
+     */
+    public UserPlane(int initialHealth, boolean skipImageLoading) {
+        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION,
+                PERSISTENT_HEALTH.get() > 0 ? PERSISTENT_HEALTH.get() : initialHealth, skipImageLoading);
+        getEntity().setHitboxInsets(HITBOX_INSET_LEFT, HITBOX_INSET_TOP, HITBOX_INSET_RIGHT, HITBOX_INSET_BOTTOM);
+        PERSISTENT_HEALTH.set(getHealth());
 
         fireSound = new SoundEffectPlayer(SINGLE_FIRE_SOUND);
         fireSound.setVolume(0.15);
@@ -102,9 +122,11 @@ public class UserPlane extends FighterPlane {
 
         damagedBeepingSound = new SoundEffectPlayer(DAMAGED_BEEPING_SOUND);
         damagedBeepingSound.setVolume(0.2);
+        damagedBeepingSound.setPriority(VoiceManager.Priority.PLAYER_DAMAGE);
 
         damagedImpactSound = new SoundEffectPlayer(DAMAGED_SOUND);
         damagedImpactSound.setVolume(0.3);
+        damagedImpactSound.setPriority(VoiceManager.Priority.PLAYER_DAMAGE);
     }
 
     /**
@@ -116,15 +138,16 @@ public class UserPlane extends FighterPlane {
         double boostFactor = isSpeedBoostActive ? SPEED_BOOST_MULTIPLIER : 1.0;
 
         // Handle vertical movement
-        double newYPosition = getTranslateY() + (VERTICAL_VELOCITY * velocityMultiplierY * boostFactor);
+        double newYPosition = getEntity().getOffsetY()
+                + SimulationRate.perStep(VERTICAL_VELOCITY * velocityMultiplierY * boostFactor);
         if (newYPosition >= Y_UPPER_BOUND && newYPosition <= Y_LOWER_BOUND) {
-            setTranslateY(newYPosition);
+            getEntity().setOffsetY(newYPosition);
         }
 
         // Handle horizontal movement
-        double newXPosition = getTranslateX() + (horizontalVelocity * boostFactor);
+        double newXPosition = getEntity().getOffsetX() + SimulationRate.perStep(horizontalVelocity * boostFactor);
         if (newXPosition >= X_LEFT_BOUND && newXPosition <= X_RIGHT_BOUND) {
-            setTranslateX(newXPosition);
+            getEntity().setOffsetX(newXPosition);
         }
     }
 
@@ -146,20 +169,20 @@ public class UserPlane extends FighterPlane {
      */
     @Override
     public DestructibleGameObject fireProjectile() {
-        long currentTime = System.currentTimeMillis(); // Get the current time in milliseconds
+        long currentTime = clock.getAsLong(); // Get the current time in milliseconds
 
         // Check if enough time has passed since the last shot
         if (currentTime - lastFiredTime >= FIRE_RATE) {
             // Fire the projectile
-            double projectileX = getTranslateX() + getBoundsInLocal().getWidth();
-            double projectileY = getTranslateY() + Y_UPPER_BOUND_OFFSET + (getBoundsInLocal().getHeight() / 2);
+            double projectileX = getEntity().getOffsetX() + getEntity().getWidth();
+            double projectileY = getEntity().getOffsetY() + Y_UPPER_BOUND_OFFSET + (getEntity().getHeight() / 2);
 
             // Update last fired time
             lastFiredTime = currentTime;
 
             fireSound.playSound();
 
-            return new SingleShotProjectile(projectileX, projectileY);
+            return SingleShotProjectile.obtain(projectileX, projectileY);
         }
         // Do nothing if the player tries to fire before the cooldown
         return null;
@@ -167,30 +190,31 @@ public class UserPlane extends FighterPlane {
 
     /**
      * Fires a spread of projectiles from the user plane.
+     * The returned list is reused by the next shot and should not be kept.
      *
      * @return A list of {@link DestructibleGameObject} instances representing the spread projectiles.
      */
     public List<DestructibleGameObject> fireSpreadProjectile() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getAsLong();
 
 
         // Check if enough time has passed since the last shot
         if (currentTime - lastFiredTime >= SPREAD_FIRE_RATE) {
             // Fire the spread projectiles
-            List<DestructibleGameObject> spreadBullets = new ArrayList<>();
-            double baseX = getTranslateX() + getBoundsInLocal().getWidth();
-            double baseY = getTranslateY() + Y_UPPER_BOUND_OFFSET + getBoundsInLocal().getHeight() / 2;
+            double baseX = getEntity().getOffsetX() + getEntity().getWidth();
+            double baseY = getEntity().getOffsetY() + Y_UPPER_BOUND_OFFSET + getEntity().getHeight() / 2;
 
-            spreadBullets.add(new SpreadShotProjectile(baseX, baseY, 10, 0)); // Center bullet
-            spreadBullets.add(new SpreadShotProjectile(baseX, baseY, 10, -5)); // Upward bullet
-            spreadBullets.add(new SpreadShotProjectile(baseX, baseY, 10, 5)); // Downward bullet
+            firedProjectiles.clear();
+            firedProjectiles.add(SpreadShotProjectile.obtain(baseX, baseY, 200, 0)); // Center bullet
+            firedProjectiles.add(SpreadShotProjectile.obtain(baseX, baseY, 200, -100)); // Upward bullet
+            firedProjectiles.add(SpreadShotProjectile.obtain(baseX, baseY, 200, 100)); // Downward bullet
 
             // Update last fired time
             lastFiredTime = currentTime;
 
             spreadFireSound.playSound();
 
-            return spreadBullets;
+            return firedProjectiles;
         }
         // Do nothing if the player tries to fire before the cooldown
         return null;
@@ -198,34 +222,43 @@ public class UserPlane extends FighterPlane {
 
     /**
      * Fires a heavy projectile with high damage from the user plane.
+     * The returned list is reused by the next shot and should not be kept.
      *
      * @return A list containing a single {@link DestructibleGameObject} instance representing the heavy projectile.
      */
     public List<DestructibleGameObject> fireHeavyProjectile() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getAsLong();
 
         if (currentTime - lastFiredTime >= HEAVY_FIRE_RATE) {
-            double projectileX = getTranslateX() + (getBoundsInLocal().getWidth() / 2);
-            double projectileY = getTranslateY() + Y_UPPER_BOUND_OFFSET + getBoundsInLocal().getHeight() - 10;
+            double projectileX = getEntity().getOffsetX() + (getEntity().getWidth() / 2);
+            double projectileY = getEntity().getOffsetY() + Y_UPPER_BOUND_OFFSET + getEntity().getHeight() - 10;
 
             lastFiredTime = currentTime;
 
             heavyFireSound.playSound();
 
-            return List.of(new HeavyShotProjectile(projectileX, projectileY));
+            firedProjectiles.clear();
+            firedProjectiles.add(HeavyShotProjectile.obtain(projectileX, projectileY));
+            return firedProjectiles;
         }
         return List.of();
     }
 
     /**
      * Fires projectiles based on the current firing mode.
+     * The returned list is reused by the next shot and should not be kept.
      *
      * @return A list of {@link DestructibleGameObject} instances representing the fired projectiles.
      */
     public List<DestructibleGameObject> fire() {
         if (currentFiringMode == FiringMode.SINGLE) {
             DestructibleGameObject singleProjectile = fireProjectile();
-            return singleProjectile != null ? List.of(singleProjectile) : List.of();
+            if (singleProjectile == null) {
+                return List.of();
+            }
+            firedProjectiles.clear();
+            firedProjectiles.add(singleProjectile);
+            return firedProjectiles;
         } else if (currentFiringMode == FiringMode.SPREAD) {
             return fireSpreadProjectile();
         } else if (currentFiringMode == FiringMode.HEAVY) {
@@ -275,24 +308,52 @@ public class UserPlane extends FighterPlane {
     }
 
     /**
-     * Reduces the plane's health and plays damage sound effects.
+     * Reduces the plane's health, plays damage sound effects and publishes the damage.
      */
     @Override
     public void takeDamage() {
         super.takeDamage();
-        persistentHealth = getHealth(); // Update persistent health
+        PERSISTENT_HEALTH.set(getHealth()); // Update persistent health
         damagedBeepingSound.stopSound();
         damagedBeepingSound.playSound();
         damagedImpactSound.playSound();
+        if (getEventBus() != null) {
+            getEventBus().publishPlayerDamaged(getHealth());
+        }
     }
 
     /**
-     * Resets the static health of the user plane.
+     * Readies the plane to be flown again in the next level of a session instead of creating a new one.
+     * The plane is moved back to its starting position with the specified health, and its kills, boost
+     * energy, firing mode, movement and cooldowns are reset, as they are for a new plane.
+     *
+     * @param health The health to start the level with, up to the maximum health of the plane.
+     */
+    public void prepareForLevel(int health) {
+        reset(INITIAL_X_POSITION, INITIAL_Y_POSITION);
+        setHealth(health);
+        PERSISTENT_HEALTH.set(getHealth());
+        numberOfKills = 0;
+        lastFiredTime = 0;
+        lastDepletedTime = 0;
+        velocityMultiplierY = 0;
+        horizontalVelocity = 0;
+        currentBoostEnergy = MAX_BOOST_ENERGY;
+        if (isSpeedBoostActive) {
+            speedBoostSound.stopSound();
+        }
+        isSpeedBoostActive = false;
+        rotateEffect.setAngle(0);
+        currentFiringMode = FiringMode.SINGLE;
+    }
+
+    /**
+     * Resets the health carried over to the next user plane created on the current thread.
      *
      * @param health The new health value to set.
      */
     public static void resetHealth(int health) {
-        persistentHealth = health;
+        PERSISTENT_HEALTH.set(health);
     }
 
     /**
@@ -330,7 +391,7 @@ public class UserPlane extends FighterPlane {
                 speedBoostSound.stopSound();
             }
             isSpeedBoostActive = false;
-            lastDepletedTime = System.currentTimeMillis(); // Track the time when boost was depleted
+            lastDepletedTime = clock.getAsLong(); // Track the time when boost was depleted
         }
 
         updateBoostEffects(); // Update plane speed boost effects
@@ -344,10 +405,10 @@ public class UserPlane extends FighterPlane {
     private void rechargeBoostEnergy() {
         if (!isSpeedBoostActive && currentBoostEnergy < MAX_BOOST_ENERGY) {
             // Check if cooldown period has passed before recharging
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.getAsLong();
             if (currentTime - lastDepletedTime >= BOOST_COOLDOWN_TIME) {
                 // Start recharging after cooldown period
-                currentBoostEnergy += BOOST_RECHARGE_RATE;
+                currentBoostEnergy += SimulationRate.perStep(BOOST_RECHARGE_RATE);
                 if (currentBoostEnergy > MAX_BOOST_ENERGY) {
                     currentBoostEnergy = MAX_BOOST_ENERGY;
                 }
@@ -361,7 +422,7 @@ public class UserPlane extends FighterPlane {
      */
     private void drainBoostEnergy() {
         if (isSpeedBoostActive && currentBoostEnergy > 0) {
-            currentBoostEnergy -= BOOST_DRAIN_RATE;
+            currentBoostEnergy -= SimulationRate.perStep(BOOST_DRAIN_RATE);
             if (currentBoostEnergy <= 0) {
                 currentBoostEnergy = 0;
                 setSpeedBoost(false); // Disable boost if energy is depleted
@@ -385,6 +446,16 @@ public class UserPlane extends FighterPlane {
         numberOfKills++;
     }
 
+    /**
+     * Sets the clock used for the firing and speed boost cooldowns, allowing the level to run the
+     * plane on its simulated time instead of the system clock.
+     *
+     * @param clock a {@code LongSupplier} providing the current time in milliseconds.
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
     /**
      * Gets the maximum boost energy available for the user plane.
      *
@@ -0,0 +1,237 @@
+package com.finalflight.game.level;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code AssetManifest} class lists the images, sound effects and music a level needs, so they
+ * can be loaded by the {@link AssetPreloader} before the level is created instead of on the JavaFX
+ * application thread while it is being built.
+ *
+ * <p>Manifests are text resources named after the level class, such as {@code LevelOne.assets}, in
+ * {@value #MANIFEST_LOCATION}. Each line holds one entry; blank lines and lines starting with
+ * {@code #} are ignored:</p>
+ * <pre>
+ * image /com/finalflight/game/images/userplane.png 60   # Pre-scaled to a height of 60
+ * image /com/finalflight/game/images/background1.gif    # Native size
+ * sound /com/finalflight/game/audio/userfire.wav
+ * music /com/finalflight/game/audio/levelmusic.mp3
+ * include common.assets
+ * </pre>
+ *
+ * <p>Image heights must match the heights the game requests from the
+ * {@link com.finalflight.game.gameobjects.SpriteCache}, or the preloaded variant is not the one used.
+ * Included manifests are resolved relative to {@value #MANIFEST_LOCATION}, and an asset listed more
+ * than once is loaded once.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/AssetManifest.java</p>
+ */
+public final class AssetManifest {
+
+    /**
+     * The resource directory holding the manifests.
+     */
+    public static final String MANIFEST_LOCATION = "/com/finalflight/game/assets/";
+
+    private static final String MANIFEST_EXTENSION = ".assets";
+    private static final AssetManifest EMPTY = new AssetManifest(List.of());
+
+    /**
+     * The kinds of asset a manifest can list.
+     */
+    public enum Kind {
+        IMAGE,
+        SOUND,
+        MUSIC
+    }
+
+    /**
+     * An asset listed in a manifest.
+     *
+     * @param kind         the kind of asset.
+     * @param resourcePath the absolute resource path of the asset.
+     * @param height       the height an image is pre-scaled to, or 0 for its native size and for other kinds.
+     */
+    public record Asset(Kind kind, String resourcePath, int height) {
+    }
+
+    private final List<Asset> assets;
+
+    /**
+     * Constructs an {@code AssetManifest} listing the specified assets.
+     *
+     * @param assets the assets, in the order they should be loaded.
+     */
+    private AssetManifest(List<Asset> assets) {
+        this.assets = Collections.unmodifiableList(assets);
+    }
+
+    /**
+     * Retrieves the manifest of a level, or an empty manifest if the level has none.
+     *
+     * @param levelClassName the fully qualified name of the level class.
+     * @return the manifest of the level.
+     */
+    public static AssetManifest forLevel(String levelClassName) {
+        String manifestName = levelClassName.substring(levelClassName.lastIndexOf('.') + 1) + MANIFEST_EXTENSION;
+        if (AssetManifest.class.getResource(MANIFEST_LOCATION + manifestName) == null) {
+            return EMPTY;
+        }
+        return load(manifestName);
+    }
+
+    /**
+     * Loads a manifest and the manifests it includes.
+     *
+     * @param manifestName the name of the manifest in {@value #MANIFEST_LOCATION}.
+     * @return the manifest.
+     * @throws IllegalArgumentException if the manifest or a manifest it includes is missing or malformed.
+     * @throws UncheckedIOException     if a manifest cannot be read.
+     */
+    public static AssetManifest load(String manifestName) {
+        Set<Asset> assets = new LinkedHashSet<>();
+        readInto(manifestName, assets, new LinkedHashSet<>());
+        return new AssetManifest(new ArrayList<>(assets));
+    }
+
+    /**
+     * Parses manifest lines into a manifest. Includes are loaded from {@value #MANIFEST_LOCATION}.
+     *
+     * @param source the name of the manifest, used in error messages.
+     * @param lines  the lines of the manifest.
+     * @return the manifest.
+     * @throws IllegalArgumentException if a line is malformed.
+     */
+    static AssetManifest parse(String source, List<String> lines) {
+        Set<Asset> assets = new LinkedHashSet<>();
+        Set<String> visited = new LinkedHashSet<>();
+        visited.add(source);
+        parseInto(source, lines, assets, visited);
+        return new AssetManifest(new ArrayList<>(assets));
+    }
+
+    /**
+     * Reads a manifest resource and adds its assets to a set.
+     *
+     * @param manifestName the name of the manifest in {@value #MANIFEST_LOCATION}.
+     * @param assets       the set the assets are added to.
+     * @param visited      the manifests already read, so an include cycle is reported instead of followed.
+     */
+    private static void readInto(String manifestName, Set<Asset> assets, Set<String> visited) {
+        if (!visited.add(manifestName)) {
+            throw new IllegalArgumentException("Asset manifest " + manifestName + " includes itself");
+        }
+        List<String> lines = new ArrayList<>();
+        try (InputStream stream = AssetManifest.class.getResourceAsStream(MANIFEST_LOCATION + manifestName)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Asset manifest not found: " + manifestName);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read asset manifest " + manifestName, e);
+        }
+        parseInto(manifestName, lines, assets, visited);
+        visited.remove(manifestName);
+    }
+
+    /**
+     * Parses manifest lines and adds their assets to a set, following includes.
+     *
+     * @param source  the name of the manifest, used in error messages.
+     * @param lines   the lines of the manifest.
+     * @param assets  the set the assets are added to.
+     * @param visited the manifests being read.
+     */
+    private static void parseInto(String source, List<String> lines, Set<Asset> assets, Set<String> visited) {
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            String[] fields = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (fields[0].isEmpty()) {
+                continue;
+            }
+            String location = source + ":" + (i + 1);
+            switch (fields[0]) {
+                case "image" -> assets.add(new Asset(Kind.IMAGE, requirePath(fields, location),
+                        fields.length > 2 ? parseHeight(fields[2], location) : 0));
+                case "sound" -> assets.add(new Asset(Kind.SOUND, requirePath(fields, location), 0));
+                case "music" -> assets.add(new Asset(Kind.MUSIC, requirePath(fields, location), 0));
+                case "include" -> readInto(requirePath(fields, location), assets, visited);
+                default -> throw new IllegalArgumentException("Unknown asset kind '" + fields[0] + "' at " + location);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the path of a manifest entry.
+     *
+     * @param fields   the fields of the entry.
+     * @param location the manifest and line of the entry, used in error messages.
+     * @return the path.
+     */
+    private static String requirePath(String[] fields, String location) {
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("Missing path at " + location);
+        }
+        return fields[1];
+    }
+
+    /**
+     * Parses the height of an image entry.
+     *
+     * @param field    the height field.
+     * @param location the manifest and line of the entry, used in error messages.
+     * @return the height, which is positive.
+     */
+    private static int parseHeight(String field, String location) {
+        try {
+            int height = Integer.parseInt(field);
+            if (height > 0) {
+                return height;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid image height '" + field + "' at " + location);
+    }
+
+    /**
+     * Retrieves the assets of the manifest, in the order they should be loaded.
+     *
+     * @return an unmodifiable list of the assets.
+     */
+    public List<Asset> getAssets() {
+        return assets;
+    }
+
+    /**
+     * Retrieves the number of assets in the manifest.
+     *
+     * @return the number of assets.
+     */
+    public int size() {
+        return assets.size();
+    }
+
+    /**
+     * Checks whether the manifest lists no assets.
+     *
+     * @return {@code true} if there is nothing to load.
+     */
+    public boolean isEmpty() {
+        return assets.isEmpty();
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.audio.MusicPlayer;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.SpriteCache;
+import javafx.concurrent.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code AssetPreloader} class loads the assets listed in an {@link AssetManifest} in parallel on
+ * a pool of worker threads, so a level can be created without decoding anything on the JavaFX
+ * application thread. Images are decoded into the {@link SpriteCache}, sound effect clips are loaded
+ * with {@link SoundEffectPlayer#preload(String)} and music with {@link MusicPlayer#preload(String)}.
+ *
+ * <p>An asset that cannot be loaded is reported in the {@link Result} and skipped. It is then
+ * loaded, or fails, the usual way when the level first uses it. The worker threads are daemon
+ * threads, so an idle preloader does not keep the application running.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/AssetPreloader.java</p>
+ */
+public final class AssetPreloader {
+
+    private static final int MAXIMUM_DEFAULT_THREADS = 4;
+    private final ExecutorService workers;
+
+    /**
+     * The outcome of preloading a manifest.
+     *
+     * @param loaded       the number of assets loaded or already resident.
+     * @param failures     a description of each asset that could not be loaded.
+     * @param elapsedNanos the time taken to preload the manifest, in nanoseconds.
+     */
+    public record Result(int loaded, List<String> failures, long elapsedNanos) {
+    }
+
+    /**
+     * Constructs an {@code AssetPreloader} with one worker thread per processor, up to four.
+     */
+    public AssetPreloader() {
+        this(Math.min(MAXIMUM_DEFAULT_THREADS, Math.max(1, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Constructs an {@code AssetPreloader} with the specified number of worker threads.
+     *
+     * @param threads the number of assets loaded at the same time.
+     */
+    public AssetPreloader(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads every asset of a manifest and waits for all of them.
+     *
+     * @param manifest the assets to load.
+     * @param progress called with the number of assets finished so far each time one finishes,
+     *                 on the calling thread, or {@code null}.
+     * @return the outcome of the preload.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public Result preload(AssetManifest manifest, IntConsumer progress) throws InterruptedException {
+        long start = System.nanoTime();
+        CompletionService<AssetManifest.Asset> completion = new ExecutorCompletionService<>(workers);
+        for (AssetManifest.Asset asset : manifest.getAssets()) {
+            completion.submit(() -> load(asset), asset);
+        }
+        List<String> failures = new ArrayList<>();
+        for (int finished = 1; finished <= manifest.size(); finished++) {
+            try {
+                completion.take().get();
+            } catch (ExecutionException e) {
+                failures.add(String.valueOf(e.getCause().getMessage()));
+            }
+            if (progress != null) {
+                progress.accept(finished);
+            }
+        }
+        return new Result(manifest.size() - failures.size(), List.copyOf(failures), System.nanoTime() - start);
+    }
+
+    /**
+     * Creates a task preloading a manifest, whose progress can be bound to a progress bar and whose
+     * handlers run on the JavaFX application thread. The task is not started.
+     *
+     * @param manifest the assets to load.
+     * @return the task.
+     */
+    public Task<Result> createTask(AssetManifest manifest) {
+        return new Task<>() {
+            @Override
+            protected Result call() throws InterruptedException {
+                updateProgress(0, Math.max(1, manifest.size()));
+                Result result = preload(manifest, finished -> updateProgress(finished, manifest.size()));
+                updateProgress(1, 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Starts a preload task on its own thread, which hands the assets to the worker threads and
+     * waits for them.
+     *
+     * @param task the task created by {@link #createTask(AssetManifest)}.
+     */
+    public void start(Task<Result> task) {
+        Thread thread = new Thread(task, "asset-preload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the worker threads. Assets already being loaded are finished.
+     */
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * Loads a single asset into the cache it is used from.
+     *
+     * @param asset the asset to load.
+     */
+    private static void load(AssetManifest.Asset asset) {
+        switch (asset.kind()) {
+            case IMAGE -> SpriteCache.getInstance().preload(asset.resourcePath(), asset.height());
+            case SOUND -> SoundEffectPlayer.preload(asset.resourcePath());
+            case MUSIC -> MusicPlayer.preload(asset.resourcePath());
+        }
+    }
+
+}
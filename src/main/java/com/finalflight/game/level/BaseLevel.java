@@ -1,23 +1,28 @@
 package com.finalflight.game.level;
 
 import com.finalflight.game.audio.MusicPlayer;
+import com.finalflight.game.audio.VoiceManager;
+import com.finalflight.game.event.GameEventBus;
 import com.finalflight.game.gameobjects.DestructibleGameObject;
 import com.finalflight.game.gameobjects.FighterPlane;
+import com.finalflight.game.gameobjects.GameObject;
+import com.finalflight.game.gameobjects.SimulationRate;
+import com.finalflight.game.gameobjects.SpriteCache;
 import com.finalflight.game.gameobjects.UserPlane;
 import com.finalflight.game.visual.BaseLevelView;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.finalflight.game.visual.ProfilerOverlay;
+import com.finalflight.game.visual.CanvasSpriteRenderer;
 import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 
 /**
  * Represents an abstract base class for levels in the Final Flight game.
@@ -28,11 +33,46 @@ import java.util.*;
  * updating actors, and handling user interactions. Subclasses must provide specific
  * implementations for level-specific logic and UI components.</p>
  *
- * This class extends {@code Observable} to allow game state transitions to be observed.
+ * <p>The simulation state of the level is held by a {@link LevelWorld}, which the game loop advances
+ * each frame before synchronising the views of the actors in the scene.</p>
+ *
+ * <p>A level can also be created headless, without a scene, view, music or game loop. A headless
+ * level takes its input through {@link #applyInput(Set)} and is advanced one step at a time with
+ * {@link #tick()} by its caller, so whole playthroughs can be simulated without the JavaFX
+ * toolkit. The enemies and projectiles it spawns still request their sprites, so the
+ * {@link com.finalflight.game.gameobjects.SpriteCache} must be put in headless mode as well.</p>
+ *
+ * <p>All randomness of a level is drawn from a {@link LevelRandom} created from the seed of the level,
+ * so a level created with the same seed and given the same input plays out the same way.</p>
+ *
+ * <p>Keyboard input is sampled once per step: the key handlers only track which keys are held, and
+ * each step of the game loop applies them through {@link #applyInput(Set)} before calling
+ * {@link #tick()}. The user plane runs on the simulated time of the level rather than the system
+ * clock, so the seed and the keys applied on each step, which can be reported to an input recorder,
+ * are enough to replay the level exactly.</p>
+ *
+ * <p>Each stage of a step, and each rendered frame, is timed by a {@link FrameProfiler} while it is
+ * enabled. Pressing F3 toggles the profiler together with an overlay showing its percentiles; the
+ * choice carries over to the following levels.</p>
+ *
+ * <p>The actors are shown in one of two ways, selected at launch with the {@value #RENDER_MODE_PROPERTY}
+ * system property. In the default {@code nodes} mode, each actor is its own node in the root group. In
+ * {@code canvas} mode, the actors are kept out of the scene graph and drawn each frame onto the canvas
+ * of a {@link CanvasSpriteRenderer} placed just above the background, while the HUD stays made of
+ * nodes. Projectiles kept in {@link ProjectileStore} instances are drawn on that canvas in either mode.</p>
+ *
+ * <p>Game state transitions and other gameplay events are published on the {@link GameEventBus} of
+ * the level's world, see {@link #getEvents()}. The hearts and kill counter of the HUD are updated from
+ * those events rather than on every step.</p>
+ *
+ * <p>A level can be played in a {@link LevelSession}, which keeps the scene, the player's plane and the
+ * HUD of the game from one level to the next. Such a level adds its background, actors and other content
+ * to the root of the session and, when it keeps the view of the previous level, resets its HUD instead
+ * of creating it again.</p>
  *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/BaseLevel.java</p>
  */
-public abstract class BaseLevel extends Observable {
+public abstract class BaseLevel {
 
     private static final String LEVEL_MUSIC = "/com/finalflight/game/audio/levelmusic.mp3";
     private static final String WON_GAME_MUSIC = "/com/finalflight/game/audio/wongame.mp3";
@@ -40,23 +80,56 @@ public abstract class BaseLevel extends Observable {
     private static final double SCREEN_HEIGHT_ADJUSTMENT = 100;
     private static final double HUD_BOOST_BAR_Y = 140;
     private static final double HUD_FIRING_MODE_Y = 120;
-    private static final int MILLISECOND_DELAY = 50;
+
+    /**
+     * The state of a level, which stays {@code RUNNING} until the level is completed, won or lost.
+     */
+    public enum LevelStatus {
+        RUNNING, COMPLETED, WON, LOST
+    }
+
+    /**
+     * The system property selecting how actors are shown, either {@code nodes} or {@code canvas}.
+     */
+    public static final String RENDER_MODE_PROPERTY = "finalflight.renderer";
+
+    /**
+     * The ways the actors of a level can be shown: as one node each, or drawn onto a single canvas.
+     */
+    public enum RenderMode {
+        NODES, CANVAS
+    }
+
     private final double screenHeight;
     private final double screenWidth;
     private final double enemyMaximumYPosition;
     private final int killsToAdvance;
 
     private final Group root;
-    private final Timeline timeline;
+    private final GameLoop gameLoop;
     private final UserPlane user;
     private final Scene scene;
     private final ImageView background;
-    private final Set<KeyCode> activeKeys = new HashSet<>();
-
-    private final List<DestructibleGameObject> friendlyUnits;
-    private final List<DestructibleGameObject> enemyUnits;
-    private final List<DestructibleGameObject> userProjectiles;
-    private final List<DestructibleGameObject> enemyProjectiles;
+    private final Set<KeyCode> activeKeys = EnumSet.noneOf(KeyCode.class);
+    private final Set<KeyCode> heldKeys = EnumSet.noneOf(KeyCode.class);
+    private final Set<KeyCode> keysForNextStep = EnumSet.noneOf(KeyCode.class);
+    private Consumer<Set<KeyCode>> inputRecorder;
+    private static boolean profilerShown = Boolean.getBoolean(FrameProfiler.ENABLED_PROPERTY); // Kept between levels
+    private final FrameProfiler profiler = new FrameProfiler();
+    private ProfilerOverlay profilerOverlay;
+    private final RenderMode renderMode;
+    private CanvasSpriteRenderer spriteRenderer;
+    private final boolean headless;
+    private final LevelDefinition definition;
+    private final LevelSession session;
+    private boolean hudReused;
+    private final int tickRate = SimulationRate.getTickRate(); // Read once, so the rate stays fixed for the level
+    private long tickCount;
+    private LevelStatus status = LevelStatus.RUNNING;
+
+    private final LevelWorld world;
+    private final LevelRandom random;
+    private final DoubleSupplier enemyFireSupplier;
 
     private int currentNumberOfEnemies;
     private final BaseLevelView levelView;
@@ -77,26 +150,121 @@ public abstract class BaseLevel extends Observable {
      * @param killsToAdvance      the number of kills required to advance to the next level.
      */
     public BaseLevel(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, int killsToAdvance) {
-        this.root = new Group();
-        this.scene = new Scene(root, screenWidth, screenHeight);
-        this.timeline = new Timeline();
-        this.user = new UserPlane(playerInitialHealth);
+        this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, killsToAdvance, false);
+    }
+
+    /**
+     * Creates a new BaseLevel instance, optionally headless. A headless level creates no scene,
+     * background, view, music or game loop.
+     *
+     * @param backgroundImageName the path to the background image for the level.
+     * @param screenHeight        the height of the game screen.
+     * @param screenWidth         the width of the game screen.
+     * @param playerInitialHealth the initial health of the player.
+     * @param killsToAdvance      the number of kills required to advance to the next level.
+     * @param headless            {@code true} to create the level without any presentation.
+     */
+    public BaseLevel(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+                     int killsToAdvance, boolean headless) {
+        this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, killsToAdvance, headless,
+                LevelRandom.defaultSeed());
+    }
+
+    /**
+     * Creates a new BaseLevel instance, optionally headless, whose randomness is derived from the specified seed.
+     *
+     * @param backgroundImageName the path to the background image for the level.
+     * @param screenHeight        the height of the game screen.
+     * @param screenWidth         the width of the game screen.
+     * @param playerInitialHealth the initial health of the player.
+     * @param killsToAdvance      the number of kills required to advance to the next level.
+     * @param headless            {@code true} to create the level without any presentation.
+     * @param seed                the seed of the level's {@link LevelRandom}.
+     */
+    public BaseLevel(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+                     int killsToAdvance, boolean headless, long seed) {
+        this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, killsToAdvance, headless, seed, null, null);
+    }
+
+    /**
+     * Creates a new BaseLevel instance from a {@link LevelDefinition}, optionally headless or played in a
+     * {@link LevelSession}, whose scene, root and player's plane it then uses instead of its own. The
+     * definition is available through {@link #getDefinition()} from the start of construction, including
+     * to {@link #instantiateLevelView()}.
+     *
+     * @param definition   the definition of the level.
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation.
+     * @param seed         the seed of the level's {@link LevelRandom}.
+     * @param session      the session the level is played in, or {@code null} for a level of its own.
+     * @throws IllegalArgumentException if a headless level is played in a session.
+     */
+    protected BaseLevel(LevelDefinition definition, double screenHeight, double screenWidth, boolean headless, long seed,
+                        LevelSession session) {
+        this(definition.getBackgroundImageName(), screenHeight, screenWidth, definition.getPlayerInitialHealth(),
+                definition.getKillsToAdvance(), headless, seed, definition, session);
+    }
+
+    /**
+     * Creates a new BaseLevel instance, optionally from a {@link LevelDefinition}.
+     *
+     * @param backgroundImageName the path to the background image for the level.
+     * @param screenHeight        the height of the game screen.
+     * @param screenWidth         the width of the game screen.
+     * @param playerInitialHealth the initial health of the player.
+     * @param killsToAdvance      the number of kills required to advance to the next level.
+     * @param headless            {@code true} to create the level without any presentation.
+     * @param seed                the seed of the level's {@link LevelRandom}.
+     * @param definition          the definition of the level, or {@code null} for a level written as a class.
+     * @param session             the session the level is played in, or {@code null} for a level of its own.
+     * @throws IllegalArgumentException if a headless level is played in a session.
+     */
+    private BaseLevel(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+                      int killsToAdvance, boolean headless, long seed, LevelDefinition definition, LevelSession session) {
+        if (headless && session != null) {
+            throw new IllegalArgumentException("A headless level cannot be played in a session");
+        }
+        this.definition = definition;
+        this.headless = headless;
+        this.session = session;
+        this.random = new LevelRandom(seed);
+        this.enemyFireSupplier = random.enemyFire()::nextDouble;
+        this.root = session != null ? session.getRoot() : new Group();
+        this.user = session != null ? session.obtainUser(playerInitialHealth) : new UserPlane(playerInitialHealth, headless);
         this.killsToAdvance = killsToAdvance;
-        this.friendlyUnits = new ArrayList<>();
-        this.enemyUnits = new ArrayList<>();
-        this.userProjectiles = new ArrayList<>();
-        this.enemyProjectiles = new ArrayList<>();
-        this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-        this.levelView = instantiateLevelView();
         this.currentNumberOfEnemies = 0;
+        user.setClock(this::getSimulatedTimeMillis);
+        this.renderMode = headless ? RenderMode.NODES
+                : RenderMode.valueOf(System.getProperty(RENDER_MODE_PROPERTY, RenderMode.NODES.name()).toUpperCase(Locale.ROOT));
+
+        if (headless) {
+            this.scene = null;
+            this.world = new LevelWorld(screenWidth, screenHeight, user);
+            this.background = null;
+            this.levelView = null;
+            this.gameLoop = null;
+            return;
+        }
+
+        this.scene = session != null ? session.getScene() : new Scene(root, screenWidth, screenHeight);
+        this.world = renderMode == RenderMode.CANVAS
+                ? new LevelWorld(screenWidth, screenHeight, user)
+                : new LevelWorld(screenWidth, screenHeight, user, root.getChildren()::add, root.getChildren()::removeAll);
+        this.background = new ImageView(SpriteCache.getInstance().getImage(backgroundImageName));
+        this.levelView = instantiateLevelView();
+        if (session != null) {
+            hudReused = session.beginLevel(levelView);
+        }
+        world.getEvents().onPlayerDamaged(levelView::removeHearts);
+        world.getEvents().onEnemyKilled(kills -> levelView.updateKillCounter(kills, killsToAdvance));
 
         switchMusic(LEVEL_MUSIC, true);
 
-        initializeTimeline();
-        friendlyUnits.add(user);
+        this.gameLoop = GameLoop.create(tickRate, this::step, this::renderFrame);
     }
 
     /**
@@ -132,12 +300,32 @@ public abstract class BaseLevel extends Observable {
      * @return the initialized {@code Scene} for the level.
      */
     public Scene initializeScene() {
-        scene.getStylesheets().add(getClass().getResource("/com/finalflight/game/css/styles.css").toExternalForm());
+        return initializeScene(HUD_BOOST_BAR_Y, HUD_FIRING_MODE_Y);
+    }
+
+    /**
+     * Initializes the scene for the level with the boost bar and firing mode of the HUD at the specified
+     * heights. In a session, the stylesheet is already applied, and a HUD kept from the previous level is
+     * reset for this level rather than created again.
+     *
+     * @param boostBarY   the Y-coordinate of the boost bar.
+     * @param firingModeY the Y-coordinate of the firing mode text.
+     * @return the initialized {@code Scene} for the level.
+     */
+    protected Scene initializeScene(double boostBarY, double firingModeY) {
+        if (session == null) {
+            scene.getStylesheets().add(getClass().getResource("/com/finalflight/game/css/styles.css").toExternalForm());
+        }
         initializeBackground();
         initializeFriendlyUnits();
         levelView.showHeartDisplay(user.getHealth());
-        levelView.initializeHUD(killsToAdvance, HUD_BOOST_BAR_Y, HUD_FIRING_MODE_Y);
-        levelView.initializePauseMenu();
+        if (hudReused) {
+            levelView.updateKillCounter(user.getNumberOfKills(), killsToAdvance);
+            updateHUD();
+        } else {
+            levelView.initializeHUD(killsToAdvance, boostBarY, firingModeY);
+            levelView.initializePauseMenu();
+        }
         background.requestFocus();
         return scene;
     }
@@ -146,72 +334,188 @@ public abstract class BaseLevel extends Observable {
      * Starts the game by playing the game loop.
      */
     public void startGame() {
+        if (profilerShown) {
+            showProfiler(true);
+        }
         background.requestFocus();
-        timeline.play();
+        gameLoop.play();
     }
 
     /**
-     * Transitions to the next level by stopping the game loop and notifying observers.
+     * Transitions to the next level by stopping the game loop and publishing the end of the level.
      *
      * @param levelName the name of the next level to load.
      */
     public void goToNextLevel(String levelName) {
-        timeline.stop();
-        setChanged();
+        status = LevelStatus.COMPLETED;
+        if (!headless) {
+            gameLoop.stop();
+        }
         UserPlane.resetHealth(user.getHealth());
-        notifyObservers(levelName);
+        world.getEvents().publishLevelComplete(levelName);
     }
 
     /**
      * Updates the game scene, including spawning enemies, handling collisions,
-     * updating actors, and checking game-over conditions.
+     * updating actors, and checking game-over conditions. Called by the game loop once
+     * per simulation step; the views of the actors are synchronised separately by
+     * {@link #renderScene(double)}.
      */
     protected void updateScene() {
+        long time = profiler.start();
         spawnEnemyUnits();
-        updateActors();
-        generateEnemyFire();
+        time = profiler.lap(FrameProfiler.Stage.SPAWN, time);
+        world.updateActors();
+        time = profiler.lap(FrameProfiler.Stage.UPDATE, time);
+        world.generateEnemyFire();
+        time = profiler.lap(FrameProfiler.Stage.FIRE, time);
         updateNumberOfEnemies();
-        handleEnemyPenetration();
-        handleUserProjectileCollisions();
-        handleEnemyProjectileCollisions();
-        handlePlaneCollisions();
-        removeAllDestroyedActors();
+        world.handleEnemyPenetration();
+        world.cullProjectiles();
+        time = profiler.lap(FrameProfiler.Stage.CULL, time);
+        world.handleUserProjectileCollisions();
+        world.handleEnemyProjectileCollisions();
+        world.handlePlaneCollisions();
+        time = profiler.lap(FrameProfiler.Stage.COLLISIONS, time);
+        world.removeAllDestroyedActors();
         updateKillCount();
-        updateHUD();
-        updateLevelView();
+        time = profiler.lap(FrameProfiler.Stage.REMOVAL, time);
+        if (!headless) {
+            updateHUD();
+            time = profiler.lap(FrameProfiler.Stage.HUD, time);
+        }
         checkIfGameOver();
+        profiler.lap(FrameProfiler.Stage.GAME_OVER, time);
+    }
+
+    /**
+     * Runs one step of the game loop, applying the keys held down, or pressed and released, since
+     * the previous step.
+     */
+    private void step() {
+        keysForNextStep.addAll(heldKeys);
+        applyInput(keysForNextStep);
+        keysForNextStep.clear();
+        tick();
+    }
+
+    /**
+     * Advances the level by one simulation step, moving its simulated clock forward by the
+     * duration of one step and reporting the keys applied for the step to the input recorder, if any.
+     * Does nothing once the level is no longer running.
+     */
+    public void tick() {
+        if (status != LevelStatus.RUNNING) {
+            return;
+        }
+        tickCount++;
+        if (inputRecorder != null) {
+            inputRecorder.accept(activeKeys);
+        }
+        long start = profiler.start();
+        if (!headless) {
+            VoiceManager.getInstance().beginFrame(); // Sounds requested during the step are mixed together
+        }
+        updateScene();
+        if (!headless) {
+            VoiceManager.getInstance().endFrame();
+        }
+        profiler.lap(FrameProfiler.Stage.STEP, start);
+    }
+
+    /**
+     * Sets the recorder that is given the keys applied on every step of the level.
+     *
+     * @param inputRecorder the recorder, or {@code null} to stop recording.
+     */
+    public void setInputRecorder(Consumer<Set<KeyCode>> inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * Applies the keys held down during the next step. Called by the game loop with the keys from the
+     * keyboard, and used to drive a headless level from a scripted or recorded input source.
+     *
+     * @param pressedKeys the keys held down, replacing the previously held keys.
+     */
+    public void applyInput(Set<KeyCode> pressedKeys) {
+        boolean boostWasHeld = activeKeys.contains(KeyCode.SHIFT);
+        activeKeys.clear();
+        activeKeys.addAll(pressedKeys);
+        // Only a release ends the boost, as ending it restarts the recharge cooldown
+        if (boostWasHeld && !activeKeys.contains(KeyCode.SHIFT)) {
+            user.setSpeedBoost(false);
+        }
+        processKeyPress();
+        stop();
     }
 
     /**
-     * Handles updating the HUD with the player's kill count, boost bar status,
-     * and firing mode.
+     * Handles updating the HUD with the player's boost bar status and firing mode. The kill count
+     * and hearts are updated when kills and damage are published.
      */
     protected void updateHUD() {
-        levelView.updateKillCounter(user.getNumberOfKills(), killsToAdvance);
         levelView.updateBoostBar(user.getBoostEnergy() / UserPlane.getMaxBoostEnergy());
         levelView.updateFiringMode(user.getFiringMode().toString());
     }
 
     /**
      * Updates the user's kill count by comparing the number of enemies at the start of the frame
-     * with the current number of enemies. For each enemy destroyed, the user's kill count is incremented.
+     * with the current number of enemies. For each enemy destroyed, the user's kill count is incremented
+     * and the kill is published.
      */
     protected void updateKillCount() {
-        int killsThisFrame = currentNumberOfEnemies - enemyUnits.size();
+        int killsThisFrame = currentNumberOfEnemies - world.getEnemyUnits().size();
         for (int i = 0; i < killsThisFrame; i++) {
             user.incrementKillCount();
+            world.getEvents().publishEnemyKilled(user.getNumberOfKills());
         }
     }
 
     /**
-     * Initializes the game timeline, setting it to run indefinitely with a fixed delay
-     * for each frame. The timeline is linked to the game loop, which updates the scene
-     * on each tick.
+     * Renders the current frame by synchronising the views of the actors with their models,
+     * interpolated between the last two simulation steps. Called by the game loop after each
+     * display frame, which may fall between simulation steps.
+     *
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    protected void renderScene(double alpha) {
+        if (renderMode == RenderMode.NODES) {
+            world.syncViews(alpha);
+        }
+        if (spriteRenderer != null) {
+            spriteRenderer.render(world, alpha);
+        }
+    }
+
+    /**
+     * Renders a frame for the game loop, timing it and refreshing the profiler overlay while the
+     * profiler is enabled.
+     *
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
      */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-        timeline.getKeyFrames().add(gameLoop);
+    private void renderFrame(double alpha) {
+        profiler.markPulse();
+        long start = profiler.start();
+        renderScene(alpha);
+        profiler.lap(FrameProfiler.Stage.RENDER, start);
+        if (profilerOverlay != null) {
+            profilerOverlay.update(profiler, world, levelView.getHudModel());
+        }
+    }
+
+    /**
+     * Shows or hides the profiler overlay, enabling the profiler only while it is shown.
+     *
+     * @param shown {@code true} to profile the level and show the overlay.
+     */
+    private void showProfiler(boolean shown) {
+        profilerShown = shown;
+        profiler.setEnabled(shown);
+        if (profilerOverlay == null) {
+            profilerOverlay = new ProfilerOverlay(root);
+        }
+        profilerOverlay.setVisible(shown);
     }
 
     /**
@@ -231,23 +535,34 @@ public abstract class BaseLevel extends Observable {
         };
         background.addEventHandler(KeyEvent.KEY_PRESSED, escapeKeyHandler);
 
+        // Keys are applied on the next step, so a key pressed and released between two steps still counts
         background.setOnKeyPressed(e -> {
-            activeKeys.add(e.getCode());
-            if (e.getCode() == KeyCode.SHIFT) {
-                user.setSpeedBoost(true);
+            if (e.getCode() == KeyCode.F3) {
+                showProfiler(!profilerShown);
             }
-            processKeyPress();
+            heldKeys.add(e.getCode());
+            keysForNextStep.add(e.getCode());
         });
 
-        background.setOnKeyReleased(e -> {
-            activeKeys.remove(e.getCode());
-            if (e.getCode() == KeyCode.SHIFT) {
-                user.setSpeedBoost(false);
-            }
-            stop(); // Stop movement when key is released
-        });
+        background.setOnKeyReleased(e -> heldKeys.remove(e.getCode()));
+
+        // Placed at the back, below a HUD kept by a session from the previous level
+        root.getChildren().add(0, background);
+        if (renderMode == RenderMode.CANVAS || world.isProjectileStoreEnabled()) {
+            spriteRenderer = new CanvasSpriteRenderer(screenWidth, screenHeight, renderMode == RenderMode.CANVAS);
+            root.getChildren().add(1, spriteRenderer.getCanvas());
+        }
+    }
 
-        root.getChildren().add(background);
+    /**
+     * Adds the view of an actor to the scene, unless actors are drawn onto the sprite canvas.
+     *
+     * @param actor the actor to show.
+     */
+    protected void addActorView(GameObject actor) {
+        if (renderMode == RenderMode.NODES) {
+            root.getChildren().add(actor);
+        }
     }
 
     /**
@@ -262,23 +577,26 @@ public abstract class BaseLevel extends Observable {
                 case LEFT, A -> user.move(-1, false); // LEFT or A for moving left
                 case RIGHT, D -> user.move(1, false); // RIGHT or D for moving right
                 case SPACE -> fireProjectile();       // SPACE for firing
-                case DIGIT1 -> {
-                    user.setFiringMode(UserPlane.FiringMode.SINGLE);
-                    firingModeText.setText("Mode: SINGLE");
-                }
-                case DIGIT2 -> {
-                    user.setFiringMode(UserPlane.FiringMode.SPREAD);
-                    firingModeText.setText("Mode: SPREAD");
-                }
+                case DIGIT1 -> setFiringMode(UserPlane.FiringMode.SINGLE);
+                case DIGIT2 -> setFiringMode(UserPlane.FiringMode.SPREAD);
                 case SHIFT -> user.setSpeedBoost(true); // Enable speed boost
-                case DIGIT3 -> {
-                    user.setFiringMode(UserPlane.FiringMode.HEAVY);
-                    firingModeText.setText("Mode: HEAVY");
-                }
+                case DIGIT3 -> setFiringMode(UserPlane.FiringMode.HEAVY);
             }
         }
     }
 
+    /**
+     * Switches the firing mode of the user's plane and updates the firing mode text, if shown.
+     *
+     * @param mode the new firing mode.
+     */
+    private void setFiringMode(UserPlane.FiringMode mode) {
+        user.setFiringMode(mode);
+        if (firingModeText != null) {
+            firingModeText.setText("Mode: " + mode);
+        }
+    }
+
     /**
      * Stops user movement in all directions by resetting the movement states
      * based on the currently active keys.
@@ -322,23 +640,23 @@ public abstract class BaseLevel extends Observable {
     }
 
     /**
-     * Pauses the game by stopping the timeline and fading out the background music.
+     * Pauses the game by pausing the game loop and fading out the background music.
      */
     private void pauseGame() {
         isPaused = true;
-        timeline.pause();  // Stop the game loop
+        gameLoop.pause();  // Stop the game loop
 
         // Fade out and pause music
         musicPlayer.fadeOutMusic(1.0, 0.05, null);
     }
 
     /**
-     * Resumes the game by restarting the timeline, fading in the background music,
+     * Resumes the game by restarting the game loop, fading in the background music,
      * and re-enabling the ESC key functionality.
      */
     private void resumeGame() {
         isPaused = false;
-        timeline.play();  // Restart the game loop
+        gameLoop.play();  // Restart the game loop
 
         // Fade music in
         musicPlayer.fadeInMusic(1.0, 0.2);
@@ -349,232 +667,217 @@ public abstract class BaseLevel extends Observable {
     }
 
     /**
-     * Fires a projectile from the user's plane. Adds the projectile to the scene graph
-     * and tracks it in the list of user projectiles.
+     * Fires a projectile from the user's plane. Adds the projectile to the world,
+     * which displays it in the scene graph.
      */
     private void fireProjectile() {
-        List<DestructibleGameObject> projectiles = user.fire();
-        for (DestructibleGameObject projectile : projectiles) {
-            root.getChildren().add(projectile);
-            userProjectiles.add(projectile);
-        }
+        world.addUserProjectiles(user.fire());
     }
 
     /**
-     * Generates enemy projectiles by invoking the fire method for each enemy plane
-     * and adding the projectiles to the scene.
-     */
-    private void generateEnemyFire() {
-        enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
-    }
-
-    /**
-     * Spawns a single enemy projectile by adding it to the scene graph and tracking it
-     * in the list of enemy projectiles.
-     *
-     * @param projectile The projectile to spawn.
+     * Displays the win screen and stops the game loop.
      */
-    private void spawnEnemyProjectile(DestructibleGameObject projectile) {
-        if (projectile != null) {
-            root.getChildren().add(projectile);
-            enemyProjectiles.add(projectile);
+    protected void winGame() {
+        status = LevelStatus.WON;
+        if (headless) {
+            return;
         }
-    }
+        gameLoop.stop();
+        levelView.clearActorsAfterWin(world.getEnemyUnits(), world.getEnemyProjectiles(), world.getUserProjectiles());
+        if (spriteRenderer != null) {
+            spriteRenderer.clear();
+            if (spriteRenderer.drawsActors()) {
+                spriteRenderer.drawActors(world.getFriendlyUnits(), 1);
+            }
+        }
+        levelView.displayGameWin();
+        switchMusic(WON_GAME_MUSIC, false);
 
-    /**
-     * Updates all actors in the game, including friendly units, enemy units, and projectiles.
-     * Each actor's state is refreshed.
-     */
-    private void updateActors() {
-        friendlyUnits.forEach(DestructibleGameObject::updateActor);
-        enemyUnits.forEach(DestructibleGameObject::updateActor);
-        userProjectiles.forEach(DestructibleGameObject::updateActor);
-        enemyProjectiles.forEach(DestructibleGameObject::updateActor);
+        // Disable ESC key functionality
+        disableEscapeKey();
     }
 
     /**
-     * Removes all destroyed actors from the scene graph and the respective tracking lists.
+     * Displays the lose screen and stops the game loop.
      */
-    private void removeAllDestroyedActors() {
-        removeDestroyedActors(friendlyUnits);
-        removeDestroyedActors(enemyUnits);
-        removeDestroyedActors(userProjectiles);
-        removeDestroyedActors(enemyProjectiles);
+    protected void loseGame() {
+        status = LevelStatus.LOST;
+        if (headless) {
+            return;
+        }
+        gameLoop.stop();
+        levelView.displayGameOver();
+        switchMusic(LOST_GAME_MUSIC, false);
+
+        // Disable ESC key functionality
+        disableEscapeKey();
     }
 
     /**
-     * Removes all destroyed actors from a given list and their corresponding nodes
-     * from the scene graph.
-     *
-     * @param actors The list of actors to process.
+     * Restarts the game by resetting the state, clearing actors, and transitioning to LevelOne.
      */
-    private void removeDestroyedActors(List<DestructibleGameObject> actors) {
-        List<DestructibleGameObject> destroyedActors = actors.stream().filter(DestructibleGameObject::isDestroyed)
-                .toList();
-        root.getChildren().removeAll(destroyedActors);
-        actors.removeAll(destroyedActors);
+    protected void restartGame() {
+        gameLoop.stop(); // Stop the current game loop
+        if (session != null) {
+            user.prepareForLevel(user.getMaxHealth()); // The plane of the session starts again at full health
+        } else if (user != null) {
+            UserPlane.resetHealth(5); // Reset health to default
+        }
+        world.clear();
+        if (session == null) {
+            root.getChildren().clear(); // A session clears the root, but keeps the HUD, when the next level starts
+        }
+        if (musicPlayer != null) {
+            musicPlayer.fadeInMusic(1.0, 0.2);
+        }
+        world.getEvents().publishLevelComplete("com.finalflight.game.level.LevelOne"); // Transition to LevelOne
     }
 
     /**
-     * Handles collisions between friendly units and enemy units, applying damage
-     * to both upon collision.
+     * Exits the game.
      */
-    private void handlePlaneCollisions() {
-        handleCollisions(friendlyUnits, enemyUnits);
+    private void quitGame() {
+        System.exit(0);
     }
 
     /**
-     * Handles collisions between user projectiles and enemy units, applying damage
-     * to both upon collision.
+     * Disables the ESC key functionality by removing its event handler.
      */
-    private void handleUserProjectileCollisions() {
-        handleCollisions(userProjectiles, enemyUnits);
+    private void disableEscapeKey() {
+        background.removeEventHandler(KeyEvent.KEY_PRESSED, escapeKeyHandler);
     }
 
     /**
-     * Handles collisions between enemy projectiles and friendly units, applying damage
-     * to both upon collision.
+     * Enables the ESC key functionality by adding its event handler.
      */
-    private void handleEnemyProjectileCollisions() {
-        handleCollisions(enemyProjectiles, friendlyUnits);
+    private void enableEscapeKey() {
+        background.addEventHandler(KeyEvent.KEY_PRESSED, escapeKeyHandler);
     }
 
     /**
-     * Processes collisions between two groups of actors. If two actors collide,
-     * both take damage.
+     * Switches the background music for the level.
      *
-     * @param actors1 The first list of actors.
-     * @param actors2 The second list of actors.
+     * @param newMusicFile the path to the new music file.
+     * @param shouldLoop   {@code true} if the music should loop; {@code false} otherwise.
      */
-    private void handleCollisions(List<DestructibleGameObject> actors1,
-                                  List<DestructibleGameObject> actors2) {
-        for (DestructibleGameObject actor : actors2) {
-            for (DestructibleGameObject otherActor : actors1) {
-                if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-                    actor.takeDamage();
-                    otherActor.takeDamage();
-                }
-            }
+    protected void switchMusic(String newMusicFile, boolean shouldLoop) {
+        if (headless) {
+            return;
+        }
+        if (musicPlayer != null) {
+            musicPlayer.stopMusic(); // Stop the current music
         }
+        musicPlayer = MusicPlayer.getInstance(newMusicFile);
+        musicPlayer.playMusic(shouldLoop); // Play the new music
     }
 
     /**
-     * Handles enemy penetration by applying damage to the user and destroying the enemy
-     * if it moves beyond the user's defenses.
+     * Retrieves the current player's {@code UserPlane} instance.
+     *
+     * @return the player's plane.
      */
-    private void handleEnemyPenetration() {
-        for (DestructibleGameObject enemy : enemyUnits) {
-            if (enemyHasPenetratedDefenses(enemy)) {
-                user.takeDamage();
-                enemy.destroy();
-            }
-        }
+    protected UserPlane getUser() {
+        return user;
     }
 
     /**
-     * Updates the level view, such as removing hearts from the user's health indicator.
+     * Retrieves the projectile culler, which counts the projectiles culled in this level.
+     *
+     * @return the projectile culler.
      */
-    private void updateLevelView() {
-        levelView.removeHearts(user.getHealth());
+    public ProjectileCuller getProjectileCuller() {
+        return world.getProjectileCuller();
     }
 
     /**
-     * Checks if an enemy has penetrated the user's defenses.
+     * Retrieves the event bus the gameplay events of the level are published to, such as its end,
+     * kills and damage to the player.
      *
-     * @param enemy The enemy to check.
-     * @return True if the enemy has penetrated the defenses, false otherwise.
+     * @return the event bus of the level.
      */
-    private boolean enemyHasPenetratedDefenses(DestructibleGameObject enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth;
+    public GameEventBus getEvents() {
+        return world.getEvents();
     }
 
     /**
-     * Displays the win screen and stops the game loop.
+     * Retrieves the world holding the simulation state of the level.
+     *
+     * @return the level world.
      */
-    protected void winGame() {
-        timeline.stop();
-        levelView.clearActorsAfterWin(enemyUnits, enemyProjectiles, userProjectiles);
-        levelView.displayGameWin();
-        switchMusic(WON_GAME_MUSIC, false);
-
-        // Disable ESC key functionality
-        disableEscapeKey();
+    public LevelWorld getWorld() {
+        return world;
     }
 
     /**
-     * Displays the lose screen and stops the game loop.
+     * Retrieves how the actors of the level are shown.
+     *
+     * @return the render mode of the level; always {@code NODES} for a headless level.
      */
-    protected void loseGame() {
-        timeline.stop();
-        levelView.displayGameOver();
-        switchMusic(LOST_GAME_MUSIC, false);
-
-        // Disable ESC key functionality
-        disableEscapeKey();
+    public RenderMode getRenderMode() {
+        return renderMode;
     }
 
     /**
-     * Restarts the game by resetting the state, clearing actors, and transitioning to LevelOne.
+     * Retrieves the view the session of the level holds, rebound to this level, if it is of the
+     * specified class, so the level can keep the HUD and pause menu of the previous level.
+     *
+     * @param viewClass the class of view the level needs.
+     * @param <V>       the type of view.
+     * @return the view of the session, or {@code null} if the level is not played in a session or the
+     * session holds no view of that class.
      */
-    protected void restartGame() {
-        timeline.stop(); // Stop the current game loop
-        if (user != null) {
-            UserPlane.resetHealth(5); // Reset health to default
-        }
-        friendlyUnits.clear();
-        enemyUnits.clear();
-        userProjectiles.clear();
-        enemyProjectiles.clear();
-        root.getChildren().clear();
-        if (musicPlayer != null) {
-            musicPlayer.fadeInMusic(1.0, 0.2);
+    protected <V extends BaseLevelView> V reuseSessionView(Class<V> viewClass) {
+        if (session == null || session.getView() == null || session.getView().getClass() != viewClass) {
+            return null;
         }
-        setChanged();
-        notifyObservers("com.finalflight.game.level.LevelOne"); // Transition to LevelOne
+        V view = viewClass.cast(session.getView());
+        view.setBaseLevel(this);
+        return view;
     }
 
     /**
-     * Exits the game.
+     * Retrieves the definition the level was created from.
+     *
+     * @return the definition, or {@code null} if the level was not created from one.
      */
-    private void quitGame() {
-        System.exit(0);
+    protected LevelDefinition getDefinition() {
+        return definition;
     }
 
     /**
-     * Disables the ESC key functionality by removing its event handler.
+     * Checks whether the level was created without any presentation.
+     *
+     * @return {@code true} if the level is headless, {@code false} otherwise.
      */
-    private void disableEscapeKey() {
-        background.removeEventHandler(KeyEvent.KEY_PRESSED, escapeKeyHandler);
+    public boolean isHeadless() {
+        return headless;
     }
 
     /**
-     * Enables the ESC key functionality by adding its event handler.
+     * Retrieves the state of the level.
+     *
+     * @return {@code RUNNING} until the level is completed, won or lost.
      */
-    private void enableEscapeKey() {
-        background.addEventHandler(KeyEvent.KEY_PRESSED, escapeKeyHandler);
+    public LevelStatus getStatus() {
+        return status;
     }
 
     /**
-     * Switches the background music for the level.
+     * Retrieves the number of steps the level has been advanced by {@link #tick()}.
      *
-     * @param newMusicFile the path to the new music file.
-     * @param shouldLoop   {@code true} if the music should loop; {@code false} otherwise.
+     * @return the number of steps simulated.
      */
-    protected void switchMusic(String newMusicFile, boolean shouldLoop) {
-        if (musicPlayer != null) {
-            musicPlayer.stopMusic(); // Stop the current music
-        }
-        musicPlayer = MusicPlayer.getInstance(newMusicFile);
-        musicPlayer.playMusic(shouldLoop); // Play the new music
+    public long getTickCount() {
+        return tickCount;
     }
 
     /**
-     * Retrieves the current player's {@code UserPlane} instance.
+     * Retrieves the simulated time of the level, used as the clock of its user plane.
      *
-     * @return the player's plane.
+     * @return the simulated time in milliseconds.
      */
-    protected UserPlane getUser() {
-        return user;
+    private long getSimulatedTimeMillis() {
+        return tickCount * 1000 / tickRate;
     }
 
     /**
@@ -592,7 +895,7 @@ public abstract class BaseLevel extends Observable {
      * @return The number of active enemies.
      */
     protected int getCurrentNumberOfEnemies() {
-        return enemyUnits.size();
+        return world.getEnemyUnits().size();
     }
 
     /**
@@ -601,8 +904,44 @@ public abstract class BaseLevel extends Observable {
      * @param enemy the enemy unit to add.
      */
     protected void addEnemyUnit(DestructibleGameObject enemy) {
-        enemyUnits.add(enemy);
-        root.getChildren().add(enemy);
+        world.addEnemyUnit(enemy);
+    }
+
+    /**
+     * Adds a newly spawned regular enemy to the level, making it fire on the level's enemy fire stream.
+     *
+     * @param enemy the enemy plane to add.
+     */
+    protected void spawnEnemyUnit(FighterPlane enemy) {
+        enemy.setRandomSupplier(enemyFireSupplier);
+        addEnemyUnit(enemy);
+    }
+
+    /**
+     * Retrieves the source of randomness of the level.
+     *
+     * @return the level's random streams.
+     */
+    protected LevelRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Retrieves the profiler timing the stages of the level, which can also be enabled on a headless level.
+     *
+     * @return the frame profiler of the level.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Retrieves the seed the level's randomness was derived from, so the level can be reproduced.
+     *
+     * @return the seed of the level.
+     */
+    public long getSeed() {
+        return random.getSeed();
     }
 
     /**
@@ -672,7 +1011,7 @@ public abstract class BaseLevel extends Observable {
      * Updates the number of active enemies in the level.
      */
     private void updateNumberOfEnemies() {
-        currentNumberOfEnemies = enemyUnits.size();
+        currentNumberOfEnemies = world.getEnemyUnits().size();
     }
 
     /**
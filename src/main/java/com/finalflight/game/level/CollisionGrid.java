@@ -0,0 +1,241 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.Entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@code CollisionGrid} class is a uniform-grid spatial hash used as the broad phase for
+ * collision detection between two groups of actors. The grid covers the game screen, and its cell
+ * size is derived from the largest actor taking part in the current pass, so two overlapping actors
+ * always have their centers in the same or neighbouring cells.
+ *
+ * <p>Each pass reads the hitbox of every actor's {@link Entity} once, indexes the first group by the cell containing
+ * its center, and only runs the narrow-phase bounds check against actors of the first group found in
+ * the 3x3 block of cells around each actor of the second group. The grid storage is reused between
+ * passes and only the cells occupied by the previous pass are cleared.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/CollisionGrid.java</p>
+ */
+public class CollisionGrid {
+
+    private static final double MINIMUM_CELL_SIZE = 32;
+    private static final int EMPTY_CELL = -1;
+    private static final int INITIAL_CAPACITY = 64;
+    private final double worldWidth;
+    private final double worldHeight;
+    private double cellSize;
+    private int columns;
+    private int rows;
+    private int[] cellHeads = new int[0];
+    private int[] occupiedCells = new int[INITIAL_CAPACITY];
+    private int numberOfOccupiedCells;
+    private int[] nextInCell = new int[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private double[] queryMinX = new double[INITIAL_CAPACITY];
+    private double[] queryMinY = new double[INITIAL_CAPACITY];
+    private double[] queryMaxX = new double[INITIAL_CAPACITY];
+    private double[] queryMaxY = new double[INITIAL_CAPACITY];
+
+    /**
+     * Constructs a {@code CollisionGrid} covering a world of the specified size.
+     *
+     * @param worldWidth  the width of the game screen.
+     * @param worldHeight the height of the game screen.
+     */
+    public CollisionGrid(double worldWidth, double worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Finds every pair of colliding actors between the two groups and passes each pair to the handler,
+     * with the actor from the second group first. Each colliding pair is reported exactly once.
+     *
+     * @param actors1 the first group of actors, indexed into the grid.
+     * @param actors2 the second group of actors, queried against the grid.
+     * @param handler the action to perform for each colliding pair.
+     */
+    public void forEachCollision(List<DestructibleGameObject> actors1, List<DestructibleGameObject> actors2,
+                                 BiConsumer<DestructibleGameObject, DestructibleGameObject> handler) {
+        int indexedCount = actors1.size();
+        int queryCount = actors2.size();
+        if (indexedCount == 0 || queryCount == 0) {
+            return;
+        }
+
+        ensureCapacity(indexedCount, queryCount);
+        double largestExtent = Math.max(readIndexedBounds(actors1), readQueryBounds(actors2));
+        rebuild(indexedCount, largestExtent);
+
+        for (int j = 0; j < queryCount; j++) {
+            int column = columnOf((queryMinX[j] + queryMaxX[j]) / 2);
+            int row = rowOf((queryMinY[j] + queryMaxY[j]) / 2);
+            for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); r++) {
+                for (int c = Math.max(column - 1, 0); c <= Math.min(column + 1, columns - 1); c++) {
+                    for (int i = cellHeads[r * columns + c]; i != EMPTY_CELL; i = nextInCell[i]) {
+                        if (intersects(i, j)) {
+                            handler.accept(actors2.get(j), actors1.get(i));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the hitboxes of the indexed actors into the bounds arrays.
+     *
+     * @param actors the actors to index.
+     * @return the largest width or height among the actors.
+     */
+    private double readIndexedBounds(List<DestructibleGameObject> actors) {
+        double largestExtent = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            Entity entity = actors.get(i).getEntity();
+            minX[i] = entity.getMinX();
+            minY[i] = entity.getMinY();
+            maxX[i] = entity.getMaxX();
+            maxY[i] = entity.getMaxY();
+            largestExtent = Math.max(largestExtent, Math.max(entity.getHitboxWidth(), entity.getHitboxHeight()));
+        }
+        return largestExtent;
+    }
+
+    /**
+     * Reads the hitboxes of the queried actors into the query bounds arrays.
+     *
+     * @param actors the actors to query.
+     * @return the largest width or height among the actors.
+     */
+    private double readQueryBounds(List<DestructibleGameObject> actors) {
+        double largestExtent = 0;
+        for (int j = 0; j < actors.size(); j++) {
+            Entity entity = actors.get(j).getEntity();
+            queryMinX[j] = entity.getMinX();
+            queryMinY[j] = entity.getMinY();
+            queryMaxX[j] = entity.getMaxX();
+            queryMaxY[j] = entity.getMaxY();
+            largestExtent = Math.max(largestExtent, Math.max(entity.getHitboxWidth(), entity.getHitboxHeight()));
+        }
+        return largestExtent;
+    }
+
+    /**
+     * Clears the cells occupied by the previous pass, resizes the grid if the largest actor no longer
+     * fits in a cell, and indexes the actors by the cell containing their center.
+     *
+     * @param indexedCount  the number of actors to index.
+     * @param largestExtent the largest width or height among all actors in this pass.
+     */
+    private void rebuild(int indexedCount, double largestExtent) {
+        double requiredCellSize = Math.max(MINIMUM_CELL_SIZE, largestExtent);
+        if (requiredCellSize != cellSize) {
+            resize(requiredCellSize);
+        } else {
+            for (int k = 0; k < numberOfOccupiedCells; k++) {
+                cellHeads[occupiedCells[k]] = EMPTY_CELL;
+            }
+        }
+        numberOfOccupiedCells = 0;
+
+        // Insert in reverse so each cell lists its actors in their original order
+        for (int i = indexedCount - 1; i >= 0; i--) {
+            int cell = rowOf((minY[i] + maxY[i]) / 2) * columns + columnOf((minX[i] + maxX[i]) / 2);
+            if (cellHeads[cell] == EMPTY_CELL) {
+                occupiedCells[numberOfOccupiedCells++] = cell;
+            }
+            nextInCell[i] = cellHeads[cell];
+            cellHeads[cell] = i;
+        }
+    }
+
+    /**
+     * Changes the cell size of the grid and clears every cell.
+     *
+     * @param newCellSize the new cell size.
+     */
+    private void resize(double newCellSize) {
+        cellSize = newCellSize;
+        columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        if (cellHeads.length < columns * rows) {
+            cellHeads = new int[columns * rows];
+        }
+        Arrays.fill(cellHeads, EMPTY_CELL);
+    }
+
+    /**
+     * Grows the per-actor arrays so they can hold the actors of the current pass.
+     *
+     * @param indexedCount the number of actors to index.
+     * @param queryCount   the number of actors to query.
+     */
+    private void ensureCapacity(int indexedCount, int queryCount) {
+        if (nextInCell.length < indexedCount) {
+            int capacity = Math.max(indexedCount, nextInCell.length * 2);
+            nextInCell = new int[capacity];
+            occupiedCells = Arrays.copyOf(occupiedCells, capacity); // Still needed to clear the previous pass
+            minX = new double[capacity];
+            minY = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
+        }
+        if (queryMinX.length < queryCount) {
+            int capacity = Math.max(queryCount, queryMinX.length * 2);
+            queryMinX = new double[capacity];
+            queryMinY = new double[capacity];
+            queryMaxX = new double[capacity];
+            queryMaxY = new double[capacity];
+        }
+    }
+
+    /**
+     * Checks whether the bounds of an indexed actor and a queried actor intersect, matching the
+     * inclusive edges of {@link Entity#intersects(Entity)}.
+     *
+     * @param i the index of the indexed actor.
+     * @param j the index of the queried actor.
+     * @return {@code true} if the bounds intersect, {@code false} otherwise.
+     */
+    private boolean intersects(int i, int j) {
+        return queryMaxX[j] >= minX[i] && queryMinX[j] <= maxX[i]
+                && queryMaxY[j] >= minY[i] && queryMinY[j] <= maxY[i];
+    }
+
+    /**
+     * Returns the grid column containing the specified X-coordinate, clamped to the grid.
+     *
+     * @param x the X-coordinate.
+     * @return the column index.
+     */
+    private int columnOf(double x) {
+        return Math.min(Math.max((int) Math.floor(x / cellSize), 0), columns - 1);
+    }
+
+    /**
+     * Returns the grid row containing the specified Y-coordinate, clamped to the grid.
+     *
+     * @param y the Y-coordinate.
+     * @return the row index.
+     */
+    private int rowOf(double y) {
+        return Math.min(Math.max((int) Math.floor(y / cellSize), 0), rows - 1);
+    }
+
+    /**
+     * Returns the cell size used by the most recent pass.
+     *
+     * @return the cell size in pixels.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+}
@@ -0,0 +1,320 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.AdvancedEnemyPlane;
+import com.finalflight.game.gameobjects.BossPlane;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.FighterPlane;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.visual.BaseLevelView;
+import com.finalflight.game.visual.LevelThreeView;
+import javafx.scene.Scene;
+
+/**
+ * The {@code DefinedLevel} class plays a level described by a {@link LevelDefinition}. It keeps up to the
+ * defined number of enemies on screen, spawning each missing enemy with the defined chance on every
+ * step and picking its type from the defined mix, sends in the designed waves of the definition at their
+ * times, and completes the level once the defined goal is met. Which enemies are due is decided by a
+ * {@link WaveScheduler}, so a step only does work for the enemies it spawns.
+ *
+ * <p>A boss level spawns the boss first and then spawns enemies alongside it, switching to the
+ * spawn settings of each boss phase as the health of the boss falls. Its HUD shows the health of the
+ * boss instead of a kill counter.</p>
+ *
+ * <p>When the definitions are being watched for changes, the level fetches its definition again on
+ * the step after it is reloaded and spawns by the new settings from then on. The background, health,
+ * goal, next level and designed waves stay as they were when the level was created.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/DefinedLevel.java</p>
+ */
+public class DefinedLevel extends BaseLevel {
+
+    private static final double BOSS_HUD_BOOST_BAR_Y = 100;
+    private static final double BOSS_HUD_FIRING_MODE_Y = 80;
+    private final LevelDefinitions definitions = LevelDefinitions.getInstance();
+    private final BossPlane boss;
+    private final WaveScheduler waveScheduler;
+    private final WaveScheduler.Spawner spawner = this::spawnScheduledEnemy;
+    private LevelDefinition spawnDefinition;
+    private int definitionVersion;
+    private LevelThreeView bossLevelView;
+
+    /**
+     * Constructs a {@code DefinedLevel} playing the named definition.
+     *
+     * @param definitionName the name of the definition, such as {@code LevelOne}.
+     * @param screenHeight   the height of the game screen.
+     * @param screenWidth    the width of the game screen.
+     */
+    public DefinedLevel(String definitionName, double screenHeight, double screenWidth) {
+        this(definitionName, screenHeight, screenWidth, false);
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing the named definition, optionally headless.
+     *
+     * @param definitionName the name of the definition, such as {@code LevelOne}.
+     * @param screenHeight   the height of the game screen.
+     * @param screenWidth    the width of the game screen.
+     * @param headless       {@code true} to create the level without any presentation, for simulations.
+     */
+    public DefinedLevel(String definitionName, double screenHeight, double screenWidth, boolean headless) {
+        this(definitionName, screenHeight, screenWidth, headless, LevelRandom.defaultSeed());
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing the named definition with the specified seed, optionally headless.
+     *
+     * @param definitionName the name of the definition, such as {@code LevelOne}.
+     * @param screenHeight   the height of the game screen.
+     * @param screenWidth    the width of the game screen.
+     * @param headless       {@code true} to create the level without any presentation, for simulations.
+     * @param seed           the seed the randomness of the level is derived from.
+     * @throws IllegalArgumentException if there is no such definition or it is malformed.
+     */
+    public DefinedLevel(String definitionName, double screenHeight, double screenWidth, boolean headless, long seed) {
+        this(LevelDefinitions.getInstance().get(definitionName), screenHeight, screenWidth, headless, seed);
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing a definition with the specified seed, optionally headless.
+     *
+     * @param definition   the definition.
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation, for simulations.
+     * @param seed         the seed the randomness of the level is derived from.
+     */
+    public DefinedLevel(LevelDefinition definition, double screenHeight, double screenWidth, boolean headless, long seed) {
+        this(definition, screenHeight, screenWidth, headless, seed, null);
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing the named definition with the specified seed in a session.
+     *
+     * @param definitionName the name of the definition, such as {@code LevelOne}.
+     * @param session        the session the level is played in.
+     * @param seed           the seed the randomness of the level is derived from.
+     * @throws IllegalArgumentException if there is no such definition or it is malformed.
+     */
+    public DefinedLevel(String definitionName, LevelSession session, long seed) {
+        this(LevelDefinitions.getInstance().get(definitionName), session, seed);
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing a definition with the specified seed in a session.
+     *
+     * @param definition the definition.
+     * @param session    the session the level is played in.
+     * @param seed       the seed the randomness of the level is derived from.
+     */
+    public DefinedLevel(LevelDefinition definition, LevelSession session, long seed) {
+        this(definition, session.getScreenHeight(), session.getScreenWidth(), false, seed, session);
+    }
+
+    /**
+     * Constructs a {@code DefinedLevel} playing a definition with the specified seed, optionally headless
+     * or in a session.
+     *
+     * @param definition   the definition.
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation, for simulations.
+     * @param seed         the seed the randomness of the level is derived from.
+     * @param session      the session the level is played in, or {@code null} for a level of its own.
+     */
+    private DefinedLevel(LevelDefinition definition, double screenHeight, double screenWidth, boolean headless, long seed,
+                         LevelSession session) {
+        super(definition, screenHeight, screenWidth, headless, seed, session);
+        this.spawnDefinition = definition;
+        this.definitionVersion = definitions.getVersion();
+        this.boss = definition.hasBoss() ? new BossPlane(getRandom().boss()::nextDouble) : null;
+        this.waveScheduler = new WaveScheduler(definition, getRandom().spawn(), getEnemyMaximumYPosition());
+        if (definition.getMusicFile() != null) {
+            switchMusic(definition.getMusicFile(), true);
+        }
+    }
+
+    /**
+     * Initializes the scene of the level. A boss level places its HUD higher, as it has no kill counter,
+     * and adds the health bar of the boss.
+     *
+     * @return the {@link Scene} of the level.
+     */
+    @Override
+    public Scene initializeScene() {
+        return boss == null ? super.initializeScene() : initializeScene(BOSS_HUD_BOOST_BAR_Y, BOSS_HUD_FIRING_MODE_Y);
+    }
+
+    /**
+     * Renders the current frame. In a boss level, the boss shield is moved along with the interpolated
+     * boss, whose view is synchronised here since the shield follows it even when actors are drawn onto
+     * the sprite canvas.
+     *
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    @Override
+    protected void renderScene(double alpha) {
+        super.renderScene(alpha);
+        if (boss != null) {
+            boss.syncView(alpha);
+            bossLevelView.updateShield(boss);
+        }
+    }
+
+    /**
+     * Initializes the player's plane and adds it to the scene graph.
+     */
+    @Override
+    protected void initializeFriendlyUnits() {
+        addActorView(getUser());
+    }
+
+    /**
+     * Checks if the game is over. The game is lost if the player's plane is destroyed. Once the goal of
+     * the level is met, the game moves on to the next level, or is won if there is none.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (goalIsMet()) {
+            if (boss != null && !isHeadless()) {
+                bossLevelView.showBossExplosion(boss.getEntity().getX(), boss.getEntity().getY());
+            }
+            String nextLevel = getDefinition().getNextLevel();
+            if (nextLevel != null) {
+                goToNextLevel(nextLevel);
+            } else {
+                winGame();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the goal of the level is met.
+     *
+     * @return {@code true} if the boss is destroyed or the player has the kills needed.
+     */
+    private boolean goalIsMet() {
+        return boss != null ? boss.isDestroyed() : getUser().getNumberOfKills() >= getKillsToAdvance();
+    }
+
+    /**
+     * Spawns the enemies of the step: the enemies of waves entering on it, and the missing enemies
+     * whose chance of the current phase comes up, at a random height, with their type picked from the
+     * mix. A boss level adds the boss first.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        refreshSpawnDefinition();
+        LevelDefinition definition = spawnDefinition;
+        int phase = LevelDefinition.BASE_PHASE;
+        int bossCount = 0;
+        if (boss != null) {
+            phase = definition.getPhase((double) boss.getHealth() / boss.getMaxHealth());
+            if (getCurrentNumberOfEnemies() == 0) {
+                addEnemyUnit(boss);
+                if (!isHeadless()) {
+                    bossLevelView.initializeShield(boss);
+                }
+            }
+            bossCount = 1;
+        }
+
+        waveScheduler.spawnDue(getTickCount(), definition, phase, getCurrentNumberOfEnemies() - bossCount, spawner);
+    }
+
+    /**
+     * Spawns an enemy the wave scheduler found due.
+     *
+     * @param type      the type of the enemy.
+     * @param xOffset   the distance beyond the right edge of the screen to spawn the enemy at.
+     * @param yPosition the height of the enemy.
+     */
+    private void spawnScheduledEnemy(LevelDefinition.EnemyType type, double xOffset, double yPosition) {
+        spawnEnemyUnit(createEnemy(type, getScreenWidth() + xOffset, yPosition));
+    }
+
+    /**
+     * Fetches the definition again if the definitions have been reloaded since it was last fetched. A
+     * reloaded definition that turns the level into or out of a boss level is ignored.
+     */
+    private void refreshSpawnDefinition() {
+        int version = definitions.getVersion();
+        if (version == definitionVersion) {
+            return;
+        }
+        definitionVersion = version;
+        try {
+            LevelDefinition reloaded = definitions.get(spawnDefinition.getName());
+            if (reloaded.hasBoss() == (boss != null)) {
+                spawnDefinition = reloaded;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not one of the shared definitions, so there is nothing to reload
+        }
+    }
+
+    /**
+     * Obtains an enemy of a type.
+     *
+     * @param type      the type of enemy.
+     * @param xPosition the horizontal position of the enemy.
+     * @param yPosition the height of the enemy.
+     * @return the enemy.
+     */
+    private FighterPlane createEnemy(LevelDefinition.EnemyType type, double xPosition, double yPosition) {
+        return switch (type) {
+            case REGULAR -> EnemyPlane.obtain(xPosition, yPosition);
+            case ADVANCED -> AdvancedEnemyPlane.obtain(xPosition, yPosition);
+        };
+    }
+
+    /**
+     * Creates the view of the level. A boss level gets a view with a health bar, shield and explosion
+     * for the boss. In a session, the view of the previous level is kept if it is of the same kind.
+     *
+     * @return the view of the level.
+     */
+    @Override
+    protected BaseLevelView instantiateLevelView() {
+        LevelDefinition definition = getDefinition();
+        if (definition.hasBoss()) {
+            bossLevelView = reuseSessionView(LevelThreeView.class);
+            if (bossLevelView == null) {
+                bossLevelView = new LevelThreeView(getRoot(), definition.getPlayerInitialHealth(), this);
+            }
+            return bossLevelView;
+        }
+        BaseLevelView levelView = reuseSessionView(BaseLevelView.class);
+        if (levelView != null) {
+            return levelView;
+        }
+        return new BaseLevelView(getRoot(), definition.getPlayerInitialHealth(), getScreenWidth(), getScreenHeight(), this);
+    }
+
+    /**
+     * Updates the HUD. A boss level shows the health and shield of the boss instead of a kill counter.
+     */
+    @Override
+    protected void updateHUD() {
+        if (boss == null) {
+            super.updateHUD();
+            return;
+        }
+        bossLevelView.updateBossHealthBar((double) boss.getHealth() / boss.getMaxHealth(), boss.getIsShielded());
+        bossLevelView.updateBoostBar(getUser().getBoostEnergy() / UserPlane.getMaxBoostEnergy());
+        bossLevelView.updateFiringMode(getUser().getFiringMode().toString());
+    }
+
+    /**
+     * Counts the kills of the step, except in a boss level, whose goal does not depend on kills.
+     */
+    @Override
+    protected void updateKillCount() {
+        if (boss == null) {
+            super.updateKillCount();
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.finalflight.game.level;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@code FixedStepGameLoop} class runs the simulation at a fixed rate from an
+ * {@link AnimationTimer}, decoupled from the display refresh rate. The time elapsed between display
+ * frames is added to an accumulator, and as many fixed steps are run as the accumulator holds.
+ * The level is then rendered once, interpolated by the fraction of the next step already elapsed.
+ *
+ * <p>To recover from a long hiccup without running a burst of steps, at most a fixed number of
+ * steps are run per frame and any time beyond that budget is dropped, which slows the game down
+ * rather than letting it spiral.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/FixedStepGameLoop.java</p>
+ */
+public class FixedStepGameLoop implements GameLoop {
+
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+    private static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+    private static final long NOT_STARTED = -1;
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+    private final Runnable step;
+    private final DoubleConsumer render;
+    private final AnimationTimer timer;
+    private long lastFrameTime = NOT_STARTED;
+    private long accumulatedNanos;
+    private boolean running;
+    private long stepCount;
+    private long frameCount;
+    private long droppedStepCount;
+
+    /**
+     * Constructs a {@code FixedStepGameLoop} running the step at the specified rate.
+     *
+     * @param tickRate the number of simulation steps per second.
+     * @param step     the simulation step.
+     * @param render   called after each display frame with the fraction of the next step that has elapsed.
+     */
+    public FixedStepGameLoop(int tickRate, Runnable step, DoubleConsumer render) {
+        this(tickRate, DEFAULT_MAX_STEPS_PER_FRAME, step, render);
+    }
+
+    /**
+     * Constructs a {@code FixedStepGameLoop} with a custom catch-up budget.
+     *
+     * @param tickRate         the number of simulation steps per second.
+     * @param maxStepsPerFrame the maximum number of steps run in a single display frame.
+     * @param step             the simulation step.
+     * @param render           called after each display frame with the fraction of the next step that has elapsed.
+     */
+    public FixedStepGameLoop(int tickRate, int maxStepsPerFrame, Runnable step, DoubleConsumer render) {
+        this.stepNanos = NANOSECONDS_PER_SECOND / tickRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.step = step;
+        this.render = render;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                advance(now);
+            }
+        };
+    }
+
+    /**
+     * Runs the steps due at the specified time and renders the interpolated frame.
+     * Called by the animation timer on every display frame.
+     *
+     * @param now the timestamp of the current frame in nanoseconds.
+     */
+    public void advance(long now) {
+        if (!running) {
+            return;
+        }
+        if (lastFrameTime == NOT_STARTED) {
+            lastFrameTime = now;
+        }
+        accumulatedNanos += now - lastFrameTime;
+        lastFrameTime = now;
+
+        long maxAccumulatedNanos = stepNanos * maxStepsPerFrame;
+        if (accumulatedNanos > maxAccumulatedNanos) {
+            droppedStepCount += (accumulatedNanos - maxAccumulatedNanos) / stepNanos;
+            accumulatedNanos = maxAccumulatedNanos;
+        }
+
+        while (accumulatedNanos >= stepNanos && running) {
+            accumulatedNanos -= stepNanos;
+            stepCount++;
+            step.run();
+        }
+
+        if (running) {
+            frameCount++;
+            render.accept((double) accumulatedNanos / stepNanos);
+        }
+    }
+
+    /**
+     * Starts or resumes the loop. Time spent paused is not simulated.
+     */
+    @Override
+    public void play() {
+        begin();
+        timer.start();
+    }
+
+    /**
+     * Marks the loop as running without starting the animation timer, so frames can be
+     * driven manually through {@link #advance(long)}. The next frame starts the clock.
+     */
+    void begin() {
+        running = true;
+        lastFrameTime = NOT_STARTED;
+    }
+
+    /**
+     * Pauses the loop.
+     */
+    @Override
+    public void pause() {
+        running = false;
+        timer.stop();
+    }
+
+    /**
+     * Stops the loop and discards any accumulated time.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        accumulatedNanos = 0;
+        timer.stop();
+    }
+
+    /**
+     * Checks whether the loop is running.
+     *
+     * @return {@code true} if the loop is running, {@code false} otherwise.
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retrieves the number of simulation steps run since the loop was created.
+     *
+     * @return the step count.
+     */
+    @Override
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Retrieves the number of display frames rendered since the loop was created.
+     *
+     * @return the frame count.
+     */
+    @Override
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Retrieves the number of steps skipped because a frame exceeded the catch-up budget.
+     *
+     * @return the dropped step count.
+     */
+    public long getDroppedStepCount() {
+        return droppedStepCount;
+    }
+
+}
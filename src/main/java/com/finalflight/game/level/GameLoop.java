@@ -0,0 +1,111 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.SimulationRate;
+
+import java.util.Locale;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@code GameLoop} interface drives a level: it runs the simulation step at a fixed rate and
+ * asks the level to render after each frame. Two implementations are available, selected with the
+ * {@value #MODE_PROPERTY} system property:
+ *
+ * <ul>
+ *     <li>{@code fixed} (the default) uses {@link FixedStepGameLoop}, which simulates at a fixed rate
+ *     from an {@link javafx.animation.AnimationTimer} and renders every display frame with interpolation.</li>
+ *     <li>{@code timeline} uses {@link TimelineGameLoop}, the original {@link javafx.animation.Timeline}
+ *     loop that simulates and renders together on each key frame.</li>
+ * </ul>
+ *
+ * <p>The simulation rate is set with the {@value #TICK_RATE_PROPERTY} system property, for example to
+ * 60 or 120 steps per second. The speeds, fire chances, lifetimes and effects of the game objects are
+ * expressed per second and scaled to the step length by {@link SimulationRate}, so a higher rate makes
+ * play smoother without making it faster.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/GameLoop.java</p>
+ */
+public interface GameLoop {
+
+    /**
+     * The system property selecting the loop implementation, either {@code fixed} or {@code timeline}.
+     */
+    String MODE_PROPERTY = "finalflight.loop";
+
+    /**
+     * The system property setting the number of simulation steps per second.
+     */
+    String TICK_RATE_PROPERTY = SimulationRate.TICK_RATE_PROPERTY;
+
+    /**
+     * The available game loop implementations.
+     */
+    enum Mode {
+        FIXED, TIMELINE
+    }
+
+    /**
+     * Starts or resumes the game loop.
+     */
+    void play();
+
+    /**
+     * Pauses the game loop so it can be resumed with {@link #play()}.
+     */
+    void pause();
+
+    /**
+     * Stops the game loop. No further steps are run in the current frame.
+     */
+    void stop();
+
+    /**
+     * Checks whether the game loop is running.
+     *
+     * @return {@code true} if the loop is running, {@code false} if it is paused or stopped.
+     */
+    boolean isRunning();
+
+    /**
+     * Retrieves the number of simulation steps run since the loop was created.
+     *
+     * @return the step count.
+     */
+    long getStepCount();
+
+    /**
+     * Retrieves the number of frames rendered since the loop was created.
+     *
+     * @return the frame count.
+     */
+    long getFrameCount();
+
+    /**
+     * Creates the game loop selected by the {@value #MODE_PROPERTY} system property.
+     *
+     * @param tickRate the number of simulation steps per second.
+     * @param step     the simulation step to run at a fixed rate.
+     * @param render   called after each frame with the fraction of the next step that has elapsed.
+     * @return the configured game loop.
+     */
+    static GameLoop create(int tickRate, Runnable step, DoubleConsumer render) {
+        String mode = System.getProperty(MODE_PROPERTY, Mode.FIXED.name());
+        return create(Mode.valueOf(mode.toUpperCase(Locale.ROOT)), tickRate, step, render);
+    }
+
+    /**
+     * Creates a game loop of the specified mode.
+     *
+     * @param mode     the loop implementation to use.
+     * @param tickRate the number of simulation steps per second.
+     * @param step     the simulation step to run at a fixed rate.
+     * @param render   called after each frame with the fraction of the next step that has elapsed.
+     * @return the new game loop.
+     */
+    static GameLoop create(Mode mode, int tickRate, Runnable step, DoubleConsumer render) {
+        return switch (mode) {
+            case FIXED -> new FixedStepGameLoop(tickRate, step, render);
+            case TIMELINE -> new TimelineGameLoop(tickRate, step, render);
+        };
+    }
+
+}
@@ -0,0 +1,521 @@
+package com.finalflight.game.level;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@code LevelDefinition} class describes a level as data: its background, music, starting health,
+ * goal, the level that follows it, and how its enemies are spawned. A {@link DefinedLevel} plays a
+ * definition, so a level can be added or tuned without writing a level class.
+ *
+ * <p>Definitions are text resources read by {@link LevelDefinitions}, such as {@code LevelOne.level}.
+ * Each line holds one setting; blank lines and lines starting with {@code #} are ignored:</p>
+ * <pre>
+ * background /com/finalflight/game/images/background3.gif
+ * music /com/finalflight/game/audio/bosslevel.mp3   # Optional, replaces the level music
+ * health 5                                           # Optional, defaults to 5
+ * goal boss                                          # Or: goal kills 10
+ * next com.finalflight.game.level.LevelFour          # Optional, the game is won without it
+ * spawn 2 0.02                                       # Enemies on screen, chance per missing enemy per 1/20 s
+ * enemy regular 0.65                                 # Enemy type and relative weight in the mix
+ * enemy advanced 0.35
+ * phase 0.5 3 0.0225                                 # From half boss health: 3 enemies, chance 0.0225
+ * phase 0.2 4 0.025
+ * wave 12 regular 5 vee 300 60                       # At 12 s: five regular enemies in a vee at height 300
+ * wave 30 advanced 3 trail random                    # At 30 s: three advanced enemies in a line, random height
+ * </pre>
+ *
+ * <p>A {@code wave} line designs a group of enemies that enters at a set time, on top of the enemies
+ * the {@code spawn} line keeps topping up: its start in seconds, enemy type, count, formation, height
+ * (or {@code random}), and the optional spacing in pixels between its enemies, which defaults to
+ * {@value #DEFAULT_WAVE_SPACING}. A {@code column} stacks the enemies vertically, a {@code trail} lines
+ * them up one behind the other, a {@code vee} arranges them in a V pointing at the player and a
+ * {@code scatter} sends them in at random heights, one behind the other.</p>
+ *
+ * <p>The spawn chances are given per step at {@value #SPAWN_CHANCE_TICK_RATE} steps per second, the
+ * rate the levels were tuned at. The {@link WaveScheduler} scales the waits they give to the configured
+ * rate, so enemies arrive as often per second at any rate.</p>
+ *
+ * <p>A definition is parsed once and is immutable. The enemy mix is kept as cumulative thresholds and
+ * the boss phases are sorted by the health they start at, so a level only indexes arrays while it plays.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelDefinition.java</p>
+ */
+public final class LevelDefinition {
+
+    /**
+     * The phase a level plays in before any boss phase starts.
+     */
+    public static final int BASE_PHASE = -1;
+
+    /**
+     * The spacing in pixels between the enemies of a wave whose definition does not give one.
+     */
+    public static final double DEFAULT_WAVE_SPACING = 80;
+
+    /**
+     * The height of a wave that enters at a random height.
+     */
+    public static final double RANDOM_Y_POSITION = -1;
+
+    /**
+     * The number of steps per second the spawn chances of a definition are given for.
+     */
+    public static final int SPAWN_CHANCE_TICK_RATE = 20;
+
+    private static final int DEFAULT_PLAYER_HEALTH = 5;
+
+    /**
+     * What the player has to do to complete a level.
+     */
+    public enum Goal {
+        KILLS,
+        BOSS
+    }
+
+    /**
+     * The kinds of enemy a level can spawn.
+     */
+    public enum EnemyType {
+        REGULAR,
+        ADVANCED
+    }
+
+    /**
+     * The arrangements the enemies of a wave can enter in.
+     */
+    public enum Formation {
+        COLUMN,
+        TRAIL,
+        VEE,
+        SCATTER
+    }
+
+    /**
+     * A designed wave of enemies.
+     *
+     * @param startSeconds the time after the start of the level the wave enters at, in seconds.
+     * @param type         the type of its enemies.
+     * @param count        the number of its enemies.
+     * @param formation    the arrangement of its enemies.
+     * @param yPosition    the height of its lead enemy, or {@link #RANDOM_Y_POSITION}.
+     * @param spacing      the spacing in pixels between its enemies.
+     */
+    public record Wave(double startSeconds, EnemyType type, int count, Formation formation, double yPosition,
+                       double spacing) {
+    }
+
+    private final String name;
+    private final String backgroundImageName;
+    private final String musicFile;
+    private final int playerInitialHealth;
+    private final Goal goal;
+    private final int killsToAdvance;
+    private final String nextLevel;
+    private final int maxEnemies;
+    private final double spawnProbability;
+    private final EnemyType[] enemyTypes;
+    private final double[] enemyThresholds;
+    private final double[] phaseBossHealth;
+    private final int[] phaseMaxEnemies;
+    private final double[] phaseSpawnProbability;
+    private final List<Wave> waves;
+
+    /**
+     * A boss phase while it is being parsed.
+     *
+     * @param bossHealth       the fraction of its health the boss is at or below when the phase starts.
+     * @param maxEnemies       the number of enemies kept on screen besides the boss.
+     * @param spawnProbability the chance of spawning each missing enemy on a step.
+     */
+    private record Phase(double bossHealth, int maxEnemies, double spawnProbability) {
+    }
+
+    /**
+     * Constructs a {@code LevelDefinition} from parsed settings, indexing the enemy mix and boss phases.
+     *
+     * @param name                the name of the definition.
+     * @param backgroundImageName the resource path of the background image.
+     * @param musicFile           the resource path of the music, or {@code null}.
+     * @param playerInitialHealth the health the player starts with.
+     * @param goal                the goal of the level.
+     * @param killsToAdvance      the number of kills needed, or 0 for a boss level.
+     * @param nextLevel           the name of the next level, or {@code null}.
+     * @param maxEnemies          the number of enemies kept on screen before any boss phase.
+     * @param spawnProbability    the chance of spawning each missing enemy on a step before any boss phase.
+     * @param types               the enemy types of the mix.
+     * @param weights             the relative weights of the enemy types.
+     * @param phases              the boss phases, in any order.
+     * @param waves               the designed waves, in any order.
+     */
+    private LevelDefinition(String name, String backgroundImageName, String musicFile, int playerInitialHealth,
+                            Goal goal, int killsToAdvance, String nextLevel, int maxEnemies, double spawnProbability,
+                            List<EnemyType> types, List<Double> weights, List<Phase> phases, List<Wave> waves) {
+        this.name = name;
+        this.backgroundImageName = backgroundImageName;
+        this.musicFile = musicFile;
+        this.playerInitialHealth = playerInitialHealth;
+        this.goal = goal;
+        this.killsToAdvance = killsToAdvance;
+        this.nextLevel = nextLevel;
+        this.maxEnemies = maxEnemies;
+        this.spawnProbability = spawnProbability;
+
+        this.enemyTypes = types.toArray(new EnemyType[0]);
+        this.enemyThresholds = new double[weights.size()];
+        double totalWeight = 0;
+        for (double weight : weights) {
+            totalWeight += weight;
+        }
+        double cumulativeWeight = 0;
+        for (int i = 0; i < enemyThresholds.length; i++) {
+            cumulativeWeight += weights.get(i);
+            enemyThresholds[i] = cumulativeWeight / totalWeight;
+        }
+
+        List<Phase> sortedPhases = new ArrayList<>(phases);
+        sortedPhases.sort(Comparator.comparingDouble(Phase::bossHealth).reversed());
+        this.phaseBossHealth = new double[sortedPhases.size()];
+        this.phaseMaxEnemies = new int[sortedPhases.size()];
+        this.phaseSpawnProbability = new double[sortedPhases.size()];
+        for (int i = 0; i < sortedPhases.size(); i++) {
+            phaseBossHealth[i] = sortedPhases.get(i).bossHealth();
+            phaseMaxEnemies[i] = sortedPhases.get(i).maxEnemies();
+            phaseSpawnProbability[i] = sortedPhases.get(i).spawnProbability();
+        }
+
+        List<Wave> sortedWaves = new ArrayList<>(waves);
+        sortedWaves.sort(Comparator.comparingDouble(Wave::startSeconds));
+        this.waves = List.copyOf(sortedWaves);
+    }
+
+    /**
+     * Parses the lines of a definition.
+     *
+     * @param name  the name of the definition, such as {@code LevelOne}, also used in error messages.
+     * @param lines the lines of the definition.
+     * @return the definition.
+     * @throws IllegalArgumentException if a line is malformed or a required setting is missing.
+     */
+    public static LevelDefinition parse(String name, List<String> lines) {
+        String backgroundImageName = null;
+        String musicFile = null;
+        int playerInitialHealth = DEFAULT_PLAYER_HEALTH;
+        Goal goal = null;
+        int killsToAdvance = 0;
+        String nextLevel = null;
+        int maxEnemies = 0;
+        double spawnProbability = 0;
+        List<EnemyType> types = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        List<Phase> phases = new ArrayList<>();
+        List<Wave> waves = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            String[] fields = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (fields[0].isEmpty()) {
+                continue;
+            }
+            String location = name + ":" + (i + 1);
+            switch (fields[0]) {
+                case "background" -> backgroundImageName = field(fields, 1, location);
+                case "music" -> musicFile = field(fields, 1, location);
+                case "health" -> playerInitialHealth = parseCount(field(fields, 1, location), 1, location);
+                case "goal" -> {
+                    goal = parseEnum(Goal.class, field(fields, 1, location), location);
+                    killsToAdvance = goal == Goal.KILLS ? parseCount(field(fields, 2, location), 1, location) : 0;
+                }
+                case "next" -> nextLevel = field(fields, 1, location);
+                case "spawn" -> {
+                    maxEnemies = parseCount(field(fields, 1, location), 0, location);
+                    spawnProbability = parseFraction(field(fields, 2, location), location);
+                }
+                case "enemy" -> {
+                    types.add(parseEnum(EnemyType.class, field(fields, 1, location), location));
+                    weights.add(parseWeight(field(fields, 2, location), location));
+                }
+                case "phase" -> phases.add(new Phase(parseFraction(field(fields, 1, location), location),
+                        parseCount(field(fields, 2, location), 0, location),
+                        parseFraction(field(fields, 3, location), location)));
+                case "wave" -> waves.add(new Wave(parseDistance(field(fields, 1, location), location),
+                        parseEnum(EnemyType.class, field(fields, 2, location), location),
+                        parseCount(field(fields, 3, location), 1, location),
+                        parseEnum(Formation.class, field(fields, 4, location), location),
+                        "random".equals(field(fields, 5, location))
+                                ? RANDOM_Y_POSITION : parseDistance(fields[5], location),
+                        fields.length > 6 ? parseDistance(fields[6], location) : DEFAULT_WAVE_SPACING));
+                default -> throw new IllegalArgumentException("Unknown setting '" + fields[0] + "' at " + location);
+            }
+        }
+
+        if (backgroundImageName == null) {
+            throw new IllegalArgumentException("Level definition " + name + " has no background");
+        }
+        if (goal == null) {
+            throw new IllegalArgumentException("Level definition " + name + " has no goal");
+        }
+        if (!phases.isEmpty() && goal != Goal.BOSS) {
+            throw new IllegalArgumentException("Level definition " + name + " has phases but no boss");
+        }
+        if (types.isEmpty() && (maxEnemies > 0 || phases.stream().anyMatch(phase -> phase.maxEnemies() > 0))) {
+            throw new IllegalArgumentException("Level definition " + name + " spawns enemies but lists no enemy types");
+        }
+        return new LevelDefinition(name, backgroundImageName, musicFile, playerInitialHealth, goal, killsToAdvance,
+                nextLevel, maxEnemies, spawnProbability, types, weights, phases, waves);
+    }
+
+    /**
+     * Retrieves a field of a line.
+     *
+     * @param fields   the fields of the line.
+     * @param index    the index of the field.
+     * @param location the definition and line, used in error messages.
+     * @return the field.
+     */
+    private static String field(String[] fields, int index, String location) {
+        if (fields.length <= index) {
+            throw new IllegalArgumentException("Missing value for '" + fields[0] + "' at " + location);
+        }
+        return fields[index];
+    }
+
+    /**
+     * Parses a whole number.
+     *
+     * @param field    the field holding the number.
+     * @param minimum  the smallest value allowed.
+     * @param location the definition and line, used in error messages.
+     * @return the number.
+     */
+    private static int parseCount(String field, int minimum, String location) {
+        try {
+            int count = Integer.parseInt(field);
+            if (count >= minimum) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid number '" + field + "' at " + location);
+    }
+
+    /**
+     * Parses a number from 0 to 1.
+     *
+     * @param field    the field holding the number.
+     * @param location the definition and line, used in error messages.
+     * @return the number.
+     */
+    private static double parseFraction(String field, String location) {
+        try {
+            double fraction = Double.parseDouble(field);
+            if (fraction >= 0 && fraction <= 1) {
+                return fraction;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid fraction '" + field + "' at " + location);
+    }
+
+    /**
+     * Parses the relative weight of an enemy type.
+     *
+     * @param field    the field holding the weight.
+     * @param location the definition and line, used in error messages.
+     * @return the weight, which is positive.
+     */
+    private static double parseWeight(String field, String location) {
+        try {
+            double weight = Double.parseDouble(field);
+            if (weight > 0 && weight < Double.POSITIVE_INFINITY) {
+                return weight;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid enemy weight '" + field + "' at " + location);
+    }
+
+    /**
+     * Parses a time in seconds or a distance in pixels, which cannot be negative.
+     *
+     * @param field    the field holding the value.
+     * @param location the definition and line, used in error messages.
+     * @return the value.
+     */
+    private static double parseDistance(String field, String location) {
+        try {
+            double value = Double.parseDouble(field);
+            if (value >= 0 && value < Double.POSITIVE_INFINITY) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid value '" + field + "' at " + location);
+    }
+
+    /**
+     * Parses the lower case name of an enum constant.
+     *
+     * @param type     the enum.
+     * @param field    the field holding the name.
+     * @param location the definition and line, used in error messages.
+     * @param <E>      the type of the enum.
+     * @return the constant.
+     */
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String field, String location) {
+        try {
+            return Enum.valueOf(type, field.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown value '" + field + "' at " + location
+                    + ", expected one of " + Arrays.toString(type.getEnumConstants()).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Finds the phase a boss level is in.
+     *
+     * @param bossHealthFraction the remaining health of the boss, from 0 to 1.
+     * @return the index of the latest phase started, or {@link #BASE_PHASE} if none has started.
+     */
+    public int getPhase(double bossHealthFraction) {
+        int phase = BASE_PHASE;
+        for (int i = 0; i < phaseBossHealth.length && bossHealthFraction <= phaseBossHealth[i]; i++) {
+            phase = i;
+        }
+        return phase;
+    }
+
+    /**
+     * Retrieves the number of enemies kept on screen in a phase, not counting the boss.
+     *
+     * @param phase the phase, or {@link #BASE_PHASE}.
+     * @return the number of enemies.
+     */
+    public int getMaxEnemies(int phase) {
+        return phase == BASE_PHASE ? maxEnemies : phaseMaxEnemies[phase];
+    }
+
+    /**
+     * Retrieves the chance of spawning each missing enemy on a step in a phase.
+     *
+     * @param phase the phase, or {@link #BASE_PHASE}.
+     * @return the chance, from 0 to 1.
+     */
+    public double getSpawnProbability(int phase) {
+        return phase == BASE_PHASE ? spawnProbability : phaseSpawnProbability[phase];
+    }
+
+    /**
+     * Retrieves the number of enemy types in the mix.
+     *
+     * @return the number of enemy types.
+     */
+    public int getEnemyTypeCount() {
+        return enemyTypes.length;
+    }
+
+    /**
+     * Picks an enemy type from the mix.
+     *
+     * @param roll a uniformly distributed number from 0 (inclusive) to 1 (exclusive).
+     * @return the type whose share of the mix the roll falls in.
+     */
+    public EnemyType pickEnemyType(double roll) {
+        for (int i = 0; i < enemyThresholds.length - 1; i++) {
+            if (roll < enemyThresholds[i]) {
+                return enemyTypes[i];
+            }
+        }
+        return enemyTypes[enemyTypes.length - 1];
+    }
+
+    /**
+     * Retrieves the name of the definition.
+     *
+     * @return the name, such as {@code LevelOne}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the background image of the level.
+     *
+     * @return the resource path of the image.
+     */
+    public String getBackgroundImageName() {
+        return backgroundImageName;
+    }
+
+    /**
+     * Retrieves the music of the level.
+     *
+     * @return the resource path of the music, or {@code null} to keep the default level music.
+     */
+    public String getMusicFile() {
+        return musicFile;
+    }
+
+    /**
+     * Retrieves the health the player starts the level with.
+     *
+     * @return the initial health.
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Retrieves the goal of the level.
+     *
+     * @return the goal.
+     */
+    public Goal getGoal() {
+        return goal;
+    }
+
+    /**
+     * Checks whether the level has a boss.
+     *
+     * @return {@code true} if the goal of the level is to destroy a boss.
+     */
+    public boolean hasBoss() {
+        return goal == Goal.BOSS;
+    }
+
+    /**
+     * Retrieves the number of kills needed to complete the level.
+     *
+     * @return the number of kills, or 0 for a boss level.
+     */
+    public int getKillsToAdvance() {
+        return killsToAdvance;
+    }
+
+    /**
+     * Retrieves the designed waves of the level.
+     *
+     * @return the waves, ordered by the time they enter at.
+     */
+    public List<Wave> getWaves() {
+        return waves;
+    }
+
+    /**
+     * Retrieves the level that follows this one.
+     *
+     * @return the name of the next level, or {@code null} if completing this level wins the game.
+     */
+    public String getNextLevel() {
+        return nextLevel;
+    }
+
+}
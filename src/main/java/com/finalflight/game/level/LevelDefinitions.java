@@ -0,0 +1,251 @@
+package com.finalflight.game.level;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@code LevelDefinitions} class loads and caches the {@link LevelDefinition} of each level. A
+ * definition is parsed the first time it is requested and shared afterwards.
+ *
+ * <p>Definitions are read from {@value #DEFINITION_LOCATION} on the class path, named after the level,
+ * such as {@code LevelOne.level}. During development, the game can be started with
+ * {@code -Dfinalflight.levelDir=<directory>} pointing at a directory of definitions, usually the source
+ * copy of that resource directory. Definitions are then read from that directory, and a definition is
+ * parsed again whenever its file is saved. Levels being played pick up the new spawn settings on their
+ * next step, and everything else the next time the level starts. A file that no longer parses is
+ * reported and the previous definition is kept.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelDefinitions.java</p>
+ */
+public final class LevelDefinitions {
+
+    /**
+     * The resource directory holding the definitions.
+     */
+    public static final String DEFINITION_LOCATION = "/com/finalflight/game/levels/";
+
+    /**
+     * The system property naming a directory to read definitions from and watch for changes.
+     */
+    public static final String DIRECTORY_PROPERTY = "finalflight.levelDir";
+
+    private static final String DEFINITION_EXTENSION = ".level";
+    private static LevelDefinitions instance;
+    private final Path directory;
+    private final ConcurrentMap<String, LevelDefinition> definitions = new ConcurrentHashMap<>();
+    private volatile int version;
+    private WatchService watchService;
+
+    /**
+     * Constructs a {@code LevelDefinitions} reading definitions from a directory, falling back to the
+     * class path for definitions the directory does not hold.
+     *
+     * @param directory the directory, or {@code null} to read only from the class path.
+     */
+    LevelDefinitions(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Retrieves the shared instance of {@code LevelDefinitions}, creating it if necessary. If
+     * {@value #DIRECTORY_PROPERTY} is set, the shared instance reads from and watches that directory.
+     *
+     * @return the shared level definitions.
+     */
+    public static synchronized LevelDefinitions getInstance() {
+        if (instance == null) {
+            String directory = System.getProperty(DIRECTORY_PROPERTY);
+            instance = new LevelDefinitions(directory != null ? Paths.get(directory) : null);
+            if (directory != null) {
+                instance.startWatching();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves the name of the definition of a level, which is the level name without any package.
+     *
+     * @param levelName the name of the level, such as {@code com.finalflight.game.level.LevelOne}.
+     * @return the name of the definition, such as {@code LevelOne}.
+     */
+    public static String definitionName(String levelName) {
+        return levelName.substring(levelName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Checks whether a level has a definition.
+     *
+     * @param levelName the name of the level, with or without its package.
+     * @return {@code true} if the level has a definition.
+     */
+    public boolean contains(String levelName) {
+        String name = definitionName(levelName);
+        return definitions.containsKey(name) || file(name) != null
+                || LevelDefinitions.class.getResource(DEFINITION_LOCATION + name + DEFINITION_EXTENSION) != null;
+    }
+
+    /**
+     * Retrieves the definition of a level, parsing it if this is the first request for it.
+     *
+     * @param levelName the name of the level, with or without its package.
+     * @return the definition.
+     * @throws IllegalArgumentException if the level has no definition or its definition is malformed.
+     * @throws UncheckedIOException     if the definition cannot be read.
+     */
+    public LevelDefinition get(String levelName) {
+        return definitions.computeIfAbsent(definitionName(levelName), this::read);
+    }
+
+    /**
+     * Retrieves the number of times a definition has been reloaded, so a level can tell when to fetch
+     * its definition again.
+     *
+     * @return the reload count.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads and parses a definition.
+     *
+     * @param name the name of the definition.
+     * @return the definition.
+     */
+    private LevelDefinition read(String name) {
+        Path file = file(name);
+        try {
+            if (file != null) {
+                return LevelDefinition.parse(name, Files.readAllLines(file, StandardCharsets.UTF_8));
+            }
+            try (InputStream stream = LevelDefinitions.class.getResourceAsStream(
+                    DEFINITION_LOCATION + name + DEFINITION_EXTENSION)) {
+                if (stream == null) {
+                    throw new IllegalArgumentException("Level definition not found: " + name);
+                }
+                List<String> lines = new ArrayList<>();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    lines.add(line);
+                }
+                return LevelDefinition.parse(name, lines);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read level definition " + name, e);
+        }
+    }
+
+    /**
+     * Finds the file of a definition in the watched directory.
+     *
+     * @param name the name of the definition.
+     * @return the file, or {@code null} if there is no directory or it does not hold the definition.
+     */
+    private Path file(String name) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = directory.resolve(name + DEFINITION_EXTENSION);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * Parses a definition again and replaces the cached one. A definition that no longer parses is
+     * reported and the cached one is kept.
+     *
+     * @param name the name of the definition.
+     * @return {@code true} if the definition was replaced.
+     */
+    boolean reload(String name) {
+        try {
+            definitions.put(name, read(name));
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.err.println("Keeping the previous definition of " + name + ": " + e.getMessage());
+            return false;
+        }
+        version++; // Only the watcher thread reloads
+        return true;
+    }
+
+    /**
+     * Starts watching the directory of definitions on a daemon thread, reloading a definition whenever
+     * its file is created or modified. Does nothing if there is no directory or it is already watched.
+     *
+     * @throws UncheckedIOException if the directory cannot be watched.
+     */
+    public synchronized void startWatching() {
+        if (directory == null || watchService != null) {
+            return;
+        }
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch level definitions in " + directory, e);
+        }
+        WatchService service = watchService;
+        Thread watcher = new Thread(() -> watch(service), "level-definition-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Reloads the definitions whose files change until the watch service is closed.
+     *
+     * @param service the watch service of the directory.
+     */
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    String fileName = String.valueOf(event.context());
+                    if (fileName.endsWith(DEFINITION_EXTENSION)) {
+                        reload(fileName.substring(0, fileName.length() - DEFINITION_EXTENSION.length()));
+                    }
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped watching
+        }
+    }
+
+    /**
+     * Stops watching the directory of definitions.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            watchService = null;
+        }
+    }
+
+}
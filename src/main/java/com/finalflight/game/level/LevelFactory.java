@@ -0,0 +1,74 @@
+package com.finalflight.game.level;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * The {@code LevelFactory} class creates levels by name. A name is the fully qualified name of a level
+ * class, such as {@code com.finalflight.game.level.LevelOne}, or the name of a {@link LevelDefinition}
+ * that has no class of its own, which is then played by a {@link DefinedLevel}. Levels therefore name
+ * the level that follows them the same way whether it is written as a class or only as a definition.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelFactory.java</p>
+ */
+public final class LevelFactory {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private LevelFactory() {
+    }
+
+    /**
+     * Creates a level. A level class is created through its {@code (double, double, boolean, long)}
+     * constructor.
+     *
+     * @param levelName    the fully qualified name of a level class, or the name of a definition.
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation.
+     * @param seed         the seed the randomness of the level is derived from.
+     * @return the new level.
+     * @throws ReflectiveOperationException if there is neither a level class nor a definition of that
+     *                                      name, or the level class cannot be created.
+     */
+    public static BaseLevel create(String levelName, double screenHeight, double screenWidth, boolean headless,
+                                   long seed) throws ReflectiveOperationException {
+        Class<?> levelClass;
+        try {
+            levelClass = Class.forName(levelName);
+        } catch (ClassNotFoundException e) {
+            if (!LevelDefinitions.getInstance().contains(levelName)) {
+                throw e;
+            }
+            return new DefinedLevel(LevelDefinitions.definitionName(levelName), screenHeight, screenWidth, headless, seed);
+        }
+        Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, boolean.class, long.class);
+        return (BaseLevel) constructor.newInstance(screenHeight, screenWidth, headless, seed);
+    }
+
+    /**
+     * Creates a level played in a session. A level class is created through its {@code (LevelSession, long)}
+     * constructor.
+     *
+     * @param levelName the fully qualified name of a level class, or the name of a definition.
+     * @param session   the session the level is played in.
+     * @param seed      the seed the randomness of the level is derived from.
+     * @return the new level.
+     * @throws ReflectiveOperationException if there is neither a level class nor a definition of that
+     *                                      name, or the level class cannot be created in a session.
+     */
+    public static BaseLevel create(String levelName, LevelSession session, long seed) throws ReflectiveOperationException {
+        Class<?> levelClass;
+        try {
+            levelClass = Class.forName(levelName);
+        } catch (ClassNotFoundException e) {
+            if (!LevelDefinitions.getInstance().contains(levelName)) {
+                throw e;
+            }
+            return new DefinedLevel(LevelDefinitions.definitionName(levelName), session, seed);
+        }
+        Constructor<?> constructor = levelClass.getConstructor(LevelSession.class, long.class);
+        return (BaseLevel) constructor.newInstance(session, seed);
+    }
+
+}
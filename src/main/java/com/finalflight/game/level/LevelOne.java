@@ -1,88 +1,57 @@
 package com.finalflight.game.level;
 
-import com.finalflight.game.gameobjects.DestructibleGameObject;
-import com.finalflight.game.gameobjects.EnemyPlane;
-import com.finalflight.game.visual.BaseLevelView;
-
 /**
  * Represents the first level in the game, introducing the player to basic mechanics and enemy interactions.
- * This level includes spawning enemy planes, checking for game over conditions, and transitioning to the next level.
+ * The level is played from its definition, {@code LevelOne.level}, which sets its regular enemies, its
+ * kill target and the level that follows it.
  *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelOne.java</p>
  */
-public class LevelOne extends BaseLevel {
+public class LevelOne extends DefinedLevel {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/finalflight/game/images/background1.gif";
-    private static final String NEXT_LEVEL = "com.finalflight.game.level.LevelTwo";
-    private static final int TOTAL_ENEMIES = 5;
-    private static final int KILLS_TO_ADVANCE = 10;
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.015;
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final String DEFINITION_NAME = "LevelOne";
 
     /**
-     * Constructs a new LevelOne instance with specified screen dimensions.
+     * Constructs a new LevelOne instance with the specified screen dimensions.
      *
      * @param screenHeight the height of the screen
      * @param screenWidth  the width of the screen
      */
     public LevelOne(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE);
-    }
-
-    /**
-     * Checks if the game is over by determining if the user plane has been destroyed
-     * or if the kill target has been reached. Transitions to the next level or ends
-     * the game accordingly.
-     */
-    @Override
-    protected void checkIfGameOver() {
-        if (userIsDestroyed()) {
-            loseGame();
-        } else if (userHasReachedKillTarget())
-            goToNextLevel(NEXT_LEVEL);
-    }
-
-    /**
-     * Initializes friendly units, adding the user's plane to the game scene.
-     */
-    @Override
-    protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        this(screenHeight, screenWidth, false);
     }
 
     /**
-     * Spawns enemy units randomly based on a probability, ensuring the total number
-     * of enemies does not exceed the defined limit.
+     * Constructs a new LevelOne instance with the specified screen dimensions, optionally headless.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param headless     true to create the level without any presentation, for simulations
      */
-    @Override
-    protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                DestructibleGameObject newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                addEnemyUnit(newEnemy);
-            }
-        }
+    public LevelOne(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, LevelRandom.defaultSeed());
     }
 
     /**
-     * Creates and returns a view specific to this level, configured with initial settings.
+     * Constructs a new LevelOne instance with the specified screen dimensions and seed, optionally headless.
      *
-     * @return a {@link BaseLevelView} instance for LevelOne
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param headless     true to create the level without any presentation, for simulations
+     * @param seed         the seed the randomness of the level is derived from
      */
-    @Override
-    protected BaseLevelView instantiateLevelView() {
-        return new BaseLevelView(getRoot(), PLAYER_INITIAL_HEALTH, getScreenWidth(), getScreenHeight(), this);
+    public LevelOne(double screenHeight, double screenWidth, boolean headless, long seed) {
+        super(DEFINITION_NAME, screenHeight, screenWidth, headless, seed);
     }
 
     /**
-     * Determines whether the user has reached the required number of kills to advance to the next level.
+     * Constructs a new LevelOne instance with the specified seed, played in a session.
      *
-     * @return true if the user has reached the kill target, false otherwise
+     * @param session the session the level is played in
+     * @param seed    the seed the randomness of the level is derived from
      */
-    private boolean userHasReachedKillTarget() {
-        return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+    public LevelOne(LevelSession session, long seed) {
+        super(DEFINITION_NAME, session, seed);
     }
 
 }
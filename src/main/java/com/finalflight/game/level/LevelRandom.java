@@ -0,0 +1,91 @@
+package com.finalflight.game.level;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The {@code LevelRandom} class is the source of randomness of a level. It is created from a single
+ * seed and split into one independent stream per subsystem, so the same seed always reproduces the
+ * same enemy spawns, enemy fire and boss behaviour, and a change in how often one subsystem draws
+ * numbers does not shift the numbers seen by the others.
+ *
+ * <p>The streams are {@link SplittableRandom} instances owned by the level, so drawing from them is
+ * uncontended and, through {@link DoubleSupplier}, does not box. Like the rest of a level they are
+ * confined to the thread running it.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelRandom.java</p>
+ */
+public final class LevelRandom {
+
+    /**
+     * The system property that fixes the seed of every level, e.g. {@code -Dfinalflight.seed=42}.
+     */
+    public static final String SEED_PROPERTY = "finalflight.seed";
+
+    private final long seed;
+    private final SplittableRandom spawn;
+    private final SplittableRandom enemyFire;
+    private final SplittableRandom boss;
+
+    /**
+     * Constructs a {@code LevelRandom} whose streams are all derived from the specified seed.
+     *
+     * @param seed the seed of the level.
+     */
+    public LevelRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.spawn = root.split();
+        this.enemyFire = root.split();
+        this.boss = root.split();
+    }
+
+    /**
+     * Retrieves the seed to use when none is given: the value of {@link #SEED_PROPERTY} if it is set,
+     * otherwise a fresh random seed.
+     *
+     * @return the default seed.
+     */
+    public static long defaultSeed() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Retrieves the seed the streams were derived from.
+     *
+     * @return the seed of the level.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the stream used to decide when and where enemies spawn.
+     *
+     * @return the spawn stream.
+     */
+    public SplittableRandom spawn() {
+        return spawn;
+    }
+
+    /**
+     * Retrieves the stream shared by the regular enemies to decide when they fire.
+     *
+     * @return the enemy fire stream.
+     */
+    public SplittableRandom enemyFire() {
+        return enemyFire;
+    }
+
+    /**
+     * Retrieves the stream used by the boss to shuffle its moves and decide when it fires.
+     *
+     * @return the boss stream.
+     */
+    public SplittableRandom boss() {
+        return boss;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.visual.BaseLevelView;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+/**
+ * The {@code LevelSession} class holds what the levels of a game share when they are played one after
+ * another in a single session: the scene with its root group and stylesheet, the player's plane, and the
+ * level view with its HUD and pause menu. A level created in a session uses these instead of building
+ * its own, so moving on to the next level only swaps the content that belongs to the level, such as its
+ * background, enemies and projectiles, and the player's plane, with its sound effects, is created once.
+ *
+ * <p>The player's plane keeps its health from one level to the next, and is otherwise readied for each
+ * level as a new plane would be. The view of the previous level is kept when the next level uses a view
+ * of the same class, which is rebound to the new level with its HUD reset; otherwise the new level
+ * creates its own view, which the session keeps from then on.</p>
+ *
+ * <p>Sessions are used by the game when it is started with {@code -Dfinalflight.session=true}. A session
+ * always has a scene, so levels created in one are never headless.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelSession.java</p>
+ */
+public final class LevelSession {
+
+    /**
+     * The system property enabling sessions, so the game keeps its scene and player between levels.
+     */
+    public static final String ENABLED_PROPERTY = "finalflight.session";
+
+    private static final String STYLESHEET = "/com/finalflight/game/css/styles.css";
+    private final double screenWidth;
+    private final double screenHeight;
+    private final Group root = new Group();
+    private final Scene scene;
+    private UserPlane user;
+    private BaseLevelView view;
+
+    /**
+     * Constructs a {@code LevelSession} with an empty scene of the specified size.
+     *
+     * @param screenWidth  the width of the game screen.
+     * @param screenHeight the height of the game screen.
+     */
+    public LevelSession(double screenWidth, double screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.scene = new Scene(root, screenWidth, screenHeight);
+        scene.getStylesheets().add(LevelSession.class.getResource(STYLESHEET).toExternalForm());
+    }
+
+    /**
+     * Checks whether the game should play its levels in a session, as set by {@link #ENABLED_PROPERTY}.
+     *
+     * @return {@code true} if sessions are enabled.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Obtains the player's plane for a new level: the plane of the session, readied for the level with
+     * the health it has left, or a new plane for the first level of the session.
+     *
+     * @param initialHealth the health of the plane if it has to be created.
+     * @return the player's plane.
+     */
+    UserPlane obtainUser(int initialHealth) {
+        if (user == null) {
+            user = new UserPlane(initialHealth);
+        } else {
+            user.prepareForLevel(user.getHealth());
+        }
+        return user;
+    }
+
+    /**
+     * Retrieves the view of the current level, whose HUD the next level can keep.
+     *
+     * @return the view, or {@code null} before the first level of the session.
+     */
+    BaseLevelView getView() {
+        return view;
+    }
+
+    /**
+     * Clears the scene for a new level. If the level kept the view of the session, only the content of
+     * the previous level is removed, leaving the HUD and pause menu in place; otherwise the whole root
+     * is cleared and the view of the level becomes the view of the session.
+     *
+     * @param levelView the view of the new level.
+     * @return {@code true} if the level kept the view of the session.
+     */
+    boolean beginLevel(BaseLevelView levelView) {
+        if (levelView == view) {
+            view.removeLevelContent();
+            return true;
+        }
+        root.getChildren().clear();
+        view = levelView;
+        return false;
+    }
+
+    /**
+     * Retrieves the root group of the scene, which the levels of the session add their nodes to.
+     *
+     * @return the root group.
+     */
+    public Group getRoot() {
+        return root;
+    }
+
+    /**
+     * Retrieves the scene shared by the levels of the session.
+     *
+     * @return the scene.
+     */
+    public Scene getScene() {
+        return scene;
+    }
+
+    /**
+     * Retrieves the player's plane shared by the levels of the session.
+     *
+     * @return the player's plane, or {@code null} before the first level of the session.
+     */
+    public UserPlane getUser() {
+        return user;
+    }
+
+    /**
+     * Retrieves the width of the game screen.
+     *
+     * @return the screen width.
+     */
+    public double getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * Retrieves the height of the game screen.
+     *
+     * @return the screen height.
+     */
+    public double getScreenHeight() {
+        return screenHeight;
+    }
+}
@@ -1,29 +1,15 @@
 package com.finalflight.game.level;
 
-import com.finalflight.game.gameobjects.AdvancedEnemyPlane;
-import com.finalflight.game.gameobjects.DestructibleGameObject;
-import com.finalflight.game.gameobjects.EnemyPlane;
-import com.finalflight.game.visual.BaseLevelView;
-
 /**
- * The {@code LevelTwo} class represents the second level of the game. It extends
- * the {@link BaseLevel} class and defines the behavior and characteristics specific
- * to Level Two, including enemy spawn logic, background image, and progression conditions.
- *
- * <p>This class is responsible for managing the gameplay elements in Level Two,
- * such as spawning regular and advanced enemies, checking game-over conditions,
- * and transitioning to the next level.</p>
+ * The {@code LevelTwo} class represents the second level of the game, where advanced enemies join the
+ * regular ones. The level is played from its definition, {@code LevelTwo.level}, which sets its enemy
+ * mix, its kill target and the level that follows it.
  *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelTwo.java</p>
  */
-public class LevelTwo extends BaseLevel {
+public class LevelTwo extends DefinedLevel {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/finalflight/game/images/background2.gif";
-    private static final String NEXT_LEVEL = "com.finalflight.game.level.LevelThree";
-    private static final int TOTAL_ENEMIES = 7;
-    private static final int KILLS_TO_ADVANCE = 15;
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.0175;
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final String DEFINITION_NAME = "LevelTwo";
 
     /**
      * Constructs a new {@code LevelTwo} instance with the specified screen dimensions.
@@ -32,76 +18,40 @@ public class LevelTwo extends BaseLevel {
      * @param screenWidth  the width of the game screen.
      */
     public LevelTwo(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, KILLS_TO_ADVANCE);
+        this(screenHeight, screenWidth, false);
     }
 
     /**
-     * Checks if the game is over based on the player's state.
-     * If the player's plane is destroyed, the game is lost. If the kill target is reached,
-     * the player advances to the next level.
-     */
-    @Override
-    protected void checkIfGameOver() {
-        if (userIsDestroyed()) {
-            loseGame();
-        } else if (userHasReachedKillTarget()) {
-            goToNextLevel(NEXT_LEVEL);
-        }
-    }
-
-    /**
-     * Initializes friendly units in the level, such as the player's plane.
-     * The player's plane is added to the scene graph at the start of the level.
-     */
-    @Override
-    protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
-    }
-
-    /**
-     * Spawns enemy units in the level. Regular enemies and advanced enemies are spawned
-     * based on predefined probabilities and the current number of enemies on screen.
-     * Regular enemies have an 80% spawn probability, while advanced enemies have a 20% probability.
+     * Constructs a new {@code LevelTwo} instance with the specified screen dimensions, optionally headless.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation, for simulations.
      */
-    @Override
-    protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                double regularEnemySpawnProbability = Math.random();
-
-                if (regularEnemySpawnProbability < 0.8) {
-                    // Spawn a regular enemy
-                    DestructibleGameObject newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                    addEnemyUnit(newEnemy);
-                } else {
-                    // Spawn an advanced enemy
-                    DestructibleGameObject advancedEnemy = new AdvancedEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                    addEnemyUnit(advancedEnemy);
-                }
-            }
-        }
+    public LevelTwo(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, LevelRandom.defaultSeed());
     }
 
     /**
-     * Instantiates the level view for Level Two, providing the necessary configuration
-     * for the player's health, screen dimensions, and root pane.
+     * Constructs a new {@code LevelTwo} instance with the specified screen dimensions and seed, optionally headless.
      *
-     * @return a {@link BaseLevelView} instance configured for Level Two.
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param headless     {@code true} to create the level without any presentation, for simulations.
+     * @param seed         the seed the randomness of the level is derived from.
      */
-    @Override
-    protected BaseLevelView instantiateLevelView() {
-        return new BaseLevelView(getRoot(), PLAYER_INITIAL_HEALTH, getScreenWidth(), getScreenHeight(), this);
+    public LevelTwo(double screenHeight, double screenWidth, boolean headless, long seed) {
+        super(DEFINITION_NAME, screenHeight, screenWidth, headless, seed);
     }
 
     /**
-     * Checks if the player has reached the required number of kills to advance to the next level.
+     * Constructs a new LevelTwo instance with the specified seed, played in a session.
      *
-     * @return {@code true} if the player's kill count meets or exceeds the target,
-     *         {@code false} otherwise.
+     * @param session the session the level is played in
+     * @param seed    the seed the randomness of the level is derived from
      */
-    private boolean userHasReachedKillTarget() {
-        return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+    public LevelTwo(LevelSession session, long seed) {
+        super(DEFINITION_NAME, session, seed);
     }
+
 }
@@ -0,0 +1,553 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.event.GameEventBus;
+import com.finalflight.game.gameobjects.AbstractProjectile;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.FighterPlane;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.UserPlane;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The {@code LevelWorld} class holds the simulation state of a level: the user plane, the enemy
+ * units and the projectiles of both sides. It advances the actors' {@link com.finalflight.game.gameobjects.Entity}
+ * models, resolves collisions, culls projectiles and removes destroyed actors without depending on
+ * the JavaFX scene, so a level can be simulated headless.
+ *
+ * <p>The scene is kept up to date through two callbacks, invoked when actors are added to or removed
+ * from the world, and the views of the actors are synchronised from their models once per frame by
+ * {@link #syncViews()}.</p>
+ *
+ * <p>Destroyed actors are removed in a single pass over each list, which packs the surviving actors
+ * to the front in their original order. The actors removed from every list in a step are reported to
+ * the scene together, as an identity set, so the scene can drop them all in one linear
+ * {@code removeAll} producing a single list change.</p>
+ *
+ * <p>The world also counts the projectiles fired by the user and the hits they land, for balance
+ * statistics of headless runs.</p>
+ *
+ * <p>With the projectile store enabled, through {@link #setProjectileStoreEnabled(boolean)} or the
+ * {@value #PROJECTILE_STORE_PROPERTY} system property, fired projectiles are copied into a
+ * {@link ProjectileStore} for each side and their objects are returned to the pools straight away.
+ * The projectiles then have no node in the scene and are drawn in one batch instead, which lets a
+ * level hold far more projectiles than it could as separate actors.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/LevelWorld.java</p>
+ */
+public class LevelWorld {
+
+    /**
+     * The system property that, when set to {@code true}, makes new worlds keep their projectiles in a
+     * {@link ProjectileStore}.
+     */
+    public static final String PROJECTILE_STORE_PROPERTY = "finalflight.projectileStore";
+
+    private final double screenWidth;
+    private final UserPlane user;
+    private final List<DestructibleGameObject> friendlyUnits = new ArrayList<>();
+    private final List<DestructibleGameObject> enemyUnits = new ArrayList<>();
+    private final List<DestructibleGameObject> userProjectiles = new ArrayList<>();
+    private final List<DestructibleGameObject> enemyProjectiles = new ArrayList<>();
+    private final List<DestructibleGameObject> destroyedActors = new ArrayList<>();
+    private final Set<DestructibleGameObject> removedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final CollisionGrid collisionGrid;
+    private final ProjectileCuller projectileCuller;
+    private final Consumer<DestructibleGameObject> actorAdded;
+    private final Consumer<Collection<DestructibleGameObject>> actorsRemoved;
+    private final BiConsumer<DestructibleGameObject, DestructibleGameObject> userProjectileHitHandler =
+            this::damageAndCountUserProjectileHit;
+    private final ProjectileStore userProjectileStore = new ProjectileStore();
+    private final ProjectileStore enemyProjectileStore = new ProjectileStore();
+    private final GameEventBus events = new GameEventBus();
+    private boolean projectileStoreEnabled = Boolean.getBoolean(PROJECTILE_STORE_PROPERTY);
+    private long userProjectilesFired;
+    private long userProjectileHits;
+    private long enemyUnitsAdded;
+
+    /**
+     * Constructs a {@code LevelWorld} for a screen of the specified size, notifying the scene when
+     * actors are added or removed.
+     *
+     * @param screenWidth   the width of the game screen.
+     * @param screenHeight  the height of the game screen.
+     * @param user          the user plane, added to the friendly units.
+     * @param actorAdded    called with each actor added to the world.
+     * @param actorsRemoved called with the actors removed from the world, at most once per removal pass.
+     */
+    public LevelWorld(double screenWidth, double screenHeight, UserPlane user,
+                      Consumer<DestructibleGameObject> actorAdded,
+                      Consumer<Collection<DestructibleGameObject>> actorsRemoved) {
+        this.screenWidth = screenWidth;
+        this.user = user;
+        this.collisionGrid = new CollisionGrid(screenWidth, screenHeight);
+        this.projectileCuller = new ProjectileCuller(screenWidth, screenHeight);
+        this.actorAdded = actorAdded;
+        this.actorsRemoved = actorsRemoved;
+        user.setEventBus(events);
+        friendlyUnits.add(user);
+    }
+
+    /**
+     * Constructs a headless {@code LevelWorld} for a screen of the specified size, with no scene to notify.
+     *
+     * @param screenWidth  the width of the game screen.
+     * @param screenHeight the height of the game screen.
+     * @param user         the user plane, added to the friendly units.
+     */
+    public LevelWorld(double screenWidth, double screenHeight, UserPlane user) {
+        this(screenWidth, screenHeight, user, actor -> { }, actors -> { });
+    }
+
+    /**
+     * Adds an enemy unit to the world, letting an enemy plane publish its events to the world's bus.
+     *
+     * @param enemy the enemy unit to add.
+     */
+    public void addEnemyUnit(DestructibleGameObject enemy) {
+        if (enemy instanceof FighterPlane plane) {
+            plane.setEventBus(events);
+        }
+        enemyUnits.add(enemy);
+        enemyUnitsAdded++;
+        actorAdded.accept(enemy);
+    }
+
+    /**
+     * Adds projectiles fired by the user to the world.
+     *
+     * @param projectiles the projectiles to add, which may be {@code null} if nothing was fired.
+     */
+    public void addUserProjectiles(List<DestructibleGameObject> projectiles) {
+        if (projectiles == null) {
+            return;
+        }
+        for (DestructibleGameObject projectile : projectiles) {
+            events.publishProjectileFired(projectile, true);
+            if (!addToStore(userProjectileStore, projectile)) {
+                userProjectiles.add(projectile);
+                actorAdded.accept(projectile);
+            }
+        }
+        userProjectilesFired += projectiles.size();
+    }
+
+    /**
+     * Adds a projectile fired by an enemy to the world.
+     *
+     * @param projectile the projectile to add, which may be {@code null} if nothing was fired.
+     */
+    public void addEnemyProjectile(DestructibleGameObject projectile) {
+        if (projectile == null) {
+            return;
+        }
+        events.publishProjectileFired(projectile, false);
+        if (!addToStore(enemyProjectileStore, projectile)) {
+            enemyProjectiles.add(projectile);
+            actorAdded.accept(projectile);
+        }
+    }
+
+    /**
+     * Copies a projectile into a projectile store and returns it to its pool, if the store is enabled.
+     *
+     * @param store      the store of the side that fired the projectile.
+     * @param projectile the projectile.
+     * @return {@code true} if the projectile was stored, {@code false} if it should be added as an actor.
+     */
+    private boolean addToStore(ProjectileStore store, DestructibleGameObject projectile) {
+        if (!projectileStoreEnabled || !(projectile instanceof AbstractProjectile abstractProjectile)) {
+            return false;
+        }
+        store.add(abstractProjectile);
+        projectile.destroy();
+        GameObjectPools.getInstance().release(projectile);
+        return true;
+    }
+
+    /**
+     * Updates the state of every actor in the world.
+     */
+    public void updateActors() {
+        updateActors(friendlyUnits);
+        updateActors(enemyUnits);
+        updateActors(userProjectiles);
+        updateActors(enemyProjectiles);
+        userProjectileStore.step();
+        enemyProjectileStore.step();
+    }
+
+    /**
+     * Updates the state of every actor in a list, first recording each actor's position
+     * so its view can be interpolated between this step and the previous one, and advancing
+     * its timed effects.
+     *
+     * @param actors the actors to update.
+     */
+    private static void updateActors(List<DestructibleGameObject> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            DestructibleGameObject actor = actors.get(i);
+            actor.getEntity().savePreviousPosition();
+            actor.tickEffects();
+            actor.updateActor();
+        }
+    }
+
+    /**
+     * Lets each enemy unit fire and adds the fired projectiles to the world.
+     */
+    public void generateEnemyFire() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            addEnemyProjectile(((FighterPlane) enemyUnits.get(i)).fireProjectile());
+        }
+    }
+
+    /**
+     * Damages the user for each enemy that has flown past the left edge of the screen
+     * and destroys that enemy.
+     */
+    public void handleEnemyPenetration() {
+        for (DestructibleGameObject enemy : enemyUnits) {
+            if (enemyHasPenetratedDefenses(enemy)) {
+                user.takeDamage();
+                enemy.destroy();
+            }
+        }
+    }
+
+    /**
+     * Checks whether an enemy has moved further than the width of the screen.
+     *
+     * @param enemy the enemy to check.
+     * @return {@code true} if the enemy has passed the user's defenses, {@code false} otherwise.
+     */
+    private boolean enemyHasPenetratedDefenses(DestructibleGameObject enemy) {
+        return Math.abs(enemy.getEntity().getOffsetX()) > screenWidth;
+    }
+
+    /**
+     * Destroys projectiles that have left the screen or outlived their maximum lifetime.
+     */
+    public void cullProjectiles() {
+        projectileCuller.cull(userProjectiles);
+        projectileCuller.cull(enemyProjectiles);
+        projectileCuller.cull(userProjectileStore);
+        projectileCuller.cull(enemyProjectileStore);
+    }
+
+    /**
+     * Damages user projectiles and the enemy units they hit.
+     */
+    public void handleUserProjectileCollisions() {
+        collisionGrid.forEachCollision(userProjectiles, enemyUnits, userProjectileHitHandler);
+        userProjectileHits += userProjectileStore.collide(enemyUnits);
+    }
+
+    /**
+     * Damages enemy projectiles and the friendly units they hit.
+     */
+    public void handleEnemyProjectileCollisions() {
+        handleCollisions(enemyProjectiles, friendlyUnits);
+        enemyProjectileStore.collide(friendlyUnits);
+    }
+
+    /**
+     * Damages friendly and enemy units that collide with each other.
+     */
+    public void handlePlaneCollisions() {
+        handleCollisions(friendlyUnits, enemyUnits);
+    }
+
+    /**
+     * Damages both actors of every colliding pair between two groups of actors.
+     *
+     * @param actors1 the first group of actors.
+     * @param actors2 the second group of actors.
+     */
+    public void handleCollisions(List<DestructibleGameObject> actors1, List<DestructibleGameObject> actors2) {
+        collisionGrid.forEachCollision(actors1, actors2, LevelWorld::damageCollidingActors);
+    }
+
+    /**
+     * Damages both actors of a colliding pair.
+     *
+     * @param actor      the first actor.
+     * @param otherActor the second actor.
+     */
+    private static void damageCollidingActors(DestructibleGameObject actor, DestructibleGameObject otherActor) {
+        actor.takeDamage();
+        otherActor.takeDamage();
+    }
+
+    /**
+     * Damages a user projectile and the enemy unit it hit, counting the hit.
+     *
+     * @param projectile the user projectile.
+     * @param enemy      the enemy unit that was hit.
+     */
+    private void damageAndCountUserProjectileHit(DestructibleGameObject projectile, DestructibleGameObject enemy) {
+        userProjectileHits++;
+        damageCollidingActors(projectile, enemy);
+    }
+
+    /**
+     * Removes every destroyed actor from the world.
+     */
+    public void removeAllDestroyedActors() {
+        destroyedActors.clear();
+        compactDestroyedActors(friendlyUnits);
+        compactDestroyedActors(enemyUnits);
+        compactDestroyedActors(userProjectiles);
+        compactDestroyedActors(enemyProjectiles);
+        releaseDestroyedActors();
+        userProjectileStore.compact();
+        enemyProjectileStore.compact();
+    }
+
+    /**
+     * Removes the destroyed actors from a list, notifies the scene, and returns pooled actors to
+     * their {@link GameObjectPools} pool.
+     *
+     * @param actors the list of actors to process.
+     */
+    public void removeDestroyedActors(List<DestructibleGameObject> actors) {
+        destroyedActors.clear();
+        compactDestroyedActors(actors);
+        releaseDestroyedActors();
+    }
+
+    /**
+     * Removes the destroyed actors from a list in a single pass, moving each surviving actor down over
+     * the removed ones and truncating the tail, and collects the removed actors.
+     *
+     * @param actors the list of actors to compact.
+     */
+    private void compactDestroyedActors(List<DestructibleGameObject> actors) {
+        int size = actors.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            DestructibleGameObject actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                destroyedActors.add(actor);
+            } else {
+                if (kept != i) {
+                    actors.set(kept, actor);
+                }
+                kept++;
+            }
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            actors.remove(i);
+        }
+    }
+
+    /**
+     * Notifies the scene of the collected destroyed actors in one call and returns pooled actors to
+     * their {@link GameObjectPools} pool.
+     */
+    private void releaseDestroyedActors() {
+        if (destroyedActors.isEmpty()) {
+            return;
+        }
+        removedActors.addAll(destroyedActors);
+        actorsRemoved.accept(removedActors);
+        removedActors.clear();
+        GameObjectPools pools = GameObjectPools.getInstance();
+        for (int i = 0; i < destroyedActors.size(); i++) {
+            pools.release(destroyedActors.get(i));
+        }
+        destroyedActors.clear();
+    }
+
+    /**
+     * Synchronises the view of every actor in the world with its model.
+     */
+    public void syncViews() {
+        syncViews(friendlyUnits);
+        syncViews(enemyUnits);
+        syncViews(userProjectiles);
+        syncViews(enemyProjectiles);
+    }
+
+    /**
+     * Synchronises the view of every actor in the world with its model, interpolated between
+     * the last two simulation steps.
+     *
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     */
+    public void syncViews(double alpha) {
+        syncViews(friendlyUnits, alpha);
+        syncViews(enemyUnits, alpha);
+        syncViews(userProjectiles, alpha);
+        syncViews(enemyProjectiles, alpha);
+    }
+
+    /**
+     * Synchronises the view of every actor in a list with its model.
+     *
+     * @param actors the actors to synchronise.
+     */
+    private static void syncViews(List<DestructibleGameObject> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).syncView();
+        }
+    }
+
+    /**
+     * Synchronises the view of every actor in a list with its interpolated model.
+     *
+     * @param actors the actors to synchronise.
+     * @param alpha  the fraction of the next step that has elapsed, from 0 to 1.
+     */
+    private static void syncViews(List<DestructibleGameObject> actors, double alpha) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).syncView(alpha);
+        }
+    }
+
+    /**
+     * Removes every actor from the world, including the user plane.
+     */
+    public void clear() {
+        friendlyUnits.clear();
+        enemyUnits.clear();
+        userProjectiles.clear();
+        enemyProjectiles.clear();
+        userProjectileStore.clear();
+        enemyProjectileStore.clear();
+    }
+
+    /**
+     * Sets whether projectiles added from now on are kept in the projectile stores rather than as actors.
+     *
+     * @param enabled {@code true} to keep new projectiles in the projectile stores.
+     */
+    public void setProjectileStoreEnabled(boolean enabled) {
+        this.projectileStoreEnabled = enabled;
+    }
+
+    /**
+     * Checks whether new projectiles are kept in the projectile stores.
+     *
+     * @return {@code true} if the projectile stores are enabled.
+     */
+    public boolean isProjectileStoreEnabled() {
+        return projectileStoreEnabled;
+    }
+
+    /**
+     * Retrieves the store holding the projectiles fired by the user while the projectile store is enabled.
+     *
+     * @return the user projectile store.
+     */
+    public ProjectileStore getUserProjectileStore() {
+        return userProjectileStore;
+    }
+
+    /**
+     * Retrieves the store holding the projectiles fired by enemies while the projectile store is enabled.
+     *
+     * @return the enemy projectile store.
+     */
+    public ProjectileStore getEnemyProjectileStore() {
+        return enemyProjectileStore;
+    }
+
+    /**
+     * Retrieves the event bus the gameplay events of the world are published to.
+     *
+     * @return the event bus of the world.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Retrieves the user plane.
+     *
+     * @return the user plane.
+     */
+    public UserPlane getUser() {
+        return user;
+    }
+
+    /**
+     * Retrieves the friendly units in the world.
+     *
+     * @return the list of friendly units.
+     */
+    public List<DestructibleGameObject> getFriendlyUnits() {
+        return friendlyUnits;
+    }
+
+    /**
+     * Retrieves the enemy units in the world.
+     *
+     * @return the list of enemy units.
+     */
+    public List<DestructibleGameObject> getEnemyUnits() {
+        return enemyUnits;
+    }
+
+    /**
+     * Retrieves the projectiles fired by the user.
+     *
+     * @return the list of user projectiles.
+     */
+    public List<DestructibleGameObject> getUserProjectiles() {
+        return userProjectiles;
+    }
+
+    /**
+     * Retrieves the projectiles fired by enemies.
+     *
+     * @return the list of enemy projectiles.
+     */
+    public List<DestructibleGameObject> getEnemyProjectiles() {
+        return enemyProjectiles;
+    }
+
+    /**
+     * Retrieves the number of projectiles the user has fired into the world.
+     *
+     * @return the number of user projectiles fired.
+     */
+    public long getUserProjectilesFired() {
+        return userProjectilesFired;
+    }
+
+    /**
+     * Retrieves the number of enemy units added to the world, including those since destroyed.
+     *
+     * @return the number of enemy units added.
+     */
+    public long getEnemyUnitsAdded() {
+        return enemyUnitsAdded;
+    }
+
+    /**
+     * Retrieves the number of collisions between user projectiles and enemy units.
+     *
+     * @return the number of hits landed by the user.
+     */
+    public long getUserProjectileHits() {
+        return userProjectileHits;
+    }
+
+    /**
+     * Retrieves the projectile culler of the world.
+     *
+     * @return the {@link ProjectileCuller} used to cull projectiles.
+     */
+    public ProjectileCuller getProjectileCuller() {
+        return projectileCuller;
+    }
+
+}
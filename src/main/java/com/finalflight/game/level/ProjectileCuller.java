@@ -0,0 +1,130 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.AbstractProjectile;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+
+import java.util.List;
+
+/**
+ * The {@code ProjectileCuller} class destroys projectiles that are no longer relevant to the game,
+ * either because they have left the screen or because they have outlived the maximum lifetime of
+ * their projectile type. Culled projectiles are only marked as destroyed, so they are removed from
+ * the level together with every other destroyed actor.
+ *
+ * <p>The number of projectiles culled for each reason is counted so the cost of long fights can be
+ * monitored.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/ProjectileCuller.java</p>
+ */
+public class ProjectileCuller {
+
+    private static final double CULL_MARGIN = 200;
+    private final double minimumX;
+    private final double maximumX;
+    private final double minimumY;
+    private final double maximumY;
+    private long offScreenCullCount;
+    private long lifetimeCullCount;
+
+    /**
+     * Constructs a {@code ProjectileCuller} for a screen of the specified size. Projectiles are culled
+     * once their position is further than a fixed margin outside the screen.
+     *
+     * @param screenWidth  the width of the game screen.
+     * @param screenHeight the height of the game screen.
+     */
+    public ProjectileCuller(double screenWidth, double screenHeight) {
+        this.minimumX = -CULL_MARGIN;
+        this.maximumX = screenWidth + CULL_MARGIN;
+        this.minimumY = -CULL_MARGIN;
+        this.maximumY = screenHeight + CULL_MARGIN;
+    }
+
+    /**
+     * Advances the lifetime of each projectile in the list and destroys those that have outlived
+     * their maximum lifetime or moved outside the screen.
+     *
+     * @param projectiles the projectiles to check.
+     */
+    public void cull(List<DestructibleGameObject> projectiles) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            DestructibleGameObject projectile = projectiles.get(i);
+            if (projectile.isDestroyed()) {
+                continue;
+            }
+            if (projectile instanceof AbstractProjectile abstractProjectile && abstractProjectile.incrementLifetime()) {
+                projectile.destroy();
+                lifetimeCullCount++;
+            } else if (isOutsideScreen(projectile)) {
+                projectile.destroy();
+                offScreenCullCount++;
+            }
+        }
+    }
+
+    /**
+     * Advances the lifetime of each live projectile in a {@link ProjectileStore} and destroys those
+     * that have outlived their maximum lifetime or moved outside the screen.
+     *
+     * @param store the projectiles to check.
+     */
+    public void cull(ProjectileStore store) {
+        double[] x = store.x;
+        double[] y = store.y;
+        int[] framesAlive = store.framesAlive;
+        byte[] type = store.type;
+        int[] maxLifetime = store.typeMaxLifetime;
+        for (int i = 0; i < store.count; i++) {
+            if (!store.isAlive(i)) {
+                continue;
+            }
+            if (++framesAlive[i] > maxLifetime[type[i]]) {
+                store.kill(i);
+                lifetimeCullCount++;
+            } else if (x[i] < minimumX || x[i] > maximumX || y[i] < minimumY || y[i] > maximumY) {
+                store.kill(i);
+                offScreenCullCount++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the position of an actor is outside the screen, including the cull margin.
+     *
+     * @param actor the actor to check.
+     * @return {@code true} if the actor is outside the screen, {@code false} otherwise.
+     */
+    private boolean isOutsideScreen(DestructibleGameObject actor) {
+        double x = actor.getEntity().getX();
+        double y = actor.getEntity().getY();
+        return x < minimumX || x > maximumX || y < minimumY || y > maximumY;
+    }
+
+    /**
+     * Retrieves the number of projectiles culled for leaving the screen.
+     *
+     * @return the off-screen cull count.
+     */
+    public long getOffScreenCullCount() {
+        return offScreenCullCount;
+    }
+
+    /**
+     * Retrieves the number of projectiles culled for outliving their maximum lifetime.
+     *
+     * @return the lifetime cull count.
+     */
+    public long getLifetimeCullCount() {
+        return lifetimeCullCount;
+    }
+
+    /**
+     * Retrieves the total number of projectiles culled.
+     *
+     * @return the total cull count.
+     */
+    public long getTotalCullCount() {
+        return offScreenCullCount + lifetimeCullCount;
+    }
+
+}
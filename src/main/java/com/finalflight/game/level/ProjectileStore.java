@@ -0,0 +1,479 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.AbstractProjectile;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.Entity;
+import com.finalflight.game.gameobjects.SimulationRate;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ProjectileStore} class holds the projectiles of one side of a level as a structure of
+ * arrays: each property of the projectiles is kept in its own primitive array, indexed by slot, and a
+ * bitset marks which slots hold a projectile that has not been destroyed. Advancing, culling and
+ * colliding the projectiles are tight loops over these arrays, with no object per projectile, so the
+ * store scales to tens of thousands of projectiles.
+ *
+ * <p>Projectiles enter the store as {@link AbstractProjectile} objects, whose position, velocity,
+ * health and lifetime are copied into a free slot. The object can then be returned to its pool. The
+ * properties shared by every projectile of a class, such as the sprite size, hitbox, range, maximum
+ * lifetime and image, are kept once per type in a small type table filled the first time a class is
+ * added.</p>
+ *
+ * <p>The projectiles behave as their objects would: spread shots are destroyed once they have
+ * travelled their range, heavy shots take several hits, and every other projectile is destroyed by
+ * its first hit. Destroyed projectiles only have their bit cleared, and their slots are reclaimed by
+ * {@link #compact()}, which moves the last projectile into each free slot.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/ProjectileStore.java</p>
+ */
+public final class ProjectileStore {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // Per-projectile state, indexed by slot; package-private so the culler can loop over it directly
+    double[] x;
+    double[] y;
+    double[] previousX;
+    double[] previousY;
+    double[] velocityX;
+    double[] velocityY;
+    double[] speed;
+    double[] travelledDistance;
+    int[] health;
+    int[] framesAlive;
+    byte[] type;
+    long[] alive;
+    int count;
+
+    // Per-type properties, indexed by type
+    private final List<Class<?>> typeClasses = new ArrayList<>();
+    private final List<Image> typeImages = new ArrayList<>();
+    double[] typeWidth = new double[4];
+    double[] typeHeight = new double[4];
+    double[] typeHitboxLeft = new double[4];
+    double[] typeHitboxTop = new double[4];
+    double[] typeHitboxWidth = new double[4];
+    double[] typeHitboxHeight = new double[4];
+    double[] typeRange = new double[4];
+    int[] typeMaxLifetime = new int[4];
+
+    // Bounds of the targets of the current collision pass
+    private double[] targetMinX = new double[16];
+    private double[] targetMinY = new double[16];
+    private double[] targetMaxX = new double[16];
+    private double[] targetMaxY = new double[16];
+
+    /**
+     * Constructs an empty {@code ProjectileStore} with a default initial capacity.
+     */
+    public ProjectileStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code ProjectileStore} with room for the specified number of projectiles.
+     * The store grows as needed.
+     *
+     * @param initialCapacity the number of projectiles the store can hold before growing.
+     */
+    public ProjectileStore(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Copies a projectile into a free slot of the store. The projectile object itself is not kept.
+     *
+     * @param projectile the projectile to add.
+     * @return the slot the projectile was stored in.
+     */
+    public int add(AbstractProjectile projectile) {
+        if (count == x.length) {
+            allocate(x.length * 2);
+        }
+        int slot = count++;
+        Entity entity = projectile.getEntity();
+        x[slot] = entity.getX();
+        y[slot] = entity.getY();
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        velocityX[slot] = SimulationRate.perStep(entity.getVelocityX());
+        velocityY[slot] = SimulationRate.perStep(entity.getVelocityY());
+        speed[slot] = Math.sqrt(velocityX[slot] * velocityX[slot] + velocityY[slot] * velocityY[slot]);
+        travelledDistance[slot] = 0;
+        health[slot] = projectile.getHealth();
+        framesAlive[slot] = projectile.getFramesAlive();
+        type[slot] = (byte) typeOf(projectile);
+        if (health[slot] > 0) {
+            alive[slot >>> 6] |= 1L << slot;
+        } else {
+            alive[slot >>> 6] &= ~(1L << slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Advances every projectile by its velocity for one step, first recording its position so it can
+     * be drawn interpolated between the last two steps, and destroys spread shots that have travelled
+     * their range.
+     */
+    public void step() {
+        for (int i = 0; i < count; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+            travelledDistance[i] += speed[i];
+            if (travelledDistance[i] >= typeRange[type[i]]) {
+                kill(i);
+            }
+        }
+    }
+
+    /**
+     * Damages every live projectile and the target it hits, for every target whose hitbox intersects
+     * the hitbox of the projectile. Touching edges count as a hit, as for {@link Entity#intersects(Entity)}.
+     * A projectile stops hitting targets as soon as it is destroyed.
+     *
+     * @param targets the actors the projectiles can hit.
+     * @return the number of hits.
+     */
+    public int collide(List<DestructibleGameObject> targets) {
+        int targetCount = targets.size();
+        if (targetCount == 0 || count == 0) {
+            return 0;
+        }
+        if (targetMinX.length < targetCount) {
+            int length = Math.max(targetCount, targetMinX.length * 2);
+            targetMinX = new double[length];
+            targetMinY = new double[length];
+            targetMaxX = new double[length];
+            targetMaxY = new double[length];
+        }
+        double unionMinX = Double.POSITIVE_INFINITY;
+        double unionMinY = Double.POSITIVE_INFINITY;
+        double unionMaxX = Double.NEGATIVE_INFINITY;
+        double unionMaxY = Double.NEGATIVE_INFINITY;
+        for (int j = 0; j < targetCount; j++) {
+            Entity entity = targets.get(j).getEntity();
+            targetMinX[j] = entity.getMinX();
+            targetMinY[j] = entity.getMinY();
+            targetMaxX[j] = entity.getMaxX();
+            targetMaxY[j] = entity.getMaxY();
+            unionMinX = Math.min(unionMinX, targetMinX[j]);
+            unionMinY = Math.min(unionMinY, targetMinY[j]);
+            unionMaxX = Math.max(unionMaxX, targetMaxX[j]);
+            unionMaxY = Math.max(unionMaxY, targetMaxY[j]);
+        }
+
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            int projectileType = type[i];
+            double minX = x[i] + typeHitboxLeft[projectileType];
+            double minY = y[i] + typeHitboxTop[projectileType];
+            double maxX = minX + typeHitboxWidth[projectileType];
+            double maxY = minY + typeHitboxHeight[projectileType];
+            // Most projectiles are nowhere near a target, so reject them against the union of the targets first
+            if (maxX < unionMinX || minX > unionMaxX || maxY < unionMinY || minY > unionMaxY || !isAlive(i)) {
+                continue;
+            }
+            for (int j = 0; j < targetCount && isAlive(i); j++) {
+                if (targetMaxX[j] >= minX && targetMinX[j] <= maxX && targetMaxY[j] >= minY && targetMinY[j] <= maxY) {
+                    targets.get(j).takeDamage();
+                    damage(i);
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Applies one hit of damage to a projectile, destroying it once its health runs out.
+     *
+     * @param slot the slot of the projectile.
+     */
+    void damage(int slot) {
+        if (--health[slot] <= 0) {
+            health[slot] = 0;
+            kill(slot);
+        }
+    }
+
+    /**
+     * Marks a projectile as destroyed. Its slot is reclaimed by the next {@link #compact()}.
+     *
+     * @param slot the slot of the projectile.
+     */
+    void kill(int slot) {
+        alive[slot >>> 6] &= ~(1L << slot);
+    }
+
+    /**
+     * Removes every destroyed projectile, moving the last projectile of the store into each freed slot
+     * so the live projectiles stay packed at the front of the arrays. The order of the projectiles is
+     * not preserved.
+     *
+     * @return the number of projectiles removed.
+     */
+    public int compact() {
+        int removed = 0;
+        int i = 0;
+        while (i < count) {
+            if (isAlive(i)) {
+                i++;
+                continue;
+            }
+            int last = --count;
+            if (i != last) {
+                moveSlot(last, i);
+            }
+            kill(last);
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Copies a projectile from one slot to another, including whether it is alive.
+     *
+     * @param from the slot to copy from.
+     * @param to   the slot to copy to.
+     */
+    private void moveSlot(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        speed[to] = speed[from];
+        travelledDistance[to] = travelledDistance[from];
+        health[to] = health[from];
+        framesAlive[to] = framesAlive[from];
+        type[to] = type[from];
+        if (isAlive(from)) {
+            alive[to >>> 6] |= 1L << to;
+        } else {
+            kill(to);
+        }
+    }
+
+    /**
+     * Removes every projectile from the store, keeping its capacity and type table.
+     */
+    public void clear() {
+        Arrays.fill(alive, 0L);
+        count = 0;
+    }
+
+    /**
+     * Retrieves the type of a projectile, registering its class in the type table the first time it is seen.
+     *
+     * @param projectile the projectile.
+     * @return the index of its type.
+     */
+    private int typeOf(AbstractProjectile projectile) {
+        Class<?> projectileClass = projectile.getClass();
+        for (int i = 0; i < typeClasses.size(); i++) {
+            if (typeClasses.get(i) == projectileClass) {
+                return i;
+            }
+        }
+        int index = typeClasses.size();
+        if (index > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many projectile types in one store: " + projectileClass.getName());
+        }
+        if (index == typeWidth.length) {
+            typeWidth = Arrays.copyOf(typeWidth, index * 2);
+            typeHeight = Arrays.copyOf(typeHeight, index * 2);
+            typeHitboxLeft = Arrays.copyOf(typeHitboxLeft, index * 2);
+            typeHitboxTop = Arrays.copyOf(typeHitboxTop, index * 2);
+            typeHitboxWidth = Arrays.copyOf(typeHitboxWidth, index * 2);
+            typeHitboxHeight = Arrays.copyOf(typeHitboxHeight, index * 2);
+            typeRange = Arrays.copyOf(typeRange, index * 2);
+            typeMaxLifetime = Arrays.copyOf(typeMaxLifetime, index * 2);
+        }
+        typeClasses.add(projectileClass);
+        typeImages.add(projectile.getImage());
+        Entity entity = projectile.getEntity();
+        typeWidth[index] = entity.getWidth();
+        typeHeight[index] = entity.getHeight();
+        typeHitboxLeft[index] = entity.getHitboxInsetLeft();
+        typeHitboxTop[index] = entity.getHitboxInsetTop();
+        typeHitboxWidth[index] = entity.getHitboxWidth();
+        typeHitboxHeight[index] = entity.getHitboxHeight();
+        typeRange[index] = projectile.getRange();
+        typeMaxLifetime[index] = projectile.getMaxLifetimeFrames();
+        return index;
+    }
+
+    /**
+     * Grows every per-projectile array to the specified capacity, keeping the stored projectiles.
+     *
+     * @param capacity the new capacity.
+     */
+    private void allocate(int capacity) {
+        x = x == null ? new double[capacity] : Arrays.copyOf(x, capacity);
+        y = y == null ? new double[capacity] : Arrays.copyOf(y, capacity);
+        previousX = previousX == null ? new double[capacity] : Arrays.copyOf(previousX, capacity);
+        previousY = previousY == null ? new double[capacity] : Arrays.copyOf(previousY, capacity);
+        velocityX = velocityX == null ? new double[capacity] : Arrays.copyOf(velocityX, capacity);
+        velocityY = velocityY == null ? new double[capacity] : Arrays.copyOf(velocityY, capacity);
+        speed = speed == null ? new double[capacity] : Arrays.copyOf(speed, capacity);
+        travelledDistance = travelledDistance == null ? new double[capacity] : Arrays.copyOf(travelledDistance, capacity);
+        health = health == null ? new int[capacity] : Arrays.copyOf(health, capacity);
+        framesAlive = framesAlive == null ? new int[capacity] : Arrays.copyOf(framesAlive, capacity);
+        type = type == null ? new byte[capacity] : Arrays.copyOf(type, capacity);
+        int words = (capacity + 63) >>> 6;
+        alive = alive == null ? new long[words] : Arrays.copyOf(alive, words);
+    }
+
+    /**
+     * Retrieves the number of occupied slots, including destroyed projectiles not yet compacted.
+     *
+     * @return the number of occupied slots.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Counts the projectiles that have not been destroyed.
+     *
+     * @return the number of live projectiles.
+     */
+    public int countAlive() {
+        int total = 0;
+        int words = (count + 63) >>> 6;
+        for (int i = 0; i < words; i++) {
+            total += Long.bitCount(alive[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Checks whether the projectile in a slot has not been destroyed.
+     *
+     * @param slot the slot of the projectile.
+     * @return {@code true} if the projectile is alive.
+     */
+    public boolean isAlive(int slot) {
+        return (alive[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Retrieves the X-coordinate of a projectile.
+     *
+     * @param slot the slot of the projectile.
+     * @return the X-coordinate.
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Retrieves the Y-coordinate of a projectile.
+     *
+     * @param slot the slot of the projectile.
+     * @return the Y-coordinate.
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Retrieves the X-coordinate of a projectile interpolated between the start and end of the last step.
+     *
+     * @param slot  the slot of the projectile.
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     * @return the interpolated X-coordinate.
+     */
+    public double getInterpolatedX(int slot, double alpha) {
+        return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+    }
+
+    /**
+     * Retrieves the Y-coordinate of a projectile interpolated between the start and end of the last step.
+     *
+     * @param slot  the slot of the projectile.
+     * @param alpha the fraction of the next step that has elapsed, from 0 to 1.
+     * @return the interpolated Y-coordinate.
+     */
+    public double getInterpolatedY(int slot, double alpha) {
+        return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+    }
+
+    /**
+     * Retrieves the remaining health of a projectile.
+     *
+     * @param slot the slot of the projectile.
+     * @return the remaining health.
+     */
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    /**
+     * Retrieves the number of frames a projectile has been alive for.
+     *
+     * @param slot the slot of the projectile.
+     * @return the number of frames since the projectile was fired.
+     */
+    public int getFramesAlive(int slot) {
+        return framesAlive[slot];
+    }
+
+    /**
+     * Retrieves the type of a projectile, an index into the type table of the store.
+     *
+     * @param slot the slot of the projectile.
+     * @return the type of the projectile.
+     */
+    public int getType(int slot) {
+        return type[slot];
+    }
+
+    /**
+     * Retrieves the number of projectile types registered in the store.
+     *
+     * @return the number of types.
+     */
+    public int getTypeCount() {
+        return typeClasses.size();
+    }
+
+    /**
+     * Retrieves the sprite of a projectile type.
+     *
+     * @param type the type of the projectile.
+     * @return the image, or {@code null} if the projectiles of this type were created without one.
+     */
+    public Image getTypeImage(int type) {
+        return typeImages.get(type);
+    }
+
+    /**
+     * Retrieves the width the sprite of a projectile type is drawn at.
+     *
+     * @param type the type of the projectile.
+     * @return the width in pixels.
+     */
+    public double getTypeWidth(int type) {
+        return typeWidth[type];
+    }
+
+    /**
+     * Retrieves the height the sprite of a projectile type is drawn at.
+     *
+     * @param type the type of the projectile.
+     * @return the height in pixels.
+     */
+    public double getTypeHeight(int type) {
+        return typeHeight[type];
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.finalflight.game.level;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@code TimelineGameLoop} class is the original game loop, built on a {@link Timeline} with a
+ * single key frame. Each key frame runs one simulation step and renders the result immediately, so
+ * the game renders at the simulation rate and any delay in the JavaFX pulse slows the game down.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/TimelineGameLoop.java</p>
+ */
+public class TimelineGameLoop implements GameLoop {
+
+    private static final double MILLISECONDS_PER_SECOND = 1000.0;
+    private final Timeline timeline = new Timeline();
+    private long stepCount;
+
+    /**
+     * Constructs a {@code TimelineGameLoop} running the step at the specified rate.
+     *
+     * @param tickRate the number of simulation steps per second.
+     * @param step     the simulation step.
+     * @param render   called after each step with a fraction of 1.
+     */
+    public TimelineGameLoop(int tickRate, Runnable step, DoubleConsumer render) {
+        timeline.setCycleCount(Timeline.INDEFINITE);
+        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECONDS_PER_SECOND / tickRate), e -> {
+            stepCount++;
+            step.run();
+            render.accept(1.0);
+        });
+        timeline.getKeyFrames().add(gameLoop);
+    }
+
+    /**
+     * Starts or resumes the timeline.
+     */
+    @Override
+    public void play() {
+        timeline.play();
+    }
+
+    /**
+     * Pauses the timeline.
+     */
+    @Override
+    public void pause() {
+        timeline.pause();
+    }
+
+    /**
+     * Stops the timeline.
+     */
+    @Override
+    public void stop() {
+        timeline.stop();
+    }
+
+    /**
+     * Checks whether the timeline is running.
+     *
+     * @return {@code true} if the timeline is running, {@code false} otherwise.
+     */
+    @Override
+    public boolean isRunning() {
+        return timeline.getStatus() == Timeline.Status.RUNNING;
+    }
+
+    /**
+     * Retrieves the number of key frames run since the loop was created.
+     *
+     * @return the step count.
+     */
+    @Override
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Retrieves the number of frames rendered, which is one per step.
+     *
+     * @return the frame count.
+     */
+    @Override
+    public long getFrameCount() {
+        return stepCount;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.finalflight.game.level;
+
+/**
+ * The {@code TimingRingBuffer} class keeps the most recent timing samples of one stage in a fixed-size
+ * ring of primitive longs. It has a single writer, the thread running the game loop, which publishes
+ * each sample through a volatile write counter after storing it, so readers on any thread can take a
+ * snapshot without locking. A snapshot taken while the writer wraps around may mix samples from two
+ * consecutive laps, which is acceptable for statistics.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/TimingRingBuffer.java</p>
+ */
+public final class TimingRingBuffer {
+
+    private final long[] samples;
+    private final int mask;
+    private volatile long writeCount;
+
+    /**
+     * Constructs a {@code TimingRingBuffer} holding at least the specified number of samples,
+     * rounded up to a power of two.
+     *
+     * @param capacity the minimum number of samples kept.
+     */
+    public TimingRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.samples = new long[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds a sample, overwriting the oldest one once the buffer is full. Must only be called by the writer thread.
+     *
+     * @param value the sample to add.
+     */
+    public void add(long value) {
+        long count = writeCount;
+        samples[(int) (count & mask)] = value;
+        writeCount = count + 1;
+    }
+
+    /**
+     * Copies the samples currently held, most recent first.
+     *
+     * @param destination the array to copy into, at least {@link #capacity()} long.
+     * @return the number of samples copied.
+     */
+    public int snapshot(long[] destination) {
+        long count = writeCount;
+        int size = (int) Math.min(count, samples.length);
+        for (int i = 0; i < size; i++) {
+            destination[i] = samples[(int) ((count - 1 - i) & mask)];
+        }
+        return size;
+    }
+
+    /**
+     * Retrieves the most recent sample.
+     *
+     * @return the last sample added, or 0 if the buffer is empty.
+     */
+    public long last() {
+        long count = writeCount;
+        return count == 0 ? 0 : samples[(int) ((count - 1) & mask)];
+    }
+
+    /**
+     * Retrieves the number of samples held.
+     *
+     * @return the number of samples, at most the capacity.
+     */
+    public int size() {
+        return (int) Math.min(writeCount, samples.length);
+    }
+
+    /**
+     * Retrieves the number of samples the buffer can hold.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return samples.length;
+    }
+
+    /**
+     * Discards every sample. Must only be called by the writer thread.
+     */
+    public void clear() {
+        writeCount = 0;
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.gameobjects.SimulationRate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code WaveScheduler} class decides which enemies a {@link DefinedLevel} spawns on each step. Rather
+ * than drawing a random number for every missing enemy on every step, it keeps the steps its spawns are
+ * due on in order and only pops the ones that have come due, so a step with nothing due costs a single
+ * comparison.
+ *
+ * <p>The designed waves of a {@link LevelDefinition} are laid out when the level starts: every enemy of
+ * every wave becomes an event holding its step, type and position, kept in parallel arrays sorted by
+ * step and consumed through a cursor.</p>
+ *
+ * <p>The enemies that top the level up to its defined number are scheduled one per missing enemy. A
+ * missing enemy spawned with the chance {@code p} on each step first spawns after a geometrically
+ * distributed number of steps, which is drawn once, when the enemy goes missing, and kept in a min-heap
+ * of due steps. Since that wait is memoryless and the missing enemies are interchangeable, this spawns
+ * enemies with the same distribution as a draw per missing enemy per step: surplus entries can be
+ * dropped when waves fill the screen, and all entries are drawn again when the chance changes with a
+ * boss phase. The height and type of a topped up enemy are drawn when it spawns.</p>
+ *
+ * <p>Wave starts are given in seconds and the spawn chances per step at
+ * {@link LevelDefinition#SPAWN_CHANCE_TICK_RATE}, so both are converted to steps at the configured
+ * {@link SimulationRate}: a wait is drawn in steps of the definition and stretched to the number of
+ * steps that last as long.</p>
+ *
+ * <p>Scheduling does not allocate once the level has started, as the heap only grows when a reloaded
+ * definition keeps more enemies on screen than any before it.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/level/WaveScheduler.java</p>
+ */
+final class WaveScheduler {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    /**
+     * Receives the enemies that are due.
+     */
+    interface Spawner {
+
+        /**
+         * Spawns an enemy.
+         *
+         * @param type      the type of the enemy.
+         * @param xOffset   the distance beyond the right edge of the screen to spawn the enemy at.
+         * @param yPosition the height of the enemy.
+         */
+        void spawn(LevelDefinition.EnemyType type, double xOffset, double yPosition);
+    }
+
+    private final SplittableRandom random;
+    private final double enemyMaximumYPosition;
+    private final double stepsPerDefinedStep;
+    private final long[] waveTicks;
+    private final LevelDefinition.EnemyType[] waveTypes;
+    private final double[] waveXOffsets;
+    private final double[] waveYPositions;
+    private int nextWaveEvent;
+    private long[] topUpTicks;
+    private int topUpCount;
+    private LevelDefinition topUpDefinition;
+    private int topUpPhase;
+
+    /**
+     * Constructs a {@code WaveScheduler}, laying out the designed waves of a definition.
+     *
+     * @param definition            the definition of the level.
+     * @param random                the stream that positions, types and times of spawns are drawn from.
+     * @param enemyMaximumYPosition the lowest height an enemy can be spawned at.
+     */
+    WaveScheduler(LevelDefinition definition, SplittableRandom random, double enemyMaximumYPosition) {
+        this.random = random;
+        this.enemyMaximumYPosition = enemyMaximumYPosition;
+        this.stepsPerDefinedStep = (double) SimulationRate.getTickRate() / LevelDefinition.SPAWN_CHANCE_TICK_RATE;
+
+        List<LevelDefinition.Wave> waves = definition.getWaves();
+        int events = 0;
+        for (LevelDefinition.Wave wave : waves) {
+            events += wave.count();
+        }
+        this.waveTicks = new long[events];
+        this.waveTypes = new LevelDefinition.EnemyType[events];
+        this.waveXOffsets = new double[events];
+        this.waveYPositions = new double[events];
+        // The waves are ordered by start, so the events are laid out ordered by step
+        int event = 0;
+        for (LevelDefinition.Wave wave : waves) {
+            layOutWave(wave, event);
+            event += wave.count();
+        }
+
+        this.topUpTicks = new long[Math.max(1, definition.getMaxEnemies(LevelDefinition.BASE_PHASE))];
+    }
+
+    /**
+     * Lays out the enemies of a wave as events.
+     *
+     * @param wave  the wave.
+     * @param first the index of the event of its lead enemy.
+     */
+    private void layOutWave(LevelDefinition.Wave wave, int first) {
+        long tick = Math.round(wave.startSeconds() * SimulationRate.getTickRate());
+        double spacing = wave.spacing();
+        double leadY = wave.yPosition() == LevelDefinition.RANDOM_Y_POSITION
+                ? random.nextDouble() * enemyMaximumYPosition : wave.yPosition();
+        for (int i = 0; i < wave.count(); i++) {
+            double xOffset;
+            double yPosition;
+            switch (wave.formation()) {
+                case COLUMN -> {
+                    xOffset = 0;
+                    yPosition = leadY + i * spacing;
+                }
+                case TRAIL -> {
+                    xOffset = i * spacing;
+                    yPosition = leadY;
+                }
+                case VEE -> {
+                    // The lead enemy is the tip, followed by pairs above and below it
+                    int rank = (i + 1) / 2;
+                    xOffset = rank * spacing;
+                    yPosition = leadY + (i % 2 == 1 ? -rank : rank) * spacing;
+                }
+                case SCATTER -> {
+                    xOffset = i * spacing;
+                    yPosition = i == 0 ? leadY : random.nextDouble() * enemyMaximumYPosition;
+                }
+                default -> throw new IllegalStateException("Unknown formation " + wave.formation());
+            }
+            waveTicks[first + i] = tick;
+            waveTypes[first + i] = wave.type();
+            waveXOffsets[first + i] = xOffset;
+            waveYPositions[first + i] = Math.min(Math.max(yPosition, 0), enemyMaximumYPosition);
+        }
+    }
+
+    /**
+     * Spawns the enemies that are due on a step: the enemies of designed waves that enter on or before
+     * it, then the topped up enemies whose wait has run out.
+     *
+     * @param tick            the step.
+     * @param definition      the definition the level currently spawns by, which may have been reloaded.
+     * @param phase           the current phase, or {@link LevelDefinition#BASE_PHASE}.
+     * @param enemiesOnScreen the number of enemies on screen, not counting a boss.
+     * @param spawner         receives the enemies that are due.
+     * @return the number of enemies spawned.
+     */
+    int spawnDue(long tick, LevelDefinition definition, int phase, int enemiesOnScreen, Spawner spawner) {
+        int spawned = 0;
+        while (nextWaveEvent < waveTicks.length && waveTicks[nextWaveEvent] <= tick) {
+            spawner.spawn(waveTypes[nextWaveEvent], waveXOffsets[nextWaveEvent], waveYPositions[nextWaveEvent]);
+            nextWaveEvent++;
+            spawned++;
+        }
+
+        double spawnProbability = definition.getSpawnProbability(phase);
+        if (definition != topUpDefinition || phase != topUpPhase) {
+            // The waits are memoryless, so drawing them again for the new chance loses nothing
+            topUpDefinition = definition;
+            topUpPhase = phase;
+            topUpCount = 0;
+        }
+        int missingEnemies = Math.max(0, definition.getMaxEnemies(phase) - (enemiesOnScreen + spawned));
+        // Dropping trailing entries keeps the heap ordered, and any entry is as good as another
+        topUpCount = Math.min(topUpCount, missingEnemies);
+        while (topUpCount < missingEnemies) {
+            push(tick + stepsUntilSpawn(spawnProbability));
+        }
+
+        while (topUpCount > 0 && topUpTicks[0] <= tick) {
+            pop();
+            double yPosition = random.nextDouble() * enemyMaximumYPosition;
+            // A single enemy type needs no roll, which keeps the draws of one-type levels unchanged
+            LevelDefinition.EnemyType type = definition.getEnemyTypeCount() > 1
+                    ? definition.pickEnemyType(random.nextDouble()) : definition.pickEnemyType(0);
+            spawner.spawn(type, 0, yPosition);
+            spawned++;
+        }
+        return spawned;
+    }
+
+    /**
+     * Draws the number of steps until a missing enemy spawns, if it spawns with a chance on each step.
+     *
+     * @param spawnProbability the chance of spawning on each step at the rate the definition is given for.
+     * @return the number of steps after the current one, 0 to spawn on the current step.
+     */
+    private long stepsUntilSpawn(double spawnProbability) {
+        if (spawnProbability <= 0) {
+            return NEVER / 2;
+        }
+        if (spawnProbability >= 1) {
+            return 0;
+        }
+        double uniform = 1 - random.nextDouble(); // In (0, 1], so its logarithm is finite
+        double definedSteps = Math.log(uniform) / Math.log1p(-spawnProbability);
+        return (long) Math.floor(definedSteps * stepsPerDefinedStep);
+    }
+
+    /**
+     * Adds a due step to the heap of topped up enemies.
+     *
+     * @param dueTick the step the enemy is due on.
+     */
+    private void push(long dueTick) {
+        if (topUpCount == topUpTicks.length) {
+            topUpTicks = Arrays.copyOf(topUpTicks, topUpCount * 2);
+        }
+        int child = topUpCount++;
+        while (child > 0) {
+            int parent = (child - 1) / 2;
+            if (topUpTicks[parent] <= dueTick) {
+                break;
+            }
+            topUpTicks[child] = topUpTicks[parent];
+            child = parent;
+        }
+        topUpTicks[child] = dueTick;
+    }
+
+    /**
+     * Removes the earliest due step from the heap of topped up enemies.
+     */
+    private void pop() {
+        long last = topUpTicks[--topUpCount];
+        int parent = 0;
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= topUpCount) {
+                break;
+            }
+            if (child + 1 < topUpCount && topUpTicks[child + 1] < topUpTicks[child]) {
+                child++;
+            }
+            if (last <= topUpTicks[child]) {
+                break;
+            }
+            topUpTicks[parent] = topUpTicks[child];
+            parent = child;
+        }
+        topUpTicks[parent] = last;
+    }
+
+    /**
+     * Retrieves the number of enemies of designed waves that have yet to enter.
+     *
+     * @return the number of wave enemies still to spawn.
+     */
+    int getPendingWaveEnemies() {
+        return waveTicks.length - nextWaveEvent;
+    }
+
+    /**
+     * Retrieves the number of missing enemies waiting to be topped up.
+     *
+     * @return the number of scheduled top-up spawns.
+     */
+    int getPendingTopUps() {
+        return topUpCount;
+    }
+
+}
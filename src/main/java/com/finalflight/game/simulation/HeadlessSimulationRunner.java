@@ -0,0 +1,268 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.event.GameEventBus;
+import com.finalflight.game.gameobjects.SimulationRate;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import com.finalflight.game.level.LevelFactory;
+import com.finalflight.game.level.LevelRandom;
+import com.finalflight.game.level.LevelWorld;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * The {@code HeadlessSimulationRunner} class plays the game from the first level to the end without
+ * a window, sound or the JavaFX toolkit, for batch balance testing. Each playthrough creates the levels
+ * in headless mode, feeds them input from an {@link InputSource} one step at a time, follows the level
+ * transitions the same way {@link com.finalflight.game.controller.GameController} does, and collects a
+ * {@link SimulationResult}.
+ *
+ * <p>Playthroughs are independent and run in parallel on a fixed thread pool. Everything a playthrough
+ * touches is confined to its worker thread: the levels and their actors, the per-thread
+ * {@link com.finalflight.game.gameobjects.GameObjectPools} and the user health carried between levels.
+ * Levels run on simulated time, so a playthrough with the same input takes the same number of steps
+ * regardless of how fast the machine is.</p>
+ *
+ * <p>Playthrough {@code n} is seeded with the base seed plus {@code n}, and each level it plays gets
+ * its seed from that, so a batch run twice with the same base seed and a deterministic input source
+ * produces the same results.</p>
+ *
+ * <p>Usage: {@code HeadlessSimulationRunner <runs> <output.csv> [threads] [maxTicks] [seed]}</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/HeadlessSimulationRunner.java</p>
+ */
+public class HeadlessSimulationRunner {
+
+    /**
+     * The fully qualified name of the level every playthrough starts from.
+     */
+    public static final String FIRST_LEVEL = "com.finalflight.game.level.LevelOne";
+
+    /**
+     * The default game time after which a playthrough is abandoned, in seconds.
+     */
+    public static final long DEFAULT_MAX_SECONDS = 3_600;
+
+    private static final double SCREEN_WIDTH = 1540;
+    private static final double SCREEN_HEIGHT = 870;
+    private final Supplier<InputSource> inputSourceFactory;
+    private final long maxTicks;
+    private final long baseSeed;
+
+    /**
+     * Constructs a {@code HeadlessSimulationRunner} with the default base seed.
+     *
+     * @param inputSourceFactory creates the input source of each playthrough.
+     * @param maxTicks           the number of steps after which a playthrough is abandoned.
+     */
+    public HeadlessSimulationRunner(Supplier<InputSource> inputSourceFactory, long maxTicks) {
+        this(inputSourceFactory, maxTicks, LevelRandom.defaultSeed());
+    }
+
+    /**
+     * Constructs a {@code HeadlessSimulationRunner}.
+     *
+     * @param inputSourceFactory creates the input source of each playthrough.
+     * @param maxTicks           the number of steps after which a playthrough is abandoned.
+     * @param baseSeed           the seed the seeds of all playthroughs are derived from.
+     */
+    public HeadlessSimulationRunner(Supplier<InputSource> inputSourceFactory, long maxTicks, long baseSeed) {
+        this.inputSourceFactory = inputSourceFactory;
+        this.maxTicks = maxTicks;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Switches off image loading and sound effects for every thread, so levels can be created
+     * without the JavaFX toolkit. Must be called before any playthrough is run.
+     */
+    public static void enableHeadlessMode() {
+        SpriteCache.getInstance().setHeadless(true);
+        SoundEffectPlayer.setMuted(true);
+    }
+
+    /**
+     * Plays the game once from the first level on the current thread.
+     *
+     * @param run the index of the playthrough, recorded in the result.
+     * @return the statistics of the playthrough.
+     * @throws ReflectiveOperationException if a level cannot be created.
+     */
+    public SimulationResult runPlaythrough(int run) throws ReflectiveOperationException {
+        InputSource inputSource = inputSourceFactory.get();
+        long seed = baseSeed + run;
+        SplittableRandom levelSeeds = new SplittableRandom(seed);
+        LevelTransition transition = new LevelTransition();
+        List<Long> ticksPerLevel = new ArrayList<>();
+        long totalTicks = 0;
+        long shotsFired = 0;
+        long shotsHit = 0;
+        int damageTaken = 0;
+        int kills = 0;
+
+        UserPlane.resetHealth(0);
+        String levelName = FIRST_LEVEL;
+        BaseLevel level;
+        while (true) {
+            level = createLevel(levelName, levelSeeds.nextLong());
+            level.getEvents().onLevelComplete(transition);
+            int startingHealth = level.getWorld().getUser().getHealth();
+
+            while (level.getStatus() == BaseLevel.LevelStatus.RUNNING && totalTicks < maxTicks) {
+                level.applyInput(inputSource.nextInput(level, level.getTickCount()));
+                level.tick();
+                totalTicks++;
+            }
+
+            LevelWorld world = level.getWorld();
+            ticksPerLevel.add(level.getTickCount());
+            shotsFired += world.getUserProjectilesFired();
+            shotsHit += world.getUserProjectileHits();
+            damageTaken += Math.max(0, startingHealth - world.getUser().getHealth());
+            kills += world.getUser().getNumberOfKills();
+
+            if (level.getStatus() != BaseLevel.LevelStatus.COMPLETED || totalTicks >= maxTicks) {
+                break;
+            }
+            levelName = transition.nextLevel;
+        }
+
+        return new SimulationResult(run, seed, outcomeOf(level.getStatus()), level.getClass().getSimpleName(), totalTicks,
+                List.copyOf(ticksPerLevel), damageTaken, shotsFired, shotsHit, kills);
+    }
+
+    /**
+     * Plays the game the specified number of times on a pool of worker threads.
+     *
+     * @param runs    the number of playthroughs.
+     * @param threads the number of worker threads.
+     * @return the results of the playthroughs, ordered by run index.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     * @throws ExecutionException   if a playthrough fails.
+     */
+    public List<SimulationResult> runAll(int runs, int threads) throws InterruptedException, ExecutionException {
+        List<Callable<SimulationResult>> playthroughs = new ArrayList<>(runs);
+        for (int run = 0; run < runs; run++) {
+            int index = run;
+            playthroughs.add(() -> runPlaythrough(index));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<SimulationResult> results = new ArrayList<>(runs);
+            for (Future<SimulationResult> future : executor.invokeAll(playthroughs)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes results to a CSV file, with a header row.
+     *
+     * @param results the results to write.
+     * @param output  the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeCsv(List<SimulationResult> results, Path output) throws IOException {
+        List<String> lines = new ArrayList<>(results.size() + 1);
+        lines.add(SimulationResult.CSV_HEADER);
+        results.forEach(result -> lines.add(result.toCsvRow()));
+        Files.write(output, lines);
+    }
+
+    /**
+     * Creates a headless level through the {@link LevelFactory}.
+     *
+     * @param levelName the fully qualified name of the level class, or the name of a level definition.
+     * @param seed      the seed of the level.
+     * @return the new headless level.
+     * @throws ReflectiveOperationException if the level cannot be created.
+     */
+    static BaseLevel createLevel(String levelName, long seed) throws ReflectiveOperationException {
+        try {
+            return LevelFactory.create(levelName, SCREEN_HEIGHT, SCREEN_WIDTH, true, seed);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not create level " + levelName, e.getCause());
+        }
+    }
+
+    /**
+     * Maps the status a playthrough stopped in to its outcome.
+     *
+     * @param status the status of the last level played.
+     * @return the outcome of the playthrough.
+     */
+    private static SimulationResult.Outcome outcomeOf(BaseLevel.LevelStatus status) {
+        return switch (status) {
+            case WON -> SimulationResult.Outcome.WON;
+            case LOST -> SimulationResult.Outcome.LOST;
+            default -> SimulationResult.Outcome.TIMED_OUT;
+        };
+    }
+
+    /**
+     * Runs a batch of playthroughs with the {@link TrackingBot} and writes the results to a CSV file.
+     *
+     * @param args the number of runs, the output file, and optionally the number of threads, the
+     *             maximum number of steps per playthrough and the base seed.
+     * @throws Exception if a playthrough fails or the results cannot be written.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: HeadlessSimulationRunner <runs> <output.csv> [threads] [maxTicks] [seed]");
+            System.exit(1);
+        }
+        int runs = Integer.parseInt(args[0]);
+        Path output = Paths.get(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long maxTicks = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_MAX_SECONDS * SimulationRate.getTickRate();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : LevelRandom.defaultSeed();
+
+        enableHeadlessMode();
+        long start = System.nanoTime();
+        List<SimulationResult> results = new HeadlessSimulationRunner(TrackingBot::new, maxTicks, seed)
+                .runAll(runs, threads);
+        writeCsv(results, output);
+
+        long wins = results.stream().filter(result -> result.outcome() == SimulationResult.Outcome.WON).count();
+        System.out.printf("%d runs on %d threads with seed %d in %.1f s: %d won, %d not won. Results written to %s%n",
+                runs, threads, seed, (System.nanoTime() - start) / 1e9, wins, runs - wins, output);
+    }
+
+    /**
+     * Records the level a playthrough transitions to, in place of the game controller.
+     */
+    private static final class LevelTransition implements GameEventBus.LevelCompleteListener {
+
+        private String nextLevel;
+
+        /**
+         * Records the name of the next level.
+         *
+         * @param levelName the fully qualified name of the next level.
+         */
+        @Override
+        public void onLevelComplete(String levelName) {
+            nextLevel = levelName;
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.gameobjects.SimulationRate;
+import com.finalflight.game.level.BaseLevel;
+import javafx.scene.input.KeyCode;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * The {@code InputRecorder} class writes the input of a play session to a compact binary stream, in
+ * the {@link ReplayFormat}, so the session can be reproduced exactly by {@link InputReplay}. Each level
+ * is recorded with its seed, starting health and tick rate, followed by the keys applied on each of its
+ * steps, run-length encoded since the held keys rarely change from one step to the next, and the state
+ * checksum of its steps, which a replay compares to detect a divergence.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/InputRecorder.java</p>
+ */
+public class InputRecorder implements Closeable {
+
+    private final DataOutputStream output;
+    private BaseLevel level;
+    private long checksum;
+    private int runMask;
+    private int runLength;
+    private boolean closed;
+
+    /**
+     * Constructs an {@code InputRecorder} writing to the specified stream.
+     *
+     * @param output the stream to write the recording to.
+     * @throws IOException if the header cannot be written.
+     */
+    public InputRecorder(OutputStream output) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.output.writeInt(ReplayFormat.MAGIC);
+        this.output.writeByte(ReplayFormat.VERSION);
+    }
+
+    /**
+     * Creates an {@code InputRecorder} writing to a new file, replacing any existing file.
+     *
+     * @param file the file to write the recording to.
+     * @return the new recorder.
+     * @throws IOException if the file cannot be created.
+     */
+    public static InputRecorder open(Path file) throws IOException {
+        return new InputRecorder(Files.newOutputStream(file));
+    }
+
+    /**
+     * Starts recording a level and makes the level report the keys of each of its steps to this recorder.
+     *
+     * @param levelClassName the fully qualified class name of the level.
+     * @param level          the level, which must not have been advanced yet.
+     */
+    public synchronized void beginLevel(String levelClassName, BaseLevel level) {
+        try {
+            writeRun();
+            writeChecksum();
+            output.writeByte(ReplayFormat.TAG_LEVEL);
+            output.writeUTF(levelClassName);
+            output.writeLong(level.getSeed());
+            output.writeInt(level.getWorld().getUser().getHealth());
+            output.writeInt(SimulationRate.getTickRate());
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.level = level;
+        this.checksum = ReplayFormat.CHECKSUM_SEED;
+        level.setInputRecorder(this::record);
+    }
+
+    /**
+     * Records the state checksum of a level and the status it stopped in.
+     *
+     * @param level the level that was left.
+     */
+    public synchronized void endLevel(BaseLevel level) {
+        level.setInputRecorder(null);
+        try {
+            writeRun();
+            writeChecksum();
+            output.writeByte(ReplayFormat.TAG_LEVEL_END);
+            output.writeByte(level.getStatus().ordinal());
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the keys applied on one step of the current level and folds the state of the level at
+     * the start of the step into its checksum.
+     *
+     * @param keys the keys held down during the step.
+     */
+    public synchronized void record(Set<KeyCode> keys) {
+        if (closed) {
+            return;
+        }
+        if (level != null) {
+            checksum = ReplayFormat.foldChecksum(checksum, level);
+        }
+        int mask = ReplayFormat.encode(keys);
+        if (mask != runMask && runLength > 0) {
+            try {
+                writeRun();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        runMask = mask;
+        runLength++;
+    }
+
+    /**
+     * Writes the pending run of identical steps, if any, as the mask followed by the run length
+     * encoded in 7-bit groups.
+     *
+     * @throws IOException if the run cannot be written.
+     */
+    private void writeRun() throws IOException {
+        if (runLength == 0) {
+            return;
+        }
+        output.writeByte(ReplayFormat.TAG_RUN);
+        output.writeShort(runMask);
+        int remaining = runLength;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+        runLength = 0;
+    }
+
+    /**
+     * Writes the state checksum of the level being recorded, if any, and stops folding steps into it.
+     *
+     * @throws IOException if the checksum cannot be written.
+     */
+    private void writeChecksum() throws IOException {
+        if (level == null) {
+            return;
+        }
+        output.writeByte(ReplayFormat.TAG_CHECKSUM);
+        output.writeLong(checksum);
+        level = null;
+    }
+
+    /**
+     * Writes any pending steps, the checksum of the level being recorded and the end of the recording,
+     * and closes the stream. Further steps are ignored.
+     *
+     * @throws IOException if the recording cannot be completed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeRun();
+        writeChecksum();
+        output.writeByte(ReplayFormat.TAG_END_OF_STREAM);
+        output.close();
+    }
+
+}
@@ -0,0 +1,390 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.gameobjects.SimulationRate;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import javafx.scene.input.KeyCode;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The {@code InputReplay} class reads a recording written by an {@link InputRecorder} and replays it
+ * headless, as fast as possible. Each recorded level is recreated with its seed, starting health and
+ * tick rate and fed the recorded keys one step at a time, so the session plays out exactly as it was
+ * recorded. The replay checks that each level stops on the same step and in the same status as it did
+ * when recorded, and that the state checksum of its steps matches the recorded one, which makes it
+ * usable both to reproduce a reported bug and to profile a real session repeatedly.
+ *
+ * <p>Usage: {@code InputReplay <recording> [repeats]}</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/InputReplay.java</p>
+ */
+public class InputReplay {
+
+    private final List<LevelRecording> levels;
+
+    /**
+     * Constructs an {@code InputReplay} of the specified recorded levels.
+     *
+     * @param levels the recorded levels, in the order they were played.
+     */
+    public InputReplay(List<LevelRecording> levels) {
+        this.levels = List.copyOf(levels);
+    }
+
+    /**
+     * The input recorded for one level.
+     *
+     * @param levelClassName the fully qualified class name of the level.
+     * @param seed           the seed of the level.
+     * @param startingHealth the health of the user plane when the level started.
+     * @param tickRate       the number of steps per second the level was played at.
+     * @param runMasks       the key mask of each run of identical steps.
+     * @param runLengths     the number of steps in each run.
+     * @param endStatus      the status the level stopped in, or {@code null} if the session ended during the level.
+     * @param stateChecksum  the state checksum of the recorded steps, or {@code null} if the recording was cut short.
+     */
+    public record LevelRecording(String levelClassName, long seed, int startingHealth, int tickRate, int[] runMasks,
+                                 int[] runLengths, BaseLevel.LevelStatus endStatus, Long stateChecksum) {
+
+        /**
+         * Retrieves the number of steps recorded for the level.
+         *
+         * @return the total length of the runs.
+         */
+        public long getTickCount() {
+            return Arrays.stream(runLengths).asLongStream().sum();
+        }
+
+        /**
+         * Creates an input source that plays back the recorded keys, and no keys after the last recorded step.
+         *
+         * @return a new input source for the level.
+         */
+        public InputSource inputSource() {
+            return new InputSource() {
+                private final Set<KeyCode> keys = EnumSet.noneOf(KeyCode.class);
+                private int run;
+                private int stepsLeftInRun = runLengths.length > 0 ? runLengths[0] : 0;
+
+                @Override
+                public Set<KeyCode> nextInput(BaseLevel level, long tick) {
+                    while (stepsLeftInRun == 0 && run < runLengths.length - 1) {
+                        stepsLeftInRun = runLengths[++run];
+                    }
+                    if (stepsLeftInRun == 0) {
+                        keys.clear();
+                    } else {
+                        ReplayFormat.decode(runMasks[run], keys);
+                        stepsLeftInRun--;
+                    }
+                    return keys;
+                }
+            };
+        }
+    }
+
+    /**
+     * The outcome of replaying one level.
+     *
+     * @param recording     the recorded level.
+     * @param level         the replayed level, in the state it was left in, for inspection.
+     * @param stateChecksum the state checksum of the replayed steps.
+     * @param elapsedNanos  the time taken to replay the level.
+     */
+    public record LevelReplayResult(LevelRecording recording, BaseLevel level, long stateChecksum, long elapsedNanos) {
+
+        /**
+         * Retrieves the number of steps the level ran for when replayed.
+         *
+         * @return the number of steps replayed.
+         */
+        public long replayedTicks() {
+            return level.getTickCount();
+        }
+
+        /**
+         * Retrieves the status the level stopped in when replayed.
+         *
+         * @return the status of the replayed level.
+         */
+        public BaseLevel.LevelStatus replayedStatus() {
+            return level.getStatus();
+        }
+
+        /**
+         * Checks whether the level behaved as it did when recorded: it ran for every recorded step, went
+         * through the same states if the recording holds their checksum and, if the recording says how the
+         * level stopped, stopped in the same status.
+         *
+         * @return {@code true} if the replay matches the recording.
+         */
+        public boolean matchesRecording() {
+            return replayedTicks() == recording.getTickCount()
+                    && (recording.stateChecksum() == null || stateChecksum == recording.stateChecksum())
+                    && (recording.endStatus() == null || replayedStatus() == recording.endStatus());
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the recording.
+     * @return the replay of the recording.
+     * @throws IOException if the file cannot be read or is not a recording.
+     */
+    public static InputReplay read(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream. A recording cut short, e.g. by the game being killed, is read
+     * up to the last complete record.
+     *
+     * @param stream the stream holding the recording.
+     * @return the replay of the recording.
+     * @throws IOException if the stream cannot be read or does not hold a recording.
+     */
+    public static InputReplay read(InputStream stream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+        if (input.readInt() != ReplayFormat.MAGIC || input.readUnsignedByte() != ReplayFormat.VERSION) {
+            throw new IOException("Not an input recording of a supported version");
+        }
+
+        List<LevelRecording> levels = new ArrayList<>();
+        LevelBuilder current = null;
+        while (true) {
+            int tag = input.read();
+            if (tag == -1 || tag == ReplayFormat.TAG_END_OF_STREAM) {
+                break;
+            }
+            switch (tag) {
+                case ReplayFormat.TAG_LEVEL -> {
+                    if (current != null) {
+                        levels.add(current.build(null));
+                    }
+                    current = new LevelBuilder(input.readUTF(), input.readLong(), input.readInt(), input.readInt());
+                }
+                case ReplayFormat.TAG_CHECKSUM -> {
+                    long checksum = input.readLong();
+                    if (current != null) {
+                        current.stateChecksum = checksum;
+                    }
+                }
+                case ReplayFormat.TAG_RUN -> {
+                    int mask = input.readUnsignedShort();
+                    int length = readRunLength(input);
+                    if (current != null) {
+                        current.addRun(mask, length);
+                    }
+                }
+                case ReplayFormat.TAG_LEVEL_END -> {
+                    BaseLevel.LevelStatus status = BaseLevel.LevelStatus.values()[input.readUnsignedByte()];
+                    if (current != null) {
+                        levels.add(current.build(status));
+                        current = null;
+                    }
+                }
+                default -> throw new IOException("Unknown record " + tag + " in input recording");
+            }
+        }
+        if (current != null) {
+            levels.add(current.build(null));
+        }
+        return new InputReplay(levels);
+    }
+
+    /**
+     * Reads a run length encoded in 7-bit groups, least significant group first.
+     *
+     * @param input the stream to read from.
+     * @return the run length.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static int readRunLength(DataInputStream input) throws IOException {
+        int length = 0;
+        int shift = 0;
+        int group;
+        do {
+            group = input.readUnsignedByte();
+            length |= (group & 0x7F) << shift;
+            shift += 7;
+        } while ((group & 0x80) != 0);
+        return length;
+    }
+
+    /**
+     * Replays every recorded level headless on the current thread, each at the tick rate it was recorded
+     * at. The headless mode of the sprite cache and sound effects must be enabled first, see
+     * {@link HeadlessSimulationRunner#enableHeadlessMode()}.
+     *
+     * @return the outcome of each level, in order.
+     * @throws ReflectiveOperationException if a level cannot be created.
+     */
+    public List<LevelReplayResult> play() throws ReflectiveOperationException {
+        List<LevelReplayResult> results = new ArrayList<>(levels.size());
+        int configuredTickRate = SimulationRate.getTickRate();
+        try {
+            for (LevelRecording recording : levels) {
+                long start = System.nanoTime();
+                SimulationRate.setTickRate(recording.tickRate());
+                UserPlane.resetHealth(recording.startingHealth());
+                BaseLevel level = HeadlessSimulationRunner.createLevel(recording.levelClassName(), recording.seed());
+                ChecksumFolder checksum = new ChecksumFolder(level);
+                level.setInputRecorder(checksum);
+                InputSource inputSource = recording.inputSource();
+                long ticks = recording.getTickCount();
+                while (level.getTickCount() < ticks && level.getStatus() == BaseLevel.LevelStatus.RUNNING) {
+                    level.applyInput(inputSource.nextInput(level, level.getTickCount()));
+                    level.tick();
+                }
+                level.setInputRecorder(null);
+                results.add(new LevelReplayResult(recording, level, checksum.value, System.nanoTime() - start));
+            }
+        } finally {
+            SimulationRate.setTickRate(configuredTickRate);
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves the recorded levels.
+     *
+     * @return the recorded levels, in the order they were played.
+     */
+    public List<LevelRecording> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Replays a recording headless, optionally several times for profiling, and reports for each level
+     * whether it matched the recording and how fast it was replayed.
+     *
+     * @param args the recording file, and optionally the number of times to replay it.
+     * @throws Exception if the recording cannot be read or replayed.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: InputReplay <recording> [repeats]");
+            System.exit(1);
+        }
+        InputReplay replay = read(Paths.get(args[0]));
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        HeadlessSimulationRunner.enableHeadlessMode();
+        boolean allMatched = true;
+        for (int repeat = 1; repeat <= repeats; repeat++) {
+            for (LevelReplayResult result : replay.play()) {
+                double seconds = result.elapsedNanos() / 1e9;
+                System.out.printf("[%d] %s seed=%d: %d/%d steps, %s (recorded %s), %.3f s, %.0f steps/s%s%n",
+                        repeat, result.recording().levelClassName(), result.recording().seed(),
+                        result.replayedTicks(), result.recording().getTickCount(), result.replayedStatus(),
+                        result.recording().endStatus(), seconds, result.replayedTicks() / seconds,
+                        result.matchesRecording() ? "" : "  DIVERGED");
+                allMatched &= result.matchesRecording();
+            }
+        }
+        System.exit(allMatched ? 0 : 2);
+    }
+
+    /**
+     * Folds the state of a replayed level into its checksum on every step, as the {@link InputRecorder}
+     * does while recording.
+     */
+    private static final class ChecksumFolder implements Consumer<Set<KeyCode>> {
+
+        private final BaseLevel level;
+        private long value = ReplayFormat.CHECKSUM_SEED;
+
+        /**
+         * Constructs a {@code ChecksumFolder} for a level.
+         *
+         * @param level the replayed level.
+         */
+        private ChecksumFolder(BaseLevel level) {
+            this.level = level;
+        }
+
+        /**
+         * Folds the state of the level at the start of a step into the checksum.
+         *
+         * @param keys the keys applied on the step, which are already reflected in the state.
+         */
+        @Override
+        public void accept(Set<KeyCode> keys) {
+            value = ReplayFormat.foldChecksum(value, level);
+        }
+    }
+
+    /**
+     * Collects the runs of a level while it is read.
+     */
+    private static final class LevelBuilder {
+
+        private final String levelClassName;
+        private final long seed;
+        private final int startingHealth;
+        private final int tickRate;
+        private Long stateChecksum;
+        private int[] runMasks = new int[16];
+        private int[] runLengths = new int[16];
+        private int runCount;
+
+        /**
+         * Constructs a {@code LevelBuilder} for a level record.
+         *
+         * @param levelClassName the fully qualified class name of the level.
+         * @param seed           the seed of the level.
+         * @param startingHealth the health of the user plane when the level started.
+         * @param tickRate       the number of steps per second the level was played at.
+         */
+        private LevelBuilder(String levelClassName, long seed, int startingHealth, int tickRate) {
+            this.levelClassName = levelClassName;
+            this.seed = seed;
+            this.startingHealth = startingHealth;
+            this.tickRate = tickRate;
+        }
+
+        /**
+         * Adds a run of identical steps.
+         *
+         * @param mask   the key mask of the run.
+         * @param length the number of steps in the run.
+         */
+        private void addRun(int mask, int length) {
+            if (runCount == runMasks.length) {
+                runMasks = Arrays.copyOf(runMasks, runCount * 2);
+                runLengths = Arrays.copyOf(runLengths, runCount * 2);
+            }
+            runMasks[runCount] = mask;
+            runLengths[runCount] = length;
+            runCount++;
+        }
+
+        /**
+         * Creates the recording of the level.
+         *
+         * @param endStatus the status the level stopped in, or {@code null} if unknown.
+         * @return the recorded level.
+         */
+        private LevelRecording build(BaseLevel.LevelStatus endStatus) {
+            return new LevelRecording(levelClassName, seed, startingHealth, tickRate, Arrays.copyOf(runMasks, runCount),
+                    Arrays.copyOf(runLengths, runCount), endStatus, stateChecksum);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.level.BaseLevel;
+import javafx.scene.input.KeyCode;
+
+import java.util.Set;
+
+/**
+ * The {@code InputSource} interface supplies the keys held down on each step of a headless level,
+ * replacing the keyboard. Implementations can script the input, play it back from a recording, or
+ * decide it from the state of the level like a bot.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/InputSource.java</p>
+ */
+public interface InputSource {
+
+    /**
+     * Retrieves the keys held down during the next step of the level. The returned set is applied
+     * before the step is run and may be reused by the next call.
+     *
+     * @param level the level about to be advanced.
+     * @param tick  the number of steps the level has run so far.
+     * @return the keys held down during the next step.
+     */
+    Set<KeyCode> nextInput(BaseLevel level, long tick);
+
+}
@@ -0,0 +1,116 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import com.finalflight.game.level.LevelWorld;
+import javafx.scene.input.KeyCode;
+
+import java.util.Set;
+
+/**
+ * The {@code ReplayFormat} class defines the binary format of input recordings, shared by the
+ * {@link InputRecorder} and {@link InputReplay}.
+ *
+ * <p>A recording is a {@link java.io.DataOutputStream} stream starting with {@link #MAGIC} and
+ * {@link #VERSION}, followed by tagged records: a level record with the class name, seed, starting
+ * health and tick rate of each level played, run records with the keys held on a number of consecutive
+ * steps, a checksum record with the state checksum of the level, and a level end record with the status
+ * the level stopped in. Keys are stored as a bit mask over {@link #KEYS}; other keys do not affect the
+ * simulation and are not recorded.</p>
+ *
+ * <p>The state checksum folds the state of the level at the start of every step, after the keys of the
+ * step are applied: the step number, the position, health and kills of the user, the number of enemies
+ * and projectiles, and the number of enemies added so far, which pins down the step each enemy spawned
+ * on. A replay folds the same state, so it detects a divergence even when the level still ends on the
+ * same step and in the same status.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/ReplayFormat.java</p>
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x46465250; // "FFRP"
+    static final int VERSION = 2;
+    static final int TAG_END_OF_STREAM = 0;
+    static final int TAG_LEVEL = 1;
+    static final int TAG_RUN = 2;
+    static final int TAG_LEVEL_END = 3;
+    static final int TAG_CHECKSUM = 4;
+    static final long CHECKSUM_SEED = 0xcbf29ce484222325L; // FNV-1a offset basis
+    private static final long CHECKSUM_PRIME = 0x100000001b3L;
+    static final KeyCode[] KEYS = {
+            KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT,
+            KeyCode.W, KeyCode.S, KeyCode.A, KeyCode.D,
+            KeyCode.SPACE, KeyCode.SHIFT, KeyCode.DIGIT1, KeyCode.DIGIT2, KeyCode.DIGIT3
+    };
+
+    /**
+     * Prevents instantiation of this constants class.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Encodes the recorded keys of a key set as a bit mask.
+     *
+     * @param keys the keys held down.
+     * @return the bit mask, with bit {@code i} set if {@code KEYS[i]} is held.
+     */
+    static int encode(Set<KeyCode> keys) {
+        int mask = 0;
+        for (int i = 0; i < KEYS.length; i++) {
+            if (keys.contains(KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Decodes a bit mask into a key set.
+     *
+     * @param mask the bit mask.
+     * @param keys the set to fill, which is cleared first.
+     */
+    static void decode(int mask, Set<KeyCode> keys) {
+        keys.clear();
+        for (int i = 0; i < KEYS.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                keys.add(KEYS[i]);
+            }
+        }
+    }
+
+    /**
+     * Folds the state of a level at the start of a step into a state checksum.
+     *
+     * @param checksum the checksum of the previous steps, {@link #CHECKSUM_SEED} before the first step.
+     * @param level    the level, with the keys of the step applied.
+     * @return the checksum including the step.
+     */
+    static long foldChecksum(long checksum, BaseLevel level) {
+        LevelWorld world = level.getWorld();
+        UserPlane user = world.getUser();
+        checksum = fold(checksum, level.getTickCount());
+        checksum = fold(checksum, Double.doubleToLongBits(user.getEntity().getX()));
+        checksum = fold(checksum, Double.doubleToLongBits(user.getEntity().getY()));
+        checksum = fold(checksum, user.getHealth());
+        checksum = fold(checksum, user.getNumberOfKills());
+        checksum = fold(checksum, world.getEnemyUnits().size());
+        checksum = fold(checksum, world.getEnemyUnitsAdded());
+        checksum = fold(checksum, world.getUserProjectiles().size() + world.getUserProjectileStore().countAlive());
+        checksum = fold(checksum, world.getEnemyProjectiles().size() + world.getEnemyProjectileStore().countAlive());
+        return checksum;
+    }
+
+    /**
+     * Folds one value into a checksum with the FNV-1a step, applied to the whole value at once.
+     *
+     * @param checksum the checksum so far.
+     * @param value    the value to fold in.
+     * @return the new checksum.
+     */
+    private static long fold(long checksum, long value) {
+        return (checksum ^ value) * CHECKSUM_PRIME;
+    }
+
+}
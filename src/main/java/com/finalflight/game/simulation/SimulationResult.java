@@ -0,0 +1,52 @@
+package com.finalflight.game.simulation;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The {@code SimulationResult} record holds the statistics of one headless playthrough, from the
+ * first level until the game is won, lost or the playthrough runs out of steps.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/SimulationResult.java</p>
+ *
+ * @param run           the index of the playthrough.
+ * @param seed          the seed the levels of the playthrough were seeded from.
+ * @param outcome       how the playthrough ended.
+ * @param finalLevel    the simple class name of the last level played.
+ * @param totalTicks    the number of steps simulated over all levels.
+ * @param ticksPerLevel the number of steps spent in each level played, in order.
+ * @param damageTaken   the health lost by the user over all levels.
+ * @param shotsFired    the number of projectiles fired by the user.
+ * @param shotsHit      the number of hits landed by the user's projectiles.
+ * @param kills         the number of enemies killed in levels that count kills.
+ */
+public record SimulationResult(int run, long seed, Outcome outcome, String finalLevel, long totalTicks,
+                               List<Long> ticksPerLevel, int damageTaken, long shotsFired, long shotsHit,
+                               int kills) {
+
+    /**
+     * The header row matching {@link #toCsvRow()}.
+     */
+    public static final String CSV_HEADER =
+            "run,seed,outcome,final_level,total_ticks,ticks_per_level,damage_taken,shots_fired,shots_hit,kills";
+
+    /**
+     * How a playthrough ended.
+     */
+    public enum Outcome {
+        WON, LOST, TIMED_OUT
+    }
+
+    /**
+     * Formats the result as a CSV row. The steps spent in each level are joined with semicolons.
+     *
+     * @return the CSV row, without a line separator.
+     */
+    public String toCsvRow() {
+        StringJoiner levelTicks = new StringJoiner(";");
+        ticksPerLevel.forEach(ticks -> levelTicks.add(Long.toString(ticks)));
+        return run + "," + seed + "," + outcome + "," + finalLevel + "," + totalTicks + "," + levelTicks + ","
+                + damageTaken + "," + shotsFired + "," + shotsHit + "," + kills;
+    }
+
+}
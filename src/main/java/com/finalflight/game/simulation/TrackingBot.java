@@ -0,0 +1,101 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.Entity;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import javafx.scene.input.KeyCode;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code TrackingBot} class is a simple {@link InputSource} that plays a level like a cautious
+ * player: it keeps the fire key held down and moves up or down to line up with the nearest enemy
+ * ahead of the user plane. It gives balance runs a consistent, repeatable baseline player.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/simulation/TrackingBot.java</p>
+ */
+public class TrackingBot implements InputSource {
+
+    private static final double DEAD_ZONE = 10.0;
+    private final KeyCode firingModeKey;
+    private final Set<KeyCode> pressedKeys = EnumSet.noneOf(KeyCode.class);
+
+    /**
+     * Constructs a {@code TrackingBot} that fires single shots.
+     */
+    public TrackingBot() {
+        this(UserPlane.FiringMode.SINGLE);
+    }
+
+    /**
+     * Constructs a {@code TrackingBot} that fires in the specified mode.
+     *
+     * @param firingMode the firing mode the bot selects.
+     */
+    public TrackingBot(UserPlane.FiringMode firingMode) {
+        this.firingModeKey = switch (firingMode) {
+            case SINGLE -> KeyCode.DIGIT1;
+            case SPREAD -> KeyCode.DIGIT2;
+            case HEAVY -> KeyCode.DIGIT3;
+        };
+    }
+
+    /**
+     * Holds the fire and firing mode keys, plus the vertical movement key that brings the user
+     * plane in line with the nearest enemy ahead of it.
+     *
+     * @param level the level about to be advanced.
+     * @param tick  the number of steps the level has run so far.
+     * @return the keys held down during the next step.
+     */
+    @Override
+    public Set<KeyCode> nextInput(BaseLevel level, long tick) {
+        pressedKeys.clear();
+        pressedKeys.add(firingModeKey);
+        pressedKeys.add(KeyCode.SPACE);
+
+        Entity user = level.getWorld().getUser().getEntity();
+        Entity target = findNearestEnemyAhead(level.getWorld().getEnemyUnits(), user.getMaxX());
+        if (target != null) {
+            double offset = centreY(target) - centreY(user);
+            if (offset < -DEAD_ZONE) {
+                pressedKeys.add(KeyCode.UP);
+            } else if (offset > DEAD_ZONE) {
+                pressedKeys.add(KeyCode.DOWN);
+            }
+        }
+        return pressedKeys;
+    }
+
+    /**
+     * Finds the enemy closest to the user plane among those in front of it.
+     *
+     * @param enemies the enemy units in the level.
+     * @param minimumX the X-coordinate the enemy must be ahead of.
+     * @return the entity of the nearest enemy ahead, or {@code null} if there is none.
+     */
+    private static Entity findNearestEnemyAhead(List<DestructibleGameObject> enemies, double minimumX) {
+        Entity nearest = null;
+        for (int i = 0; i < enemies.size(); i++) {
+            Entity enemy = enemies.get(i).getEntity();
+            if (enemy.getMinX() > minimumX && (nearest == null || enemy.getMinX() < nearest.getMinX())) {
+                nearest = enemy;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Calculates the vertical centre of an entity's hitbox.
+     *
+     * @param entity the entity.
+     * @return the Y-coordinate of the centre of the hitbox.
+     */
+    private static double centreY(Entity entity) {
+        return (entity.getMinY() + entity.getMaxY()) / 2;
+    }
+
+}
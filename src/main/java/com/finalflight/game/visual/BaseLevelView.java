@@ -4,6 +4,7 @@ import com.finalflight.game.gameobjects.DestructibleGameObject;
 import com.finalflight.game.level.BaseLevel;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.effect.GaussianBlur;
 import javafx.scene.layout.StackPane;
@@ -20,6 +21,13 @@ import java.util.List;
  * Handles the UI elements and interactions for a base game level, including HUD elements
  * such as health, boost energy, and firing mode, as well as pause and game-over menus.
  *
+ * <p>The HUD keeps the values it shows in a {@link HudModel} and only writes to its nodes when a
+ * value changes, counting each write, so a step in which nothing changes leaves the HUD untouched.</p>
+ *
+ * <p>In a {@link com.finalflight.game.level.LevelSession}, one view can serve several levels in turn: it
+ * is rebound to each level with {@link #setBaseLevel(BaseLevel)}, and {@link #removeLevelContent()}
+ * clears the nodes of the previous level while keeping the HUD and pause menu.</p>
+ *
  * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/visual/BaseLevelView.java</p>
  */
 public class BaseLevelView {
@@ -31,9 +39,10 @@ public class BaseLevelView {
     private final double screenWidth;
     private final double screenHeight;
     private final GaussianBlur blurEffect = new GaussianBlur(10);
-    private final BaseLevel baseLevel;
+    private BaseLevel baseLevel;
     private final Group root;
     private final HeartDisplay heartDisplay;
+    private final HudModel hudModel = new HudModel();
     private VBox pauseMenu;
     private Button pauseButton;
     private Rectangle pauseOverlay;
@@ -64,12 +73,12 @@ public class BaseLevelView {
      * @param currentHealth The player's current health.
      */
     public void showHeartDisplay(int currentHealth) {
-        // Clear any existing hearts
-        heartDisplay.clearHearts();
-
-        // Add hearts based on the current health
-        for (int i = 0; i < currentHealth; i++) {
-            heartDisplay.addHeart();
+        // Rebuild the hearts, unless a HUD kept from the previous level already shows them
+        if (heartDisplay.getContainer().getChildren().size() != currentHealth) {
+            heartDisplay.clearHearts();
+            for (int i = 0; i < currentHealth; i++) {
+                heartDisplay.addHeart();
+            }
         }
 
         // Add the heart display to the root if not already added
@@ -87,6 +96,7 @@ public class BaseLevelView {
         int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
         for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
             heartDisplay.removeHeart();
+            hudModel.countMutations(1);
         }
     }
 
@@ -284,8 +294,9 @@ public class BaseLevelView {
      * @param killsToAdvance The total number of kills required to advance.
      */
     public void updateKillCounter(int kills, int killsToAdvance) {
-        if (killCountText != null) {
+        if (killCountText != null && hudModel.setKills(kills, killsToAdvance)) {
             killCountText.setText("Kills: " + kills + " / " + killsToAdvance);
+            hudModel.countMutations(1);
         }
     }
 
@@ -295,8 +306,9 @@ public class BaseLevelView {
      * @param mode The current firing mode of the player's weapon.
      */
     public void updateFiringMode(String mode) {
-        if (firingModeText != null) {
+        if (firingModeText != null && hudModel.setFiringMode(mode)) {
             firingModeText.setText("Mode: " + mode);
+            hudModel.countMutations(1);
         }
     }
 
@@ -306,12 +318,30 @@ public class BaseLevelView {
      * @param energyPercentage The percentage of boost energy remaining (0 to 1).
      */
     public void updateBoostBar(double energyPercentage) {
-        if (boostBar != null) {
-            boostBar.setWidth(BOOST_BAR_WIDTH * energyPercentage);
-            boostBar.setFill(energyPercentage > 0.5 ? Color.LAWNGREEN : energyPercentage > 0.2 ? Color.ORANGE : Color.RED);
+        if (boostBar == null) {
+            return;
+        }
+        double width = BOOST_BAR_WIDTH * energyPercentage;
+        if (hudModel.setBoostBarWidth(width)) {
+            boostBar.setWidth(width);
+            hudModel.countMutations(1);
+        }
+        int band = energyPercentage > 0.5 ? 2 : energyPercentage > 0.2 ? 1 : 0;
+        if (hudModel.setBoostBarBand(band)) {
+            boostBar.setFill(band == 2 ? Color.LAWNGREEN : band == 1 ? Color.ORANGE : Color.RED);
+            hudModel.countMutations(1);
         }
     }
 
+    /**
+     * Retrieves the model of the values shown by the HUD.
+     *
+     * @return the HUD model.
+     */
+    public HudModel getHudModel() {
+        return hudModel;
+    }
+
     /**
      * Displays a "Victory" screen with options to restart or quit the game.
      */
@@ -413,6 +443,42 @@ public class BaseLevelView {
         });
     }
 
+    /**
+     * Rebinds the view to a level, so its pause menu and end screens act on that level.
+     *
+     * @param baseLevel The BaseLevel instance to interact with game logic.
+     */
+    public void setBaseLevel(BaseLevel baseLevel) {
+        this.baseLevel = baseLevel;
+    }
+
+    /**
+     * Clears the root for the next level of a session: removes every node except the HUD and pause menu,
+     * brings back the pause button if an end screen removed it, and clears the pause menu and blur.
+     */
+    public void removeLevelContent() {
+        root.getChildren().removeIf(node -> !isHudNode(node));
+        if (pauseButton != null && !root.getChildren().contains(pauseButton.getParent())) {
+            root.getChildren().add(pauseButton.getParent());
+        }
+        root.getChildren().forEach(node -> node.setEffect(null));
+        if (pauseMenu != null) {
+            hidePauseMenu();
+        }
+    }
+
+    /**
+     * Checks whether a node of the root belongs to the HUD or pause menu, which a session keeps between levels.
+     *
+     * @param node A node of the root.
+     * @return True if the node is part of the HUD or pause menu, false otherwise.
+     */
+    protected boolean isHudNode(Node node) {
+        return node == heartDisplay.getContainer() || node == killCountText || node == firingModeText
+                || node == boostBar || node == pauseOverlay || node == pauseMenu
+                || (pauseButton != null && node == pauseButton.getParent());
+    }
+
     /**
      * Returns the root JavaFX Group containing all UI elements.
      *
@@ -1,7 +1,8 @@
 package com.finalflight.game.visual;
 
 import com.finalflight.game.audio.SoundEffectPlayer;
-import javafx.scene.image.Image;
+import com.finalflight.game.audio.VoiceManager;
+import com.finalflight.game.gameobjects.SpriteCache;
 import javafx.scene.image.ImageView;
 
 
@@ -32,11 +33,12 @@ public class BossExplosionEffect extends ImageView {
     public BossExplosionEffect(double bossXPosition, double bossYPosition) {
         this.setLayoutX(bossXPosition + BOSS_EXPLOSION_X_OFFSET);
         this.setLayoutY(bossYPosition + BOSS_EXPLOSION_Y_OFFSET);
-        this.setImage(new Image(getClass().getResource(BOSS_EXPLOSION_GIF).toExternalForm()));
+        this.setImage(SpriteCache.getInstance().getImage(BOSS_EXPLOSION_GIF));
         this.setFitWidth(EXPLOSION_SIZE);
         this.setPreserveRatio(true);
         bossExplodeSound = new SoundEffectPlayer(BOSS_EXPLOSION_SOUND);
         bossExplodeSound.setVolume(0.7);
+        bossExplodeSound.setPriority(VoiceManager.Priority.BOSS);
     }
 
     /**
@@ -0,0 +1,312 @@
+package com.finalflight.game.visual;
+
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.Entity;
+import com.finalflight.game.gameobjects.GameObject;
+import com.finalflight.game.level.LevelWorld;
+import com.finalflight.game.level.ProjectileStore;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.transform.Transform;
+
+import java.util.List;
+
+/**
+ * The {@code CanvasSpriteRenderer} class draws the sprites of a level onto a single {@link Canvas}
+ * covering the screen. Each frame, the canvas is cleared and the sprites are drawn from their cached
+ * images at their interpolated positions, so the scene holds one node for all of them instead of one
+ * node per actor, and adding or removing actors never changes the scene graph.
+ *
+ * <p>The renderer always draws the projectiles of the {@link ProjectileStore} instances of the world,
+ * which have no nodes of their own. When it also draws the actors, it reads their position from their
+ * {@link Entity} and copies the transforms, effect and visibility of their view, so the damage flash
+ * and the boost tilt look as they do on the nodes.</p>
+ *
+ * <p>The drawing calls go through a {@link Surface}, which on the game screen is the graphics context
+ * of the canvas, so tests can record what is drawn where without reading back pixels.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/visual/CanvasSpriteRenderer.java</p>
+ */
+public class CanvasSpriteRenderer {
+
+    /**
+     * The drawing operations the renderer uses, as offered by a {@link GraphicsContext}.
+     */
+    interface Surface {
+
+        /**
+         * Clears a rectangle of the surface.
+         *
+         * @param x      the X-coordinate of the rectangle.
+         * @param y      the Y-coordinate of the rectangle.
+         * @param width  the width of the rectangle.
+         * @param height the height of the rectangle.
+         */
+        void clearRect(double x, double y, double width, double height);
+
+        /**
+         * Draws an image scaled into a rectangle, under the current transform and effect.
+         *
+         * @param image  the image to draw.
+         * @param x      the X-coordinate of the rectangle.
+         * @param y      the Y-coordinate of the rectangle.
+         * @param width  the width of the rectangle.
+         * @param height the height of the rectangle.
+         */
+        void drawImage(Image image, double x, double y, double width, double height);
+
+        /**
+         * Saves the current transform and effect.
+         */
+        void save();
+
+        /**
+         * Restores the transform and effect last saved.
+         */
+        void restore();
+
+        /**
+         * Appends a translation to the current transform.
+         *
+         * @param x the horizontal translation.
+         * @param y the vertical translation.
+         */
+        void translate(double x, double y);
+
+        /**
+         * Appends an affine transform to the current transform.
+         *
+         * @param mxx the X coordinate scaling element.
+         * @param myx the Y coordinate shearing element.
+         * @param mxy the X coordinate shearing element.
+         * @param myy the Y coordinate scaling element.
+         * @param tx  the X coordinate translation element.
+         * @param ty  the Y coordinate translation element.
+         */
+        void transform(double mxx, double myx, double mxy, double myy, double tx, double ty);
+
+        /**
+         * Sets the effect applied to the images drawn next.
+         *
+         * @param effect the effect, or {@code null} for none.
+         */
+        void setEffect(Effect effect);
+    }
+
+    private final Canvas canvas;
+    private final Surface graphics;
+    private final boolean drawActors;
+
+    /**
+     * Constructs a {@code CanvasSpriteRenderer} with a canvas of the specified size.
+     *
+     * @param screenWidth  the width of the game screen.
+     * @param screenHeight the height of the game screen.
+     * @param drawActors   {@code true} to draw the actors of the world as well as the stored projectiles.
+     */
+    public CanvasSpriteRenderer(double screenWidth, double screenHeight, boolean drawActors) {
+        this(new Canvas(screenWidth, screenHeight), null, drawActors);
+    }
+
+    /**
+     * Constructs a {@code CanvasSpriteRenderer} drawing through the specified surface, for testing purposes.
+     *
+     * @param canvas     the canvas added to the scene, whose size is the area cleared each frame.
+     * @param surface    the surface to draw through, or {@code null} to draw on the canvas.
+     * @param drawActors {@code true} to draw the actors of the world as well as the stored projectiles.
+     */
+    CanvasSpriteRenderer(Canvas canvas, Surface surface, boolean drawActors) {
+        this.canvas = canvas;
+        this.graphics = surface != null ? surface : new GraphicsContextSurface(canvas.getGraphicsContext2D());
+        this.drawActors = drawActors;
+        canvas.setMouseTransparent(true);
+    }
+
+    /**
+     * Clears the canvas and draws the sprites of the world, interpolated between the last two
+     * simulation steps: the actors, if this renderer draws them, then the stored projectiles.
+     *
+     * @param world the world to draw.
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    public void render(LevelWorld world, double alpha) {
+        clear();
+        if (drawActors) {
+            drawActors(world.getFriendlyUnits(), alpha);
+            drawActors(world.getEnemyUnits(), alpha);
+            drawActors(world.getUserProjectiles(), alpha);
+            drawActors(world.getEnemyProjectiles(), alpha);
+        }
+        drawProjectiles(world.getUserProjectileStore(), alpha);
+        drawProjectiles(world.getEnemyProjectileStore(), alpha);
+    }
+
+    /**
+     * Clears the canvas.
+     */
+    public void clear() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Draws the visible actors of a list.
+     *
+     * @param actors the actors to draw.
+     * @param alpha  the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    public void drawActors(List<DestructibleGameObject> actors, double alpha) {
+        for (int i = 0; i < actors.size(); i++) {
+            drawActor(actors.get(i), alpha);
+        }
+    }
+
+    /**
+     * Draws an actor with the image, size, transforms and effect of its view.
+     *
+     * @param actor the actor to draw.
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    private void drawActor(GameObject actor, double alpha) {
+        if (!isDrawable(actor)) {
+            return;
+        }
+        Image image = actor.getImage();
+        Entity entity = actor.getEntity();
+        double x = entity.getOriginX() + entity.getInterpolatedOffsetX(alpha);
+        double y = entity.getOriginY() + entity.getInterpolatedOffsetY(alpha);
+        double height = actor.getFitHeight();
+        double width = height * image.getWidth() / image.getHeight();
+        List<Transform> transforms = actor.getTransforms();
+        Effect effect = actor.getEffect();
+        if (transforms.isEmpty() && effect == null) {
+            graphics.drawImage(image, x, y, width, height);
+            return;
+        }
+        graphics.save();
+        graphics.translate(x, y);
+        for (int i = 0; i < transforms.size(); i++) {
+            Transform transform = transforms.get(i);
+            graphics.transform(transform.getMxx(), transform.getMyx(), transform.getMxy(), transform.getMyy(),
+                    transform.getTx(), transform.getTy());
+        }
+        graphics.setEffect(effect);
+        graphics.drawImage(image, 0, 0, width, height);
+        graphics.restore();
+    }
+
+    /**
+     * Checks whether an actor can be drawn: it is visible and has an image with a size.
+     *
+     * @param actor the actor.
+     * @return {@code true} if the actor is drawn, {@code false} if it is skipped.
+     */
+    static boolean isDrawable(GameObject actor) {
+        Image image = actor.getImage();
+        return image != null && actor.isVisible() && image.getHeight() != 0;
+    }
+
+    /**
+     * Draws the live projectiles of a store.
+     *
+     * @param store the store whose projectiles are drawn.
+     * @param alpha the fraction of the next simulation step that has elapsed, from 0 to 1.
+     */
+    public void drawProjectiles(ProjectileStore store, double alpha) {
+        for (int i = 0; i < store.size(); i++) {
+            if (!store.isAlive(i)) {
+                continue;
+            }
+            int type = store.getType(i);
+            Image image = store.getTypeImage(type);
+            if (image != null) {
+                graphics.drawImage(image, store.getInterpolatedX(i, alpha), store.getInterpolatedY(i, alpha),
+                        store.getTypeWidth(type), store.getTypeHeight(type));
+            }
+        }
+    }
+
+    /**
+     * Checks whether this renderer draws the actors of the world as well as the stored projectiles.
+     *
+     * @return {@code true} if the actors are drawn on the canvas.
+     */
+    public boolean drawsActors() {
+        return drawActors;
+    }
+
+    /**
+     * Retrieves the canvas the sprites are drawn on, to be added to the scene.
+     *
+     * @return the canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Draws on the graphics context of a canvas.
+     *
+     * @param context the graphics context.
+     */
+    private record GraphicsContextSurface(GraphicsContext context) implements Surface {
+
+        /**
+         * Clears a rectangle of the canvas.
+         */
+        @Override
+        public void clearRect(double x, double y, double width, double height) {
+            context.clearRect(x, y, width, height);
+        }
+
+        /**
+         * Draws an image on the canvas.
+         */
+        @Override
+        public void drawImage(Image image, double x, double y, double width, double height) {
+            context.drawImage(image, x, y, width, height);
+        }
+
+        /**
+         * Saves the state of the graphics context.
+         */
+        @Override
+        public void save() {
+            context.save();
+        }
+
+        /**
+         * Restores the state of the graphics context.
+         */
+        @Override
+        public void restore() {
+            context.restore();
+        }
+
+        /**
+         * Appends a translation to the transform of the graphics context.
+         */
+        @Override
+        public void translate(double x, double y) {
+            context.translate(x, y);
+        }
+
+        /**
+         * Appends an affine transform to the transform of the graphics context.
+         */
+        @Override
+        public void transform(double mxx, double myx, double mxy, double myy, double tx, double ty) {
+            context.transform(mxx, myx, mxy, myy, tx, ty);
+        }
+
+        /**
+         * Sets the effect of the graphics context.
+         */
+        @Override
+        public void setEffect(Effect effect) {
+            context.setEffect(effect);
+        }
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.finalflight.game.visual;
 
-import javafx.scene.image.Image;
+import com.finalflight.game.gameobjects.SpriteCache;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -55,7 +55,7 @@ public class HeartDisplay {
      */
     private void initializeHearts() {
         for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-            ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+            ImageView heart = new ImageView(SpriteCache.getInstance().getImage(HEART_IMAGE_NAME, HEART_HEIGHT));
 
             heart.setFitHeight(HEART_HEIGHT);
             heart.setPreserveRatio(true);
@@ -74,7 +74,7 @@ public class HeartDisplay {
      * Adds a single heart to the display.
      */
     public void addHeart() {
-        ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+        ImageView heart = new ImageView(SpriteCache.getInstance().getImage(HEART_IMAGE_NAME, HEART_HEIGHT));
         heart.setFitHeight(HEART_HEIGHT);
         heart.setPreserveRatio(true);
         container.getChildren().add(heart);
@@ -0,0 +1,129 @@
+package com.finalflight.game.visual;
+
+/**
+ * The {@code HudModel} class remembers the values last shown by the HUD of a level, so the view only
+ * touches its nodes when a value actually changes. Each setter stores the new value and reports
+ * whether it differs from the one shown, and the view counts every node property it then writes,
+ * which the {@link ProfilerOverlay} reports as HUD mutations per second.
+ *
+ * <p>Every value starts unset, so the first update of each always reaches the nodes.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/visual/HudModel.java</p>
+ */
+public final class HudModel {
+
+    private static final int UNSET = Integer.MIN_VALUE;
+    private int kills = UNSET;
+    private int killsToAdvance = UNSET;
+    private double boostBarWidth = Double.NaN;
+    private int boostBarBand = UNSET;
+    private String firingMode;
+    private double bossHealth = Double.NaN;
+    private int bossShielded = UNSET;
+    private long mutationCount;
+
+    /**
+     * Sets the kill count shown.
+     *
+     * @param kills          the number of kills.
+     * @param killsToAdvance the number of kills needed to advance.
+     * @return {@code true} if the kill count shown has to change.
+     */
+    public boolean setKills(int kills, int killsToAdvance) {
+        if (kills == this.kills && killsToAdvance == this.killsToAdvance) {
+            return false;
+        }
+        this.kills = kills;
+        this.killsToAdvance = killsToAdvance;
+        return true;
+    }
+
+    /**
+     * Sets the width of the boost bar.
+     *
+     * @param width the width in pixels.
+     * @return {@code true} if the width shown has to change.
+     */
+    public boolean setBoostBarWidth(double width) {
+        if (width == boostBarWidth) {
+            return false;
+        }
+        boostBarWidth = width;
+        return true;
+    }
+
+    /**
+     * Sets the colour band of the boost bar, which depends on how much energy is left.
+     *
+     * @param band the index of the band.
+     * @return {@code true} if the colour shown has to change.
+     */
+    public boolean setBoostBarBand(int band) {
+        if (band == boostBarBand) {
+            return false;
+        }
+        boostBarBand = band;
+        return true;
+    }
+
+    /**
+     * Sets the firing mode shown.
+     *
+     * @param firingMode the name of the firing mode.
+     * @return {@code true} if the firing mode shown has to change.
+     */
+    public boolean setFiringMode(String firingMode) {
+        if (firingMode.equals(this.firingMode)) {
+            return false;
+        }
+        this.firingMode = firingMode;
+        return true;
+    }
+
+    /**
+     * Sets the health of the boss shown by its health bar.
+     *
+     * @param bossHealth the fraction of its health the boss has left.
+     * @return {@code true} if the health bar has to change.
+     */
+    public boolean setBossHealth(double bossHealth) {
+        if (bossHealth == this.bossHealth) {
+            return false;
+        }
+        this.bossHealth = bossHealth;
+        return true;
+    }
+
+    /**
+     * Sets whether the health bar of the boss shows its shield.
+     *
+     * @param shielded {@code true} if the boss is shielded.
+     * @return {@code true} if the style of the health bar has to change.
+     */
+    public boolean setBossShielded(boolean shielded) {
+        int state = shielded ? 1 : 0;
+        if (state == bossShielded) {
+            return false;
+        }
+        bossShielded = state;
+        return true;
+    }
+
+    /**
+     * Counts node properties written by the HUD.
+     *
+     * @param mutations the number of properties written.
+     */
+    public void countMutations(int mutations) {
+        mutationCount += mutations;
+    }
+
+    /**
+     * Retrieves the number of node properties the HUD has written.
+     *
+     * @return the number of HUD node mutations so far.
+     */
+    public long getMutationCount() {
+        return mutationCount;
+    }
+}
@@ -3,6 +3,7 @@ package com.finalflight.game.visual;
 import com.finalflight.game.gameobjects.BossPlane;
 import com.finalflight.game.level.BaseLevel;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.control.ProgressBar;
 
 /**
@@ -68,23 +69,47 @@ public class LevelThreeView extends BaseLevelView {
 
     /**
      * Updates the boss's health bar progress and style based on the boss's current health
-     * and shield status.
+     * and shield status, touching the bar only when they change.
      *
      * @param healthPercentage the current health of the boss as a percentage (0.0 to 1.0).
      * @param isShielded       {@code true} if the boss is shielded, {@code false} otherwise.
      */
     public void updateBossHealthBar(double healthPercentage, boolean isShielded) {
-        bossHealthBar.setProgress(healthPercentage);
-
-        bossHealthBar.getStyleClass().removeAll("normal-bar", "shielded-bar");
+        HudModel hudModel = getHudModel();
+        if (hudModel.setBossHealth(healthPercentage)) {
+            bossHealthBar.setProgress(healthPercentage);
+            hudModel.countMutations(1);
+        }
 
-        if (isShielded) {
-            bossHealthBar.getStyleClass().add("shielded-bar");
-        } else {
-            bossHealthBar.getStyleClass().add("normal-bar");
+        // Swapping the style class makes the bar's CSS be applied again, so only do so when the shield changes
+        if (hudModel.setBossShielded(isShielded)) {
+            bossHealthBar.getStyleClass().removeAll("normal-bar", "shielded-bar");
+            bossHealthBar.getStyleClass().add(isShielded ? "shielded-bar" : "normal-bar");
+            hudModel.countMutations(1);
         }
     }
 
+    /**
+     * Clears the root for the next level of a session, keeping the boss's health bar with the rest of
+     * the HUD and dropping the shield of the previous boss.
+     */
+    @Override
+    public void removeLevelContent() {
+        super.removeLevelContent();
+        shieldImage = null;
+    }
+
+    /**
+     * Checks whether a node of the root belongs to the HUD, which includes the boss's health bar.
+     *
+     * @param node a node of the root.
+     * @return {@code true} if the node is part of the HUD or pause menu.
+     */
+    @Override
+    protected boolean isHudNode(Node node) {
+        return super.isHudNode(node) || node == bossHealthBar;
+    }
+
     /**
      * Initializes the visual representation of the boss's shield.
      *
@@ -0,0 +1,90 @@
+package com.finalflight.game.visual;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * The {@code LoadingScreen} class is the screen shown between levels while the assets of the next
+ * level are preloaded. It shows a progress bar that is usually bound to the progress of the preload.
+ *
+ * <p>The screen is either shown as a scene of its own, or, when the levels share a scene, as a view
+ * laid over the previous level in that scene, so the stage keeps the scene between levels.</p>
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/visual/LoadingScreen.java</p>
+ */
+public class LoadingScreen {
+
+    private static final double PROGRESS_BAR_WIDTH = 500;
+    private static final double PROGRESS_BAR_HEIGHT = 25;
+    private final double screenWidth;
+    private final double screenHeight;
+    private final VBox container;
+    private final ProgressBar progressBar;
+    private Scene scene;
+
+    /**
+     * Constructs a {@code LoadingScreen} of the specified size.
+     *
+     * @param screenWidth  the width of the screen in pixels.
+     * @param screenHeight the height of the screen in pixels.
+     */
+    public LoadingScreen(double screenWidth, double screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        Text loadingText = new Text("LOADING");
+        loadingText.setFont(Font.font("Trebuchet MS", FontWeight.BOLD, 80)); // Set font and size
+        loadingText.setFill(Color.WHITE);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefSize(PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+        progressBar.getStyleClass().add("loading-bar");
+
+        container = new VBox(loadingText, progressBar);
+        container.setSpacing(30); // Set spacing between elements
+        container.setAlignment(Pos.CENTER); // Center align the contents
+        container.setStyle("-fx-background-color: black;");
+        container.setPrefSize(screenWidth, screenHeight);
+    }
+
+    /**
+     * Retrieves the progress shown by the progress bar, from 0 to 1.
+     *
+     * @return the progress property of the progress bar.
+     */
+    public DoubleProperty progressProperty() {
+        return progressBar.progressProperty();
+    }
+
+    /**
+     * Retrieves the scene of the loading screen, to be shown on the stage. The scene is created the first
+     * time it is retrieved, and the view of the screen cannot be added to another scene afterwards.
+     *
+     * @return the scene.
+     */
+    public Scene getScene() {
+        if (scene == null) {
+            scene = new Scene(container, screenWidth, screenHeight);
+            scene.getStylesheets().add(getClass().getResource("/com/finalflight/game/css/styles.css").toExternalForm());
+        }
+        return scene;
+    }
+
+    /**
+     * Retrieves the view of the loading screen, covering the whole screen, to be laid over the content
+     * of a scene that already has the game's stylesheet.
+     *
+     * @return the view.
+     */
+    public Parent getView() {
+        return container;
+    }
+
+}
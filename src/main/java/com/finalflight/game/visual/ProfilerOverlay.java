@@ -0,0 +1,125 @@
+package com.finalflight.game.visual;
+
+import com.finalflight.game.audio.SoundBank;
+import com.finalflight.game.audio.VoiceManager;
+import com.finalflight.game.level.FrameProfiler;
+import com.finalflight.game.level.LevelWorld;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@code ProfilerOverlay} class shows the timings recorded by a {@link FrameProfiler} on top of the
+ * level: the 50th, 95th and 99th percentile durations of every stage in microseconds, the number of
+ * actors in the world, and the number of clips in the {@link SoundBank} with the size of their sound
+ * files and the total time spent loading them, and the voices of the {@link VoiceManager}, and how many
+ * HUD nodes were written per second, as counted by the {@link HudModel}. The text is refreshed every few frames, since computing the percentiles sorts
+ * the samples of every stage.
+ *
+ * <p>Original Source Code: (Project Root)/src/main/java/com/finalflight/game/visual/ProfilerOverlay.java</p>
+ */
+public class ProfilerOverlay {
+
+    private static final int FRAMES_PER_REFRESH = 15;
+    private static final double X_POSITION = 1180;
+    private static final double Y_POSITION = 10;
+    private static final double PADDING = 8;
+    private final Group root;
+    private final Group overlay = new Group();
+    private final Rectangle background = new Rectangle();
+    private final Text text = new Text();
+    private final StringBuilder lines = new StringBuilder();
+    private int framesUntilRefresh;
+    private long lastHudMutationCount = -1;
+    private long lastRefreshNanos;
+
+    /**
+     * Constructs a hidden {@code ProfilerOverlay}.
+     *
+     * @param root the root group the overlay is shown in.
+     */
+    public ProfilerOverlay(Group root) {
+        this.root = root;
+        background.setFill(Color.rgb(0, 0, 0, 0.6));
+        background.setArcWidth(10);
+        background.setArcHeight(10);
+        text.setFont(Font.font("Consolas", 13));
+        text.setFill(Color.LIGHTGREEN);
+        text.setX(PADDING);
+        text.setY(PADDING + 12);
+        overlay.getChildren().addAll(background, text);
+        overlay.setLayoutX(X_POSITION);
+        overlay.setLayoutY(Y_POSITION);
+        overlay.setMouseTransparent(true);
+    }
+
+    /**
+     * Shows or hides the overlay, keeping it in front of the other nodes while shown.
+     *
+     * @param visible {@code true} to show the overlay.
+     */
+    public void setVisible(boolean visible) {
+        root.getChildren().remove(overlay);
+        if (visible) {
+            root.getChildren().add(overlay);
+            framesUntilRefresh = 0;
+            lastHudMutationCount = -1;
+        }
+    }
+
+    /**
+     * Checks whether the overlay is shown.
+     *
+     * @return {@code true} if the overlay is shown.
+     */
+    public boolean isVisible() {
+        return overlay.getParent() != null;
+    }
+
+    /**
+     * Refreshes the statistics shown, every few calls. Called once per rendered frame.
+     *
+     * @param profiler the profiler holding the timings.
+     * @param world    the world whose actors are counted.
+     * @param hudModel the model of the HUD whose writes are counted.
+     */
+    public void update(FrameProfiler profiler, LevelWorld world, HudModel hudModel) {
+        if (!isVisible() || framesUntilRefresh-- > 0) {
+            return;
+        }
+        framesUntilRefresh = FRAMES_PER_REFRESH;
+
+        lines.setLength(0);
+        lines.append(String.format("%-11s %7s %7s %7s%n", "stage (us)", "p50", "p95", "p99"));
+        for (FrameProfiler.Stage stage : FrameProfiler.Stage.values()) {
+            FrameProfiler.Summary summary = profiler.summarize(stage);
+            lines.append(String.format("%-11s %7.1f %7.1f %7.1f%n", stage.name().toLowerCase(),
+                    summary.p50() / 1e3, summary.p95() / 1e3, summary.p99() / 1e3));
+        }
+        lines.append(String.format("%nenemies %d  shots %d/%d  nodes %d", world.getEnemyUnits().size(),
+                world.getUserProjectiles().size() + world.getUserProjectileStore().size(),
+                world.getEnemyProjectiles().size() + world.getEnemyProjectileStore().size(), root.getChildren().size()));
+        SoundBank soundBank = SoundBank.getInstance();
+        lines.append(String.format("%nsounds %d  %d KB  %.1f ms", soundBank.size(), soundBank.getTotalFileBytes() / 1024,
+                soundBank.getTotalLoadNanos() / 1e6));
+        VoiceManager voiceManager = VoiceManager.getInstance();
+        lines.append(String.format("%nvoices %d/%d  merged %d  dropped %d  stolen %d", voiceManager.getActiveVoiceCount(),
+                voiceManager.getMaxVoices(), voiceManager.getMergedCount(), voiceManager.getDroppedCount(),
+                voiceManager.getStolenCount()));
+        long now = System.nanoTime();
+        long hudMutationCount = hudModel.getMutationCount();
+        double hudMutationsPerSecond = lastHudMutationCount < 0 ? 0
+                : (hudMutationCount - lastHudMutationCount) * 1e9 / Math.max(1, now - lastRefreshNanos);
+        lastHudMutationCount = hudMutationCount;
+        lastRefreshNanos = now;
+        lines.append(String.format("%nhud %.0f mutations/s", hudMutationsPerSecond));
+        text.setText(lines.toString());
+
+        background.setWidth(text.getLayoutBounds().getWidth() + 2 * PADDING);
+        background.setHeight(text.getLayoutBounds().getHeight() + 2 * PADDING);
+        overlay.toFront();
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.finalflight.game.visual;
 
-import javafx.scene.image.Image;
+import com.finalflight.game.gameobjects.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -27,7 +27,7 @@ public class ShieldImage extends ImageView {
     public ShieldImage(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        this.setImage(new Image(getClass().getResource(SHIELD_IMAGE).toExternalForm()));
+        this.setImage(SpriteCache.getInstance().getImage(SHIELD_IMAGE, SHIELD_IMAGE_HEIGHT));
         this.setVisible(false);
         this.setFitWidth(SHIELD_IMAGE_WIDTH);
         this.setFitHeight(SHIELD_IMAGE_HEIGHT);
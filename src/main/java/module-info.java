@@ -6,9 +6,11 @@ module com.finalflight.game {
     exports com.finalflight.game.controller;
     exports com.finalflight.game.main;
     exports com.finalflight.game.audio;
+    exports com.finalflight.game.event;
     exports com.finalflight.game.gameobjects;
     exports com.finalflight.game.level;
     exports com.finalflight.game.visual;
+    exports com.finalflight.game.simulation;
     opens com.finalflight.game.fxml to javafx.fxml;
     opens com.finalflight.game.controller to javafx.fxml;
     opens com.finalflight.game.main to javafx.fxml;
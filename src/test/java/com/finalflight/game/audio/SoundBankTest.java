@@ -0,0 +1,107 @@
+package com.finalflight.game.audio;
+
+import com.finalflight.game.BaseTest;
+import javafx.scene.media.AudioClip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundBankTest extends BaseTest {
+
+    private static final String FIRE_SOUND = "/com/finalflight/game/audio/userfire.wav";
+    private static final String ENEMY_FIRE_SOUND = "/com/finalflight/game/audio/enemyfire.wav";
+
+    private SoundBank soundBank;
+
+    @BeforeEach
+    void setUp() {
+        soundBank = new SoundBank();
+    }
+
+    @Test
+    void testClipIsLoadedOnceAndShared() {
+        AudioClip first = soundBank.getClip(FIRE_SOUND);
+        AudioClip second = soundBank.getClip(FIRE_SOUND);
+
+        assertSame(first, second);
+        assertEquals(1, soundBank.size());
+        assertTrue(soundBank.contains(FIRE_SOUND));
+        assertFalse(soundBank.contains(ENEMY_FIRE_SOUND));
+    }
+
+    @Test
+    void testConcurrentRequestsLoadOneClip() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<AudioClip>> requests = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requests.add(executor.submit(() -> soundBank.getClip(ENEMY_FIRE_SOUND)));
+            }
+            AudioClip clip = requests.get(0).get();
+            for (Future<AudioClip> request : requests) {
+                assertSame(clip, request.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, soundBank.getStats().size());
+    }
+
+    @Test
+    void testMetricsRecordLoadTimeAndFileSize() {
+        soundBank.getClip(FIRE_SOUND);
+        soundBank.getClip(ENEMY_FIRE_SOUND);
+
+        SoundBank.ClipStats stats = soundBank.getStats().stream()
+                .filter(clipStats -> clipStats.soundFilePath().equals(FIRE_SOUND)).findFirst().orElseThrow();
+        assertTrue(stats.loadNanos() > 0);
+        assertTrue(stats.fileBytes() > 0);
+        assertTrue(soundBank.getTotalFileBytes() > stats.fileBytes());
+        assertTrue(soundBank.getTotalLoadNanos() >= stats.loadNanos());
+    }
+
+    @Test
+    void testMissingSoundIsNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> soundBank.getClip("/com/finalflight/game/audio/missing.wav"));
+        assertThrows(IllegalArgumentException.class, () -> soundBank.getClip("/com/finalflight/game/audio/missing.wav"));
+        assertEquals(0, soundBank.size());
+    }
+
+    @Test
+    void testPlayersShareClipButKeepTheirOwnVolume() {
+        SoundEffectPlayer quiet = new SoundEffectPlayer(FIRE_SOUND);
+        SoundEffectPlayer loud = new SoundEffectPlayer(FIRE_SOUND);
+        quiet.setVolume(0.1);
+        loud.setVolume(0.9);
+
+        assertSame(clipOf(quiet), clipOf(loud));
+        assertSame(SoundBank.getInstance().getClip(FIRE_SOUND), clipOf(quiet));
+        assertEquals(0.1, volumeOf(quiet));
+        assertEquals(0.9, volumeOf(loud));
+    }
+
+    private static AudioClip clipOf(SoundEffectPlayer player) {
+        return (AudioClip) readField(player, "audioClip");
+    }
+
+    private static double volumeOf(SoundEffectPlayer player) {
+        return (double) readField(player, "volume");
+    }
+
+    private static Object readField(SoundEffectPlayer player, String name) {
+        try {
+            var field = SoundEffectPlayer.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(player);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            return fail("Failed to access " + name + ": " + e.getMessage());
+        }
+    }
+}
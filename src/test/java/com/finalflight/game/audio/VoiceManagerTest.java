@@ -0,0 +1,169 @@
+package com.finalflight.game.audio;
+
+import com.finalflight.game.BaseTest;
+import javafx.scene.media.AudioClip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoiceManagerTest extends BaseTest {
+
+    private static final String FIRE_SOUND = "/com/finalflight/game/audio/userfire.wav";
+    private static final String ENEMY_FIRE_SOUND = "/com/finalflight/game/audio/enemyfire.wav";
+    private static final String DAMAGED_SOUND = "/com/finalflight/game/audio/userdamaged.mp3";
+    private static final String BOSS_FIRE_SOUND = "/com/finalflight/game/audio/bossfire.mp3";
+    private static final long SECOND = 1_000_000_000L;
+
+    private final List<String> events = new ArrayList<>();
+    private final List<Double> volumes = new ArrayList<>();
+    private long now;
+    private AudioClip fireClip;
+    private AudioClip enemyFireClip;
+    private AudioClip damagedClip;
+    private AudioClip bossFireClip;
+
+    @BeforeEach
+    void setUp() {
+        SoundBank soundBank = SoundBank.getInstance();
+        fireClip = soundBank.getClip(FIRE_SOUND);
+        enemyFireClip = soundBank.getClip(ENEMY_FIRE_SOUND);
+        damagedClip = soundBank.getClip(DAMAGED_SOUND);
+        bossFireClip = soundBank.getClip(BOSS_FIRE_SOUND);
+    }
+
+    private VoiceManager createManager(int maxVoices) {
+        return new VoiceManager(maxVoices, new VoiceManager.Output() {
+            @Override
+            public void start(AudioClip clip, double volume, int cycleCount, VoiceManager.Priority priority) {
+                events.add("start " + clip.getSource().substring(clip.getSource().lastIndexOf('/') + 1));
+                volumes.add(volume);
+            }
+
+            @Override
+            public void stop(AudioClip clip) {
+                events.add("stop " + clip.getSource().substring(clip.getSource().lastIndexOf('/') + 1));
+            }
+        }, () -> now);
+    }
+
+    @Test
+    void testDurationsAreReadFromSoundFiles() {
+        SoundBank soundBank = SoundBank.getInstance();
+        assertEquals(1.34, soundBank.getDurationNanos(FIRE_SOUND) / (double) SECOND, 0.01);
+        assertEquals(2.0, soundBank.getDurationNanos(ENEMY_FIRE_SOUND) / (double) SECOND, 0.01);
+        assertEquals(11.4, soundBank.getDurationNanos("/com/finalflight/game/audio/userspeedboost.mp3") / (double) SECOND, 0.1);
+    }
+
+    @Test
+    void testIdenticalRequestsInOneFrameAreMerged() {
+        VoiceManager manager = createManager(8);
+
+        manager.beginFrame();
+        for (int i = 0; i < 3; i++) {
+            manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+        }
+        assertTrue(events.isEmpty());
+        manager.endFrame();
+
+        assertEquals(List.of("start enemyfire.wav"), events);
+        assertEquals(Math.sqrt(0.03), volumes.get(0), 1e-9);
+        assertEquals(2, manager.getMergedCount());
+        assertEquals(1, manager.getActiveVoiceCount());
+    }
+
+    @Test
+    void testPolyphonyLimitsVoicesOfOneSound() {
+        VoiceManager manager = createManager(8);
+
+        for (int i = 0; i < 5; i++) {
+            manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+            now += SECOND / 10;
+        }
+        assertEquals(3, manager.getStartedCount());
+        assertEquals(2, manager.getDroppedCount());
+
+        now += 2 * SECOND; // The earlier voices have finished
+        manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+        assertEquals(4, manager.getStartedCount());
+        assertEquals(1, manager.getActiveVoiceCount());
+    }
+
+    @Test
+    void testHigherPriorityTakesVoiceOfLowerPriority() {
+        VoiceManager manager = createManager(2);
+        manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+        manager.request(bossFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.BOSS, 3);
+
+        manager.request(fireClip, SECOND, 0.1, 1, VoiceManager.Priority.PLAYER, 3);
+        manager.request(damagedClip, SECOND, 0.1, 1, VoiceManager.Priority.PLAYER_DAMAGE, 3);
+
+        assertEquals(List.of("start enemyfire.wav", "start bossfire.mp3", "stop enemyfire.wav",
+                "start userfire.wav", "stop userfire.wav", "start userdamaged.mp3"), events);
+        assertEquals(2, manager.getStolenCount());
+        assertEquals(0, manager.getDroppedCount());
+
+        manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+        assertEquals(1, manager.getDroppedCount());
+        assertEquals(2, manager.getActiveVoiceCount());
+    }
+
+    @Test
+    void testMostImportantRequestOfAFrameIsMixedFirst() {
+        VoiceManager manager = createManager(1);
+
+        manager.beginFrame();
+        manager.request(enemyFireClip, 2 * SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 3);
+        manager.request(damagedClip, SECOND, 0.3, 1, VoiceManager.Priority.PLAYER_DAMAGE, 3);
+        manager.endFrame();
+
+        assertEquals(List.of("start userdamaged.mp3"), events);
+        assertEquals(1, manager.getDroppedCount());
+    }
+
+    @Test
+    void testLoopingVoiceLastsUntilStopped() {
+        VoiceManager manager = createManager(4);
+        manager.request(fireClip, SECOND, 0.1, AudioClip.INDEFINITE, VoiceManager.Priority.PLAYER, 1);
+
+        now += 60 * SECOND;
+        manager.request(fireClip, SECOND, 0.1, AudioClip.INDEFINITE, VoiceManager.Priority.PLAYER, 1);
+        assertEquals(1, manager.getDroppedCount());
+
+        manager.stop(fireClip);
+        assertEquals(0, manager.getActiveVoiceCount());
+        manager.request(fireClip, SECOND, 0.1, AudioClip.INDEFINITE, VoiceManager.Priority.PLAYER, 1);
+        assertEquals(2, manager.getStartedCount());
+    }
+
+    @Test
+    void testRecycledRequestsAndVoicesStartAfresh() {
+        VoiceManager manager = createManager(2);
+
+        manager.beginFrame();
+        manager.request(fireClip, SECOND, 0.8, 1, VoiceManager.Priority.PLAYER, 1);
+        manager.request(damagedClip, SECOND, 0.5, 1, VoiceManager.Priority.PLAYER_DAMAGE, 1);
+        manager.endFrame();
+        assertEquals(List.of("start userdamaged.mp3", "start userfire.wav"), events);
+
+        now += 2 * SECOND;
+        manager.beginFrame();
+        manager.request(enemyFireClip, SECOND, 0.1, 1, VoiceManager.Priority.ENEMY, 1);
+        manager.request(bossFireClip, SECOND, 0.2, 1, VoiceManager.Priority.BOSS, 1);
+        manager.endFrame();
+        assertEquals(List.of("start bossfire.mp3", "start enemyfire.wav"), events.subList(2, 4));
+        assertEquals(0.2, volumes.get(2), 1e-9);
+        assertEquals(0.1, volumes.get(3), 1e-9);
+        assertEquals(2, manager.getActiveVoiceCount());
+
+        manager.beginFrame();
+        manager.request(fireClip, SECOND, 0.3, 1, VoiceManager.Priority.PLAYER, 1);
+        manager.stop(fireClip);
+        manager.endFrame();
+        assertEquals(4, manager.getStartedCount());
+        assertEquals("stop userfire.wav", events.get(events.size() - 1));
+    }
+}
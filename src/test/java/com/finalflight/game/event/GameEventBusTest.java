@@ -0,0 +1,100 @@
+package com.finalflight.game.event;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.BossPlane;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.EnemyProjectile;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SingleShotProjectile;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.level.LevelOne;
+import com.finalflight.game.level.LevelWorld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testListenersAreCalledInOrderUntilUnsubscribed() {
+        GameEventBus bus = new GameEventBus();
+        List<String> calls = new ArrayList<>();
+        GameEventBus.LevelCompleteListener first = nextLevel -> calls.add("first " + nextLevel);
+        GameEventBus.LevelCompleteListener second = nextLevel -> calls.add("second " + nextLevel);
+        bus.onLevelComplete(first);
+        bus.onLevelComplete(second);
+
+        bus.publishLevelComplete("LevelTwo");
+        bus.unsubscribe(first);
+        bus.publishLevelComplete("LevelThree");
+
+        assertEquals(List.of("first LevelTwo", "second LevelTwo", "second LevelThree"), calls);
+    }
+
+    @Test
+    void testWorldPublishesDamageAndFire() {
+        LevelOne level = new LevelOne(870, 1540, true, 5);
+        LevelWorld world = level.getWorld();
+        List<Integer> health = new ArrayList<>();
+        int[] fired = new int[2];
+        level.getEvents().onPlayerDamaged(health::add);
+        level.getEvents().onProjectileFired((projectile, firedByUser) -> fired[firedByUser ? 0 : 1]++);
+
+        world.addUserProjectiles(List.of(new SingleShotProjectile(100, 100), new SingleShotProjectile(100, 120)));
+        world.addEnemyProjectile(new EnemyProjectile(100, 100));
+        int startingHealth = world.getUser().getHealth();
+        world.getUser().takeDamage();
+
+        assertEquals(List.of(startingHealth - 1), health);
+        assertArrayEquals(new int[]{2, 1}, fired);
+    }
+
+    @Test
+    void testBossPublishesItsShield() {
+        GameEventBus bus = new GameEventBus();
+        List<BossPlane> shielded = new ArrayList<>();
+        bus.onBossShieldUp(shielded::add);
+        BossPlane boss = new BossPlane();
+        boss.setEventBus(bus);
+
+        while (boss.getHealth() > 50) {
+            boss.takeDamage();
+        }
+        boss.updateActor();
+
+        assertEquals(List.of(boss), shielded);
+    }
+
+    @Test
+    void testKillsArePublished() {
+        LevelOne level = new LevelOne(870, 1540, true, 9);
+        List<Integer> kills = new ArrayList<>();
+        level.getEvents().onEnemyKilled(kills::add);
+
+        for (int i = 0; i < 2_000 && kills.size() < 3; i++) {
+            level.getWorld().getEnemyUnits().forEach(DestructibleGameObject::destroy);
+            level.tick();
+        }
+
+        assertEquals(List.of(1, 2, 3), kills.subList(0, 3));
+    }
+}
@@ -28,11 +28,11 @@ class AdvancedEnemyPlaneTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialX = advancedEnemyPlane.getTranslateX();
+        double initialX = advancedEnemyPlane.getEntity().getOffsetX();
 
         advancedEnemyPlane.updatePosition();
 
-        assertEquals(initialX + EXPECTED_HORIZONTAL_VELOCITY, advancedEnemyPlane.getTranslateX(), 0.01, "X position should update based on velocity.");
+        assertEquals(initialX + EXPECTED_HORIZONTAL_VELOCITY, advancedEnemyPlane.getEntity().getOffsetX(), 0.01, "X position should update based on velocity.");
     }
 
     @Test
@@ -58,10 +58,10 @@ class AdvancedEnemyPlaneTest extends BaseTest {
 
     @Test
     void testUpdateActor() {
-        double initialX = advancedEnemyPlane.getTranslateX();
+        double initialX = advancedEnemyPlane.getEntity().getOffsetX();
 
         advancedEnemyPlane.updateActor();
 
-        assertEquals(initialX + EXPECTED_HORIZONTAL_VELOCITY, advancedEnemyPlane.getTranslateX(), 0.01, "updateActor should update X position.");
+        assertEquals(initialX + EXPECTED_HORIZONTAL_VELOCITY, advancedEnemyPlane.getEntity().getOffsetX(), 0.01, "updateActor should update X position.");
     }
 }
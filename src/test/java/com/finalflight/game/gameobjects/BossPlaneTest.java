@@ -4,6 +4,9 @@ import com.finalflight.game.BaseTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BossPlaneTest extends BaseTest {
@@ -27,28 +30,28 @@ class BossPlaneTest extends BaseTest {
 
     @Test
     void testMovementWithinBounds() {
-        boss.setTranslateY(400); // Set initial position
+        boss.getEntity().setOffsetY(400); // Set initial position
 
         // Move up
         boss.moveVertically(-8);
         boss.updatePosition();
-        assertTrue(boss.getTranslateY() >= -50);
+        assertTrue(boss.getEntity().getOffsetY() >= -50);
 
         // Move down
         boss.moveVertically(8);
         boss.updatePosition();
-        assertTrue(boss.getTranslateY() <= 700);
+        assertTrue(boss.getEntity().getOffsetY() <= 700);
     }
 
     @Test
     void testMovementExceedingBounds() {
         // Move beyond upper bound
-        boss.setTranslateY(-60); // Outside bounds
+        boss.getEntity().setOffsetY(-60); // Outside bounds
         boss.updatePosition();
         assertTrue(boss.getLayoutY() >= -50); // Should stay within bounds
 
         // Move beyond lower bound
-        boss.setTranslateY(710); // Outside bounds
+        boss.getEntity().setOffsetY(710); // Outside bounds
         boss.updatePosition();
         assertTrue(boss.getLayoutY() <= 700); // Should stay within bounds
     }
@@ -110,8 +113,8 @@ class BossPlaneTest extends BaseTest {
 
         // Verify that the fire rate boost is applied
         boss.updateActor(); // This will apply the boost
-        assertTrue(boss.getMovePattern().contains(12)); // Check that speed is increased
-        assertTrue(boss.getMovePattern().contains(-12)); // Check that speed is increased in both directions
+        assertTrue(boss.getMovePattern().contains(240)); // Check that speed is increased
+        assertTrue(boss.getMovePattern().contains(-240)); // Check that speed is increased in both directions
 
         // Now check the number of projectiles fired within 1000 frames
         int projectileCount = 0;
@@ -130,25 +133,68 @@ class BossPlaneTest extends BaseTest {
             DestructibleGameObject projectile = boss.fireProjectile();
             if (projectile != null) {
                 assertInstanceOf(BossProjectile.class, projectile);
-                assertEquals(boss.getTranslateX(), projectile.getTranslateX(), DELTA); // X position should match boss
-                assertTrue(projectile.getTranslateY() >= 0, "Projectile Y position should be positive"); // Y position check
+                assertEquals(boss.getEntity().getOffsetX(), projectile.getEntity().getOffsetX(), DELTA); // X position should match boss
+                assertTrue(projectile.getEntity().getOffsetY() >= 0, "Projectile Y position should be positive"); // Y position check
             }
         }
     }
 
     @Test
     void testFireProjectile() {
-        boss.setTranslateX(1150); // Boss's initial X position
-        boss.setTranslateY(400); // Boss's initial Y position
+        boss.getEntity().setOffsetX(1150); // Boss's initial X position
+        boss.getEntity().setOffsetY(400); // Boss's initial Y position
 
         DestructibleGameObject projectile = boss.fireProjectile();
 
         if (projectile != null) {
             assertInstanceOf(BossProjectile.class, projectile); // Ensure it's the correct type
-            assertEquals(boss.getTranslateX(), projectile.getTranslateX(), DELTA); // X-coordinate matches boss
-            assertEquals(boss.getTranslateY() + 40, projectile.getTranslateY(), DELTA); // Y-coordinate includes offset
+            assertEquals(boss.getEntity().getOffsetX(), projectile.getEntity().getOffsetX(), DELTA); // X-coordinate matches boss
+            assertEquals(boss.getEntity().getOffsetY() + 40, projectile.getEntity().getOffsetY(), DELTA); // Y-coordinate includes offset
         } else {
             assertNull(projectile); // Projectile may not fire in some frames due to chance
         }
     }
+
+    @Test
+    void testCustomPhaseScript() {
+        BossPhaseScript script = new BossPhaseScript(List.of(
+                new BossPhaseScript.Phase(0.3, true, false),
+                new BossPhaseScript.Phase(0.8, false, true)));
+        BossPlane scriptedBoss = new BossPlane(null, script);
+        while (scriptedBoss.getHealth() > 50) {
+            scriptedBoss.takeDamage();
+        }
+        scriptedBoss.updateActor();
+        assertTrue(scriptedBoss.isEnraged()); // Enraged at 80% health
+        assertFalse(scriptedBoss.getIsShielded()); // No shield at 50% with this script
+        assertTrue(scriptedBoss.getMovePattern().contains(240));
+
+        while (scriptedBoss.getHealth() > 30) {
+            scriptedBoss.takeDamage();
+        }
+        scriptedBoss.updateActor();
+        assertTrue(scriptedBoss.getIsShielded());
+    }
+
+    @Test
+    void testSeededBossesMoveTheSame() {
+        BossPlane first = new BossPlane(new SplittableRandom(11)::nextDouble);
+        BossPlane second = new BossPlane(new SplittableRandom(11)::nextDouble);
+        BossMovePattern pattern = first.getMovePattern();
+        assertEquals(15, pattern.size());
+
+        for (int i = 0; i < 500; i++) {
+            if (i == 250) {
+                while (first.getHealth() > 20) {
+                    first.takeDamage();
+                    second.takeDamage();
+                }
+            }
+            first.updateActor();
+            second.updateActor();
+            assertEquals(first.getEntity().getY(), second.getEntity().getY(), DELTA);
+        }
+        assertSame(pattern, first.getMovePattern()); // Enraging refills the pattern in place
+        assertTrue(first.isEnraged());
+    }
 }
@@ -28,22 +28,22 @@ class BossProjectileTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialTranslateX = testBossProjectile.getTranslateX();
-        double initialTranslateY = testBossProjectile.getTranslateY();
+        double initialTranslateX = testBossProjectile.getEntity().getOffsetX();
+        double initialTranslateY = testBossProjectile.getEntity().getOffsetY();
 
         testBossProjectile.updatePosition();
 
-        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testBossProjectile.getTranslateX(), 0.01, "X position should update based on horizontal velocity.");
-        assertEquals(initialTranslateY, testBossProjectile.getTranslateY(), 0.01, "Y position should remain unchanged.");
+        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testBossProjectile.getEntity().getOffsetX(), 0.01, "X position should update based on horizontal velocity.");
+        assertEquals(initialTranslateY, testBossProjectile.getEntity().getOffsetY(), 0.01, "Y position should remain unchanged.");
     }
 
     @Test
     void testUpdateActor() {
-        double initialTranslateX = testBossProjectile.getTranslateX();
+        double initialTranslateX = testBossProjectile.getEntity().getOffsetX();
 
         testBossProjectile.updateActor();
 
-        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testBossProjectile.getTranslateX(), 0.01, "updateActor should update the X position.");
+        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testBossProjectile.getEntity().getOffsetX(), 0.01, "updateActor should update the X position.");
     }
 
     @Test
@@ -27,9 +27,9 @@ class EnemyPlaneTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialX = enemyPlane.getTranslateX();
+        double initialX = enemyPlane.getEntity().getOffsetX();
         enemyPlane.updatePosition();
-        assertEquals(initialX - 6, enemyPlane.getTranslateX(), 0.01); // Horizontal velocity is -6
+        assertEquals(initialX - 6, enemyPlane.getEntity().getOffsetX(), 0.01); // Horizontal velocity is -6
     }
 
     @Test
@@ -88,9 +88,9 @@ class EnemyPlaneTest extends BaseTest {
     @Test
     void testUpdateActor() {
         // The updateActor method calls updatePosition, test the effect
-        double initialX = enemyPlane.getTranslateX();
+        double initialX = enemyPlane.getEntity().getOffsetX();
         enemyPlane.updateActor();
-        assertEquals(initialX - 6, enemyPlane.getTranslateX(), 0.01);
+        assertEquals(initialX - 6, enemyPlane.getEntity().getOffsetX(), 0.01);
     }
 
 }
@@ -28,22 +28,22 @@ class EnemyProjectileTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialTranslateX = testEnemyProjectile.getTranslateX();
-        double initialTranslateY = testEnemyProjectile.getTranslateY();
+        double initialTranslateX = testEnemyProjectile.getEntity().getOffsetX();
+        double initialTranslateY = testEnemyProjectile.getEntity().getOffsetY();
 
         testEnemyProjectile.updatePosition();
 
-        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testEnemyProjectile.getTranslateX(), 0.01, "X position should update based on horizontal velocity.");
-        assertEquals(initialTranslateY, testEnemyProjectile.getTranslateY(), 0.01, "Y position should remain unchanged.");
+        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testEnemyProjectile.getEntity().getOffsetX(), 0.01, "X position should update based on horizontal velocity.");
+        assertEquals(initialTranslateY, testEnemyProjectile.getEntity().getOffsetY(), 0.01, "Y position should remain unchanged.");
     }
 
     @Test
     void testUpdateActor() {
-        double initialTranslateX = testEnemyProjectile.getTranslateX();
+        double initialTranslateX = testEnemyProjectile.getEntity().getOffsetX();
 
         testEnemyProjectile.updateActor();
 
-        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testEnemyProjectile.getTranslateX(), 0.01, "updateActor should update the X position.");
+        assertEquals(initialTranslateX + HORIZONTAL_VELOCITY, testEnemyProjectile.getEntity().getOffsetX(), 0.01, "updateActor should update the X position.");
     }
 
 
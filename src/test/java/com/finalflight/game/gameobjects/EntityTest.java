@@ -0,0 +1,154 @@
+package com.finalflight.game.gameobjects;
+
+import com.finalflight.game.BaseTest;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTest extends BaseTest {
+
+    private static final double DELTA = 0.01;
+
+    @Test
+    void testPositionIsOriginPlusOffset() {
+        Entity entity = new Entity(100, 200, 30, 10);
+        entity.moveBy(5, -3);
+
+        assertEquals(105, entity.getX(), DELTA);
+        assertEquals(197, entity.getY(), DELTA);
+        assertEquals(135, entity.getMaxX(), DELTA);
+        assertEquals(207, entity.getMaxY(), DELTA);
+    }
+
+    @Test
+    void testStepMovesByVelocity() {
+        Entity entity = new Entity(0, 0, 10, 10);
+        entity.setVelocity(200, -100); // 10 and -5 pixels per step at 20 steps per second
+        entity.step();
+        entity.step();
+
+        assertEquals(20, entity.getOffsetX(), DELTA);
+        assertEquals(-10, entity.getOffsetY(), DELTA);
+    }
+
+    @Test
+    void testResetKeepsVelocity() {
+        Entity entity = new Entity(0, 0, 10, 10);
+        entity.setVelocity(4, 0);
+        entity.step();
+        entity.reset(50, 60);
+
+        assertEquals(50, entity.getX(), DELTA);
+        assertEquals(60, entity.getY(), DELTA);
+        assertEquals(4, entity.getVelocityX(), DELTA);
+    }
+
+    @Test
+    void testIntersectsIncludesTouchingEdges() {
+        Entity entity = new Entity(0, 0, 10, 10);
+
+        assertTrue(entity.intersects(new Entity(10, 10, 5, 5)));
+        assertFalse(entity.intersects(new Entity(10.5, 0, 5, 5)));
+    }
+
+    @Test
+    void testMovingDoesNotTouchViewUntilSynced() {
+        SingleShotProjectile projectile = new SingleShotProjectile(100, 200);
+        projectile.updateActor();
+
+        assertEquals(0, projectile.getTranslateX(), DELTA);
+        assertEquals(15, projectile.getEntity().getOffsetX(), DELTA);
+
+        projectile.syncView();
+        assertEquals(15, projectile.getTranslateX(), DELTA);
+        assertEquals(100, projectile.getLayoutX(), DELTA);
+    }
+
+    @Test
+    void testSpriteSizeMatchesDisplayedImage() {
+        EnemyPlane loaded = new EnemyPlane(0, 0);
+        AbstractProjectile skipped = new AbstractProjectile("enemyfire.png", 16, 0, 0, true) {
+            @Override
+            public void updatePosition() {
+            }
+
+            @Override
+            public void updateActor() {
+            }
+        };
+
+        assertEquals(loaded.getBoundsInLocal().getWidth(), loaded.getEntity().getWidth(), 1);
+        assertEquals(loaded.getBoundsInLocal().getHeight(), loaded.getEntity().getHeight(), DELTA);
+        assertNull(skipped.getImage());
+        assertEquals(16 * 71.0 / 20, skipped.getEntity().getWidth(), DELTA);
+    }
+
+    @Test
+    void testInsetsShrinkHitboxAndFollowMovement() {
+        Entity entity = new Entity(100, 200, 30, 10);
+        entity.setHitboxInsets(2, 3, 4, 1);
+        entity.moveBy(5, 5);
+
+        assertEquals(107, entity.getMinX(), DELTA);
+        assertEquals(208, entity.getMinY(), DELTA);
+        assertEquals(131, entity.getMaxX(), DELTA);
+        assertEquals(214, entity.getMaxY(), DELTA);
+        assertEquals(24, entity.getHitboxWidth(), DELTA);
+
+        entity.reset(0, 0);
+        assertEquals(2, entity.getMinX(), DELTA);
+        assertEquals(9, entity.getMaxY(), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> entity.setHitboxInsets(20, 0, 20, 0));
+    }
+
+    @Test
+    void testHitboxStaysWithinViewBounds() {
+        List<GameObject> actors = List.of(new UserPlane(5), new EnemyPlane(500, 300), new AdvancedEnemyPlane(500, 300),
+                new BossPlane(), new SingleShotProjectile(100, 200), new SpreadShotProjectile(100, 200, 10, 5),
+                new HeavyShotProjectile(100, 200), new EnemyProjectile(700, 200), new BossProjectile(300));
+
+        for (GameObject actor : actors) {
+            Entity entity = actor.getEntity();
+            entity.moveBy(37, -12);
+            actor.syncView();
+            Bounds view = actor.getBoundsInParent();
+            String name = actor.getClass().getSimpleName();
+
+            assertTrue(entity.getMinX() >= view.getMinX() - 1 && entity.getMaxX() <= view.getMaxX() + 1, name);
+            assertTrue(entity.getMinY() >= view.getMinY() - DELTA && entity.getMaxY() <= view.getMaxY() + DELTA, name);
+
+            // Without insets the hitbox is exactly the bounds the view had for collisions
+            entity.setHitboxInsets(0, 0, 0, 0);
+            assertEquals(view.getMinX(), entity.getMinX(), 1, name);
+            assertEquals(view.getMinY(), entity.getMinY(), DELTA, name);
+            assertEquals(view.getMaxX(), entity.getMaxX(), 1, name);
+            assertEquals(view.getMaxY(), entity.getMaxY(), DELTA, name);
+        }
+    }
+
+    @Test
+    void testInsetHitsAreSubsetOfViewBoundHits() {
+        EnemyPlane enemy = new EnemyPlane(500, 300);
+        enemy.syncView();
+        Bounds enemyView = enemy.getBoundsInParent();
+        int viewHits = 0;
+        int hitboxHits = 0;
+
+        for (int x = 400; x < 700; x += 7) {
+            for (int y = 250; y < 380; y += 3) {
+                SingleShotProjectile projectile = new SingleShotProjectile(x, y);
+                projectile.syncView();
+                boolean viewHit = projectile.getBoundsInParent().intersects(enemyView);
+                boolean hitboxHit = projectile.getEntity().intersects(enemy.getEntity());
+
+                assertFalse(hitboxHit && !viewHit, "hit outside the sprite at " + x + ", " + y);
+                viewHits += viewHit ? 1 : 0;
+                hitboxHits += hitboxHit ? 1 : 0;
+            }
+        }
+        assertTrue(hitboxHits > 0 && hitboxHits < viewHits);
+    }
+}
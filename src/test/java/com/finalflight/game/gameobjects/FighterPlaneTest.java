@@ -25,8 +25,7 @@ class FighterPlaneTest extends BaseTest {
         @Override
         public void updatePosition() {
             // Basic implementation for testing purposes
-            setTranslateX(getTranslateX() + 1);
-            setTranslateY(getTranslateY() + 1);
+            getEntity().moveBy(1, 1);
         }
 
         @Override
@@ -44,8 +43,7 @@ class FighterPlaneTest extends BaseTest {
         @Override
         public void updatePosition() {
             // Basic implementation for testing purposes
-            setTranslateX(getTranslateX() + 1);
-            setTranslateY(getTranslateY() + 1);
+            getEntity().moveBy(1, 1);
         }
 
         @Override
@@ -86,6 +84,27 @@ class FighterPlaneTest extends BaseTest {
         assertNotNull(fighterPlane.getEffect()); // Effect should be set
     }
 
+    @Test
+    void testFlashIsSharedAndExpiresAfterItsSteps() {
+        FighterPlane otherPlane = new MockFighterPlane("fighter.png", 50, 200, 200, INITIAL_HEALTH);
+        fighterPlane.takeDamage();
+        otherPlane.takeDamage();
+        assertSame(fighterPlane.getEffect(), otherPlane.getEffect());
+
+        for (int i = 1; i < FighterPlane.getHitFlashSteps(); i++) {
+            fighterPlane.tickEffects();
+        }
+        fighterPlane.takeDamage(); // A second hit restarts the flash
+        for (int i = 1; i < FighterPlane.getHitFlashSteps(); i++) {
+            fighterPlane.tickEffects();
+        }
+        assertTrue(fighterPlane.isFlashing());
+
+        fighterPlane.tickEffects();
+        assertFalse(fighterPlane.isFlashing());
+        assertNull(fighterPlane.getEffect());
+    }
+
     @Test
     void testDestroyOnHealthZero() {
         for (int i = 0; i < INITIAL_HEALTH; i++) {
@@ -100,8 +119,8 @@ class FighterPlaneTest extends BaseTest {
         double xOffset = 5.0;
         double yOffset = 10.0;
 
-        double expectedX = fighterPlane.getLayoutX() + fighterPlane.getTranslateX() + xOffset;
-        double expectedY = fighterPlane.getLayoutY() + fighterPlane.getTranslateY() + yOffset;
+        double expectedX = fighterPlane.getLayoutX() + fighterPlane.getEntity().getOffsetX() + xOffset;
+        double expectedY = fighterPlane.getLayoutY() + fighterPlane.getEntity().getOffsetY() + yOffset;
 
         assertEquals(expectedX, fighterPlane.getProjectileXPosition(xOffset), 0.01);
         assertEquals(expectedY, fighterPlane.getProjectileYPosition(yOffset), 0.01);
@@ -0,0 +1,173 @@
+package com.finalflight.game.gameobjects;
+
+import com.finalflight.game.BaseTest;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.transform.Rotate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameObjectPoolTest extends BaseTest {
+
+    private GameObjectPools pools;
+
+    @BeforeEach
+    void setUp() {
+        pools = GameObjectPools.getInstance();
+        pools.clear();
+    }
+
+    @Test
+    void testReleasedProjectileIsReused() {
+        SingleShotProjectile first = SingleShotProjectile.obtain(100, 200);
+        first.destroy();
+        pools.release(first);
+
+        SingleShotProjectile second = SingleShotProjectile.obtain(300, 400);
+
+        assertSame(first, second);
+        assertFalse(second.isDestroyed());
+        assertEquals(300, second.getLayoutX());
+        assertEquals(400, second.getLayoutY());
+        GameObjectPool<SingleShotProjectile> pool = pools.findPool(SingleShotProjectile.class);
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    void testResetClearsMovementEffectAndTransforms() {
+        EnemyProjectile projectile = EnemyProjectile.obtain(500, 300);
+        for (int i = 0; i < 20; i++) {
+            projectile.updateActor();
+            projectile.incrementLifetime();
+        }
+        projectile.setEffect(new ColorAdjust());
+        projectile.getTransforms().add(new Rotate(5));
+        projectile.destroy();
+        pools.release(projectile);
+
+        EnemyProjectile reused = EnemyProjectile.obtain(600, 200);
+
+        assertEquals(0, reused.getEntity().getOffsetX());
+        assertEquals(0, reused.getEntity().getOffsetY());
+        assertNull(reused.getEffect());
+        assertTrue(reused.getTransforms().isEmpty());
+        assertEquals(0, reused.getFramesAlive());
+    }
+
+    @Test
+    void testResetRestoresHealth() {
+        EnemyPlane enemyPlane = EnemyPlane.obtain(1000, 100);
+        enemyPlane.takeDamage();
+        enemyPlane.takeDamage();
+        enemyPlane.takeDamage();
+        assertTrue(enemyPlane.isDestroyed());
+        pools.release(enemyPlane);
+
+        EnemyPlane reused = EnemyPlane.obtain(1000, 200);
+
+        assertSame(enemyPlane, reused);
+        assertEquals(reused.getMaxHealth(), reused.getHealth());
+        assertFalse(reused.isDestroyed());
+
+        HeavyShotProjectile heavyShot = HeavyShotProjectile.obtain(0, 0);
+        heavyShot.takeDamage();
+        heavyShot.destroy();
+        pools.release(heavyShot);
+        assertEquals(6, HeavyShotProjectile.obtain(0, 0).getHealth());
+    }
+
+    @Test
+    void testReusedSpreadShotUsesNewVelocityAndRange() {
+        SpreadShotProjectile projectile = SpreadShotProjectile.obtain(0, 0, 200, 100);
+        while (!projectile.isDestroyed()) {
+            projectile.updateActor();
+        }
+        pools.release(projectile);
+
+        SpreadShotProjectile reused = SpreadShotProjectile.obtain(0, 0, 200, -100);
+        reused.updateActor();
+
+        assertSame(projectile, reused);
+        assertFalse(reused.isDestroyed());
+        assertEquals(10, reused.getEntity().getOffsetX()); // One step at 20 steps per second
+        assertEquals(-5, reused.getEntity().getOffsetY());
+    }
+
+    @Test
+    void testSteadyStateCombatAllocatesNothing() {
+        List<AbstractProjectile> inFlight = new ArrayList<>();
+        for (int tick = 0; tick < 10_000; tick++) {
+            inFlight.add(SingleShotProjectile.obtain(0, 0));
+            inFlight.add(EnemyProjectile.obtain(1000, 0));
+            while (inFlight.size() > 50) {
+                AbstractProjectile projectile = inFlight.remove(0);
+                projectile.destroy();
+                pools.release(projectile);
+            }
+        }
+
+        GameObjectPool<SingleShotProjectile> singleShotPool = pools.findPool(SingleShotProjectile.class);
+        GameObjectPool<EnemyProjectile> enemyProjectilePool = pools.findPool(EnemyProjectile.class);
+        assertTrue(singleShotPool.getMissCount() <= singleShotPool.getHighWaterMark());
+        assertTrue(enemyProjectilePool.getMissCount() <= enemyProjectilePool.getHighWaterMark());
+        assertTrue(singleShotPool.getHighWaterMark() <= 51);
+        assertEquals(10_000, singleShotPool.getHitCount() + singleShotPool.getMissCount());
+    }
+
+    @Test
+    void testReleasingTwiceIsIgnored() {
+        EnemyProjectile projectile = EnemyProjectile.obtain(0, 0);
+        projectile.destroy();
+        pools.release(projectile);
+        pools.release(projectile);
+
+        GameObjectPool<EnemyProjectile> pool = pools.findPool(EnemyProjectile.class);
+        assertEquals(1, pool.getAvailableCount());
+        assertEquals(1, pool.getReleaseCount());
+        assertNotSame(EnemyProjectile.obtain(0, 0), EnemyProjectile.obtain(0, 0));
+    }
+
+    @Test
+    void testFullPoolDropsReleasedObjects() {
+        GameObjectPool<SingleShotProjectile> pool = new GameObjectPool<>(() -> new SingleShotProjectile(0, 0), 2);
+        List<SingleShotProjectile> acquired = List.of(pool.acquire(), pool.acquire(), pool.acquire());
+        acquired.forEach(pool::release);
+
+        assertEquals(2, pool.getAvailableCount());
+        assertEquals(3, pool.getHighWaterMark());
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    void testUnpooledTypesAreIgnored() {
+        BossPlane boss = new BossPlane();
+        boss.destroy();
+        pools.release(boss);
+
+        assertNull(pools.findPool(BossPlane.class));
+    }
+
+    @Test
+    void testDirectlyConstructedObjectsAreNotPooled() {
+        EnemyProjectile pooled = EnemyProjectile.obtain(0, 0);
+        EnemyProjectile constructed = new EnemyProjectile(0, 0, true);
+        constructed.destroy();
+        pools.release(constructed);
+
+        GameObjectPool<EnemyProjectile> pool = pools.findPool(EnemyProjectile.class);
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(0, pool.getReleaseCount());
+        EnemyProjectile obtained = EnemyProjectile.obtain(0, 0);
+        assertNotSame(constructed, obtained);
+        assertNotNull(obtained.getImage());
+
+        pooled.destroy();
+        pools.release(pooled);
+        assertSame(pooled, EnemyProjectile.obtain(0, 0));
+    }
+}
@@ -30,24 +30,24 @@ class HeavyShotProjectileTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialTranslateX = testProjectile.getTranslateX();
-        double initialTranslateY = testProjectile.getTranslateY();
+        double initialTranslateX = testProjectile.getEntity().getOffsetX();
+        double initialTranslateY = testProjectile.getEntity().getOffsetY();
 
         testProjectile.updatePosition();
 
-        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getTranslateX(), 0.01, "X position should update based on horizontal velocity.");
-        assertEquals(initialTranslateY + EXPECTED_VERTICAL_VELOCITY, testProjectile.getTranslateY(), 0.01, "Y position should update based on vertical velocity.");
+        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getEntity().getOffsetX(), 0.01, "X position should update based on horizontal velocity.");
+        assertEquals(initialTranslateY + EXPECTED_VERTICAL_VELOCITY, testProjectile.getEntity().getOffsetY(), 0.01, "Y position should update based on vertical velocity.");
     }
 
     @Test
     void testUpdateActor() {
-        double initialTranslateX = testProjectile.getTranslateX();
-        double initialTranslateY = testProjectile.getTranslateY();
+        double initialTranslateX = testProjectile.getEntity().getOffsetX();
+        double initialTranslateY = testProjectile.getEntity().getOffsetY();
 
         testProjectile.updateActor();
 
-        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getTranslateX(), 0.01, "updateActor should update the X position.");
-        assertEquals(initialTranslateY + EXPECTED_VERTICAL_VELOCITY, testProjectile.getTranslateY(), 0.01, "updateActor should update the Y position.");
+        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getEntity().getOffsetX(), 0.01, "updateActor should update the X position.");
+        assertEquals(initialTranslateY + EXPECTED_VERTICAL_VELOCITY, testProjectile.getEntity().getOffsetY(), 0.01, "updateActor should update the Y position.");
     }
 
     @Test
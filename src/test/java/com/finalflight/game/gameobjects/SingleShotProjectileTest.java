@@ -32,22 +32,22 @@ class SingleShotProjectileTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialTranslateX = testProjectile.getTranslateX();
-        double initialTranslateY = testProjectile.getTranslateY();
+        double initialTranslateX = testProjectile.getEntity().getOffsetX();
+        double initialTranslateY = testProjectile.getEntity().getOffsetY();
 
         testProjectile.updatePosition();
 
-        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getTranslateX(), 0.01, "X position should update based on horizontal velocity.");
-        assertEquals(initialTranslateY, testProjectile.getTranslateY(), 0.01, "Y position should remain unchanged.");
+        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getEntity().getOffsetX(), 0.01, "X position should update based on horizontal velocity.");
+        assertEquals(initialTranslateY, testProjectile.getEntity().getOffsetY(), 0.01, "Y position should remain unchanged.");
     }
 
     @Test
     void testUpdateActor() {
-        double initialTranslateX = testProjectile.getTranslateX();
+        double initialTranslateX = testProjectile.getEntity().getOffsetX();
 
         testProjectile.updateActor();
 
-        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getTranslateX(), 0.01, "updateActor should update the X position.");
+        assertEquals(initialTranslateX + EXPECTED_HORIZONTAL_VELOCITY, testProjectile.getEntity().getOffsetX(), 0.01, "updateActor should update the X position.");
     }
 
     @Test
@@ -11,8 +11,8 @@ class SpreadShotProjectileTest extends BaseTest {
     private SpreadShotProjectile testProjectile;
     private static final double INITIAL_X_POS = 100.0;
     private static final double INITIAL_Y_POS = 200.0;
-    private static final double VELOCITY_X = 5.0;
-    private static final double VELOCITY_Y = 3.0;
+    private static final double VELOCITY_X = 100.0;
+    private static final double VELOCITY_Y = 60.0;
     private static final double RANGE = 300.0;
 
     @BeforeEach
@@ -29,19 +29,19 @@ class SpreadShotProjectileTest extends BaseTest {
 
     @Test
     void testUpdatePosition() {
-        double initialX = testProjectile.getTranslateX();
-        double initialY = testProjectile.getTranslateY();
+        double initialX = testProjectile.getEntity().getOffsetX();
+        double initialY = testProjectile.getEntity().getOffsetY();
 
         testProjectile.updatePosition();
 
-        assertEquals(initialX + VELOCITY_X, testProjectile.getTranslateX(), 0.01, "X position should update based on horizontal velocity.");
-        assertEquals(initialY + VELOCITY_Y, testProjectile.getTranslateY(), 0.01, "Y position should update based on vertical velocity.");
+        assertEquals(initialX + SimulationRate.perStep(VELOCITY_X), testProjectile.getEntity().getOffsetX(), 0.01, "X position should update based on horizontal velocity.");
+        assertEquals(initialY + SimulationRate.perStep(VELOCITY_Y), testProjectile.getEntity().getOffsetY(), 0.01, "Y position should update based on vertical velocity.");
         assertFalse(testProjectile.isDestroyed(), "Projectile should not be destroyed within range.");
     }
 
     @Test
     void testRangeDestruction() {
-        for (int i = 0; i < RANGE / Math.sqrt(VELOCITY_X * VELOCITY_X + VELOCITY_Y * VELOCITY_Y); i++) {
+        for (int i = 0; i < RANGE / SimulationRate.perStep(Math.sqrt(VELOCITY_X * VELOCITY_X + VELOCITY_Y * VELOCITY_Y)); i++) {
             testProjectile.updatePosition();
         }
         assertTrue(testProjectile.isDestroyed(), "Projectile should be destroyed after exceeding range.");
@@ -49,12 +49,12 @@ class SpreadShotProjectileTest extends BaseTest {
 
     @Test
     void testUpdateActor() {
-        double initialX = testProjectile.getTranslateX();
-        double initialY = testProjectile.getTranslateY();
+        double initialX = testProjectile.getEntity().getOffsetX();
+        double initialY = testProjectile.getEntity().getOffsetY();
 
         testProjectile.updateActor();
 
-        assertEquals(initialX + VELOCITY_X, testProjectile.getTranslateX(), 0.01, "updateActor should update X position.");
-        assertEquals(initialY + VELOCITY_Y, testProjectile.getTranslateY(), 0.01, "updateActor should update Y position.");
+        assertEquals(initialX + SimulationRate.perStep(VELOCITY_X), testProjectile.getEntity().getOffsetX(), 0.01, "updateActor should update X position.");
+        assertEquals(initialY + SimulationRate.perStep(VELOCITY_Y), testProjectile.getEntity().getOffsetY(), 0.01, "updateActor should update Y position.");
     }
 }
@@ -0,0 +1,77 @@
+package com.finalflight.game.gameobjects;
+
+import com.finalflight.game.BaseTest;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest extends BaseTest {
+
+    private static final String IMAGE_LOCATION = "/com/finalflight/game/images/";
+    private static final int PROJECTILES_TO_SPAWN = 10_000;
+
+    private SpriteCache spriteCache;
+
+    @BeforeEach
+    void setUp() {
+        spriteCache = SpriteCache.getInstance();
+        spriteCache.clear();
+    }
+
+    @Test
+    void testSpawningProjectilesDecodesEachImageOnce() {
+        for (int i = 0; i < PROJECTILES_TO_SPAWN; i++) {
+            new SingleShotProjectile(i, i);
+            new EnemyProjectile(i, i);
+        }
+
+        assertEquals(1, spriteCache.getDecodeCount(IMAGE_LOCATION + "userfire.png", 8));
+        assertEquals(1, spriteCache.getDecodeCount(IMAGE_LOCATION + "enemyfire.png", 16));
+        assertEquals(2, spriteCache.getTotalDecodeCount());
+    }
+
+    @Test
+    void testGameObjectsShareImage() {
+        SingleShotProjectile first = new SingleShotProjectile(0, 0);
+        SingleShotProjectile second = new SingleShotProjectile(10, 10);
+
+        assertNotNull(first.getImage());
+        assertSame(first.getImage(), second.getImage());
+    }
+
+    @Test
+    void testVariantsAreKeyedByHeight() {
+        Image singleShotImage = new SingleShotProjectile(0, 0).getImage();
+        Image spreadShotImage = new SpreadShotProjectile(0, 0, 10, 0).getImage();
+
+        assertNotSame(singleShotImage, spreadShotImage);
+        assertEquals(1, spriteCache.getDecodeCount(IMAGE_LOCATION + "userfire.png", 8));
+        assertEquals(1, spriteCache.getDecodeCount(IMAGE_LOCATION + "userfire.png", 6));
+    }
+
+    @Test
+    void testImagesArePreScaled() {
+        Image image = spriteCache.getImage(IMAGE_LOCATION + "enemyplane.png", 40);
+        assertEquals(40, image.getHeight(), 0.5);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        SpriteCache smallCache = new SpriteCache(2);
+        smallCache.getImage(IMAGE_LOCATION + "userfire.png", 8);
+        smallCache.getImage(IMAGE_LOCATION + "enemyfire.png", 16);
+        smallCache.getImage(IMAGE_LOCATION + "userfire.png", 8); // Mark as recently used
+        smallCache.getImage(IMAGE_LOCATION + "bossfire2.png", 65);
+
+        assertEquals(2, smallCache.size());
+        assertEquals(1, smallCache.getEvictionCount());
+
+        // The recently used image is still cached, the evicted one is decoded again
+        smallCache.getImage(IMAGE_LOCATION + "userfire.png", 8);
+        smallCache.getImage(IMAGE_LOCATION + "enemyfire.png", 16);
+        assertEquals(1, smallCache.getDecodeCount(IMAGE_LOCATION + "userfire.png", 8));
+        assertEquals(2, smallCache.getDecodeCount(IMAGE_LOCATION + "enemyfire.png", 16));
+    }
+}
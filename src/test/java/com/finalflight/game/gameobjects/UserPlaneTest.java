@@ -33,27 +33,27 @@ class UserPlaneTest extends BaseTest {
         // Test vertical movement (down)
         userPlane.move(1, true);
         userPlane.updatePosition();
-        assertTrue(userPlane.getTranslateY() >= UserPlane.getYUpperBound());
+        assertTrue(userPlane.getEntity().getOffsetY() >= UserPlane.getYUpperBound());
 
         // Test horizontal movement (right)
         userPlane.move(1, false);
         userPlane.updatePosition();
-        assertTrue(userPlane.getTranslateX() <= UserPlane.getXRightBound());
+        assertTrue(userPlane.getEntity().getOffsetX() <= UserPlane.getXRightBound());
     }
 
     @Test
     void testMovementExceedingBounds() {
         // Try moving beyond the upper bound
-        userPlane.setTranslateY(UserPlane.getYUpperBound());
+        userPlane.getEntity().setOffsetY(UserPlane.getYUpperBound());
         userPlane.move(-1, true); // Move up
         userPlane.updatePosition();
-        assertTrue(userPlane.getTranslateY() >= UserPlane.getYUpperBound());
+        assertTrue(userPlane.getEntity().getOffsetY() >= UserPlane.getYUpperBound());
 
         // Try moving beyond the right bound
-        userPlane.setTranslateX(UserPlane.getXRightBound());
+        userPlane.getEntity().setOffsetX(UserPlane.getXRightBound());
         userPlane.move(1, false); // Move right
         userPlane.updatePosition();
-        assertTrue(userPlane.getTranslateX() <= UserPlane.getXRightBound());
+        assertTrue(userPlane.getEntity().getOffsetX() <= UserPlane.getXRightBound());
     }
 
     @Test
@@ -201,6 +201,37 @@ class UserPlaneTest extends BaseTest {
         assertEquals(userPlane1.getHealth(), userPlane2.getHealth()); // Health should persist
     }
 
+    @Test
+    void testPrepareForLevelKeepsHealthAndResetsTheRest() {
+        UserPlane.resetHealth(INITIAL_HEALTH);
+        UserPlane plane = new UserPlane(INITIAL_HEALTH);
+        plane.takeDamage();
+        plane.takeDamage();
+        plane.incrementKillCount();
+        plane.setFiringMode(UserPlane.FiringMode.HEAVY);
+        plane.setSpeedBoost(true);
+        plane.move(1, false);
+        plane.updateActor();
+
+        plane.prepareForLevel(plane.getHealth());
+
+        assertEquals(INITIAL_HEALTH - 2, plane.getHealth());
+        assertEquals(0, plane.getNumberOfKills());
+        assertEquals(UserPlane.FiringMode.SINGLE, plane.getFiringMode());
+        assertEquals(UserPlane.getMaxBoostEnergy(), plane.getBoostEnergy(), DELTA);
+        assertFalse(plane.getIsSpeedBoostActive());
+        assertEquals(0, plane.getEntity().getOffsetX(), DELTA);
+        plane.updateActor();
+        assertEquals(0, plane.getEntity().getOffsetX(), DELTA); // Movement is cleared as well
+
+        while (!plane.isDestroyed()) {
+            plane.takeDamage();
+        }
+        plane.prepareForLevel(plane.getMaxHealth());
+        assertEquals(INITIAL_HEALTH, plane.getHealth());
+        assertFalse(plane.isDestroyed());
+    }
+
     @Test
     void testTakeDamage() {
         int initialHealth = userPlane.getHealth();
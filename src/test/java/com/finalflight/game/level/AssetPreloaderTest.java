@@ -0,0 +1,103 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPreloaderTest extends BaseTest {
+
+    private static final String USER_PLANE = "/com/finalflight/game/images/userplane.png";
+    private static final String ENEMY_PLANE = "/com/finalflight/game/images/enemyplane.png";
+
+    private AssetPreloader preloader;
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        SpriteCache.getInstance().clear();
+        GameObjectPools.getInstance().clear();
+        preloader = new AssetPreloader(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        preloader.shutdown();
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testLevelManifestsIncludeCommonAssets() {
+        AssetManifest levelOne = AssetManifest.forLevel(LevelOne.class.getName());
+        AssetManifest levelThree = AssetManifest.forLevel(LevelThree.class.getName());
+
+        assertTrue(levelOne.getAssets().contains(new AssetManifest.Asset(AssetManifest.Kind.IMAGE, USER_PLANE, 60)));
+        assertTrue(levelThree.getAssets().contains(new AssetManifest.Asset(AssetManifest.Kind.IMAGE, USER_PLANE, 60)));
+        assertTrue(levelThree.getAssets().contains(new AssetManifest.Asset(AssetManifest.Kind.MUSIC,
+                "/com/finalflight/game/audio/bosslevel.mp3", 0)));
+        assertTrue(AssetManifest.forLevel("com.finalflight.game.level.NoSuchLevel").isEmpty());
+    }
+
+    @Test
+    void testParseSkipsCommentsAndDuplicatesAndRejectsUnknownKinds() {
+        AssetManifest manifest = AssetManifest.parse("test", List.of(
+                "# Sprites",
+                "image " + ENEMY_PLANE + " 40   # Pre-scaled",
+                "",
+                "image " + ENEMY_PLANE + " 40",
+                "sound /com/finalflight/game/audio/enemyfire.wav"));
+
+        assertEquals(List.of(new AssetManifest.Asset(AssetManifest.Kind.IMAGE, ENEMY_PLANE, 40),
+                new AssetManifest.Asset(AssetManifest.Kind.SOUND, "/com/finalflight/game/audio/enemyfire.wav", 0)),
+                manifest.getAssets());
+        assertThrows(IllegalArgumentException.class, () -> AssetManifest.parse("test", List.of("video intro.mp4")));
+        assertThrows(IllegalArgumentException.class, () -> AssetManifest.parse("test", List.of("image " + ENEMY_PLANE + " -1")));
+    }
+
+    @Test
+    void testPreloadedSpritesAreNotDecodedAgain() throws InterruptedException {
+        AssetManifest manifest = AssetManifest.parse("test", List.of(
+                "image " + USER_PLANE + " 60",
+                "image " + ENEMY_PLANE + " 40",
+                "image /com/finalflight/game/images/enemyfire.png 16",
+                "image /com/finalflight/game/images/userfire.png 8"));
+        List<Integer> progress = new ArrayList<>();
+
+        AssetPreloader.Result result = preloader.preload(manifest, progress::add);
+
+        assertEquals(4, result.loaded());
+        assertTrue(result.failures().isEmpty());
+        assertEquals(List.of(1, 2, 3, 4), progress);
+        assertTrue(SpriteCache.getInstance().contains(USER_PLANE, 60));
+        assertEquals(4, SpriteCache.getInstance().getTotalDecodeCount());
+
+        new UserPlane(5);
+        new EnemyPlane(100, 100);
+        preloader.preload(manifest, null);
+        assertEquals(4, SpriteCache.getInstance().getTotalDecodeCount());
+    }
+
+    @Test
+    void testMissingAssetIsReportedWithoutStoppingPreload() throws InterruptedException {
+        AssetManifest manifest = AssetManifest.parse("test", List.of(
+                "image /com/finalflight/game/images/missing.gif",
+                "image " + ENEMY_PLANE + " 40"));
+
+        AssetPreloader.Result result = preloader.preload(manifest, null);
+
+        assertEquals(1, result.loaded());
+        assertEquals(1, result.failures().size());
+        assertTrue(result.failures().get(0).contains("missing.gif"));
+        assertTrue(SpriteCache.getInstance().contains(ENEMY_PLANE, 40));
+    }
+}
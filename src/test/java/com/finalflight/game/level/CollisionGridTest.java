@@ -0,0 +1,102 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.gameobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionGridTest extends BaseTest {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+
+    private CollisionGrid collisionGrid;
+
+    @BeforeEach
+    void setUp() {
+        collisionGrid = new CollisionGrid(SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    @Test
+    void testMatchesAllPairsCheck() {
+        Random random = new Random(42);
+        List<DestructibleGameObject> projectiles = new ArrayList<>();
+        List<DestructibleGameObject> enemies = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            projectiles.add(new SingleShotProjectile(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT));
+        }
+        for (int i = 0; i < 40; i++) {
+            enemies.add(new EnemyPlane(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT));
+        }
+        enemies.add(new BossPlane());
+
+        assertEquals(allPairsCollisions(projectiles, enemies), gridCollisions(projectiles, enemies));
+    }
+
+    @Test
+    void testActorsOutsideScreenStillCollide() {
+        DestructibleGameObject enemy = new EnemyPlane(SCREEN_WIDTH + 200, -150);
+        DestructibleGameObject projectile = new EnemyProjectile(SCREEN_WIDTH + 210, -140);
+
+        assertEquals(List.of("0:0"), gridCollisions(List.of(projectile), List.of(enemy)));
+    }
+
+    @Test
+    void testDistantActorsDoNotCollide() {
+        DestructibleGameObject enemy = new EnemyPlane(1200, 600);
+        DestructibleGameObject projectile = new SingleShotProjectile(100, 100);
+
+        assertTrue(gridCollisions(List.of(projectile), List.of(enemy)).isEmpty());
+    }
+
+    @Test
+    void testCellSizeFitsLargestActor() {
+        BossPlane boss = new BossPlane();
+        collisionGrid.forEachCollision(List.of(new SingleShotProjectile(0, 0)), List.of(boss), (a, b) -> { });
+
+        double largestExtent = Math.max(boss.getEntity().getHitboxWidth(), boss.getEntity().getHitboxHeight());
+        assertTrue(collisionGrid.getCellSize() >= largestExtent);
+    }
+
+    @Test
+    void testBothActorsTakeDamage() {
+        EnemyPlane enemy = new EnemyPlane(500, 300);
+        SingleShotProjectile projectile = new SingleShotProjectile(510, 310);
+        int initialHealth = enemy.getHealth();
+
+        collisionGrid.forEachCollision(List.of(projectile), List.of(enemy), (actor, otherActor) -> {
+            actor.takeDamage();
+            otherActor.takeDamage();
+        });
+
+        assertEquals(initialHealth - 1, enemy.getHealth());
+        assertTrue(projectile.isDestroyed());
+    }
+
+    private List<String> gridCollisions(List<DestructibleGameObject> actors1, List<DestructibleGameObject> actors2) {
+        List<String> collisions = new ArrayList<>();
+        collisionGrid.forEachCollision(actors1, actors2,
+                (actor, otherActor) -> collisions.add(actors2.indexOf(actor) + ":" + actors1.indexOf(otherActor)));
+        collisions.sort(null);
+        return collisions;
+    }
+
+    private List<String> allPairsCollisions(List<DestructibleGameObject> actors1, List<DestructibleGameObject> actors2) {
+        List<String> collisions = new ArrayList<>();
+        for (int j = 0; j < actors2.size(); j++) {
+            for (int i = 0; i < actors1.size(); i++) {
+                if (actors2.get(j).getEntity().intersects(actors1.get(i).getEntity())) {
+                    collisions.add(j + ":" + i);
+                }
+            }
+        }
+        collisions.sort(null);
+        return collisions;
+    }
+}
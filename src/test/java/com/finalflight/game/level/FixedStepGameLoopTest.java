@@ -0,0 +1,136 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.EnemyProjectile;
+import com.finalflight.game.gameobjects.SimulationRate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepGameLoopTest extends BaseTest {
+
+    private static final int TICK_RATE = 20;
+    private static final long STEP_NANOS = 50_000_000L;
+    private static final long FRAME_NANOS = 16_666_667L;
+
+    private int steps;
+    private List<Double> alphas;
+    private FixedStepGameLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        steps = 0;
+        alphas = new ArrayList<>();
+        loop = new FixedStepGameLoop(TICK_RATE, 5, () -> steps++, alphas::add);
+        loop.begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationRate.setTickRate(SimulationRate.DEFAULT_TICK_RATE);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testStepRateIsIndependentOfFrameRate() {
+        for (int frame = 0; frame <= 600; frame++) {
+            loop.advance(frame * FRAME_NANOS);
+        }
+
+        assertEquals(200, steps, 1);
+        assertEquals(601, loop.getFrameCount());
+        assertEquals(steps, loop.getStepCount());
+    }
+
+    @Test
+    void testAlphaIsFractionOfNextStep() {
+        loop.advance(0);
+        loop.advance(STEP_NANOS + STEP_NANOS / 4);
+
+        assertEquals(1, steps);
+        assertEquals(0.25, alphas.get(alphas.size() - 1), 1e-9);
+        for (double alpha : alphas) {
+            assertTrue(alpha >= 0 && alpha < 1);
+        }
+    }
+
+    @Test
+    void testLongFrameIsClampedToCatchUpBudget() {
+        loop.advance(0);
+        loop.advance(2_000_000_000L);
+
+        assertEquals(5, steps);
+        assertEquals(35, loop.getDroppedStepCount());
+    }
+
+    @Test
+    void testStopHaltsStepping() {
+        FixedStepGameLoop stoppingLoop = new FixedStepGameLoop(TICK_RATE, 5, () -> {
+            steps++;
+            if (steps == 2) {
+                loop.stop();
+            }
+        }, alphas::add);
+        loop = stoppingLoop;
+        stoppingLoop.begin();
+        stoppingLoop.advance(0);
+        stoppingLoop.advance(4 * STEP_NANOS);
+        stoppingLoop.advance(8 * STEP_NANOS);
+
+        assertEquals(2, steps);
+        assertFalse(stoppingLoop.isRunning());
+        assertEquals(1, stoppingLoop.getFrameCount());
+    }
+
+    @Test
+    void testTimeSpentPausedIsNotSimulated() {
+        loop.advance(0);
+        loop.advance(STEP_NANOS);
+        loop.pause();
+        loop.advance(10 * STEP_NANOS);
+        loop.begin();
+        loop.advance(100 * STEP_NANOS);
+        loop.advance(101 * STEP_NANOS);
+
+        assertEquals(2, steps);
+    }
+
+    @Test
+    void testActorsMoveTheSameDistancePerSecondAtAnyTickRate() {
+        double[] at20Hz = distancesCoveredInOneSecond(20);
+        double[] at60Hz = distancesCoveredInOneSecond(60);
+
+        assertEquals(-120, at20Hz[0], 1e-9); // Enemy plane
+        assertEquals(-200, at20Hz[1], 1e-9); // Enemy projectile
+        assertEquals(at20Hz[0], at60Hz[0], 1e-9);
+        assertEquals(at20Hz[1], at60Hz[1], 1e-9);
+    }
+
+    private double[] distancesCoveredInOneSecond(int tickRate) {
+        SoundEffectPlayer.setMuted(true);
+        SimulationRate.setTickRate(tickRate);
+        EnemyPlane plane = new EnemyPlane(0, 0, true);
+        EnemyProjectile projectile = new EnemyProjectile(0, 0, true);
+        FixedStepGameLoop rateLoop = new FixedStepGameLoop(tickRate, 5, () -> {
+            plane.updatePosition();
+            projectile.updatePosition();
+        }, alpha -> { });
+        long stepNanos = 1_000_000_000L / tickRate;
+
+        rateLoop.begin();
+        rateLoop.advance(0);
+        for (int step = 1; step <= tickRate; step++) {
+            rateLoop.advance(step * stepNanos);
+        }
+
+        assertEquals(tickRate, rateLoop.getStepCount());
+        return new double[] {plane.getEntity().getOffsetX(), projectile.getEntity().getOffsetX()};
+    }
+}
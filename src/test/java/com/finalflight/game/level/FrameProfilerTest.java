@@ -0,0 +1,96 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.SpriteCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest extends BaseTest {
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        FrameProfiler profiler = new FrameProfiler();
+
+        long time = profiler.start();
+        time = profiler.lap(FrameProfiler.Stage.SPAWN, time);
+        profiler.markPulse();
+        profiler.markPulse();
+
+        assertEquals(0, time);
+        assertEquals(0, profiler.getSamples(FrameProfiler.Stage.SPAWN).size());
+        assertEquals(0, profiler.getSamples(FrameProfiler.Stage.PULSE).size());
+        assertEquals(new FrameProfiler.Summary(0, 0, 0, 0), profiler.summarize(FrameProfiler.Stage.SPAWN));
+    }
+
+    @Test
+    void testLapsRecordElapsedTimePerStage() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.setEnabled(true);
+
+        long start = profiler.start();
+        long afterSpawn = profiler.lap(FrameProfiler.Stage.SPAWN, start);
+        profiler.lap(FrameProfiler.Stage.UPDATE, afterSpawn);
+
+        assertTrue(afterSpawn >= start);
+        assertEquals(afterSpawn - start, profiler.getSamples(FrameProfiler.Stage.SPAWN).last());
+        assertEquals(1, profiler.getSamples(FrameProfiler.Stage.UPDATE).size());
+
+        profiler.setEnabled(false);
+        assertEquals(0, profiler.getSamples(FrameProfiler.Stage.SPAWN).size());
+    }
+
+    @Test
+    void testRingBufferKeepsMostRecentSamples() {
+        TimingRingBuffer buffer = new TimingRingBuffer(100);
+        for (int i = 1; i <= 300; i++) {
+            buffer.add(i);
+        }
+
+        long[] snapshot = new long[buffer.capacity()];
+        int size = buffer.snapshot(snapshot);
+
+        assertEquals(128, buffer.capacity());
+        assertEquals(128, size);
+        assertEquals(300, snapshot[0]);
+        assertEquals(173, snapshot[size - 1]);
+        assertEquals(300, buffer.last());
+    }
+
+    @Test
+    void testSummaryUsesNearestRankPercentiles() {
+        FrameProfiler profiler = new FrameProfiler(128);
+        TimingRingBuffer samples = profiler.getSamples(FrameProfiler.Stage.STEP);
+        for (int i = 100; i >= 1; i--) {
+            samples.add(i * 1000L);
+        }
+
+        FrameProfiler.Summary summary = profiler.summarize(FrameProfiler.Stage.STEP);
+
+        assertEquals(new FrameProfiler.Summary(100, 50_000, 95_000, 99_000), summary);
+    }
+
+    @Test
+    void testHeadlessLevelCanBeProfiled() {
+        SpriteCache.getInstance().setHeadless(true);
+        SoundEffectPlayer.setMuted(true);
+        try {
+            LevelOne level = new LevelOne(870, 1540, true, 3);
+            level.getProfiler().setEnabled(true);
+            for (int i = 0; i < 50; i++) {
+                level.applyInput(Set.of());
+                level.tick();
+            }
+
+            assertEquals(50, level.getProfiler().getSamples(FrameProfiler.Stage.STEP).size());
+            assertEquals(50, level.getProfiler().getSamples(FrameProfiler.Stage.COLLISIONS).size());
+            assertEquals(0, level.getProfiler().getSamples(FrameProfiler.Stage.HUD).size());
+        } finally {
+            SpriteCache.getInstance().setHeadless(false);
+            SoundEffectPlayer.setMuted(false);
+        }
+    }
+}
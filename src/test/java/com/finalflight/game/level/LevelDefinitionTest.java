@@ -0,0 +1,152 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SpriteCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelDefinitionTest extends BaseTest {
+
+    private static final List<String> BOSS_LEVEL = List.of(
+            "background /com/finalflight/game/images/background1.gif",
+            "goal boss",
+            "spawn 2 0.02",
+            "enemy regular 3   # Three regular enemies for every advanced one",
+            "enemy advanced 1",
+            "phase 0.2 4 0.025",
+            "phase 0.5 3 0.0225");
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testPhasesAreSelectedByBossHealth() {
+        LevelDefinition definition = LevelDefinition.parse("Boss", BOSS_LEVEL);
+
+        assertTrue(definition.hasBoss());
+        assertEquals(5, definition.getPlayerInitialHealth());
+        assertNull(definition.getNextLevel());
+        assertEquals(LevelDefinition.BASE_PHASE, definition.getPhase(0.8));
+        assertEquals(2, definition.getMaxEnemies(definition.getPhase(0.8)));
+        assertEquals(3, definition.getMaxEnemies(definition.getPhase(0.5)));
+        assertEquals(0.0225, definition.getSpawnProbability(definition.getPhase(0.3)));
+        assertEquals(4, definition.getMaxEnemies(definition.getPhase(0.2)));
+        assertEquals(0.025, definition.getSpawnProbability(definition.getPhase(0.0)));
+    }
+
+    @Test
+    void testEnemyMixFollowsWeights() {
+        LevelDefinition definition = LevelDefinition.parse("Boss", BOSS_LEVEL);
+
+        assertEquals(2, definition.getEnemyTypeCount());
+        assertEquals(LevelDefinition.EnemyType.REGULAR, definition.pickEnemyType(0.0));
+        assertEquals(LevelDefinition.EnemyType.REGULAR, definition.pickEnemyType(0.74));
+        assertEquals(LevelDefinition.EnemyType.ADVANCED, definition.pickEnemyType(0.75));
+        assertEquals(LevelDefinition.EnemyType.ADVANCED, definition.pickEnemyType(0.9999));
+    }
+
+    @Test
+    void testMalformedDefinitionsAreRejectedWithTheirLine() {
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.parse("Bad", List.of("background a.gif", "goal kills 5", "enemy jet 1")));
+        assertTrue(unknown.getMessage().contains("Bad:3"));
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("Bad", List.of("goal kills 5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.parse("Bad", List.of("background a.gif", "goal kills")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.parse("Bad", List.of("background a.gif", "goal kills 5", "spawn 3 1.5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.parse("Bad", List.of("background a.gif", "goal kills 5", "spawn 3 0.1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.parse("Bad", List.of("background a.gif", "goal kills 5", "phase 0.5 3 0.1")));
+    }
+
+    @Test
+    void testBundledLevelsKeepTheirSettings() {
+        LevelDefinitions definitions = new LevelDefinitions(null);
+
+        LevelDefinition levelOne = definitions.get(LevelOne.class.getName());
+        assertEquals(10, levelOne.getKillsToAdvance());
+        assertEquals(LevelTwo.class.getName(), levelOne.getNextLevel());
+        assertEquals(5, levelOne.getMaxEnemies(LevelDefinition.BASE_PHASE));
+        assertEquals(0.015, levelOne.getSpawnProbability(LevelDefinition.BASE_PHASE));
+
+        LevelDefinition levelThree = definitions.get("LevelThree");
+        assertTrue(levelThree.hasBoss());
+        assertEquals("/com/finalflight/game/audio/bosslevel.mp3", levelThree.getMusicFile());
+        assertSame(levelThree, definitions.get("LevelThree"));
+        assertFalse(definitions.contains("LevelFour"));
+    }
+
+    @Test
+    void testDefinitionOnlyLevelIsCreatedByName() throws ReflectiveOperationException {
+        BaseLevel level = LevelFactory.create("LevelTwo", 870, 1540, true, 7);
+        BaseLevel classLevel = LevelFactory.create(LevelTwo.class.getName(), 870, 1540, true, 7);
+
+        assertInstanceOf(DefinedLevel.class, level);
+        assertInstanceOf(LevelTwo.class, classLevel);
+        for (int i = 0; i < 500; i++) {
+            level.tick();
+            classLevel.tick();
+        }
+        assertEquals(classLevel.getWorld().getEnemyUnits().size(), level.getWorld().getEnemyUnits().size());
+        assertThrows(ClassNotFoundException.class, () -> LevelFactory.create("NoSuchLevel", 870, 1540, true, 7));
+    }
+
+    @Test
+    void testBossLevelSpawnsBossFirst() {
+        DefinedLevel level = new DefinedLevel(LevelDefinition.parse("Boss", BOSS_LEVEL), 870, 1540, true, 3);
+
+        level.tick();
+
+        assertEquals("BossPlane", level.getWorld().getEnemyUnits().get(0).getClass().getSimpleName());
+    }
+
+    @Test
+    void testSavedDefinitionIsReloaded(@TempDir Path directory) throws IOException, InterruptedException {
+        Path file = directory.resolve("Tuning.level");
+        Files.write(file, List.of("background a.gif", "goal kills 5", "spawn 3 0.01", "enemy regular 1"));
+        LevelDefinitions definitions = new LevelDefinitions(directory);
+        assertEquals(3, definitions.get("Tuning").getMaxEnemies(LevelDefinition.BASE_PHASE));
+
+        definitions.startWatching();
+        try {
+            Files.write(file, List.of("background a.gif", "goal kills 5", "spawn 6 0.01", "enemy regular 1"));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (definitions.get("Tuning").getMaxEnemies(LevelDefinition.BASE_PHASE) != 6
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(6, definitions.get("Tuning").getMaxEnemies(LevelDefinition.BASE_PHASE));
+            assertTrue(definitions.getVersion() > 0);
+
+            assertFalse(definitions.reload("Missing"));
+            Files.write(file, List.of("goal kills 5"));
+            assertFalse(definitions.reload("Tuning"));
+            assertEquals(6, definitions.get("Tuning").getMaxEnemies(LevelDefinition.BASE_PHASE));
+        } finally {
+            definitions.stopWatching();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.BossPlane;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.SpriteCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelRandomTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        SpriteCache.getInstance().setHeadless(true);
+        SoundEffectPlayer.setMuted(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testSameSeedGivesSameStreams() {
+        LevelRandom first = new LevelRandom(7);
+        LevelRandom second = new LevelRandom(7);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.spawn().nextDouble(), second.spawn().nextDouble());
+            assertEquals(first.boss().nextDouble(), second.boss().nextDouble());
+        }
+        assertEquals(7, first.getSeed());
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        LevelRandom drained = new LevelRandom(7);
+        LevelRandom fresh = new LevelRandom(7);
+        for (int i = 0; i < 1000; i++) {
+            drained.enemyFire().nextDouble();
+        }
+
+        assertEquals(fresh.spawn().nextDouble(), drained.spawn().nextDouble());
+        assertNotEquals(fresh.spawn().nextDouble(), fresh.enemyFire().nextDouble());
+    }
+
+    @Test
+    void testSameSeedReplaysLevel() {
+        assertEquals(spawnPositionsOf(new LevelTwo(870, 1540, true, 99)),
+                spawnPositionsOf(new LevelTwo(870, 1540, true, 99)));
+        assertNotEquals(spawnPositionsOf(new LevelTwo(870, 1540, true, 99)),
+                spawnPositionsOf(new LevelTwo(870, 1540, true, 100)));
+    }
+
+    @Test
+    void testSeededBossMovesReproducibly() {
+        BossPlane first = new BossPlane(new LevelRandom(3).boss()::nextDouble);
+        BossPlane second = new BossPlane(new LevelRandom(3).boss()::nextDouble);
+
+        for (int i = 0; i < 200; i++) {
+            first.updatePosition();
+            second.updatePosition();
+            assertEquals(first.getEntity().getOffsetY(), second.getEntity().getOffsetY());
+            assertEquals(first.fireProjectile() == null, second.fireProjectile() == null);
+        }
+    }
+
+    private static List<Double> spawnPositionsOf(BaseLevel level) {
+        List<Double> positions = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            level.applyInput(Set.of());
+            level.tick();
+            for (DestructibleGameObject enemy : level.getWorld().getEnemyUnits()) {
+                positions.add(enemy.getEntity().getOriginY());
+            }
+        }
+        return positions;
+    }
+}
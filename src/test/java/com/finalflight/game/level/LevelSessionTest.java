@@ -0,0 +1,91 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.MusicPlayer;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.visual.BaseLevelView;
+import com.finalflight.game.visual.LevelThreeView;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelSessionTest extends BaseTest {
+
+    private LevelSession session;
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        MusicPlayer.setMuted(true);
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+        UserPlane.resetHealth(0);
+        session = new LevelSession(1540, 870);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        MusicPlayer.setMuted(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testNextLevelKeepsTheHudAndRemovesTheLevelContent() {
+        LevelOne levelOne = new LevelOne(session, 1);
+        Scene scene = levelOne.initializeScene();
+        BaseLevelView view = session.getView();
+        UserPlane user = session.getUser();
+        Node background = session.getRoot().getChildren().get(0);
+        List<Node> levelOneNodes = new ArrayList<>(session.getRoot().getChildren());
+        EnemyPlane enemy = EnemyPlane.obtain(1600, 100);
+        levelOne.addEnemyUnit(enemy);
+        levelOne.getWorld().getEvents().publishEnemyKilled(3);
+        user.takeDamage();
+
+        LevelTwo levelTwo = new LevelTwo(session, 2);
+        assertSame(scene, levelTwo.initializeScene());
+        assertSame(scene, session.getScene());
+        assertSame(view, session.getView());
+        assertSame(user, levelTwo.getUser());
+        assertEquals(user.getMaxHealth() - 1, user.getHealth());
+        assertTrue(session.getRoot().getChildren().stream().anyMatch(node ->
+                node instanceof Text text && text.getText().startsWith("Kills: 0 "))); // The HUD is reset
+
+        List<Node> levelTwoNodes = session.getRoot().getChildren();
+        assertFalse(levelTwoNodes.contains(background));
+        assertFalse(levelTwoNodes.contains(enemy));
+        levelOneNodes.remove(background);
+        assertTrue(levelTwoNodes.containsAll(levelOneNodes)); // The HUD, pause menu and player are kept
+        assertEquals(levelOneNodes.size() + 1, levelTwoNodes.size()); // Plus the new background
+    }
+
+    @Test
+    void testLevelWithAnotherViewReplacesTheSessionView() {
+        new LevelOne(session, 1).initializeScene();
+        BaseLevelView view = session.getView();
+        List<Node> levelOneNodes = new ArrayList<>(session.getRoot().getChildren());
+
+        LevelThree levelThree = new LevelThree(session, 3);
+        levelThree.initializeScene();
+
+        assertInstanceOf(LevelThreeView.class, session.getView());
+        assertNotSame(view, session.getView());
+        assertTrue(session.getRoot().getChildren().stream().noneMatch(node ->
+                levelOneNodes.contains(node) && node != session.getUser()));
+        assertFalse(session.beginLevel(view));
+        assertTrue(session.beginLevel(view));
+    }
+}
@@ -0,0 +1,154 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.gameobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelWorldTest extends BaseTest {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+
+    private final List<DestructibleGameObject> added = new ArrayList<>();
+    private final List<DestructibleGameObject> removed = new ArrayList<>();
+    private UserPlane user;
+    private LevelWorld world;
+
+    @BeforeEach
+    void setUp() {
+        UserPlane.resetHealth(5);
+        user = new UserPlane(5);
+        world = new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, user, added::add, removed::addAll);
+    }
+
+    @Test
+    void testUserIsFriendlyUnitWithoutNotifyingScene() {
+        assertEquals(List.of(user), world.getFriendlyUnits());
+        assertTrue(added.isEmpty());
+    }
+
+    @Test
+    void testAddedActorsAreReportedToScene() {
+        EnemyPlane enemy = new EnemyPlane(1000, 100);
+        SingleShotProjectile projectile = new SingleShotProjectile(100, 100);
+        world.addEnemyUnit(enemy);
+        world.addUserProjectiles(List.of(projectile));
+        world.addUserProjectiles(null);
+        world.addEnemyProjectile(null);
+
+        assertEquals(List.of(enemy, projectile), added);
+        assertEquals(List.of(enemy), world.getEnemyUnits());
+        assertEquals(List.of(projectile), world.getUserProjectiles());
+    }
+
+    @Test
+    void testProjectileDestroysEnemyAndIsRemoved() {
+        EnemyPlane enemy = new EnemyPlane(500, 300);
+        world.addEnemyUnit(enemy);
+        for (int i = 0; i < enemy.getMaxHealth(); i++) {
+            world.addUserProjectiles(List.of(new SingleShotProjectile(520, 320)));
+        }
+
+        world.handleUserProjectileCollisions();
+        world.removeAllDestroyedActors();
+
+        assertTrue(enemy.isDestroyed());
+        assertTrue(world.getEnemyUnits().isEmpty());
+        assertTrue(world.getUserProjectiles().isEmpty());
+        assertTrue(removed.contains(enemy));
+    }
+
+    @Test
+    void testRemovalKeepsSurvivorOrderAndNotifiesSceneOnce() {
+        List<EnemyPlane> enemies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            EnemyPlane enemy = new EnemyPlane(1000, i * 100);
+            enemies.add(enemy);
+            world.addEnemyUnit(enemy);
+        }
+        SingleShotProjectile projectile = new SingleShotProjectile(100, 100);
+        world.addUserProjectiles(List.of(projectile));
+        enemies.get(0).destroy();
+        enemies.get(3).destroy();
+        enemies.get(4).destroy();
+        projectile.destroy();
+        List<Integer> removalBatches = new ArrayList<>();
+        LevelWorld countingWorld = new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, user, actor -> { },
+                actors -> removalBatches.add(actors.size()));
+        enemies.forEach(countingWorld::addEnemyUnit);
+        countingWorld.addUserProjectiles(List.of(projectile));
+
+        world.removeAllDestroyedActors();
+        countingWorld.removeAllDestroyedActors();
+
+        assertEquals(List.of(enemies.get(1), enemies.get(2), enemies.get(5)), world.getEnemyUnits());
+        assertTrue(world.getUserProjectiles().isEmpty());
+        assertEquals(4, removed.size());
+        assertTrue(removed.containsAll(List.of(enemies.get(0), enemies.get(3), enemies.get(4), projectile)));
+        assertEquals(List.of(4), removalBatches);
+    }
+
+    @Test
+    void testViewsFollowModelOnlyAfterSync() {
+        EnemyPlane enemy = new EnemyPlane(1000, 100);
+        world.addEnemyUnit(enemy);
+
+        for (int i = 0; i < 10; i++) {
+            world.updateActors();
+        }
+        assertEquals(0, enemy.getTranslateX());
+
+        world.syncViews();
+        assertEquals(enemy.getEntity().getOffsetX(), enemy.getTranslateX());
+        assertEquals(-60, enemy.getTranslateX(), 0.01);
+    }
+
+    @Test
+    void testInterpolatedSyncBlendsLastTwoSteps() {
+        EnemyPlane enemy = new EnemyPlane(1000, 100);
+        world.addEnemyUnit(enemy);
+        world.updateActors();
+        world.updateActors();
+
+        world.syncViews(0.5);
+        assertEquals(-9, enemy.getTranslateX(), 0.01);
+        world.syncViews(1.0);
+        assertEquals(-12, enemy.getTranslateX(), 0.01);
+    }
+
+    @Test
+    void testEnemyPenetrationDamagesUser() {
+        EnemyPlane enemy = new EnemyPlane(SCREEN_WIDTH, 100);
+        world.addEnemyUnit(enemy);
+        enemy.getEntity().setOffsetX(-SCREEN_WIDTH - 1);
+
+        world.handleEnemyPenetration();
+
+        assertTrue(enemy.isDestroyed());
+        assertEquals(4, user.getHealth());
+    }
+
+    @Test
+    void testHeadlessWorldRunsWithoutScene() {
+        LevelWorld headlessWorld = new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, user);
+        for (int tick = 0; tick < 500; tick++) {
+            if (tick % 20 == 0) {
+                headlessWorld.addEnemyUnit(EnemyPlane.obtain(SCREEN_WIDTH, tick % 700));
+            }
+            headlessWorld.updateActors();
+            headlessWorld.generateEnemyFire();
+            headlessWorld.cullProjectiles();
+            headlessWorld.handleEnemyProjectileCollisions();
+            headlessWorld.removeAllDestroyedActors();
+        }
+
+        assertTrue(headlessWorld.getEnemyUnits().size() <= 25);
+        assertTrue(headlessWorld.getEnemyProjectiles().size() <= 25 * 200);
+    }
+}
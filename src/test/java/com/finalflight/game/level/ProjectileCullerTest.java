@@ -0,0 +1,97 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.gameobjects.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileCullerTest extends BaseTest {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+    private static final int SIMULATED_TICKS = 100_000;
+
+    private ProjectileCuller projectileCuller;
+
+    @BeforeEach
+    void setUp() {
+        projectileCuller = new ProjectileCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    @Test
+    void testProjectileListsStayBounded() {
+        List<DestructibleGameObject> userProjectiles = new ArrayList<>();
+        List<DestructibleGameObject> enemyProjectiles = new ArrayList<>();
+        int maximumUserProjectiles = 0;
+        int maximumEnemyProjectiles = 0;
+
+        for (int tick = 0; tick < SIMULATED_TICKS; tick++) {
+            userProjectiles.add(new SingleShotProjectile(100, 400));
+            enemyProjectiles.add(new EnemyProjectile(1400, 300));
+            if (tick % 10 == 0) {
+                userProjectiles.add(new HeavyShotProjectile(100, 100));
+                enemyProjectiles.add(new BossProjectile(400));
+            }
+
+            userProjectiles.forEach(DestructibleGameObject::updateActor);
+            enemyProjectiles.forEach(DestructibleGameObject::updateActor);
+            projectileCuller.cull(userProjectiles);
+            projectileCuller.cull(enemyProjectiles);
+            userProjectiles.removeIf(DestructibleGameObject::isDestroyed);
+            enemyProjectiles.removeIf(DestructibleGameObject::isDestroyed);
+
+            maximumUserProjectiles = Math.max(maximumUserProjectiles, userProjectiles.size());
+            maximumEnemyProjectiles = Math.max(maximumEnemyProjectiles, enemyProjectiles.size());
+        }
+
+        // Bounded by the maximum lifetime of each projectile type
+        assertTrue(maximumUserProjectiles <= 150 + 120 / 10 + 2, "User projectiles grew to " + maximumUserProjectiles);
+        assertTrue(maximumEnemyProjectiles <= 200 + 150 / 10 + 2, "Enemy projectiles grew to " + maximumEnemyProjectiles);
+        assertTrue(projectileCuller.getTotalCullCount() > 2L * SIMULATED_TICKS - 1000);
+    }
+
+    @Test
+    void testProjectileLeavingScreenIsCulled() {
+        SingleShotProjectile projectile = new SingleShotProjectile(SCREEN_WIDTH - 10, 400);
+        List<DestructibleGameObject> projectiles = List.of(projectile);
+
+        while (!projectile.isDestroyed()) {
+            projectile.updateActor();
+            projectileCuller.cull(projectiles);
+        }
+
+        assertEquals(1, projectileCuller.getOffScreenCullCount());
+        assertEquals(0, projectileCuller.getLifetimeCullCount());
+        assertTrue(projectile.getEntity().getX() > SCREEN_WIDTH);
+    }
+
+    @Test
+    void testProjectileOutlivingLifetimeIsCulled() {
+        EnemyProjectile projectile = new EnemyProjectile(400, 400);
+        List<DestructibleGameObject> projectiles = List.of(projectile);
+
+        // Never moved, so it can only be culled by its lifetime
+        for (int i = 0; i < projectile.getMaxLifetimeFrames(); i++) {
+            projectileCuller.cull(projectiles);
+        }
+        assertFalse(projectile.isDestroyed());
+
+        projectileCuller.cull(projectiles);
+        assertTrue(projectile.isDestroyed());
+        assertEquals(1, projectileCuller.getLifetimeCullCount());
+    }
+
+    @Test
+    void testDestroyedProjectilesAreNotCounted() {
+        SingleShotProjectile projectile = new SingleShotProjectile(-1000, 400);
+        projectile.destroy();
+
+        projectileCuller.cull(List.of(projectile));
+        assertEquals(0, projectileCuller.getTotalCullCount());
+    }
+}
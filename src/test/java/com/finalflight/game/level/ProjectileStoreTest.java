@@ -0,0 +1,167 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileStoreTest extends BaseTest {
+
+    private static final double SCREEN_WIDTH = 1540.0;
+    private static final double SCREEN_HEIGHT = 870.0;
+
+    private ProjectileStore store;
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        GameObjectPools.getInstance().clear();
+        store = new ProjectileStore(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testStepMovesProjectilesAndKeepsPreviousPosition() {
+        int slot = store.add(new SingleShotProjectile(100, 200));
+
+        store.step();
+
+        assertEquals(115, store.getX(slot));
+        assertEquals(200, store.getY(slot));
+        assertEquals(107.5, store.getInterpolatedX(slot, 0.5));
+        assertTrue(store.isAlive(slot));
+    }
+
+    @Test
+    void testSpreadShotRunsOutOfRangeOnSameStepAsObject() {
+        SpreadShotProjectile projectile = new SpreadShotProjectile(0, 0, 10, 5);
+        int slot = store.add(projectile);
+
+        int objectSteps = 0;
+        while (!projectile.isDestroyed()) {
+            projectile.updateActor();
+            objectSteps++;
+        }
+        int storeSteps = 0;
+        while (store.isAlive(slot)) {
+            store.step();
+            storeSteps++;
+        }
+
+        assertEquals(objectSteps, storeSteps);
+        assertEquals(projectile.getEntity().getX(), store.getX(slot), 1e-9);
+    }
+
+    @Test
+    void testHeavyShotTakesSeveralHits() {
+        HeavyShotProjectile projectile = new HeavyShotProjectile(500, 300);
+        int slot = store.add(projectile);
+        int hits = 0;
+
+        while (store.isAlive(slot)) {
+            hits += store.collide(List.of(new EnemyPlane(500, 300)));
+        }
+
+        assertEquals(projectile.getHealth(), hits);
+        assertEquals(0, store.getHealth(slot));
+        assertEquals(0, store.collide(List.of(new EnemyPlane(500, 300))));
+    }
+
+    @Test
+    void testProjectileHitsOnlyIntersectingTargets() {
+        EnemyPlane hitEnemy = new EnemyPlane(500, 300);
+        EnemyPlane missedEnemy = new EnemyPlane(1000, 600);
+        int slot = store.add(new SingleShotProjectile(520, 320));
+        store.add(new SingleShotProjectile(100, 100));
+
+        int hits = store.collide(List.of(missedEnemy, hitEnemy));
+
+        assertEquals(1, hits);
+        assertFalse(store.isAlive(slot));
+        assertEquals(hitEnemy.getMaxHealth() - 1, hitEnemy.getHealth());
+        assertEquals(missedEnemy.getMaxHealth(), missedEnemy.getHealth());
+        assertEquals(1, store.countAlive());
+    }
+
+    @Test
+    void testCullerDestroysByLifetimeAndPosition() {
+        ProjectileCuller culler = new ProjectileCuller(SCREEN_WIDTH, SCREEN_HEIGHT);
+        SingleShotProjectile stationary = new SingleShotProjectile(500, 300);
+        stationary.getEntity().setVelocity(0, 0);
+        int stationarySlot = store.add(stationary);
+        int enemySlot = store.add(new EnemyProjectile(100, 300));
+
+        int steps = 0;
+        while (store.isAlive(stationarySlot)) {
+            store.step();
+            culler.cull(store);
+            steps++;
+        }
+
+        assertEquals(stationary.getMaxLifetimeFrames() + 1, steps);
+        assertFalse(store.isAlive(enemySlot));
+        assertEquals(1, culler.getLifetimeCullCount());
+        assertEquals(1, culler.getOffScreenCullCount());
+    }
+
+    @Test
+    void testCompactPacksLiveProjectilesAndGrows() {
+        for (int i = 0; i < 10; i++) {
+            store.add(new SingleShotProjectile(i, 0));
+        }
+        for (int i = 0; i < 10; i += 2) {
+            store.kill(i);
+        }
+
+        assertEquals(5, store.compact());
+
+        assertEquals(5, store.size());
+        List<Double> positions = new ArrayList<>();
+        for (int i = 0; i < store.size(); i++) {
+            assertTrue(store.isAlive(i));
+            positions.add(store.getX(i));
+        }
+        positions.sort(null);
+        assertEquals(List.of(1.0, 3.0, 5.0, 7.0, 9.0), positions);
+        assertEquals(5, store.countAlive());
+    }
+
+    @Test
+    void testWorldKeepsFiredProjectilesInStore() {
+        UserPlane user = new UserPlane(5);
+        List<DestructibleGameObject> added = new ArrayList<>();
+        LevelWorld world = new LevelWorld(SCREEN_WIDTH, SCREEN_HEIGHT, user, added::add, actors -> { });
+        world.setProjectileStoreEnabled(true);
+        EnemyPlane enemy = new EnemyPlane(500, 300);
+        world.addEnemyUnit(enemy);
+        for (int i = 0; i < enemy.getMaxHealth(); i++) {
+            world.addUserProjectiles(List.of(SingleShotProjectile.obtain(520, 320)));
+        }
+        world.addEnemyProjectile(EnemyProjectile.obtain(1000, 100));
+
+        assertEquals(List.of(enemy), added);
+        assertTrue(world.getUserProjectiles().isEmpty());
+        assertEquals(enemy.getMaxHealth(), world.getUserProjectileStore().size());
+        assertEquals(1, world.getEnemyProjectileStore().size());
+        assertEquals(1, GameObjectPools.getInstance().findPool(SingleShotProjectile.class).getAvailableCount());
+
+        world.handleUserProjectileCollisions();
+        world.removeAllDestroyedActors();
+
+        assertTrue(enemy.isDestroyed());
+        assertEquals(enemy.getMaxHealth(), world.getUserProjectileHits());
+        assertEquals(0, world.getUserProjectileStore().size());
+        assertEquals(1, world.getEnemyProjectileStore().size());
+    }
+}
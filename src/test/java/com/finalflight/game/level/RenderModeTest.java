@@ -0,0 +1,76 @@
+package com.finalflight.game.level;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.MusicPlayer;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import javafx.scene.canvas.Canvas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderModeTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        MusicPlayer.setMuted(true);
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+        UserPlane.resetHealth(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(BaseLevel.RENDER_MODE_PROPERTY);
+        SpriteCache.getInstance().setHeadless(false);
+        MusicPlayer.setMuted(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testRenderModeIsReadFromPropertyExceptWhenHeadless() {
+        assertEquals(BaseLevel.RenderMode.NODES, new LevelOne(870, 1540, false, 1).getRenderMode());
+
+        System.setProperty(BaseLevel.RENDER_MODE_PROPERTY, "canvas");
+        assertEquals(BaseLevel.RenderMode.CANVAS, new LevelOne(870, 1540, false, 1).getRenderMode());
+        assertEquals(BaseLevel.RenderMode.NODES, new LevelOne(870, 1540, true, 1).getRenderMode());
+    }
+
+    @Test
+    void testCanvasModeKeepsActorsOutOfTheRoot() {
+        System.setProperty(BaseLevel.RENDER_MODE_PROPERTY, "canvas");
+        LevelOne level = new LevelOne(870, 1540, false, 1);
+        level.initializeScene();
+        EnemyPlane enemy = EnemyPlane.obtain(1600, 100);
+        level.addEnemyUnit(enemy);
+
+        assertFalse(level.getRoot().getChildren().contains(level.getWorld().getUser()));
+        assertFalse(level.getRoot().getChildren().contains(enemy));
+        assertTrue(level.getRoot().getChildren().stream().anyMatch(Canvas.class::isInstance));
+
+        enemy.destroy();
+        level.getWorld().removeAllDestroyedActors();
+        assertTrue(level.getWorld().getEnemyUnits().isEmpty());
+    }
+
+    @Test
+    void testNodesModeAddsActorsToTheRoot() {
+        LevelOne level = new LevelOne(870, 1540, false, 1);
+        level.initializeScene();
+        EnemyPlane enemy = EnemyPlane.obtain(1600, 100);
+        level.addEnemyUnit(enemy);
+
+        assertTrue(level.getRoot().getChildren().contains(level.getWorld().getUser()));
+        assertTrue(level.getRoot().getChildren().contains(enemy));
+
+        enemy.destroy();
+        level.getWorld().removeAllDestroyedActors();
+        assertFalse(level.getRoot().getChildren().contains(enemy));
+    }
+}
@@ -0,0 +1,137 @@
+package com.finalflight.game.level;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveSchedulerTest {
+
+    private static final double MAX_Y = 700;
+
+    /**
+     * An enemy received from the scheduler.
+     *
+     * @param type      the type of the enemy.
+     * @param xOffset   the distance beyond the right edge of the screen.
+     * @param yPosition the height of the enemy.
+     */
+    private record Spawn(LevelDefinition.EnemyType type, double xOffset, double yPosition) {
+    }
+
+    private static LevelDefinition define(String... lines) {
+        List<String> definition = new ArrayList<>(List.of("background a.gif", "goal kills 5"));
+        definition.addAll(List.of(lines));
+        return LevelDefinition.parse("Waves", definition);
+    }
+
+    @Test
+    void testWavesEnterInFormationAtTheirTime() {
+        LevelDefinition definition = define("wave 1.5 advanced 5 vee 300 60", "wave 0 regular 3 trail 100");
+        WaveScheduler scheduler = new WaveScheduler(definition, new SplittableRandom(1), MAX_Y);
+        List<Spawn> spawns = new ArrayList<>();
+        WaveScheduler.Spawner spawner = (type, xOffset, yPosition) -> spawns.add(new Spawn(type, xOffset, yPosition));
+
+        assertEquals(3, scheduler.spawnDue(0, definition, LevelDefinition.BASE_PHASE, 0, spawner));
+        assertEquals(List.of(new Spawn(LevelDefinition.EnemyType.REGULAR, 0, 100),
+                new Spawn(LevelDefinition.EnemyType.REGULAR, 80, 100),
+                new Spawn(LevelDefinition.EnemyType.REGULAR, 160, 100)), spawns);
+
+        spawns.clear();
+        assertEquals(0, scheduler.spawnDue(29, definition, LevelDefinition.BASE_PHASE, 3, spawner));
+        assertEquals(5, scheduler.spawnDue(30, definition, LevelDefinition.BASE_PHASE, 3, spawner));
+        assertEquals(List.of(new Spawn(LevelDefinition.EnemyType.ADVANCED, 0, 300),
+                new Spawn(LevelDefinition.EnemyType.ADVANCED, 60, 240),
+                new Spawn(LevelDefinition.EnemyType.ADVANCED, 60, 360),
+                new Spawn(LevelDefinition.EnemyType.ADVANCED, 120, 180),
+                new Spawn(LevelDefinition.EnemyType.ADVANCED, 120, 420)), spawns);
+        assertEquals(0, scheduler.getPendingWaveEnemies());
+    }
+
+    @Test
+    void testFormationsStayOnScreen() {
+        LevelDefinition definition = define("wave 0 regular 4 column 650 50", "wave 0 advanced 6 scatter random");
+        WaveScheduler scheduler = new WaveScheduler(definition, new SplittableRandom(2), MAX_Y);
+        List<Spawn> spawns = new ArrayList<>();
+
+        scheduler.spawnDue(0, definition, LevelDefinition.BASE_PHASE, 0,
+                (type, xOffset, yPosition) -> spawns.add(new Spawn(type, xOffset, yPosition)));
+
+        assertEquals(10, spawns.size());
+        assertEquals(650, spawns.get(0).yPosition());
+        assertEquals(MAX_Y, spawns.get(1).yPosition());
+        for (Spawn spawn : spawns) {
+            assertTrue(spawn.yPosition() >= 0 && spawn.yPosition() <= MAX_Y);
+        }
+    }
+
+    @Test
+    void testTopUpKeepsTheChancePerMissingEnemy() {
+        LevelDefinition definition = define("spawn 5 0.1", "enemy regular 1");
+        WaveScheduler scheduler = new WaveScheduler(definition, new SplittableRandom(3), MAX_Y);
+        int[] spawned = new int[1];
+
+        // With every enemy leaving at once, each step has five missing enemies
+        for (int tick = 0; tick < 20_000; tick++) {
+            spawned[0] += scheduler.spawnDue(tick, definition, LevelDefinition.BASE_PHASE, 0, (type, x, y) -> { });
+        }
+
+        assertEquals(10_000, spawned[0], 300);
+    }
+
+    @Test
+    void testTopUpNeverExceedsTheMissingEnemies() {
+        LevelDefinition definition = define("spawn 3 1", "enemy regular 1", "wave 0 regular 2 column 100");
+        WaveScheduler scheduler = new WaveScheduler(definition, new SplittableRandom(4), MAX_Y);
+
+        assertEquals(3, scheduler.spawnDue(0, definition, LevelDefinition.BASE_PHASE, 0, (type, x, y) -> { }));
+        assertEquals(0, scheduler.spawnDue(1, definition, LevelDefinition.BASE_PHASE, 3, (type, x, y) -> { }));
+        assertEquals(0, scheduler.getPendingTopUps());
+        assertEquals(1, scheduler.spawnDue(2, definition, LevelDefinition.BASE_PHASE, 2, (type, x, y) -> { }));
+    }
+
+    @Test
+    void testZeroChanceNeverSpawnsUntilThePhaseChanges() {
+        LevelDefinition definition = LevelDefinition.parse("Boss", List.of("background a.gif", "goal boss",
+                "spawn 2 0", "enemy regular 1", "phase 0.5 2 1"));
+        WaveScheduler scheduler = new WaveScheduler(definition, new SplittableRandom(5), MAX_Y);
+
+        for (int tick = 0; tick < 1_000; tick++) {
+            assertEquals(0, scheduler.spawnDue(tick, definition, LevelDefinition.BASE_PHASE, 0, (type, x, y) -> { }));
+        }
+        assertEquals(2, scheduler.getPendingTopUps());
+        assertEquals(2, scheduler.spawnDue(1_000, definition, definition.getPhase(0.5), 0, (type, x, y) -> { }));
+    }
+
+    @Test
+    void testSameSeedReproducesTheSpawns() {
+        LevelDefinition definition = define("spawn 4 0.05", "enemy regular 1", "enemy advanced 1",
+                "wave 2 advanced 3 scatter random");
+        List<Spawn> first = new ArrayList<>();
+        List<Spawn> second = new ArrayList<>();
+        WaveScheduler firstScheduler = new WaveScheduler(definition, new SplittableRandom(6), MAX_Y);
+        WaveScheduler secondScheduler = new WaveScheduler(definition, new SplittableRandom(6), MAX_Y);
+
+        for (int tick = 0; tick < 500; tick++) {
+            firstScheduler.spawnDue(tick, definition, LevelDefinition.BASE_PHASE, 0,
+                    (type, xOffset, yPosition) -> first.add(new Spawn(type, xOffset, yPosition)));
+            secondScheduler.spawnDue(tick, definition, LevelDefinition.BASE_PHASE, 0,
+                    (type, xOffset, yPosition) -> second.add(new Spawn(type, xOffset, yPosition)));
+        }
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testMalformedWavesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> define("wave 5 regular 0 trail 100"));
+        assertThrows(IllegalArgumentException.class, () -> define("wave 5 regular 3 wedge 100"));
+        assertThrows(IllegalArgumentException.class, () -> define("wave -1 regular 3 trail 100"));
+        assertThrows(IllegalArgumentException.class, () -> define("wave 5 regular 3 trail"));
+    }
+
+}
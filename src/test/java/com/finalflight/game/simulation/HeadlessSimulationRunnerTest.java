@@ -0,0 +1,82 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import com.finalflight.game.level.LevelOne;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessSimulationRunnerTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        HeadlessSimulationRunner.enableHeadlessMode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testHeadlessLevelIsDrivenByBot() {
+        UserPlane.resetHealth(0);
+        LevelOne level = new LevelOne(870, 1540, true);
+        TrackingBot bot = new TrackingBot();
+
+        for (int i = 0; i < 200 && level.getStatus() == BaseLevel.LevelStatus.RUNNING; i++) {
+            level.applyInput(bot.nextInput(level, level.getTickCount()));
+            level.tick();
+        }
+
+        assertTrue(level.isHeadless());
+        assertNull(level.getWorld().getUser().getScene());
+        assertTrue(level.getTickCount() > 0);
+        assertTrue(level.getWorld().getUserProjectilesFired() > 0);
+    }
+
+    @Test
+    void testParallelPlaythroughsProduceConsistentResults() throws Exception {
+        HeadlessSimulationRunner runner = new HeadlessSimulationRunner(TrackingBot::new, 2_000);
+
+        List<SimulationResult> results = runner.runAll(4, 2);
+
+        assertEquals(4, results.size());
+        for (int run = 0; run < results.size(); run++) {
+            SimulationResult result = results.get(run);
+            assertEquals(run, result.run());
+            assertTrue(result.totalTicks() <= 2_000);
+            assertEquals(result.totalTicks(), result.ticksPerLevel().stream().mapToLong(Long::longValue).sum());
+            assertTrue(result.shotsHit() >= 0 && result.shotsFired() > 0);
+        }
+    }
+
+    @Test
+    void testSameSeedReproducesPlaythroughs() throws Exception {
+        List<SimulationResult> first = new HeadlessSimulationRunner(TrackingBot::new, 1_500, 42).runAll(3, 3);
+        List<SimulationResult> second = new HeadlessSimulationRunner(TrackingBot::new, 1_500, 42).runAll(3, 1);
+
+        assertEquals(first, second);
+        assertEquals(43, first.get(1).seed());
+    }
+
+    @Test
+    void testCsvRowMatchesHeader() {
+        SimulationResult result = new SimulationResult(3, 45L, SimulationResult.Outcome.LOST, "LevelTwo", 150,
+                List.of(100L, 50L), 5, 40, 12, 10);
+
+        String row = result.toCsvRow();
+
+        assertEquals(SimulationResult.CSV_HEADER.split(",").length, row.split(",").length);
+        assertEquals("3,45,LOST,LevelTwo,150,100;50,5,40,12,10", row);
+    }
+}
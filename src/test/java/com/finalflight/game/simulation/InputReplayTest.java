@@ -0,0 +1,170 @@
+package com.finalflight.game.simulation;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.BaseLevel;
+import com.finalflight.game.level.LevelOne;
+import com.finalflight.game.level.LevelTwo;
+import com.finalflight.game.level.LevelWorld;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputReplayTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        HeadlessSimulationRunner.enableHeadlessMode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testBoostRechargesAfterShiftIsReleased() {
+        UserPlane.resetHealth(0);
+        BaseLevel level = new LevelOne(870, 1540, true, 42);
+        UserPlane user = level.getWorld().getUser();
+        for (int i = 0; i < 30; i++) {
+            level.applyInput(EnumSet.of(KeyCode.SHIFT));
+            level.tick();
+        }
+        double drained = user.getBoostEnergy();
+        assertTrue(drained < UserPlane.getMaxBoostEnergy());
+
+        for (int i = 0; i < 200; i++) {
+            level.applyInput(EnumSet.noneOf(KeyCode.class));
+            level.tick();
+        }
+
+        assertFalse(user.getIsSpeedBoostActive());
+        assertEquals(UserPlane.getMaxBoostEnergy(), user.getBoostEnergy(), 0.01);
+    }
+
+    @Test
+    void testReplayReproducesRecordedSession() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes);
+        UserPlane.resetHealth(0);
+
+        BaseLevel first = new LevelOne(870, 1540, true, 11);
+        playRecorded(recorder, "com.finalflight.game.level.LevelOne", first, 2_000);
+        recorder.endLevel(first);
+        BaseLevel second = new LevelTwo(870, 1540, true, 12);
+        playRecorded(recorder, "com.finalflight.game.level.LevelTwo", second, 300);
+        recorder.close();
+
+        InputReplay replay = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        List<InputReplay.LevelReplayResult> results = replay.play();
+
+        assertEquals(2, results.size());
+        assertEquals(first.getTickCount(), results.get(0).replayedTicks());
+        assertEquals(first.getStatus(), results.get(0).recording().endStatus());
+        assertNull(results.get(1).recording().endStatus());
+        assertEquals(second.getTickCount(), results.get(1).replayedTicks());
+        assertEquals(second.getStatus(), results.get(1).replayedStatus());
+        for (int i = 0; i < results.size(); i++) {
+            BaseLevel recorded = i == 0 ? first : second;
+            LevelWorld replayed = results.get(i).level().getWorld();
+            assertEquals(recorded.getWorld().getUserProjectilesFired(), replayed.getUserProjectilesFired());
+            assertEquals(recorded.getWorld().getUserProjectileHits(), replayed.getUserProjectileHits());
+            assertEquals(recorded.getWorld().getUser().getNumberOfKills(), replayed.getUser().getNumberOfKills());
+        }
+        assertEquals(results.get(0).recording().stateChecksum(), results.get(0).stateChecksum());
+        assertEquals(results.get(1).recording().stateChecksum(), results.get(1).stateChecksum());
+        assertTrue(results.stream().allMatch(InputReplay.LevelReplayResult::matchesRecording));
+    }
+
+    @Test
+    void testPerturbedInputIsReportedAsDiverged() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes);
+        UserPlane.resetHealth(0);
+        BaseLevel level = new LevelOne(870, 1540, true, 21);
+        playRecorded(recorder, "com.finalflight.game.level.LevelOne", level, 200);
+        recorder.endLevel(level);
+        recorder.close();
+        InputReplay.LevelRecording recording =
+                InputReplay.read(new ByteArrayInputStream(bytes.toByteArray())).getLevels().get(0);
+
+        // Steer the plane the other way on the first run of steps, leaving the step count unchanged
+        int[] perturbedMasks = recording.runMasks().clone();
+        int down = ReplayFormat.encode(EnumSet.of(KeyCode.DOWN));
+        perturbedMasks[0] = (perturbedMasks[0] & down) != 0 ? ReplayFormat.encode(EnumSet.of(KeyCode.UP)) : down;
+        InputReplay.LevelRecording perturbed = new InputReplay.LevelRecording(recording.levelClassName(),
+                recording.seed(), recording.startingHealth(), recording.tickRate(), perturbedMasks,
+                recording.runLengths(), recording.endStatus(), recording.stateChecksum());
+
+        InputReplay.LevelReplayResult original = new InputReplay(List.of(recording)).play().get(0);
+        InputReplay.LevelReplayResult diverged = new InputReplay(List.of(perturbed)).play().get(0);
+
+        assertTrue(original.matchesRecording());
+        assertEquals(recording.getTickCount(), diverged.replayedTicks());
+        assertEquals(recording.endStatus(), diverged.replayedStatus());
+        assertNotEquals(recording.stateChecksum().longValue(), diverged.stateChecksum());
+        assertFalse(diverged.matchesRecording());
+    }
+
+    @Test
+    void testHeldKeysAreRunLengthEncoded() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes);
+        BaseLevel level = new LevelOne(870, 1540, true, 1);
+        recorder.beginLevel("com.finalflight.game.level.LevelOne", level);
+        Set<KeyCode> held = EnumSet.of(KeyCode.SPACE, KeyCode.UP, KeyCode.ESCAPE);
+        for (int i = 0; i < 10_000; i++) {
+            recorder.record(held);
+        }
+        recorder.record(Set.of());
+        recorder.close();
+
+        InputReplay.LevelRecording recording =
+                InputReplay.read(new ByteArrayInputStream(bytes.toByteArray())).getLevels().get(0);
+
+        assertTrue(bytes.size() < 100);
+        assertEquals(10_001, recording.getTickCount());
+        assertEquals(1, recording.seed());
+        assertArrayEquals(new int[]{10_000, 1}, recording.runLengths());
+        assertEquals(EnumSet.of(KeyCode.SPACE, KeyCode.UP), recording.inputSource().nextInput(level, 0));
+    }
+
+    @Test
+    void testTruncatedRecordingIsReadUpToLastCompleteRecord() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(bytes);
+        BaseLevel level = new LevelOne(870, 1540, true, 5);
+        recorder.beginLevel("com.finalflight.game.level.LevelOne", level);
+
+        InputReplay replay = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(1, replay.getLevels().size());
+        assertEquals(0, replay.getLevels().get(0).getTickCount());
+        assertThrows(IOException.class,
+                () -> InputReplay.read(new ByteArrayInputStream(Arrays.copyOf(bytes.toByteArray(), 3))));
+    }
+
+    private static void playRecorded(InputRecorder recorder, String className, BaseLevel level, int maxTicks) {
+        recorder.beginLevel(className, level);
+        TrackingBot bot = new TrackingBot(UserPlane.FiringMode.SPREAD);
+        for (int i = 0; i < maxTicks && level.getStatus() == BaseLevel.LevelStatus.RUNNING; i++) {
+            level.applyInput(bot.nextInput(level, level.getTickCount()));
+            level.tick();
+        }
+    }
+}
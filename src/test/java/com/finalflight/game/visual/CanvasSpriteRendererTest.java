@@ -0,0 +1,195 @@
+package com.finalflight.game.visual;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.DestructibleGameObject;
+import com.finalflight.game.gameobjects.EnemyPlane;
+import com.finalflight.game.gameobjects.Entity;
+import com.finalflight.game.gameobjects.SingleShotProjectile;
+import com.finalflight.game.gameobjects.UserPlane;
+import com.finalflight.game.level.ProjectileStore;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanvasSpriteRendererTest extends BaseTest {
+
+    private static final double DELTA = 1e-9;
+
+    private RecordingSurface surface;
+    private CanvasSpriteRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        surface = new RecordingSurface();
+        renderer = new CanvasSpriteRenderer(new Canvas(1540, 870), surface, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SoundEffectPlayer.setMuted(false);
+        UserPlane.resetHealth(0);
+    }
+
+    @Test
+    void testOnlyVisibleActorsWithAnImageAreDrawn() {
+        EnemyPlane drawn = new EnemyPlane(100, 100);
+        EnemyPlane hidden = new EnemyPlane(100, 100);
+        hidden.setVisible(false);
+        UserPlane withoutImage = new UserPlane(5, true);
+
+        assertTrue(CanvasSpriteRenderer.isDrawable(drawn));
+        assertFalse(CanvasSpriteRenderer.isDrawable(hidden));
+        assertFalse(CanvasSpriteRenderer.isDrawable(withoutImage));
+
+        List<DestructibleGameObject> actors = List.of(drawn, hidden, withoutImage);
+        renderer.drawActors(actors, 0.5);
+
+        assertEquals(1, surface.draws.size());
+        assertSame(drawn.getImage(), surface.draws.get(0).image());
+    }
+
+    @Test
+    void testActorIsDrawnAtInterpolatedPosition() {
+        EnemyPlane plane = new EnemyPlane(100, 200);
+        plane.getEntity().savePreviousPosition();
+        plane.updatePosition();
+
+        renderer.drawActors(List.of(plane), 0.25);
+
+        Entity entity = plane.getEntity();
+        Draw draw = surface.draws.get(0);
+        assertEquals(100 + entity.getInterpolatedOffsetX(0.25), draw.screenX(), DELTA);
+        assertEquals(200 + entity.getInterpolatedOffsetY(0.25), draw.screenY(), DELTA);
+        assertNotEquals(entity.getX(), draw.screenX(), DELTA); // Between the last two steps, not at the latest
+        assertEquals(plane.getFitHeight(), draw.height(), DELTA);
+        assertTrue(draw.transform().isIdentity());
+        assertNull(draw.effect());
+    }
+
+    @Test
+    void testBoostTiltIsCarriedOver() {
+        UserPlane user = new UserPlane(5);
+        user.setSpeedBoost(true);
+        Transform tilt = user.getTransforms().get(0);
+
+        renderer.drawActors(List.of(user), 1);
+
+        Entity entity = user.getEntity();
+        Transform expected = new Translate(entity.getX(), entity.getY()).createConcatenation(tilt);
+        Affine drawn = surface.draws.get(0).transform();
+        assertEquals(expected.getMxx(), drawn.getMxx(), DELTA);
+        assertEquals(expected.getMxy(), drawn.getMxy(), DELTA);
+        assertEquals(expected.getMyx(), drawn.getMyx(), DELTA);
+        assertEquals(expected.getMyy(), drawn.getMyy(), DELTA);
+        assertEquals(expected.getTx(), drawn.getTx(), DELTA);
+        assertEquals(expected.getTy(), drawn.getTy(), DELTA);
+        assertNotEquals(0, drawn.getMxy(), DELTA); // The plane is tilted
+        assertTrue(surface.current.isIdentity()); // The tilt does not leak into the next sprite
+    }
+
+    @Test
+    void testHitFlashIsCarriedOver() {
+        EnemyPlane plane = new EnemyPlane(100, 200);
+        plane.takeDamage();
+        Effect flash = plane.getEffect();
+        assertNotNull(flash);
+
+        renderer.drawActors(List.of(plane), 0);
+
+        Draw draw = surface.draws.get(0);
+        assertSame(flash, draw.effect());
+        assertEquals(100, draw.screenX(), DELTA);
+        assertEquals(200, draw.screenY(), DELTA);
+        assertNull(surface.effect); // The flash does not leak into the next sprite
+    }
+
+    @Test
+    void testStoredProjectileIsDrawnAtInterpolatedPosition() {
+        ProjectileStore store = new ProjectileStore(4);
+        SingleShotProjectile projectile = new SingleShotProjectile(100, 200);
+        int slot = store.add(projectile);
+        store.step();
+
+        renderer.drawProjectiles(store, 0.5);
+
+        Draw draw = surface.draws.get(0);
+        assertSame(projectile.getImage(), draw.image());
+        assertEquals(store.getInterpolatedX(slot, 0.5), draw.screenX(), DELTA);
+        assertEquals(store.getInterpolatedY(slot, 0.5), draw.screenY(), DELTA);
+        assertEquals(107.5, draw.screenX(), DELTA); // Half of a 15 pixel step
+        assertEquals(store.getTypeWidth(store.getType(slot)), draw.width(), DELTA);
+    }
+
+    private record Draw(Image image, Affine transform, double x, double y, double width, double height,
+                        Effect effect) {
+
+        double screenX() {
+            return transform.transform(x, y).getX();
+        }
+
+        double screenY() {
+            return transform.transform(x, y).getY();
+        }
+    }
+
+    private static final class RecordingSurface implements CanvasSpriteRenderer.Surface {
+
+        private final List<Draw> draws = new ArrayList<>();
+        private final Deque<Affine> savedTransforms = new ArrayDeque<>();
+        private final List<Effect> savedEffects = new ArrayList<>(); // Effects may be null, unlike deque elements
+        private Affine current = new Affine();
+        private Effect effect;
+
+        @Override
+        public void clearRect(double x, double y, double width, double height) {
+            draws.clear();
+        }
+
+        @Override
+        public void drawImage(Image image, double x, double y, double width, double height) {
+            draws.add(new Draw(image, new Affine(current), x, y, width, height, effect));
+        }
+
+        @Override
+        public void save() {
+            savedTransforms.push(new Affine(current));
+            savedEffects.add(effect);
+        }
+
+        @Override
+        public void restore() {
+            current = savedTransforms.pop();
+            effect = savedEffects.remove(savedEffects.size() - 1);
+        }
+
+        @Override
+        public void translate(double x, double y) {
+            current.appendTranslation(x, y);
+        }
+
+        @Override
+        public void transform(double mxx, double myx, double mxy, double myy, double tx, double ty) {
+            current.append(mxx, mxy, tx, myx, myy, ty);
+        }
+
+        @Override
+        public void setEffect(Effect effect) {
+            this.effect = effect;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.finalflight.game.visual;
+
+import com.finalflight.game.BaseTest;
+import com.finalflight.game.audio.SoundEffectPlayer;
+import com.finalflight.game.gameobjects.GameObjectPools;
+import com.finalflight.game.gameobjects.SpriteCache;
+import com.finalflight.game.level.LevelOne;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.control.ProgressBar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HudModelTest extends BaseTest {
+
+    @BeforeEach
+    void setUp() {
+        SoundEffectPlayer.setMuted(true);
+        SpriteCache.getInstance().setHeadless(true);
+        GameObjectPools.getInstance().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpriteCache.getInstance().setHeadless(false);
+        SoundEffectPlayer.setMuted(false);
+    }
+
+    @Test
+    void testSettersReportOnlyChanges() {
+        HudModel model = new HudModel();
+
+        assertTrue(model.setKills(0, 10));
+        assertFalse(model.setKills(0, 10));
+        assertTrue(model.setKills(0, 15));
+        assertTrue(model.setFiringMode("SINGLE"));
+        assertFalse(model.setFiringMode("SINGLE"));
+        assertTrue(model.setBoostBarWidth(200));
+        assertFalse(model.setBoostBarWidth(200));
+        assertTrue(model.setBoostBarBand(2));
+        assertFalse(model.setBoostBarBand(2));
+        assertTrue(model.setBossHealth(1.0));
+        assertFalse(model.setBossHealth(1.0));
+        assertTrue(model.setBossShielded(false));
+        assertFalse(model.setBossShielded(false));
+        assertTrue(model.setBossShielded(true));
+    }
+
+    @Test
+    void testUnchangedValuesDoNotTouchTheHud() {
+        BaseLevelView view = new BaseLevelView(new Group(), 5, 1540, 870, null);
+        view.initializeHUD(10, 140, 120);
+        view.updateKillCounter(0, 10);
+        view.updateFiringMode("SINGLE");
+        view.updateBoostBar(1.0);
+        long mutations = view.getHudModel().getMutationCount();
+        assertEquals(4, mutations); // Kill counter, firing mode, boost bar width and colour
+
+        for (int i = 0; i < 5; i++) {
+            view.updateKillCounter(0, 10);
+            view.updateFiringMode("SINGLE");
+            view.updateBoostBar(1.0);
+        }
+        assertEquals(mutations, view.getHudModel().getMutationCount());
+
+        view.updateBoostBar(0.9); // Narrower, but still green
+        assertEquals(mutations + 1, view.getHudModel().getMutationCount());
+        view.updateBoostBar(0.3); // Narrower and orange
+        assertEquals(mutations + 3, view.getHudModel().getMutationCount());
+    }
+
+    @Test
+    void testBossHealthBarSwapsStyleOnlyWhenTheShieldChanges() {
+        Group root = new Group();
+        LevelThreeView view = new LevelThreeView(root, 5, new LevelOne(870, 1540, true, 1));
+        view.initializeHUD(0, 100, 80);
+        ProgressBar bar = (ProgressBar) root.getChildren().stream()
+                .filter(ProgressBar.class::isInstance).findFirst().orElseThrow();
+        int[] styleChanges = new int[1];
+        bar.getStyleClass().addListener((ListChangeListener<String>) change -> styleChanges[0]++);
+
+        view.updateBossHealthBar(1.0, false);
+        int firstChanges = styleChanges[0];
+        assertTrue(bar.getStyleClass().contains("normal-bar"));
+        long mutations = view.getHudModel().getMutationCount();
+
+        view.updateBossHealthBar(1.0, false);
+        view.updateBossHealthBar(0.8, false);
+        assertEquals(firstChanges, styleChanges[0]);
+        assertEquals(mutations + 1, view.getHudModel().getMutationCount());
+        assertEquals(0.8, bar.getProgress(), 1e-9);
+
+        view.updateBossHealthBar(0.8, true);
+        assertTrue(styleChanges[0] > firstChanges);
+        assertTrue(bar.getStyleClass().contains("shielded-bar"));
+        assertFalse(bar.getStyleClass().contains("normal-bar"));
+        int shieldChanges = styleChanges[0];
+
+        view.updateBossHealthBar(0.8, true);
+        assertEquals(shieldChanges, styleChanges[0]);
+    }
+}